@@ -0,0 +1,194 @@
+package com.yourorg.observability.loadtest;
+
+import com.sun.management.OperatingSystemMXBean;
+import com.sun.management.ThreadMXBean;
+import com.sun.tools.attach.AttachNotSupportedException;
+import com.sun.tools.attach.VirtualMachine;
+
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The demo service running in its own process — by default a JVM started
+ * from this harness's classpath so it sees exactly the starters this build
+ * produced, or any other command such as a native image.
+ *
+ * <p>
+ * {@link #sample()} attaches to the JVM's local management agent on first
+ * use and reads process CPU time and per-thread allocated bytes over JMX.
+ * Allocation of threads that die between two samples is not counted;
+ * Tomcat's and Reactor's pool threads outlive a measurement window.
+ * </p>
+ */
+final class DemoServiceProcess implements AutoCloseable {
+
+    static final String MAIN_CLASS = "com.yourorg.observability.demo.DemoApplication";
+
+    private final Process process;
+    private final int port;
+    private final long startNanos;
+    private long readyNanos;
+    private JMXConnector connector;
+    private OperatingSystemMXBean os;
+    private ThreadMXBean threads;
+
+    private DemoServiceProcess(Process process, int port, long startNanos) {
+        this.process = process;
+        this.port = port;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * {@code java <jvmArgs> -cp <this classpath> DemoApplication}.
+     */
+    static List<String> javaCommand(List<String> jvmArgs) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(MAIN_CLASS);
+        return command;
+    }
+
+    static DemoServiceProcess start(List<String> command, List<String> arguments, Path log, Duration timeout)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> fullCommand = new ArrayList<>(command);
+        fullCommand.add("--server.port=" + port);
+        fullCommand.addAll(arguments);
+
+        long startNanos = System.nanoTime();
+        Process process = new ProcessBuilder(fullCommand)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        DemoServiceProcess service = new DemoServiceProcess(process, port, startNanos);
+        try {
+            service.awaitHealthy(timeout, log);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            service.close();
+            throw e;
+        }
+        return service;
+    }
+
+    URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + port + path);
+    }
+
+    /**
+     * Process start until the first healthy {@code /actuator/health}.
+     */
+    Duration timeToHealthy() {
+        return Duration.ofNanos(readyNanos - startNanos);
+    }
+
+    /**
+     * Resident set size from {@code /proc/<pid>/status}, or -1 where that
+     * is not available.
+     */
+    long residentBytes() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(process.pid()), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // not Linux, or the process is gone
+        }
+        return -1;
+    }
+
+    ResourceSample sample() throws IOException {
+        if (connector == null) {
+            attach();
+        }
+        long[] ids = threads.getAllThreadIds();
+        long allocated = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(ids)) {
+            if (bytes > 0) {
+                allocated += bytes;
+            }
+        }
+        return new ResourceSample(os.getProcessCpuTime(), allocated);
+    }
+
+    private void awaitHealthy(Duration timeout, Path log) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri("/actuator/health")).timeout(Duration.ofSeconds(2)).build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Demo service exited with " + process.exitValue() + "; see " + log);
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    readyNanos = System.nanoTime();
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(20);
+        }
+        throw new IOException("Demo service not healthy within " + timeout + "; see " + log);
+    }
+
+    private void attach() throws IOException {
+        String address;
+        try {
+            VirtualMachine vm = VirtualMachine.attach(Long.toString(process.pid()));
+            try {
+                address = vm.startLocalManagementAgent();
+            } finally {
+                vm.detach();
+            }
+        } catch (AttachNotSupportedException e) {
+            throw new IOException("Cannot attach to demo service JVM " + process.pid(), e);
+        }
+        connector = JMXConnectorFactory.connect(new JMXServiceURL(address));
+        MBeanServerConnection connection = connector.getMBeanServerConnection();
+        os = ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.OPERATING_SYSTEM_MXBEAN_NAME,
+                OperatingSystemMXBean.class);
+        threads = ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.THREAD_MXBEAN_NAME,
+                ThreadMXBean.class);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (connector != null) {
+            try {
+                connector.close();
+            } catch (IOException e) {
+                // the process is going away anyway
+            }
+        }
+        process.destroy();
+        if (!process.waitFor(15, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor(5, TimeUnit.SECONDS);
+        }
+    }
+}
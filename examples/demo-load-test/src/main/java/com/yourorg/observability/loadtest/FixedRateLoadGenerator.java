@@ -0,0 +1,67 @@
+package com.yourorg.observability.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load at a fixed request rate.
+ *
+ * <p>
+ * Requests are sent on schedule whether or not earlier ones have returned,
+ * and latency is measured from the scheduled send time rather than the
+ * actual one, so a stalled server shows up in the tail instead of quietly
+ * lowering the rate (coordinated omission).
+ * </p>
+ */
+final class FixedRateLoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    LoadResult run(URI uri, int rps, Duration duration) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+        Histogram latencies = new ConcurrentHistogram(3);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong();
+
+        long intervalNanos = 1_000_000_000L / rps;
+        long count = Math.max(1, duration.toNanos() / intervalNanos);
+        long start = System.nanoTime();
+        for (long i = 0; i < count; i++) {
+            long scheduled = start + i * intervalNanos;
+            long delay;
+            while ((delay = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                long now = System.nanoTime();
+                latencies.recordValue(Math.max(0, (now - scheduled) / 1000));
+                if (error != null || response.statusCode() >= 400) {
+                    errors.incrementAndGet();
+                }
+                lastCompletion.accumulateAndGet(now, Math::max);
+                completed.incrementAndGet();
+            });
+        }
+
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos() * 2;
+        while (completed.get() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        long end = completed.get() > 0 ? lastCompletion.get() : System.nanoTime();
+        return new LoadResult(latencies, count, completed.get(), errors.get(), end - start);
+    }
+}
@@ -0,0 +1,18 @@
+package com.yourorg.observability.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Outcome of one fixed-rate run. Latencies are in microseconds, measured
+ * from each request's scheduled send time.
+ */
+record LoadResult(Histogram latencyMicros, long sent, long completed, long errors, long elapsedNanos) {
+
+    double achievedRps() {
+        return elapsedNanos > 0 ? completed * 1e9 / elapsedNanos : 0;
+    }
+
+    double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
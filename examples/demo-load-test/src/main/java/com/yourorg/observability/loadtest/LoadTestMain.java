@@ -0,0 +1,86 @@
+package com.yourorg.observability.loadtest;
+
+import com.yourorg.observability.testkit.OtlpTestReceiver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures what the observability starters cost per request of the demo
+ * service.
+ *
+ * <p>
+ * For each {@link Profile} the demo service is started in a fresh JVM; each
+ * endpoint is warmed up and then driven at a fixed rate while process CPU
+ * time and allocated bytes are sampled before and after. Traces and
+ * metrics go to an in-process {@link OtlpTestReceiver}. Results are printed
+ * and written as Markdown and CSV to {@code --out}.
+ * </p>
+ *
+ * <pre>
+ * mvn -pl examples/demo-load-test -am install -DskipTests
+ * mvn -pl examples/demo-load-test spring-boot:run \
+ *     -Dspring-boot.run.arguments="--rps=500 --duration=60s --profiles=off,full"
+ * </pre>
+ *
+ * <p>
+ * Options (defaults): {@code --rps=200}, {@code --warmup=15s},
+ * {@code --duration=30s}, {@code --profiles=off,core,full},
+ * {@code --endpoints=/hello,/hello-async,/hello-reactor},
+ * {@code --jvm-args="-Xms512m -Xmx512m"}, {@code --out=target/load-test}.
+ * </p>
+ */
+public final class LoadTestMain {
+    private LoadTestMain() {
+    }
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        int rps = options.getInt("rps", 200);
+        Duration warmup = options.getDuration("warmup", "15s");
+        Duration measure = options.getDuration("duration", "30s");
+        List<Profile> profiles = new ArrayList<>();
+        for (String profile : options.getList("profiles", "off,core,full")) {
+            profiles.add(Profile.valueOf(profile.toUpperCase(Locale.ROOT)));
+        }
+        List<String> endpoints = options.getList("endpoints", "/hello,/hello-async,/hello-reactor");
+        List<String> jvmArgs = options.getWords("jvm-args", "-Xms512m -Xmx512m");
+        Path out = Path.of(options.get("out", "target/load-test"));
+
+        String settings = String.format(Locale.ROOT, "%d rps per endpoint, %ss warm-up, %ss measured, JVM %s %s, "
+                + "%d CPUs", rps, warmup.toSeconds(), measure.toSeconds(), System.getProperty("java.version"),
+                String.join(" ", jvmArgs), Runtime.getRuntime().availableProcessors());
+        System.out.println(settings);
+        LoadTestReport report = new LoadTestReport(settings);
+        FixedRateLoadGenerator generator = new FixedRateLoadGenerator();
+        Files.createDirectories(out);
+
+        try (OtlpTestReceiver receiver = OtlpTestReceiver.start()) {
+            for (Profile profile : profiles) {
+                receiver.reset();
+                Path log = out.resolve("demo-" + profile.id() + ".log");
+                try (DemoServiceProcess service = DemoServiceProcess.start(DemoServiceProcess.javaCommand(jvmArgs),
+                        profile.arguments(receiver.getEndpoint()), log, STARTUP_TIMEOUT)) {
+                    for (String endpoint : endpoints) {
+                        generator.run(service.uri(endpoint), rps, warmup);
+                        ResourceSample before = service.sample();
+                        LoadResult result = generator.run(service.uri(endpoint), rps, measure);
+                        ResourceSample cost = service.sample().minus(before);
+                        System.out.println(report.add(profile, endpoint, rps, result, cost));
+                    }
+                }
+                report.addExports(profile, receiver.traceStats() + "; " + receiver.metricStats());
+            }
+        }
+
+        for (Path written : report.write(out)) {
+            System.out.println("Wrote " + written.toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.yourorg.observability.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Collects one row per profile and endpoint and writes them as Markdown
+ * (with the difference to the {@code off} baseline) and CSV, both named
+ * after the run's start time so reports from different builds sit side by
+ * side.
+ */
+final class LoadTestReport {
+
+    private static final String CSV_HEADER = "profile,endpoint,target_rps,achieved_rps,requests,errors,"
+            + "p50_ms,p99_ms,p999_ms,max_ms,cpu_us_per_request,alloc_kb_per_request";
+
+    private final String settings;
+    private final String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    private final List<Row> rows = new ArrayList<>();
+    private final Map<Profile, String> exports = new LinkedHashMap<>();
+
+    LoadTestReport(String settings) {
+        this.settings = settings;
+    }
+
+    Row add(Profile profile, String endpoint, int targetRps, LoadResult result, ResourceSample cost) {
+        long requests = Math.max(1, result.completed());
+        Row row = new Row(profile, endpoint, targetRps, result.achievedRps(), result.completed(), result.errors(),
+                result.percentileMillis(50), result.percentileMillis(99), result.percentileMillis(99.9),
+                result.latencyMicros().getMaxValue() / 1000.0,
+                cost.cpuNanos() / 1000.0 / requests, cost.allocatedBytes() / 1024.0 / requests);
+        rows.add(row);
+        return row;
+    }
+
+    void addExports(Profile profile, String summary) {
+        exports.put(profile, summary);
+    }
+
+    List<Path> write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path markdown = directory.resolve("load-test-" + timestamp + ".md");
+        Path csv = directory.resolve("load-test-" + timestamp + ".csv");
+        Files.writeString(markdown, markdown());
+        Files.writeString(csv, csv());
+        return List.of(markdown, csv);
+    }
+
+    String csv() {
+        StringBuilder out = new StringBuilder(CSV_HEADER).append('\n');
+        for (Row row : rows) {
+            out.append(String.format(Locale.ROOT, "%s,%s,%d,%.1f,%d,%d,%.3f,%.3f,%.3f,%.3f,%.1f,%.2f%n",
+                    row.profile.id(), row.endpoint, row.targetRps, row.achievedRps, row.requests, row.errors,
+                    row.p50, row.p99, row.p999, row.max, row.cpuMicros, row.allocKb));
+        }
+        return out.toString();
+    }
+
+    String markdown() {
+        StringBuilder out = new StringBuilder("# Demo service load test ").append(timestamp).append("\n\n")
+                .append(settings).append("\n\n")
+                .append("| Profile | Endpoint | RPS | p50 ms | p99 ms | p99.9 ms | max ms | errors "
+                        + "| CPU µs/req | alloc KB/req | Δp99 ms | ΔCPU µs/req | Δalloc KB/req |\n")
+                .append("|---|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+        for (Row row : rows) {
+            Row baseline = baseline(row.endpoint);
+            out.append(String.format(Locale.ROOT,
+                    "| %s | %s | %.0f | %.2f | %.2f | %.2f | %.2f | %d | %.1f | %.2f | %s | %s | %s |%n",
+                    row.profile.id(), row.endpoint, row.achievedRps, row.p50, row.p99, row.p999, row.max,
+                    row.errors, row.cpuMicros, row.allocKb,
+                    delta(baseline, row, row.p99, baseline != null ? baseline.p99 : 0, "%+.2f"),
+                    delta(baseline, row, row.cpuMicros, baseline != null ? baseline.cpuMicros : 0, "%+.1f"),
+                    delta(baseline, row, row.allocKb, baseline != null ? baseline.allocKb : 0, "%+.2f")));
+        }
+        if (!exports.isEmpty()) {
+            out.append("\n## Telemetry received\n\n");
+            exports.forEach((profile, summary) -> out.append("- **").append(profile.id()).append("**: ")
+                    .append(summary).append('\n'));
+        }
+        return out.toString();
+    }
+
+    private Row baseline(String endpoint) {
+        for (Row row : rows) {
+            if (row.profile == Profile.OFF && row.endpoint.equals(endpoint)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    private static String delta(Row baseline, Row row, double value, double base, String format) {
+        return baseline == null || baseline == row ? "—" : String.format(Locale.ROOT, format, value - base);
+    }
+
+    record Row(Profile profile, String endpoint, int targetRps, double achievedRps, long requests, long errors,
+            double p50, double p99, double p999, double max, double cpuMicros, double allocKb) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%-5s %-15s %6.0f rps  p50 %7.2f ms  p99 %7.2f ms  p99.9 %7.2f ms  errors %d  "
+                            + "cpu %7.1f us/req  alloc %7.2f KB/req",
+                    profile.id(), endpoint, achievedRps, p50, p99, p999, errors, cpuMicros, allocKb);
+        }
+    }
+}
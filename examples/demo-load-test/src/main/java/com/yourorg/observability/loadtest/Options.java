@@ -0,0 +1,72 @@
+package com.yourorg.observability.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code --name=value} command-line options shared by the harness mains.
+ */
+final class Options {
+
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    Options(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            int equals = arg.indexOf('=');
+            values.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    /**
+     * {@code 500ms}, {@code 30s}, {@code 2m}, or plain seconds.
+     */
+    Duration getDuration(String name, String defaultValue) {
+        return duration(get(name, defaultValue));
+    }
+
+    /**
+     * Comma-separated values, blanks dropped.
+     */
+    List<String> getList(String name, String defaultValue) {
+        return Arrays.stream(get(name, defaultValue).split(",")).map(String::trim).filter(part -> !part.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Whitespace-separated values, e.g. JVM flags.
+     */
+    List<String> getWords(String name, String defaultValue) {
+        String value = get(name, defaultValue).trim();
+        return value.isEmpty() ? List.of() : List.of(value.split("\\s+"));
+    }
+
+    static Duration duration(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+}
@@ -0,0 +1,62 @@
+package com.yourorg.observability.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Configurations the demo service is started in. Every profile points the
+ * OTLP endpoints at the harness's receiver, so nothing is sent to a missing
+ * collector and retried.
+ */
+enum Profile {
+
+    /**
+     * Starters on the classpath but switched off, Boot's own tracing and
+     * OTLP metrics export included: the baseline.
+     */
+    OFF("obs.enabled=false",
+            "management.tracing.enabled=false",
+            "management.otlp.metrics.export.enabled=false"),
+
+    /**
+     * Correlation filter and MDC propagation only; plain Boot logging.
+     */
+    CORE("obs.traces.enabled=false",
+            "obs.http.enabled=false",
+            "obs.metrics.enabled=false",
+            "obs.logging.enabled=false",
+            "management.tracing.enabled=false",
+            "management.otlp.metrics.export.enabled=false"),
+
+    /**
+     * The umbrella as rolled out: JSON logs, every request traced and
+     * exported, OTLP metrics.
+     */
+    FULL("obs.logging.format=json",
+            "obs.traces.enabled=true",
+            "obs.traces.sample-rate=1.0",
+            "management.tracing.sampling.probability=1.0",
+            "obs.metrics.enabled=true",
+            "management.otlp.metrics.export.step=10s");
+
+    private final List<String> properties;
+
+    Profile(String... properties) {
+        this.properties = List.of(properties);
+    }
+
+    List<String> arguments(String otlpEndpoint) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--management.otlp.tracing.endpoint=" + otlpEndpoint + "/v1/traces");
+        arguments.add("--management.otlp.metrics.export.url=" + otlpEndpoint + "/v1/metrics");
+        for (String property : properties) {
+            arguments.add("--" + property);
+        }
+        return arguments;
+    }
+
+    String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
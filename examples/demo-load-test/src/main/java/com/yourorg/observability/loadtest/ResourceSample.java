@@ -0,0 +1,13 @@
+package com.yourorg.observability.loadtest;
+
+/**
+ * Process CPU time and bytes allocated by live threads of the service JVM
+ * at one instant; subtract two samples to get the cost of what ran between
+ * them.
+ */
+record ResourceSample(long cpuNanos, long allocatedBytes) {
+
+    ResourceSample minus(ResourceSample earlier) {
+        return new ResourceSample(cpuNanos - earlier.cpuNanos, allocatedBytes - earlier.allocatedBytes);
+    }
+}
@@ -0,0 +1,75 @@
+package com.yourorg.observability.loadtest;
+
+import com.yourorg.observability.testkit.OtlpTestReceiver;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Checks that a freshly started demo service still does what the starters
+ * are for: echoes the correlation id, exports a span carrying it, and logs
+ * it in a JSON line. Used to catch features that silently drop out under
+ * AOT or in a native image (missing hints fail soft, not at startup).
+ */
+final class SmokeCheck {
+
+    static final String HEADER = "X-Correlation-Id";
+    private static final Duration EXPORT_TIMEOUT = Duration.ofSeconds(15);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    Result run(DemoServiceProcess service, OtlpTestReceiver receiver, Path log)
+            throws IOException, InterruptedException {
+        String correlationId = "smoke-" + UUID.randomUUID();
+        HttpRequest request = HttpRequest.newBuilder(service.uri("/hello"))
+                .header(HEADER, correlationId)
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        boolean correlation = response.statusCode() == 200
+                && correlationId.equals(response.headers().firstValue(HEADER).orElse(null));
+
+        boolean tracing;
+        try {
+            receiver.spans().awaitFirst(span -> correlationId.equals(span.attribute("correlation_id")),
+                    EXPORT_TIMEOUT);
+            tracing = true;
+        } catch (AssertionError e) {
+            tracing = false;
+        }
+
+        boolean jsonLogging = false;
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!jsonLogging && System.nanoTime() < deadline) {
+            jsonLogging = Files.readAllLines(log).stream().anyMatch(line -> line.startsWith("{")
+                    && line.contains("\"correlation_id\":\"" + correlationId + "\""));
+            if (!jsonLogging) {
+                Thread.sleep(100);
+            }
+        }
+        return new Result(correlation, tracing, jsonLogging);
+    }
+
+    record Result(boolean correlation, boolean tracing, boolean jsonLogging) {
+
+        boolean passed() {
+            return correlation && tracing && jsonLogging;
+        }
+
+        @Override
+        public String toString() {
+            return "correlation " + mark(correlation) + ", tracing " + mark(tracing) + ", json logs "
+                    + mark(jsonLogging);
+        }
+
+        private static String mark(boolean ok) {
+            return ok ? "ok" : "FAILED";
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.yourorg.observability.loadtest;
+
+import com.yourorg.observability.testkit.OtlpTestReceiver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures cold start of the demo service on the JVM, on the JVM with Spring
+ * AOT, and as a GraalVM native image, with the {@link Profile#FULL full}
+ * observability profile.
+ *
+ * <p>
+ * Each run starts a fresh process, records the time until
+ * {@code /actuator/health} answers and Boot's own "Started ... in" figure,
+ * runs the {@link SmokeCheck} (correlation header, exported span, JSON log
+ * line), and then reads the resident set size. Modes whose build output is
+ * missing are reported as skipped.
+ * </p>
+ *
+ * <pre>
+ * mvn -pl examples/spring-boot-demo-service -am install -Paot -DskipTests
+ * mvn -pl examples/spring-boot-demo-service package -Pnative -DskipTests   # GraalVM JDK only
+ * mvn -pl examples/demo-load-test install -DskipTests
+ * mvn -pl examples/demo-load-test spring-boot:run \
+ *     -Dspring-boot.run.main-class=com.yourorg.observability.loadtest.StartupMain \
+ *     -Dspring-boot.run.arguments="--runs=10"
+ * </pre>
+ *
+ * <p>
+ * Options (defaults): {@code --runs=5}, {@code --modes=jvm,aot,native},
+ * {@code --native-binary=../spring-boot-demo-service/target/spring-boot-demo-service},
+ * {@code --jvm-args=} (none), {@code --out=target/startup}.
+ * </p>
+ */
+public final class StartupMain {
+    private StartupMain() {
+    }
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+    private static final Pattern STARTED_IN = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        int runs = options.getInt("runs", 5);
+        List<StartupMode> modes = new ArrayList<>();
+        for (String mode : options.getList("modes", "jvm,aot,native")) {
+            modes.add(StartupMode.valueOf(mode.toUpperCase(Locale.ROOT)));
+        }
+        Path nativeBinary = Path.of(options.get("native-binary",
+                "../spring-boot-demo-service/target/spring-boot-demo-service"));
+        List<String> jvmArgs = options.getWords("jvm-args", "");
+        Path out = Path.of(options.get("out", "target/startup"));
+
+        String settings = String.format(Locale.ROOT, "%d runs per mode, full profile, JVM %s%s, %d CPUs", runs,
+                System.getProperty("java.version"), jvmArgs.isEmpty() ? "" : " " + String.join(" ", jvmArgs),
+                Runtime.getRuntime().availableProcessors());
+        System.out.println(settings);
+        StartupReport report = new StartupReport(settings);
+        SmokeCheck smoke = new SmokeCheck();
+        Files.createDirectories(out);
+
+        try (OtlpTestReceiver receiver = OtlpTestReceiver.start()) {
+            for (StartupMode mode : modes) {
+                String reason = mode.unavailableReason(nativeBinary);
+                if (reason != null) {
+                    System.out.println(mode.id() + " skipped: " + reason);
+                    report.skip(mode, reason);
+                    continue;
+                }
+                for (int run = 1; run <= runs; run++) {
+                    receiver.reset();
+                    Path log = out.resolve("demo-" + mode.id() + "-" + run + ".log");
+                    try (DemoServiceProcess service = DemoServiceProcess.start(mode.command(jvmArgs, nativeBinary),
+                            Profile.FULL.arguments(receiver.getEndpoint()), log, STARTUP_TIMEOUT)) {
+                        long healthyMillis = service.timeToHealthy().toMillis();
+                        SmokeCheck.Result result = smoke.run(service, receiver, log);
+                        System.out.println(report.add(mode, healthyMillis, startedIn(log), service.residentBytes(),
+                                result));
+                    }
+                }
+            }
+        }
+
+        for (Path written : report.write(out)) {
+            System.out.println("Wrote " + written.toAbsolutePath());
+        }
+    }
+
+    private static double startedIn(Path log) throws IOException {
+        for (String line : Files.readAllLines(log)) {
+            Matcher matcher = STARTED_IN.matcher(line);
+            if (matcher.find()) {
+                return Double.parseDouble(matcher.group(1));
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,60 @@
+package com.yourorg.observability.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * How the demo service is launched for a startup measurement.
+ */
+enum StartupMode {
+
+    /**
+     * Plain JVM from this harness's classpath.
+     */
+    JVM,
+
+    /**
+     * Same classpath with the AOT-generated initializers; requires the demo
+     * built with {@code -Paot}.
+     */
+    AOT,
+
+    /**
+     * The GraalVM native executable built with {@code -Pnative}.
+     */
+    NATIVE;
+
+    static final String AOT_INITIALIZER = DemoServiceProcess.MAIN_CLASS + "__ApplicationContextInitializer";
+
+    List<String> command(List<String> jvmArgs, Path nativeBinary) {
+        return switch (this) {
+            case JVM -> DemoServiceProcess.javaCommand(jvmArgs);
+            case AOT -> {
+                List<String> withAot = new ArrayList<>(jvmArgs);
+                withAot.add("-Dspring.aot.enabled=true");
+                yield DemoServiceProcess.javaCommand(withAot);
+            }
+            case NATIVE -> List.of(nativeBinary.toAbsolutePath().toString());
+        };
+    }
+
+    /**
+     * Why this mode cannot run in the current build, or {@code null}.
+     */
+    String unavailableReason(Path nativeBinary) {
+        return switch (this) {
+            case JVM -> null;
+            case AOT -> StartupMode.class.getClassLoader().getResource(AOT_INITIALIZER.replace('.', '/') + ".class")
+                    == null ? "demo service not built with -Paot" : null;
+            case NATIVE -> Files.isExecutable(nativeBinary) ? null
+                    : "no native executable at " + nativeBinary + " (build with -Pnative)";
+        };
+    }
+
+    String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
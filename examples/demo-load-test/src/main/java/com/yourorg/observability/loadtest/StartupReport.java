@@ -0,0 +1,101 @@
+package com.yourorg.observability.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Startup time, RSS and smoke-check outcome per {@link StartupMode}, as
+ * Markdown (medians per mode) and CSV (every run).
+ */
+final class StartupReport {
+
+    private final String settings;
+    private final String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    private final Map<StartupMode, List<Run>> runs = new LinkedHashMap<>();
+    private final Map<StartupMode, String> skipped = new LinkedHashMap<>();
+
+    StartupReport(String settings) {
+        this.settings = settings;
+    }
+
+    Run add(StartupMode mode, long healthyMillis, double startedInSeconds, long residentBytes,
+            SmokeCheck.Result smoke) {
+        Run run = new Run(mode, healthyMillis, startedInSeconds, residentBytes, smoke);
+        runs.computeIfAbsent(mode, key -> new ArrayList<>()).add(run);
+        return run;
+    }
+
+    void skip(StartupMode mode, String reason) {
+        skipped.put(mode, reason);
+    }
+
+    List<Path> write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path markdown = directory.resolve("startup-" + timestamp + ".md");
+        Path csv = directory.resolve("startup-" + timestamp + ".csv");
+        Files.writeString(markdown, markdown());
+        Files.writeString(csv, csv());
+        return List.of(markdown, csv);
+    }
+
+    String csv() {
+        StringBuilder out = new StringBuilder("mode,run,healthy_ms,started_in_s,rss_mb,correlation,tracing,json_logs\n");
+        runs.forEach((mode, list) -> {
+            for (int i = 0; i < list.size(); i++) {
+                Run run = list.get(i);
+                out.append(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.1f,%b,%b,%b%n", mode.id(), i + 1,
+                        run.healthyMillis, run.startedInSeconds, run.residentMegabytes(), run.smoke.correlation(),
+                        run.smoke.tracing(), run.smoke.jsonLogging()));
+            }
+        });
+        return out.toString();
+    }
+
+    String markdown() {
+        StringBuilder out = new StringBuilder("# Demo service startup ").append(timestamp).append("\n\n")
+                .append(settings).append("\n\n")
+                .append("| Mode | Runs | healthy ms (median) | min | max | Boot \"Started in\" s | RSS MB (median) "
+                        + "| Smoke checks |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---|\n");
+        runs.forEach((mode, list) -> {
+            long[] healthy = list.stream().mapToLong(Run::healthyMillis).sorted().toArray();
+            double[] startedIn = list.stream().mapToDouble(Run::startedInSeconds).sorted().toArray();
+            double[] rss = list.stream().mapToDouble(Run::residentMegabytes).sorted().toArray();
+            long failed = list.stream().filter(run -> !run.smoke.passed()).count();
+            out.append(String.format(Locale.ROOT, "| %s | %d | %d | %d | %d | %.3f | %.1f | %s |%n", mode.id(),
+                    list.size(), healthy[healthy.length / 2], healthy[0], healthy[healthy.length - 1],
+                    startedIn[startedIn.length / 2], rss[rss.length / 2],
+                    failed == 0 ? "all passed" : failed + " run(s) failed: " + firstFailure(list)));
+        });
+        skipped.forEach((mode, reason) -> out.append("| ").append(mode.id()).append(" | skipped: ").append(reason)
+                .append(" | | | | | | |\n"));
+        return out.toString();
+    }
+
+    private static String firstFailure(List<Run> list) {
+        return list.stream().filter(run -> !run.smoke.passed()).findFirst().map(run -> run.smoke.toString())
+                .orElse("");
+    }
+
+    record Run(StartupMode mode, long healthyMillis, double startedInSeconds, long residentBytes,
+            SmokeCheck.Result smoke) {
+
+        double residentMegabytes() {
+            return residentBytes < 0 ? Double.NaN : residentBytes / (1024.0 * 1024.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-6s healthy %5d ms  started in %6.3f s  rss %7.1f MB  %s",
+                    mode.id(), healthyMillis, startedInSeconds, residentMegabytes(), smoke);
+        }
+    }
+}
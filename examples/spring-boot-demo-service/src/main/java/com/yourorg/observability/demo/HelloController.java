@@ -1,5 +1,6 @@
 package com.yourorg.observability.demo;
 
+import com.yourorg.observability.starter.core.ObsContextExecutors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -26,29 +27,20 @@ public class HelloController {
     }
 
     /**
-     * Demonstrates MANUAL MDC propagation for CompletableFuture.
+     * Demonstrates MDC propagation for CompletableFuture.
      *
-     * CompletableFuture uses ForkJoinPool which is NOT managed by Reactor,
-     * so context-propagation does not auto-bridge MDC. You must copy MDC
-     * manually before going async.
+     * CompletableFuture defaults to ForkJoinPool.commonPool(), which no
+     * framework decorates. Passing ObsContextExecutors.commonPool() carries
+     * correlation_id, trace_id and span_id into the async task.
      */
     @GetMapping("/hello-async")
     public Map<String, String> helloAsync() {
         String correlationId = MDC.get("correlation_id");
         log.info("[request-thread] correlation_id={}", correlationId);
 
-        // Capture MDC snapshot BEFORE crossing the thread boundary
-        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
-
-        CompletableFuture.runAsync(() -> {
-            try {
-                if (mdcContext != null)
-                    MDC.setContextMap(mdcContext);
-                log.info("[async-thread] correlation_id={}", MDC.get("correlation_id"));
-            } finally {
-                MDC.clear();
-            }
-        });
+        CompletableFuture.runAsync(
+                () -> log.info("[async-thread] correlation_id={}", MDC.get("correlation_id")),
+                ObsContextExecutors.commonPool());
 
         return Map.of(
                 "message", "Check server logs — correlation_id should appear in both threads",
@@ -58,8 +50,8 @@ public class HelloController {
     /**
      * Demonstrates AUTOMATIC MDC propagation via Reactor + context-propagation.
      *
-     * With Hooks.enableAutomaticContextPropagation() and ContextRegistry
-     * registration (see DemoApplication.java), MDC values are automatically
+     * The starter enables Hooks.enableAutomaticContextPropagation() and
+     * registers the MDC keys with ContextRegistry, so MDC values are automatically
      * captured from the request thread and restored when Reactor switches
      * schedulers (e.g., boundedElastic).
      */
@@ -0,0 +1,101 @@
+package com.yourorg.observability.benchmarks;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.yourorg.observability.contract.ObsLogFields;
+import com.yourorg.observability.starter.logging.ObsAsyncConsoleAppender;
+import com.yourorg.observability.starter.logging.ObsLoggingAutoConfiguration;
+import com.yourorg.observability.starter.logging.ObsLoggingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost seen by the logging thread for one JSON event: the synchronous
+ * {@code OutputStreamAppender} (encode + write under the appender lock) vs
+ * {@link ObsAsyncConsoleAppender} (freeze + enqueue). Output goes to a null
+ * stream, so this measures caller overhead, not pipe back-pressure; run with
+ * {@code -Dobs.bench.threads=1,4,8} to see lock contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncConsoleAppenderBenchmark {
+
+    @Param({ "sync", "async" })
+    public String mode;
+
+    private LoggerContext context;
+    private Appender<ILoggingEvent> appender;
+    private Map<String, String> mdc;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        Encoder<ILoggingEvent> encoder = new ObsLoggingAutoConfiguration(
+                new ObsLoggingProperties(), "bench-service", "bench", "1.0.0").createJsonEncoder(context);
+
+        if ("async".equals(mode)) {
+            ObsAsyncConsoleAppender async = new ObsAsyncConsoleAppender();
+            async.setEncoder(encoder);
+            async.setOutputStream(OutputStream.nullOutputStream());
+            async.setOverflowPolicy(ObsAsyncConsoleAppender.OverflowPolicy.DROP_BELOW_WARN);
+            appender = async;
+        } else {
+            OutputStreamAppender<ILoggingEvent> sync = new OutputStreamAppender<>();
+            sync.setEncoder(encoder);
+            sync.setOutputStream(OutputStream.nullOutputStream());
+            appender = sync;
+        }
+        appender.setContext(context);
+        appender.setName("BENCH");
+        appender.start();
+
+        mdc = new HashMap<>();
+        mdc.put(ObsLogFields.CORRELATION_ID, "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f");
+        mdc.put(ObsLogFields.TRACE_ID, "4bf92f3577b34da6a3ce929d0e0e4736");
+        mdc.put(ObsLogFields.SPAN_ID, "00f067aa0ba902b7");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        appender.stop();
+        context.stop();
+    }
+
+    @Benchmark
+    public void append() {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerContext(context);
+        event.setLoggerName("com.yourorg.orders.OrderController");
+        event.setThreadName("http-nio-8080-exec-1");
+        event.setLevel(ch.qos.logback.classic.Level.INFO);
+        event.setMessage("Order {} loaded in {} ms");
+        event.setArgumentArray(new Object[] { 1042, 7 });
+        event.setTimeStamp(System.currentTimeMillis());
+        event.setMDCPropertyMap(mdc);
+        appender.doAppend(event);
+    }
+}
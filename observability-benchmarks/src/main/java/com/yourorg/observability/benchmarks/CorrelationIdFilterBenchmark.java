@@ -0,0 +1,65 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.starter.core.CorrelationIdFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inbound cost of {@link CorrelationIdFilter}: header extraction (or ID
+ * generation), MDC put/remove and the response header echo.
+ * {@link #bareChain()} is the floor the filter adds to.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CorrelationIdFilterBenchmark {
+
+    /**
+     * Whether the inbound request already carries a correlation header.
+     */
+    @Param({ "true", "false" })
+    public boolean headerPresent;
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter("X-Correlation-Id");
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", "/hello");
+        if (headerPresent) {
+            request.addHeader("X-Correlation-Id", "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f");
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void bareChain() throws Exception {
+        chain.doFilter(request, response);
+    }
+
+    @Benchmark
+    public void correlationIdFilter() throws Exception {
+        filter.doFilter(request, response, chain);
+    }
+}
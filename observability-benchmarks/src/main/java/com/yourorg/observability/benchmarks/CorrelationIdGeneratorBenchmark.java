@@ -0,0 +1,45 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.contract.CorrelationId;
+import com.yourorg.observability.contract.CorrelationIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Id generation and inbound validation in {@link CorrelationId}. Run at
+ * several thread counts to see {@code UUID}'s shared {@code SecureRandom}
+ * contention against the thread-local strategies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CorrelationIdGeneratorBenchmark {
+
+    @Param({ "UUID", "RANDOM", "ULID" })
+    public CorrelationIdGenerator.Strategy strategy;
+
+    private final String inbound = "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f";
+
+    @Benchmark
+    public String generate() {
+        return strategy.generate();
+    }
+
+    @Benchmark
+    public String sanitizeInbound() {
+        return CorrelationId.sanitize(inbound, CorrelationId.DEFAULT_MAX_LENGTH);
+    }
+}
@@ -0,0 +1,125 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.contract.ObsMdcKeys;
+import com.yourorg.observability.starter.tracing.CorrelationIdSpanEnricher;
+import com.yourorg.observability.starter.tracing.ObsCorrelationContext;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-span cost of {@link CorrelationIdSpanEnricher}. Every benchmark starts
+ * and ends a recorded span on an SDK tracer without exporters; the difference
+ * to {@link #spanWithoutEnricher} is the enricher. The request context
+ * carries the correlation id the way the servlet filter stores it, and the
+ * MDC holds it as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CorrelationIdSpanEnricherBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Tracers {
+        SdkTracerProvider plainProvider;
+        SdkTracerProvider enrichedProvider;
+        SdkTracerProvider rootsOnlyProvider;
+        Tracer plain;
+        Tracer enriched;
+        Tracer rootsOnly;
+
+        @Setup
+        public void setUp() {
+            plainProvider = SdkTracerProvider.builder()
+                    .setSampler(Sampler.alwaysOn())
+                    .build();
+            enrichedProvider = SdkTracerProvider.builder()
+                    .setSampler(Sampler.alwaysOn())
+                    .addSpanProcessor(new CorrelationIdSpanEnricher())
+                    .build();
+            rootsOnlyProvider = SdkTracerProvider.builder()
+                    .setSampler(Sampler.alwaysOn())
+                    .addSpanProcessor(new CorrelationIdSpanEnricher(true))
+                    .build();
+            plain = plainProvider.get("obs-bench");
+            enriched = enrichedProvider.get("obs-bench");
+            rootsOnly = rootsOnlyProvider.get("obs-bench");
+        }
+
+        @TearDown
+        public void tearDown() {
+            plainProvider.close();
+            enrichedProvider.close();
+            rootsOnlyProvider.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RequestMdc {
+        Context request;
+        Context insideServerSpan;
+
+        @Setup(Level.Trial)
+        public void setUp(Tracers tracers) {
+            String cid = "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f";
+            MDC.put(ObsMdcKeys.CORRELATION_ID, cid);
+            request = ObsCorrelationContext.with(Context.root(), cid, false);
+            Span server = tracers.plain.spanBuilder("GET /hello").setParent(request).startSpan();
+            insideServerSpan = request.with(server);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            MDC.clear();
+        }
+    }
+
+    @Benchmark
+    public void spanWithoutEnricher(Tracers tracers, RequestMdc mdc) {
+        Span span = tracers.plain.spanBuilder("GET /hello").startSpan();
+        span.end();
+    }
+
+    @Benchmark
+    public void spanWithEnricher(Tracers tracers, RequestMdc mdc) {
+        Span span = tracers.enriched.spanBuilder("GET /hello").setParent(mdc.request).startSpan();
+        span.end();
+    }
+
+    @Benchmark
+    public void childSpanWithoutEnricher(Tracers tracers, RequestMdc mdc) {
+        Span span = tracers.plain.spanBuilder("SELECT orders").setParent(mdc.insideServerSpan).startSpan();
+        span.end();
+    }
+
+    @Benchmark
+    public void childSpanWithEnricher(Tracers tracers, RequestMdc mdc) {
+        Span span = tracers.enriched.spanBuilder("SELECT orders").setParent(mdc.insideServerSpan).startSpan();
+        span.end();
+    }
+
+    @Benchmark
+    public void childSpanWithRootOnlyEnricher(Tracers tracers, RequestMdc mdc) {
+        Span span = tracers.rootsOnly.spanBuilder("SELECT orders").setParent(mdc.insideServerSpan).startSpan();
+        span.end();
+    }
+}
@@ -0,0 +1,78 @@
+package com.yourorg.observability.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import com.yourorg.observability.starter.core.HttpAccessLogFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link HttpAccessLogFilter}: nanoTime, the http.* MDC
+ * puts and removes, and the access line itself. The "obs.access" logger
+ * writes to a no-op appender, so the figure is event creation without I/O.
+ * With {@code successSampleRate=0} a 2xx request skips the line and shows
+ * the floor; {@link #bareChain()} is the floor without the filter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HttpAccessLogFilterBenchmark {
+
+    @Param({ "0.0", "1.0" })
+    public double successSampleRate;
+
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    private HttpAccessLogFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        Logger accessLogger = (Logger) LoggerFactory.getLogger("obs.access");
+        accessLogger.detachAndStopAllAppenders();
+        accessLogger.setAdditive(false);
+        NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+        appender.setContext(accessLogger.getLoggerContext());
+        appender.start();
+        accessLogger.addAppender(appender);
+
+        filter = new HttpAccessLogFilter(successSampleRate, ObsPathMatcher.compile(Set.of("/actuator/health")));
+        request = new MockHttpServletRequest("GET", "/orders/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void bareChain() throws Exception {
+        chain.doFilter(request, response);
+    }
+
+    @Benchmark
+    public void accessLogFilter() throws Exception {
+        filter.doFilter(request, response, chain);
+    }
+}
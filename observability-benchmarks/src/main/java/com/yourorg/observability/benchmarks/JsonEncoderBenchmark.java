@@ -0,0 +1,85 @@
+package com.yourorg.observability.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.yourorg.observability.contract.ObsLogFields;
+import com.yourorg.observability.starter.logging.ObsLoggingAutoConfiguration;
+import com.yourorg.observability.starter.logging.ObsLoggingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-event cost of the JSON encoder built by
+ * {@link ObsLoggingAutoConfiguration}, encoding a typical request-scoped
+ * INFO event with the full ObsLogFields MDC set. {@code encoderType} selects
+ * {@code obs.logging.encoder} (LogstashEncoder vs ObsJsonEncoder).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonEncoderBenchmark {
+
+    @Param({ "logstash", "obs" })
+    public String encoderType;
+
+    private LoggerContext context;
+    private Encoder<ILoggingEvent> encoder;
+    private LoggingEvent event;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        ObsLoggingProperties props = new ObsLoggingProperties();
+        props.setEncoder(ObsLoggingProperties.EncoderType.valueOf(encoderType.toUpperCase()));
+        encoder = new ObsLoggingAutoConfiguration(props, "bench-service", "bench", "1.0.0")
+                .createJsonEncoder(context);
+
+        Map<String, String> mdc = new HashMap<>();
+        mdc.put(ObsLogFields.CORRELATION_ID, "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f");
+        mdc.put(ObsLogFields.TRACE_ID, "4bf92f3577b34da6a3ce929d0e0e4736");
+        mdc.put(ObsLogFields.SPAN_ID, "00f067aa0ba902b7");
+        mdc.put(ObsLogFields.HTTP_METHOD, "GET");
+        mdc.put(ObsLogFields.HTTP_ROUTE, "/orders/{id}");
+
+        event = new LoggingEvent();
+        event.setLoggerContext(context);
+        event.setLoggerName("com.yourorg.orders.OrderController");
+        event.setThreadName("http-nio-8080-exec-1");
+        event.setLevel(Level.INFO);
+        event.setMessage("Order {} loaded in {} ms");
+        event.setArgumentArray(new Object[] { 1042, 7 });
+        event.setTimeStamp(System.currentTimeMillis());
+        event.setMDCPropertyMap(mdc);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encoder.stop();
+        context.stop();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return encoder.encode(event);
+    }
+}
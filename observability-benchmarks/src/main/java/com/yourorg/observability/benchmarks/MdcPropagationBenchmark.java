@@ -0,0 +1,79 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.contract.MdcSnapshot;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-hop cost of carrying MDC into an async task, measured on one thread:
+ * capture on the submitter, then restore/run/clean up as the worker would.
+ * {@link #copyContextMap()} is the hand-written pattern the starter replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MdcPropagationBenchmark {
+
+    private final Runnable task = () -> {
+    };
+
+    @Setup
+    public void setUp() {
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f");
+        MDC.put(ObsMdcKeys.TRACE_ID, "4bf92f3577b34da6a3ce929d0e0e4736");
+        MDC.put(ObsMdcKeys.SPAN_ID, "00f067aa0ba902b7");
+        MDC.put("http.method", "GET");
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public void copyContextMap(Blackhole bh) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        Runnable wrapped = () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            try {
+                if (context != null) {
+                    MDC.setContextMap(context);
+                }
+                task.run();
+            } finally {
+                if (previous != null) {
+                    MDC.setContextMap(previous);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+        wrapped.run();
+        bh.consume(wrapped);
+    }
+
+    @Benchmark
+    public void snapshot(Blackhole bh) {
+        Runnable wrapped = MdcSnapshot.wrap(task);
+        wrapped.run();
+        bh.consume(wrapped);
+    }
+}
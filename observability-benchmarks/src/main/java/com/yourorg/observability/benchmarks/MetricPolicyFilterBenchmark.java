@@ -0,0 +1,72 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.contract.ObsSampledTimer;
+import com.yourorg.observability.starter.metrics.ObsMetricsProperties;
+import com.yourorg.observability.starter.metrics.ObservabilityMetricsAutoConfiguration;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code obsMetricPolicyFilter} {@link MeterFilter} for a single
+ * {@link Meter.Id}. This runs whenever a meter is registered, which for
+ * dynamically tagged meters (per-cache, per-pool) is on the request path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricPolicyFilterBenchmark {
+
+    /**
+     * Which branch of the policy the meter exercises.
+     */
+    @Param({ "contractPrefix", "configuredPrefix", "denied", "forbiddenTag" })
+    public String meter;
+
+    private MeterFilter filter;
+    private Meter.Id id;
+
+    @Setup
+    public void setUp() {
+        ObsMetricsProperties props = new ObsMetricsProperties();
+        props.setAdditionalAllowedPrefixes(List.of("payments.", "orders.", "inventory.", "shipping."));
+        filter = new ObservabilityMetricsAutoConfiguration().obsMetricPolicyFilter(props,
+                ObsSampledTimer.disabled("metric_policy_filter"));
+
+        Tags tags = Tags.of("service.name", "bench-service", "env", "bench", "cache", "users");
+        id = switch (meter) {
+            case "contractPrefix" -> meterId("cache.gets", tags);
+            case "configuredPrefix" -> meterId("shipping.labels.printed", tags);
+            case "denied" -> meterId("crypto.miner.hashrate", tags);
+            case "forbiddenTag" -> meterId("cache.gets", tags.and("userId", "42"));
+            default -> throw new IllegalArgumentException(meter);
+        };
+    }
+
+    private static Meter.Id meterId(String name, Tags tags) {
+        return new Meter.Id(name, tags, null, null, Meter.Type.COUNTER);
+    }
+
+    @Benchmark
+    public MeterFilterReply accept() {
+        return filter.accept(id);
+    }
+}
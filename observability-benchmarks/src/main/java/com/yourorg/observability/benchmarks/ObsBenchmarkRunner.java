@@ -0,0 +1,75 @@
+package com.yourorg.observability.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the platform benchmarks once per thread count with the GC profiler
+ * attached, writing one JMH JSON result file per run.
+ *
+ * <p>
+ * Usage: {@code java -jar target/benchmarks.jar [include-regex]}
+ * </p>
+ * <ul>
+ * <li>{@code -Dobs.bench.threads=1,2,4,8} — thread counts to run (default:
+ * powers of two up to the number of available processors)</li>
+ * <li>{@code -Dobs.bench.out=target/jmh} — output directory for
+ * {@code results-t<threads>.json}</li>
+ * </ul>
+ *
+ * <p>
+ * Each result file contains {@code ns/op} as the primary metric and
+ * {@code gc.alloc.rate.norm} (bytes allocated per op) as a secondary metric,
+ * so files from two releases can be diffed directly. For ad-hoc runs, the
+ * standard JMH CLI is still available via
+ * {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main}.
+ * </p>
+ */
+public final class ObsBenchmarkRunner {
+    private ObsBenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = args.length > 0 ? args[0] : ObsBenchmarkRunner.class.getPackageName() + ".*";
+        Path outDir = Paths.get(System.getProperty("obs.bench.out", "target/jmh"));
+        Files.createDirectories(outDir);
+
+        for (int threads : threadCounts(System.getProperty("obs.bench.threads"))) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(outDir.resolve("results-t" + threads + ".json").toString())
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    static List<Integer> threadCounts(String spec) {
+        List<Integer> counts = new ArrayList<>();
+        if (spec != null && !spec.isBlank()) {
+            for (String part : spec.split(",")) {
+                counts.add(Integer.parseInt(part.trim()));
+            }
+            return counts;
+        }
+        int cpus = Runtime.getRuntime().availableProcessors();
+        for (int t = 1; t < cpus; t <<= 1) {
+            counts.add(t);
+        }
+        counts.add(cpus);
+        return counts;
+    }
+}
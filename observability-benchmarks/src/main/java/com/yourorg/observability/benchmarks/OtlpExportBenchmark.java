@@ -0,0 +1,131 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.testkit.OtlpTestReceiver;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of exporting one batch of spans over OTLP/HTTP:
+ * protobuf encoding, optional gzip, the loopback request and decoding in
+ * an {@link OtlpTestReceiver}. Each iteration prints the receiver's wire
+ * bytes per span, so payload size can be compared across compression
+ * settings alongside the time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OtlpExportBenchmark {
+
+    @Param({ "none", "gzip" })
+    public String compression;
+
+    @Param({ "512" })
+    public int batchSize;
+
+    private OtlpTestReceiver receiver;
+    private OtlpHttpSpanExporter exporter;
+    private List<SpanData> batch;
+
+    @Setup
+    public void setUp() {
+        receiver = OtlpTestReceiver.start();
+        exporter = OtlpHttpSpanExporter.builder()
+                .setEndpoint(receiver.getTracesEndpoint())
+                .setCompression(compression)
+                .build();
+
+        List<SpanData> spans = new ArrayList<>(batchSize);
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(new CollectingProcessor(spans))
+                .build();
+        Tracer tracer = provider.get("bench");
+        for (int i = 0; i < batchSize; i++) {
+            tracer.spanBuilder("GET /orders/{id}")
+                    .setAttribute("http.request.method", "GET")
+                    .setAttribute("http.route", "/orders/{id}")
+                    .setAttribute("http.response.status_code", 200L)
+                    .setAttribute("correlation_id", "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f")
+                    .startSpan()
+                    .end();
+        }
+        provider.shutdown().join(10, TimeUnit.SECONDS);
+        batch = List.copyOf(spans);
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        System.out.println();
+        System.out.println(receiver.traceStats());
+        receiver.reset();
+    }
+
+    @TearDown
+    public void tearDown() {
+        exporter.shutdown().join(10, TimeUnit.SECONDS);
+        receiver.close();
+    }
+
+    @Benchmark
+    public boolean exportBatch() {
+        return exporter.export(batch).join(10, TimeUnit.SECONDS).isSuccess();
+    }
+
+    private static final class CollectingProcessor implements SpanProcessor {
+        private final List<SpanData> spans;
+
+        CollectingProcessor(List<SpanData> spans) {
+            this.spans = spans;
+        }
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span.toSpanData());
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.contract.ObsMdcKeys;
+import io.micrometer.context.ContextRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Hooks;
+import reactor.util.context.Context;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline cost of Reactor's global automatic context propagation
+ * ({@code obs.context-propagation.reactor-hook}) for a request whose
+ * correlation id lives in the Reactor Context, as written by
+ * {@code ReactiveCorrelationIdFilter}.
+ *
+ * <p>
+ * {@link #pipeline()} has no logging; {@link #pipelineWithLogStep(Blackhole)}
+ * reads the MDC from a {@code handle} step, which Reactor populates with or
+ * without the hook.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReactorContextPropagationBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean globalHook;
+
+    private final Context context = Context.of(ObsMdcKeys.CORRELATION_ID, "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f");
+
+    @Setup
+    public void setUp() {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(
+                ObsMdcKeys.CORRELATION_ID,
+                () -> MDC.get(ObsMdcKeys.CORRELATION_ID),
+                value -> MDC.put(ObsMdcKeys.CORRELATION_ID, value),
+                () -> MDC.remove(ObsMdcKeys.CORRELATION_ID));
+        if (globalHook) {
+            Hooks.enableAutomaticContextPropagation();
+        } else {
+            Hooks.disableAutomaticContextPropagation();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Hooks.disableAutomaticContextPropagation();
+        MDC.clear();
+    }
+
+    @Benchmark
+    public Integer pipeline() {
+        return Flux.range(0, 64)
+                .map(i -> i * 31)
+                .filter(i -> (i & 1) == 0)
+                .reduce(0, Integer::sum)
+                .contextWrite(context)
+                .block();
+    }
+
+    @Benchmark
+    public Integer pipelineWithLogStep(Blackhole bh) {
+        return Flux.range(0, 64)
+                .map(i -> i * 31)
+                .filter(i -> (i & 1) == 0)
+                .<Integer>handle((i, sink) -> {
+                    bh.consume(MDC.get(ObsMdcKeys.CORRELATION_ID));
+                    sink.next(i);
+                })
+                .reduce(0, Integer::sum)
+                .contextWrite(context)
+                .block();
+    }
+}
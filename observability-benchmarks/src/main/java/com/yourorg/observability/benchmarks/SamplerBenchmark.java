@@ -0,0 +1,59 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.starter.tracing.ObsRateLimitingSampler;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Root-span sampling decision: Spring Boot's default
+ * {@code parentBased(traceIdRatioBased)} against
+ * {@link ObsRateLimitingSampler}, whose buckets are shared by all benchmark
+ * threads (run with {@code -Dobs.bench.threads} to see contention).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SamplerBenchmark {
+
+    @Param({ "probability", "rate-limiting" })
+    public String sampler;
+
+    private final String traceId = IdGenerator.random().generateTraceId();
+    private final Attributes attributes = Attributes.of(AttributeKey.stringKey("http.route"), "/orders/{id}");
+
+    private Sampler delegate;
+
+    @Setup
+    public void setUp() {
+        delegate = "probability".equals(sampler)
+                ? Sampler.parentBased(Sampler.traceIdRatioBased(0.05))
+                : new ObsRateLimitingSampler(100, 10, 0.1, 256);
+    }
+
+    @Benchmark
+    public SamplingResult rootSpanDecision() {
+        return delegate.shouldSample(Context.root(), traceId, "http get", SpanKind.SERVER, attributes, List.of());
+    }
+}
@@ -0,0 +1,88 @@
+package com.yourorg.observability.benchmarks;
+
+import com.yourorg.observability.starter.tracing.ObsBatchSpanProcessor;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost on the request thread of starting and ending a sampled span, with
+ * the SDK's {@link BatchSpanProcessor} against {@link ObsBatchSpanProcessor}
+ * (same queue and batch sizes, exporter that discards). Run with
+ * {@code -Dobs.bench.threads} to see queue contention.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpanExportBenchmark {
+
+    @Param({ "sdk-batch", "obs-ring" })
+    public String processor;
+
+    private SdkTracerProvider provider;
+    private Tracer tracer;
+
+    @Setup
+    public void setUp() {
+        SpanExporter exporter = new DiscardingExporter();
+        SpanProcessor spanProcessor = "sdk-batch".equals(processor)
+                ? BatchSpanProcessor.builder(exporter).setMaxQueueSize(2048).setMaxExportBatchSize(512).build()
+                : new ObsBatchSpanProcessor(exporter, 2048, 512, Duration.ofSeconds(5), Duration.ofSeconds(30), 1);
+        provider = SdkTracerProvider.builder()
+                .setSampler(Sampler.alwaysOn())
+                .addSpanProcessor(spanProcessor)
+                .build();
+        tracer = provider.get("bench");
+    }
+
+    @TearDown
+    public void tearDown() {
+        provider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void endSampledSpan() {
+        tracer.spanBuilder("http get").startSpan().end();
+    }
+
+    private static final class DiscardingExporter implements SpanExporter {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.yourorg.observability.contract;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lock-free, bounded, multi-producer/multi-consumer FIFO ring buffer.
+ *
+ * <p>
+ * Each slot carries a sequence number that tells producers and consumers
+ * whether it is free or filled for the current lap (D. Vyukov's bounded MPMC
+ * queue). {@link #offer(Object)} and {@link #poll()} are a single CAS on the
+ * uncontended path and never block; a full buffer makes {@code offer} return
+ * {@code false} so the caller decides whether to wait, drop, or evict the
+ * oldest element via {@code poll}.
+ * </p>
+ *
+ * <p>
+ * Capacity is rounded up to a power of two, and to at least two slots: with
+ * a single slot, the sequence of a filled slot equals the one the next
+ * producer waits for, so unread elements would be overwritten.
+ * {@link #size()} is a snapshot and may be stale by the time it returns.
+ * </p>
+ */
+public final class BoundedRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public BoundedRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.slots = new AtomicReferenceArray<>(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Appends {@code element} if there is room.
+     *
+     * @return {@code false} if the buffer is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        long pos = tail.get();
+        int index;
+        for (;;) {
+            index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+        slots.lazySet(index, element);
+        sequences.set(index, pos + 1);
+        return true;
+    }
+
+    /**
+     * Removes and returns the oldest element, or {@code null} if empty.
+     */
+    public E poll() {
+        long pos = head.get();
+        int index;
+        for (;;) {
+            index = (int) (pos & mask);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                pos = head.get();
+            }
+        }
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, pos + mask + 1);
+        return element;
+    }
+
+    /**
+     * Polls up to {@code limit} elements into {@code sink}.
+     *
+     * @return the number of elements drained
+     */
+    public int drain(Consumer<? super E> sink, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            sink.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -1,14 +1,61 @@
 package com.yourorg.observability.contract;
 
-import java.util.Optional;
-import java.util.UUID;
-
+/**
+ * Inbound correlation id handling: accept a well-formed header value or mint
+ * a new id.
+ *
+ * <p>
+ * Header values are untrusted and end up on every log line and span, so they
+ * are checked in a single pass: values longer than the limit are truncated,
+ * and values that are blank or contain anything outside
+ * {@code [A-Za-z0-9._:=+/-]} are replaced with a freshly generated id.
+ * </p>
+ */
 public final class CorrelationId {
     private CorrelationId() {}
 
+    /**
+     * Default upper bound on accepted header values.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final boolean[] ALLOWED = new boolean[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) ALLOWED[c] = true;
+        for (char c = 'a'; c <= 'z'; c++) ALLOWED[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) ALLOWED[c] = true;
+        for (char c : "._:=+/-".toCharArray()) ALLOWED[c] = true;
+    }
+
     public static String fromHeaderOrNew(String headerValue) {
-        return Optional.ofNullable(headerValue)
-                .filter(v -> !v.isBlank())
-                .orElse(UUID.randomUUID().toString());
+        return fromHeaderOrNew(headerValue, CorrelationIdGenerator.Strategy.RANDOM, DEFAULT_MAX_LENGTH);
+    }
+
+    public static String fromHeaderOrNew(String headerValue, CorrelationIdGenerator generator, int maxLength) {
+        String accepted = sanitize(headerValue, maxLength);
+        return accepted != null ? accepted : generator.generate();
+    }
+
+    /**
+     * Returns {@code value} (truncated to {@code maxLength}) if it is a usable
+     * correlation id, or {@code null} if it is missing, blank or contains a
+     * disallowed character. Only the retained prefix is inspected.
+     */
+    public static String sanitize(String value, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+        int length = Math.min(value.length(), maxLength);
+        if (length == 0) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 128 || !ALLOWED[c]) {
+                return null;
+            }
+        }
+        return length == value.length() ? value : value.substring(0, length);
     }
 }
@@ -0,0 +1,68 @@
+package com.yourorg.observability.contract;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formats generated ids into a per-thread scratch buffer. Latin-1 bytes are
+ * used so the final {@code String} is a single array copy (compact strings)
+ * with no intermediate char[] or StringBuilder.
+ */
+final class CorrelationIdFormat {
+    private CorrelationIdFormat() {
+    }
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+    static final int UUID_LENGTH = 36;
+    static final int ULID_LENGTH = 26;
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[UUID_LENGTH]);
+
+    static String uuid(long msb, long lsb) {
+        byte[] buf = BUFFER.get();
+        hex(buf, 0, msb >>> 32, 8);
+        buf[8] = '-';
+        hex(buf, 9, msb >>> 16, 4);
+        buf[13] = '-';
+        hex(buf, 14, msb, 4);
+        buf[18] = '-';
+        hex(buf, 19, lsb >>> 48, 4);
+        buf[23] = '-';
+        hex(buf, 24, lsb, 12);
+        return new String(buf, 0, UUID_LENGTH, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * @param timeMillis 48-bit timestamp part
+     * @param randomHi   upper 16 of the 80 random bits
+     * @param randomLo   lower 64 of the 80 random bits
+     */
+    static String ulid(long timeMillis, int randomHi, long randomLo) {
+        byte[] buf = BUFFER.get();
+        for (int i = 0; i < 10; i++) {
+            buf[i] = CROCKFORD[(int) (timeMillis >>> (45 - 5 * i)) & 31];
+        }
+        long hi = randomHi & 0xFFFFL;
+        for (int i = 0; i < 16; i++) {
+            int shift = 75 - 5 * i;
+            long bits;
+            if (shift >= 64) {
+                bits = hi >>> (shift - 64);
+            } else if (shift + 5 <= 64) {
+                bits = randomLo >>> shift;
+            } else {
+                bits = (hi << (64 - shift)) | (randomLo >>> shift);
+            }
+            buf[10 + i] = CROCKFORD[(int) bits & 31];
+        }
+        return new String(buf, 0, ULID_LENGTH, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void hex(byte[] buf, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            buf[offset + i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.yourorg.observability.contract;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Source of new correlation ids for requests that arrive without one.
+ *
+ * <p>
+ * The built-in {@link Strategy strategies} cover the common cases; services
+ * with their own id scheme can supply any implementation. Implementations are
+ * called once per un-correlated request and must be thread-safe.
+ * </p>
+ */
+@FunctionalInterface
+public interface CorrelationIdGenerator {
+
+    String generate();
+
+    /**
+     * Built-in generators, selectable via {@code obs.correlation.generator}.
+     */
+    enum Strategy implements CorrelationIdGenerator {
+        /**
+         * {@link UUID#randomUUID()} — backed by a shared {@code SecureRandom}.
+         * Only needed when ids must be unguessable.
+         */
+        UUID {
+            @Override
+            public String generate() {
+                return java.util.UUID.randomUUID().toString();
+            }
+        },
+
+        /**
+         * UUID v4-formatted id from {@link ThreadLocalRandom}. Same shape as
+         * {@link #UUID} without the {@code SecureRandom} contention.
+         */
+        RANDOM {
+            @Override
+            public String generate() {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+                long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+                return CorrelationIdFormat.uuid(msb, lsb);
+            }
+        },
+
+        /**
+         * 26-char ULID (48-bit millisecond timestamp + 80 random bits,
+         * Crockford base32). Lexicographically sortable by creation time.
+         */
+        ULID {
+            @Override
+            public String generate() {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                return CorrelationIdFormat.ulid(System.currentTimeMillis(), random.nextInt() & 0xFFFF,
+                        random.nextLong());
+            }
+        }
+    }
+}
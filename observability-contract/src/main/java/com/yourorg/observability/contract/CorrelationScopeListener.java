@@ -0,0 +1,41 @@
+package com.yourorg.observability.contract;
+
+/**
+ * Callback for the lifetime of a correlated request.
+ *
+ * <p>
+ * The servlet correlation filter calls {@link #onScopeStart} on the request
+ * thread right after {@link ObsMdcKeys#CORRELATION_ID} is put into the MDC,
+ * and {@link #onScopeEnd} on the same thread before it is removed. This lets
+ * other starters (logging, tracing) attach per-request state without
+ * depending on the servlet or reactive stack.
+ * </p>
+ *
+ * <p>
+ * Implementations run on every request and must be cheap, thread-safe and
+ * must not throw.
+ * </p>
+ *
+ * <p>
+ * Reactive filters may end a scope on a different thread than the one that
+ * started it. Listeners that bind thread-local state return {@code true}
+ * from {@link #isThreadBound()} and are only notified by filters that keep
+ * the whole scope on one thread.
+ * </p>
+ */
+public interface CorrelationScopeListener {
+
+    default void onScopeStart(String correlationId) {
+    }
+
+    /**
+     * @param status the HTTP response status at the end of the request
+     * @param error  the exception that escaped the request, or {@code null}
+     */
+    default void onScopeEnd(String correlationId, int status, Throwable error) {
+    }
+
+    default boolean isThreadBound() {
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package com.yourorg.observability.contract;
+
+/**
+ * Recognises tag values that are identifiers rather than categories: values
+ * that would give every request its own time series.
+ *
+ * <p>
+ * A value is id-like when it contains a UUID ({@code 8-4-4-4-12} hex digits),
+ * when it is a path whose segment consists of digits only
+ * ({@code /orders/1234}), or when it is a number of at least
+ * {@link #MIN_NUMBER_LENGTH} digits. Shorter numbers such as status codes or
+ * ports are left alone.
+ * </p>
+ *
+ * <p>
+ * The scan is a single pass over the characters: no regex, no allocation.
+ * </p>
+ */
+public final class HighCardinalityValues {
+    private HighCardinalityValues() {
+    }
+
+    /**
+     * Whole-value numbers of this many digits or more count as ids.
+     */
+    public static final int MIN_NUMBER_LENGTH = 6;
+
+    private static final int UUID_LENGTH = 36;
+
+    public static boolean isIdLike(CharSequence value) {
+        if (value == null) {
+            return false;
+        }
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        if (length >= MIN_NUMBER_LENGTH && isDigits(value, 0, length)) {
+            return true;
+        }
+
+        // segmentStart: start of the current path segment, -1 outside a path
+        int segmentStart = -1;
+        boolean pathEnded = false;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? value.charAt(i) : '?';
+            if (c == '/' || c == '?' || c == '#') {
+                if (segmentStart >= 0 && isDigits(value, segmentStart, i)) {
+                    return true;
+                }
+                pathEnded |= c != '/';
+                segmentStart = pathEnded ? -1 : i + 1;
+            } else if (c == '-' && i >= 8 && isUuidAt(value, i - 8)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether a canonical UUID starts at {@code offset}.
+     */
+    static boolean isUuidAt(CharSequence value, int offset) {
+        if (offset < 0 || offset + UUID_LENGTH > value.length()) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = value.charAt(offset + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isHex(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(CharSequence value, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
@@ -0,0 +1,130 @@
+package com.yourorg.observability.contract;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Immutable capture of the {@link ObsMdcKeys} values on the current thread,
+ * for carrying log correlation across a thread hop.
+ *
+ * <p>
+ * Only the platform keys are copied (three reads, no map), and a thread with
+ * none of them set captures the shared {@link #EMPTY} instance. Wrapped tasks
+ * put the captured values for the duration of the task and then put back
+ * whatever the executing thread had before, so pooled threads never leak one
+ * request's ids into the next task and caller-runs policies keep the
+ * caller's MDC intact.
+ * </p>
+ */
+public final class MdcSnapshot {
+
+    public static final MdcSnapshot EMPTY = new MdcSnapshot(null, null, null);
+
+    private final String correlationId;
+    private final String traceId;
+    private final String spanId;
+
+    private MdcSnapshot(String correlationId, String traceId, String spanId) {
+        this.correlationId = correlationId;
+        this.traceId = traceId;
+        this.spanId = spanId;
+    }
+
+    public static MdcSnapshot capture() {
+        String correlationId = MDC.get(ObsMdcKeys.CORRELATION_ID);
+        String traceId = MDC.get(ObsMdcKeys.TRACE_ID);
+        String spanId = MDC.get(ObsMdcKeys.SPAN_ID);
+        if (correlationId == null && traceId == null && spanId == null) {
+            return EMPTY;
+        }
+        return new MdcSnapshot(correlationId, traceId, spanId);
+    }
+
+    /**
+     * Returns {@code task} bound to the current thread's snapshot.
+     */
+    public static Runnable wrap(Runnable task) {
+        return capture().bind(task);
+    }
+
+    /**
+     * Returns {@code task} bound to the current thread's snapshot.
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        return capture().bind(task);
+    }
+
+    public Runnable bind(Runnable task) {
+        return () -> {
+            Scope scope = restore();
+            try {
+                task.run();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    public <V> Callable<V> bind(Callable<V> task) {
+        return () -> {
+            Scope scope = restore();
+            try {
+                return task.call();
+            } finally {
+                scope.close();
+            }
+        };
+    }
+
+    /**
+     * Applies this snapshot to the current thread's MDC. Closing the returned
+     * scope reinstates the values the thread had before.
+     */
+    public Scope restore() {
+        Scope previous = new Scope(MDC.get(ObsMdcKeys.CORRELATION_ID), MDC.get(ObsMdcKeys.TRACE_ID),
+                MDC.get(ObsMdcKeys.SPAN_ID));
+        apply(correlationId, traceId, spanId);
+        return previous;
+    }
+
+    public String getCorrelationId() { return correlationId; }
+
+    public String getTraceId() { return traceId; }
+
+    public String getSpanId() { return spanId; }
+
+    private static void apply(String correlationId, String traceId, String spanId) {
+        set(ObsMdcKeys.CORRELATION_ID, correlationId);
+        set(ObsMdcKeys.TRACE_ID, traceId);
+        set(ObsMdcKeys.SPAN_ID, spanId);
+    }
+
+    private static void set(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
+    }
+
+    /**
+     * The MDC values a thread had before {@link #restore()}.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final String correlationId;
+        private final String traceId;
+        private final String spanId;
+
+        private Scope(String correlationId, String traceId, String spanId) {
+            this.correlationId = correlationId;
+            this.traceId = traceId;
+            this.spanId = spanId;
+        }
+
+        @Override
+        public void close() {
+            apply(correlationId, traceId, spanId);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.yourorg.observability.contract;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -26,11 +28,19 @@ public final class ObsMetricPolicy {
     private ObsMetricPolicy() {
     }
 
+    /**
+     * Prefix of the platform's own meters (queue depths, drops, sampled
+     * component timings). Always allowed, so the cost of the observability
+     * stack stays visible whatever a service configures.
+     */
+    public static final String INTERNAL_PREFIX = "obs.internal.";
+
     /**
      * Metric name prefixes that are allowed through.
      * Any metric not starting with one of these prefixes is denied.
      */
     public static final List<String> ALLOWED_PREFIXES = List.of(
+            INTERNAL_PREFIX,
             "http.server.requests",
             "jvm.",
             "process.",
@@ -44,6 +54,8 @@ public final class ObsMetricPolicy {
             "cache.",
             "custom.business.");
 
+    private static final PrefixMatcher ALLOWED = PrefixMatcher.of(ALLOWED_PREFIXES);
+
     /**
      * Tag keys that are FORBIDDEN on any metric (high-cardinality risk).
      */
@@ -56,9 +68,17 @@ public final class ObsMetricPolicy {
      * Check if a metric name is allowed by the policy.
      */
     public static boolean isAllowed(String metricName) {
-        if (metricName == null)
-            return false;
-        return ALLOWED_PREFIXES.stream().anyMatch(metricName::startsWith);
+        return ALLOWED.matches(metricName);
+    }
+
+    /**
+     * Compiles {@link #ALLOWED_PREFIXES} plus service-specific prefixes into a
+     * single matcher. Build this once at startup; do not call per metric.
+     */
+    public static PrefixMatcher allowedPrefixMatcher(Collection<String> additionalPrefixes) {
+        List<String> prefixes = new ArrayList<>(ALLOWED_PREFIXES);
+        prefixes.addAll(additionalPrefixes);
+        return PrefixMatcher.of(prefixes);
     }
 
     /**
@@ -0,0 +1,211 @@
+package com.yourorg.observability.contract;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Precompiled request-path matcher shared by the tracing noise filter and the
+ * correlation filter.
+ *
+ * <p>
+ * Pattern syntax:
+ * </p>
+ * <ul>
+ * <li>{@code =/ping} — exact path</li>
+ * <li>{@code /actuator/health} — prefix (any path starting with it)</li>
+ * <li><code>/users/{id}/orders</code>, {@code /static/**},
+ * {@code /assets/*.css} — Ant-style template; any pattern containing
+ * {@code *}, {@code ?} or <code>{</code> is a template. {@code *} and
+ * <code>{var}</code> match one segment, {@code **} matches zero or more
+ * segments.</li>
+ * </ul>
+ *
+ * <p>
+ * Patterns are parsed once; {@link #matches(String)} walks the path by index
+ * and never allocates.
+ * </p>
+ */
+public final class ObsPathMatcher {
+
+    private static final ObsPathMatcher NONE = new ObsPathMatcher(Set.of(), PrefixMatcher.of(List.of()),
+            new Template[0]);
+
+    private final Set<String> exact;
+    private final PrefixMatcher prefixes;
+    private final Template[] templates;
+
+    private ObsPathMatcher(Set<String> exact, PrefixMatcher prefixes, Template[] templates) {
+        this.exact = exact;
+        this.prefixes = prefixes;
+        this.templates = templates;
+    }
+
+    public static ObsPathMatcher none() {
+        return NONE;
+    }
+
+    public static ObsPathMatcher compile(Collection<String> patterns) {
+        Set<String> exact = new HashSet<>();
+        List<String> prefixes = new ArrayList<>();
+        List<Template> templates = new ArrayList<>();
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            if (pattern.charAt(0) == '=') {
+                exact.add(pattern.substring(1));
+            } else if (isTemplate(pattern)) {
+                templates.add(new Template(pattern));
+            } else {
+                prefixes.add(pattern);
+            }
+        }
+        return new ObsPathMatcher(Set.copyOf(exact), PrefixMatcher.of(prefixes),
+                templates.toArray(new Template[0]));
+    }
+
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (exact.contains(path) || prefixes.matches(path)) {
+            return true;
+        }
+        for (Template template : templates) {
+            if (template.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isTemplate(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A '/'-separated pattern compiled to typed segments.
+     */
+    private static final class Template {
+        private static final int LITERAL = 0;
+        private static final int ANY_SEGMENT = 1;
+        private static final int ANY_SEGMENTS = 2;
+        private static final int GLOB = 3;
+
+        private final boolean rooted;
+        private final String[] segments;
+        private final int[] kinds;
+
+        Template(String pattern) {
+            this.rooted = pattern.startsWith("/");
+            String[] parts = (rooted ? pattern.substring(1) : pattern).split("/", -1);
+            this.segments = parts;
+            this.kinds = new int[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                String part = parts[i];
+                if (part.equals("**")) {
+                    kinds[i] = ANY_SEGMENTS;
+                } else if (part.equals("*") || (part.startsWith("{") && part.endsWith("}"))) {
+                    kinds[i] = ANY_SEGMENT;
+                } else if (part.indexOf('*') >= 0 || part.indexOf('?') >= 0) {
+                    kinds[i] = GLOB;
+                } else {
+                    kinds[i] = LITERAL;
+                }
+            }
+        }
+
+        boolean matches(String path) {
+            boolean pathRooted = path.startsWith("/");
+            if (pathRooted != rooted) {
+                return false;
+            }
+            return matchFrom(0, path, rooted ? 1 : 0);
+        }
+
+        /**
+         * @param pos start of the next path segment, or {@code path.length() + 1}
+         *            once every segment has been consumed
+         */
+        private boolean matchFrom(int si, String path, int pos) {
+            int end = path.length();
+            if (si == segments.length) {
+                return pos > end;
+            }
+            if (kinds[si] == ANY_SEGMENTS) {
+                if (si == segments.length - 1) {
+                    return true;
+                }
+                int p = pos;
+                while (true) {
+                    if (matchFrom(si + 1, path, p)) {
+                        return true;
+                    }
+                    if (p > end) {
+                        return false;
+                    }
+                    int slash = path.indexOf('/', p);
+                    p = slash < 0 ? end + 1 : slash + 1;
+                }
+            }
+            if (pos > end) {
+                return false;
+            }
+            int slash = path.indexOf('/', pos);
+            int segEnd = slash < 0 ? end : slash;
+            if (!segmentMatches(si, path, pos, segEnd)) {
+                return false;
+            }
+            return matchFrom(si + 1, path, slash < 0 ? end + 1 : slash + 1);
+        }
+
+        private boolean segmentMatches(int si, String path, int from, int to) {
+            String segment = segments[si];
+            switch (kinds[si]) {
+                case ANY_SEGMENT:
+                    return segment.equals("*") || to > from;
+                case LITERAL:
+                    return to - from == segment.length() && path.regionMatches(from, segment, 0, segment.length());
+                default:
+                    return glob(segment, path, from, to);
+            }
+        }
+
+        /**
+         * Iterative wildcard match of {@code *} / {@code ?} within one segment.
+         */
+        private static boolean glob(String pattern, String path, int from, int to) {
+            int p = 0;
+            int s = from;
+            int starP = -1;
+            int starS = -1;
+            while (s < to) {
+                if (p < pattern.length() && (pattern.charAt(p) == '?' || pattern.charAt(p) == path.charAt(s))) {
+                    p++;
+                    s++;
+                } else if (p < pattern.length() && pattern.charAt(p) == '*') {
+                    starP = p++;
+                    starS = s;
+                } else if (starP >= 0) {
+                    p = starP + 1;
+                    s = ++starS;
+                } else {
+                    return false;
+                }
+            }
+            while (p < pattern.length() && pattern.charAt(p) == '*') {
+                p++;
+            }
+            return p == pattern.length();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.yourorg.observability.contract;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable "starts with any of" matcher, compiled once from a set of
+ * prefixes.
+ *
+ * <p>
+ * Prefixes are sorted and reduced to a prefix-free set (an entry covered by a
+ * shorter entry is dropped). In such a set the only candidate prefix of a
+ * value is the greatest entry that sorts at or before it, so a lookup is a
+ * single binary search plus one {@code startsWith} — no streams, no
+ * allocation.
+ * </p>
+ *
+ * <p>
+ * {@link #withDecisionCache(int)} adds a bounded memo of decisions per value,
+ * for callers that see the same names repeatedly (e.g. meter registration).
+ * Once the memo is full, new values are matched but not remembered.
+ * </p>
+ */
+public final class PrefixMatcher {
+
+    private final String[] prefixes;
+    private final Map<String, Boolean> decisions;
+    private final int maxDecisions;
+
+    private PrefixMatcher(String[] prefixes, Map<String, Boolean> decisions, int maxDecisions) {
+        this.prefixes = prefixes;
+        this.decisions = decisions;
+        this.maxDecisions = maxDecisions;
+    }
+
+    public static PrefixMatcher of(Collection<String> prefixes) {
+        List<String> sorted = new ArrayList<>();
+        for (String prefix : prefixes) {
+            if (prefix != null) {
+                sorted.add(prefix);
+            }
+        }
+        Collections.sort(sorted);
+
+        List<String> reduced = new ArrayList<>(sorted.size());
+        String last = null;
+        for (String prefix : sorted) {
+            if (last == null || !prefix.startsWith(last)) {
+                reduced.add(prefix);
+                last = prefix;
+            }
+        }
+        return new PrefixMatcher(reduced.toArray(new String[0]), null, 0);
+    }
+
+    /**
+     * Returns a matcher with the same prefixes that memoizes up to
+     * {@code maxEntries} decisions. A non-positive size returns a matcher
+     * without a memo.
+     */
+    public PrefixMatcher withDecisionCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            return new PrefixMatcher(prefixes, null, 0);
+        }
+        return new PrefixMatcher(prefixes, new ConcurrentHashMap<>(), maxEntries);
+    }
+
+    /**
+     * Returns true if {@code value} starts with one of the prefixes.
+     */
+    public boolean matches(String value) {
+        if (value == null) {
+            return false;
+        }
+        if (decisions == null) {
+            return lookup(value);
+        }
+        Boolean cached = decisions.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        boolean matched = lookup(value);
+        if (decisions.size() < maxDecisions) {
+            decisions.put(value, matched);
+        }
+        return matched;
+    }
+
+    private boolean lookup(String value) {
+        int idx = Arrays.binarySearch(prefixes, value);
+        if (idx >= 0) {
+            return true;
+        }
+        int candidate = -idx - 2;
+        return candidate >= 0 && value.startsWith(prefixes[candidate]);
+    }
+
+    /**
+     * The effective (sorted, prefix-free) prefixes.
+     */
+    public List<String> getPrefixes() {
+        return List.of(prefixes);
+    }
+}
@@ -0,0 +1,99 @@
+package com.yourorg.observability.contract;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedRingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertThat(new BoundedRingBuffer<String>(1).capacity()).isEqualTo(2);
+        assertThat(new BoundedRingBuffer<String>(2).capacity()).isEqualTo(2);
+        assertThat(new BoundedRingBuffer<String>(5).capacity()).isEqualTo(8);
+        assertThat(new BoundedRingBuffer<String>(8).capacity()).isEqualTo(8);
+        assertThatThrownBy(() -> new BoundedRingBuffer<String>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void smallestBufferRejectsWhenFullInsteadOfOverwriting() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(1);
+
+        assertThat(buffer.offer(1)).isTrue();
+        assertThat(buffer.offer(2)).isTrue();
+        assertThat(buffer.offer(3)).isFalse();
+        assertThat(buffer.size()).isEqualTo(2);
+
+        assertThat(buffer.poll()).isEqualTo(1);
+        assertThat(buffer.poll()).isEqualTo(2);
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void fifoAndRejectsWhenFull() {
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(99)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void concurrentProducersAndConsumersLoseNothing() throws Exception {
+        int producers = 4;
+        int perProducer = 5_000;
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+        Set<Integer> seen = ConcurrentHashMap.newKeySet();
+        CountDownLatch produced = new CountDownLatch(producers);
+        ExecutorService pool = Executors.newFixedThreadPool(producers + 2);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            pool.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                produced.countDown();
+            });
+        }
+        for (int c = 0; c < 2; c++) {
+            pool.execute(() -> {
+                while (produced.getCount() > 0 || !buffer.isEmpty()) {
+                    Integer value = buffer.poll();
+                    if (value == null) {
+                        Thread.yield();
+                    } else {
+                        seen.add(value);
+                    }
+                }
+            });
+        }
+
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(seen).hasSize(producers * perProducer);
+    }
+}
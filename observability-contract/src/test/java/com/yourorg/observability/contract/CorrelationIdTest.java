@@ -0,0 +1,77 @@
+package com.yourorg.observability.contract;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorrelationIdTest {
+
+    private static final String UUID_PATTERN = "^[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$";
+
+    @Test
+    void acceptsWellFormedHeaderValue() {
+        assertThat(CorrelationId.fromHeaderOrNew("abc-123")).isEqualTo("abc-123");
+        assertThat(CorrelationId.fromHeaderOrNew("order:42/retry=1+x_y.z")).isEqualTo("order:42/retry=1+x_y.z");
+    }
+
+    @Test
+    void generatesWhenMissingOrBlank() {
+        assertThat(CorrelationId.fromHeaderOrNew(null)).matches(UUID_PATTERN);
+        assertThat(CorrelationId.fromHeaderOrNew("")).matches(UUID_PATTERN);
+        assertThat(CorrelationId.fromHeaderOrNew("   ")).matches(UUID_PATTERN);
+    }
+
+    @Test
+    void replacesValuesWithDisallowedCharacters() {
+        assertThat(CorrelationId.fromHeaderOrNew("abc\n{\"level\":\"ERROR\"}")).matches(UUID_PATTERN);
+        assertThat(CorrelationId.fromHeaderOrNew("abc def")).matches(UUID_PATTERN);
+        assertThat(CorrelationId.fromHeaderOrNew("café")).matches(UUID_PATTERN);
+    }
+
+    @Test
+    void truncatesOverlongValues() {
+        String longValue = "a".repeat(500);
+
+        assertThat(CorrelationId.fromHeaderOrNew(longValue)).hasSize(CorrelationId.DEFAULT_MAX_LENGTH);
+        assertThat(CorrelationId.sanitize("abcdef", 3)).isEqualTo("abc");
+        // Only the retained prefix is inspected
+        assertThat(CorrelationId.sanitize("abc\ndef", 3)).isEqualTo("abc");
+    }
+
+    @Test
+    void usesSuppliedGenerator() {
+        assertThat(CorrelationId.fromHeaderOrNew(null, () -> "fixed", 64)).isEqualTo("fixed");
+    }
+
+    @Test
+    void randomStrategyProducesVersion4Uuids() {
+        for (int i = 0; i < 1000; i++) {
+            String id = CorrelationIdGenerator.Strategy.RANDOM.generate();
+            assertThat(id).matches(UUID_PATTERN);
+            assertThat(java.util.UUID.fromString(id).version()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void ulidStrategyIsCrockfordBase32AndTimeSortable() throws Exception {
+        String first = CorrelationIdGenerator.Strategy.ULID.generate();
+        Thread.sleep(2);
+        String second = CorrelationIdGenerator.Strategy.ULID.generate();
+
+        assertThat(first).matches("^[0-9A-HJKMNP-TV-Z]{26}$");
+        assertThat(second).matches("^[0-9A-HJKMNP-TV-Z]{26}$");
+        assertThat(first.substring(0, 10)).isLessThan(second.substring(0, 10));
+    }
+
+    @Test
+    void ulidEncodesTimestampAndRandomBits() {
+        assertThat(CorrelationIdFormat.ulid(0L, 0, 0L)).isEqualTo("00000000000000000000000000");
+        assertThat(CorrelationIdFormat.ulid((1L << 48) - 1, 0xFFFF, -1L)).isEqualTo("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+        assertThat(CorrelationIdFormat.ulid(1L, 0, 1L)).isEqualTo("00000000010000000000000001");
+    }
+
+    @Test
+    void uuidStrategyIsStandardUuid() {
+        assertThat(CorrelationIdGenerator.Strategy.UUID.generate()).matches(UUID_PATTERN);
+    }
+}
@@ -0,0 +1,44 @@
+package com.yourorg.observability.contract;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HighCardinalityValuesTest {
+
+    @Test
+    void detectsUuidsAnywhereInValue() {
+        assertThat(HighCardinalityValues.isIdLike("3f2504e0-4f89-11d3-9a0c-0305e82c3301")).isTrue();
+        assertThat(HighCardinalityValues.isIdLike("/orders/3F2504E0-4F89-11D3-9A0C-0305E82C3301/items")).isTrue();
+        assertThat(HighCardinalityValues.isIdLike("tenant-3f2504e0-4f89-11d3-9a0c-0305e82c3301")).isTrue();
+        assertThat(HighCardinalityValues.isIdLike("3f2504e0-4f89-11d3-9a0c-0305e82c330")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike("3f2504e0-4f89-11d3-9a0c_0305e82c3301")).isFalse();
+    }
+
+    @Test
+    void detectsNumericPathSegments() {
+        assertThat(HighCardinalityValues.isIdLike("/orders/42")).isTrue();
+        assertThat(HighCardinalityValues.isIdLike("/orders/42/items")).isTrue();
+        assertThat(HighCardinalityValues.isIdLike("/orders/42?expand=true")).isTrue();
+        assertThat(HighCardinalityValues.isIdLike("/orders/{id}")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike("/api/v2/orders")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike("/search?page=2")).isFalse();
+    }
+
+    @Test
+    void detectsLongNumbersOnly() {
+        assertThat(HighCardinalityValues.isIdLike("1234567")).isTrue();
+        assertThat(HighCardinalityValues.isIdLike("200")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike("8080")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike("12345a")).isFalse();
+    }
+
+    @Test
+    void leavesCategoriesAlone() {
+        assertThat(HighCardinalityValues.isIdLike("SUCCESS")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike("GET")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike("order-service")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike("")).isFalse();
+        assertThat(HighCardinalityValues.isIdLike(null)).isFalse();
+    }
+}
@@ -0,0 +1,65 @@
+package com.yourorg.observability.contract;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MdcSnapshotTest {
+
+    @AfterEach
+    void cleanUp() {
+        MDC.clear();
+    }
+
+    @Test
+    void capturesOnlyPlatformKeys() {
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "cid-1");
+        MDC.put(ObsMdcKeys.TRACE_ID, "trace-1");
+        MDC.put("user", "alice");
+
+        MdcSnapshot snapshot = MdcSnapshot.capture();
+        MDC.clear();
+        Runnable task = snapshot.bind(() -> {
+            assertThat(MDC.get(ObsMdcKeys.CORRELATION_ID)).isEqualTo("cid-1");
+            assertThat(MDC.get(ObsMdcKeys.TRACE_ID)).isEqualTo("trace-1");
+            assertThat(MDC.get(ObsMdcKeys.SPAN_ID)).isNull();
+            assertThat(MDC.get("user")).isNull();
+        });
+        task.run();
+
+        assertThat(snapshot.getSpanId()).isNull();
+    }
+
+    @Test
+    void emptyThreadCapturesSharedInstance() {
+        assertThat(MdcSnapshot.capture()).isSameAs(MdcSnapshot.EMPTY);
+    }
+
+    @Test
+    void restoresPreviousValuesAfterTask() throws Exception {
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "submitter");
+        Callable<String> task = MdcSnapshot.wrap(() -> MDC.get(ObsMdcKeys.CORRELATION_ID));
+
+        // Caller-runs: the executing thread has its own id, which must survive
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "runner");
+        MDC.put(ObsMdcKeys.SPAN_ID, "runner-span");
+        assertThat(task.call()).isEqualTo("submitter");
+
+        assertThat(MDC.get(ObsMdcKeys.CORRELATION_ID)).isEqualTo("runner");
+        assertThat(MDC.get(ObsMdcKeys.SPAN_ID)).isEqualTo("runner-span");
+    }
+
+    @Test
+    void emptySnapshotClearsStaleValuesDuringTask() {
+        Runnable task = MdcSnapshot.wrap(() -> assertThat(MDC.get(ObsMdcKeys.CORRELATION_ID)).isNull());
+
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "stale");
+        task.run();
+
+        assertThat(MDC.get(ObsMdcKeys.CORRELATION_ID)).isEqualTo("stale");
+    }
+}
@@ -15,6 +15,14 @@ class ObsMetricPolicyTest {
         assertThat(ObsMetricPolicy.isAllowed("custom.business.orders")).isTrue();
     }
 
+    @Test
+    void platformSelfMetricsAlwaysAllowed() {
+        assertThat(ObsMetricPolicy.isAllowed("obs.internal.component.time")).isTrue();
+        assertThat(ObsMetricPolicy.allowedPrefixMatcher(java.util.List.of()).matches("obs.internal.traces.export.latency"))
+                .isTrue();
+        assertThat(ObsMetricPolicy.isAllowed("obs.other")).isFalse();
+    }
+
     @Test
     void unallowedPrefixesDenied() {
         assertThat(ObsMetricPolicy.isAllowed("crypto.miner.hashrate")).isFalse();
@@ -34,4 +42,13 @@ class ObsMetricPolicyTest {
         assertThat(ObsMetricPolicy.isForbiddenTag("env")).isFalse();
         assertThat(ObsMetricPolicy.isForbiddenTag("service.name")).isFalse();
     }
+
+    @Test
+    void allowedPrefixMatcherCombinesContractAndConfiguredPrefixes() {
+        PrefixMatcher matcher = ObsMetricPolicy.allowedPrefixMatcher(java.util.List.of("payments."));
+
+        assertThat(matcher.matches("jvm.memory.used")).isTrue();
+        assertThat(matcher.matches("payments.captured")).isTrue();
+        assertThat(matcher.matches("random.metric")).isFalse();
+    }
 }
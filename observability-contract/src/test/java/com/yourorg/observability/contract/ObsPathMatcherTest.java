@@ -0,0 +1,73 @@
+package com.yourorg.observability.contract;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsPathMatcherTest {
+
+    @Test
+    void plainEntriesArePrefixes() {
+        ObsPathMatcher matcher = ObsPathMatcher.compile(List.of("/actuator/health", "/ping"));
+
+        assertThat(matcher.matches("/actuator/health")).isTrue();
+        assertThat(matcher.matches("/actuator/health/liveness")).isTrue();
+        assertThat(matcher.matches("/ping")).isTrue();
+        assertThat(matcher.matches("/api/users")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    void equalsPrefixMeansExact() {
+        ObsPathMatcher matcher = ObsPathMatcher.compile(List.of("=/ping"));
+
+        assertThat(matcher.matches("/ping")).isTrue();
+        assertThat(matcher.matches("/pingpong")).isFalse();
+        assertThat(matcher.matches("/ping/deep")).isFalse();
+    }
+
+    @Test
+    void singleSegmentWildcardsAndVariables() {
+        ObsPathMatcher matcher = ObsPathMatcher.compile(List.of("/internal/*/status", "/users/{id}/health"));
+
+        assertThat(matcher.matches("/internal/db/status")).isTrue();
+        assertThat(matcher.matches("/internal/db/cache/status")).isFalse();
+        assertThat(matcher.matches("/internal/db/status/extra")).isFalse();
+        assertThat(matcher.matches("/users/42/health")).isTrue();
+        assertThat(matcher.matches("/users//health")).isFalse();
+        assertThat(matcher.matches("/users/42")).isFalse();
+    }
+
+    @Test
+    void doubleWildcardSpansSegments() {
+        ObsPathMatcher matcher = ObsPathMatcher.compile(List.of("/static/**", "/**/favicon.ico"));
+
+        assertThat(matcher.matches("/static")).isTrue();
+        assertThat(matcher.matches("/static/")).isTrue();
+        assertThat(matcher.matches("/static/js/app.js")).isTrue();
+        assertThat(matcher.matches("/favicon.ico")).isTrue();
+        assertThat(matcher.matches("/a/b/favicon.ico")).isTrue();
+        assertThat(matcher.matches("/staticky")).isFalse();
+        assertThat(matcher.matches("/a/b/favicon.png")).isFalse();
+    }
+
+    @Test
+    void globWithinSegment() {
+        ObsPathMatcher matcher = ObsPathMatcher.compile(List.of("/assets/*.css", "/v?/ping"));
+
+        assertThat(matcher.matches("/assets/site.css")).isTrue();
+        assertThat(matcher.matches("/assets/.css")).isTrue();
+        assertThat(matcher.matches("/assets/site.js")).isFalse();
+        assertThat(matcher.matches("/assets/x/site.css")).isFalse();
+        assertThat(matcher.matches("/v1/ping")).isTrue();
+        assertThat(matcher.matches("/v10/ping")).isFalse();
+    }
+
+    @Test
+    void noneMatchesNothing() {
+        assertThat(ObsPathMatcher.none().matches("/")).isFalse();
+        assertThat(ObsPathMatcher.compile(List.of()).matches("/anything")).isFalse();
+    }
+}
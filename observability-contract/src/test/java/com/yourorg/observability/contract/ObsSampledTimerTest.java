@@ -0,0 +1,55 @@
+package com.yourorg.observability.contract;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsSampledTimerTest {
+
+    @Test
+    void disabledTimerNeverSamples() {
+        ObsSampledTimer timer = ObsSampledTimer.of("filter", 0);
+
+        for (int i = 0; i < 1000; i++) {
+            timer.stop(timer.start());
+        }
+
+        assertThat(timer.isEnabled()).isFalse();
+        assertThat(timer.getSampledCount()).isZero();
+    }
+
+    @Test
+    void sampleEveryOneMeasuresEveryCall() {
+        ObsSampledTimer timer = ObsSampledTimer.of("filter", 1);
+
+        for (int i = 0; i < 100; i++) {
+            timer.stop(timer.start());
+        }
+
+        assertThat(timer.getSampledCount()).isEqualTo(100);
+        assertThat(timer.getTotalNanos()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void samplesRoughlyOneCallInN() {
+        ObsSampledTimer timer = ObsSampledTimer.of("filter", 50);
+
+        for (int i = 0; i < 64_000; i++) {
+            timer.stop(timer.start());
+        }
+
+        assertThat(timer.getSampleEvery()).isEqualTo(64);
+        assertThat(timer.getSampledCount()).isBetween(800L, 1200L);
+    }
+
+    @Test
+    void recordsCallerMeasuredSegments() {
+        ObsSampledTimer timer = ObsSampledTimer.of("filter", 1);
+
+        timer.record(1_500);
+        timer.record(500);
+
+        assertThat(timer.getSampledCount()).isEqualTo(2);
+        assertThat(timer.getTotalNanos()).isEqualTo(2_000);
+    }
+}
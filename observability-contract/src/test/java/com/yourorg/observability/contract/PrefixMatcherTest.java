@@ -0,0 +1,67 @@
+package com.yourorg.observability.contract;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixMatcherTest {
+
+    @Test
+    void matchesAnyPrefix() {
+        PrefixMatcher matcher = PrefixMatcher.of(List.of("jvm.", "http.server.requests", "cache."));
+
+        assertThat(matcher.matches("jvm.memory.used")).isTrue();
+        assertThat(matcher.matches("http.server.requests")).isTrue();
+        assertThat(matcher.matches("http.server.requests.active")).isTrue();
+        assertThat(matcher.matches("cache.gets")).isTrue();
+        assertThat(matcher.matches("http.client.requests")).isFalse();
+        assertThat(matcher.matches("jvm")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    void dropsPrefixesCoveredByShorterOnes() {
+        PrefixMatcher matcher = PrefixMatcher.of(List.of("db.pool.active", "db.", "db.pool.", "dbx"));
+
+        assertThat(matcher.getPrefixes()).containsExactly("db.", "dbx");
+        assertThat(matcher.matches("db.pool.idle")).isTrue();
+        assertThat(matcher.matches("dbx.size")).isTrue();
+        assertThat(matcher.matches("dc.size")).isFalse();
+    }
+
+    @Test
+    void agreesWithLinearScan() {
+        List<String> prefixes = Arrays.asList("a", "ab", "abc.", "b.", "b.c", "ba", "c", null);
+        PrefixMatcher matcher = PrefixMatcher.of(prefixes);
+        String[] names = { "a", "aa", "abc", "abc.d", "b", "b.", "b.x", "ba", "bb", "c", "cz", "d", "" };
+
+        for (String name : names) {
+            boolean expected = prefixes.stream().anyMatch(p -> p != null && name.startsWith(p));
+            assertThat(matcher.matches(name)).as(name).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void emptyPrefixMatchesEverything() {
+        PrefixMatcher matcher = PrefixMatcher.of(List.of("", "jvm."));
+
+        assertThat(matcher.matches("anything")).isTrue();
+        assertThat(matcher.matches("")).isTrue();
+    }
+
+    @Test
+    void decisionCacheReturnsSameAnswers() {
+        PrefixMatcher matcher = PrefixMatcher.of(List.of("jvm.", "cache.")).withDecisionCache(2);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(matcher.matches("jvm.threads.live")).isTrue();
+            assertThat(matcher.matches("random.metric")).isFalse();
+            // Beyond the memo bound: still answered correctly, just not remembered
+            assertThat(matcher.matches("cache.puts")).isTrue();
+        }
+    }
+}
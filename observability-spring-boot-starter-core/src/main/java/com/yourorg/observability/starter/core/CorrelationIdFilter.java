@@ -1,7 +1,11 @@
 package com.yourorg.observability.starter.core;
 
 import com.yourorg.observability.contract.CorrelationId;
+import com.yourorg.observability.contract.CorrelationIdGenerator;
+import com.yourorg.observability.contract.CorrelationScopeListener;
 import com.yourorg.observability.contract.ObsMdcKeys;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import com.yourorg.observability.contract.ObsSampledTimer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,16 +15,74 @@ import org.springframework.lang.NonNull;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Ensures every request has a correlation id (even if tracing is disabled).
  * Also echoes it back in the response header for client-side reuse.
+ *
+ * <p>
+ * Inbound values are bounded and validated by
+ * {@link CorrelationId#sanitize(String, int)}; missing or rejected values are
+ * replaced with an id from the configured {@link CorrelationIdGenerator}.
+ * Requests matching the excluded paths (probes) bypass the filter entirely.
+ * </p>
+ *
+ * <p>
+ * Registered {@link CorrelationScopeListener}s are notified when the
+ * correlation scope opens and closes, with the final status and any escaping
+ * exception.
+ * </p>
+ *
+ * <p>
+ * The optional {@link ObsSampledTimer} measures the filter's own work on
+ * sampled requests: everything before and after the rest of the chain,
+ * listeners included.
+ * </p>
+ *
+ * <p>
+ * Each scope is also reported as an {@link ObsRequestScopeEvent} when that
+ * JFR event is enabled in a running recording.
+ * </p>
  */
 public class CorrelationIdFilter extends OncePerRequestFilter {
     private final String headerName;
+    private final CorrelationIdGenerator generator;
+    private final int maxLength;
+    private final ObsPathMatcher excludedPaths;
+    private final CorrelationScopeListener[] listeners;
+    private final ObsSampledTimer timer;
 
     public CorrelationIdFilter(String headerName) {
+        this(headerName, CorrelationIdGenerator.Strategy.RANDOM, CorrelationId.DEFAULT_MAX_LENGTH,
+                ObsPathMatcher.none());
+    }
+
+    public CorrelationIdFilter(String headerName, CorrelationIdGenerator generator, int maxLength,
+            ObsPathMatcher excludedPaths) {
+        this(headerName, generator, maxLength, excludedPaths, List.of());
+    }
+
+    public CorrelationIdFilter(String headerName, CorrelationIdGenerator generator, int maxLength,
+            ObsPathMatcher excludedPaths, List<CorrelationScopeListener> listeners) {
+        this(headerName, generator, maxLength, excludedPaths, listeners, ObsSampledTimer.disabled("correlation_filter"));
+    }
+
+    public CorrelationIdFilter(String headerName, CorrelationIdGenerator generator, int maxLength,
+            ObsPathMatcher excludedPaths, List<CorrelationScopeListener> listeners, ObsSampledTimer timer) {
         this.headerName = headerName;
+        this.generator = generator;
+        this.maxLength = maxLength;
+        this.excludedPaths = excludedPaths;
+        this.listeners = listeners.toArray(new CorrelationScopeListener[0]);
+        this.timer = timer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return excludedPaths.matches(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
     }
 
     @Override
@@ -28,14 +90,54 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
-        String correlationId = CorrelationId.fromHeaderOrNew(request.getHeader(headerName));
+        long start = timer.start();
+        ObsRequestScopeEvent event = new ObsRequestScopeEvent();
+        event.begin();
+        String correlationId = CorrelationId.fromHeaderOrNew(request.getHeader(headerName), generator, maxLength);
         MDC.put(ObsMdcKeys.CORRELATION_ID, correlationId);
         response.setHeader(headerName, correlationId);
 
+        for (CorrelationScopeListener listener : listeners) {
+            listener.onScopeStart(correlationId);
+        }
+        long before = elapsed(start);
+        Throwable error = null;
         try {
             filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            error = e;
+            throw e;
         } finally {
+            long resumed = start == ObsSampledTimer.NOT_SAMPLED ? ObsSampledTimer.NOT_SAMPLED : System.nanoTime();
+            int status = error != null && response.getStatus() < 500 ? 500 : response.getStatus();
+            for (CorrelationScopeListener listener : listeners) {
+                listener.onScopeEnd(correlationId, status, error);
+            }
             MDC.remove(ObsMdcKeys.CORRELATION_ID);
+            commit(event, correlationId, request, status);
+            record(before, resumed);
+        }
+    }
+
+    private static void commit(ObsRequestScopeEvent event, String correlationId, HttpServletRequest request,
+            int status) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.correlationId = correlationId;
+            event.method = request.getMethod();
+            event.route = HttpAccessLogFilter.routeOf(request);
+            event.status = status;
+            event.commit();
+        }
+    }
+
+    private static long elapsed(long start) {
+        return start == ObsSampledTimer.NOT_SAMPLED ? 0 : System.nanoTime() - start;
+    }
+
+    private void record(long before, long resumed) {
+        if (resumed != ObsSampledTimer.NOT_SAMPLED) {
+            timer.record(before + System.nanoTime() - resumed);
         }
     }
-}
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.ObsLogFields;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes the one access line per request shared by
+ * {@link HttpAccessLogFilter} and {@link ReactiveHttpAccessLogFilter}.
+ *
+ * <p>
+ * The line goes to the {@value #LOGGER_NAME} logger at INFO with
+ * {@code http.status_code} and {@code duration_ms} in the MDC, next to
+ * {@code http.method} and {@code http.route}, so structured encoders emit
+ * them as fields. Only 2xx responses are sampled; everything else is always
+ * logged.
+ * </p>
+ */
+final class HttpAccessLog {
+
+    static final String LOGGER_NAME = "obs.access";
+
+    /**
+     * Route of requests no handler matched, as Micrometer's http.server.requests
+     * tags them.
+     */
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double successSampleRate;
+
+    HttpAccessLog(double successSampleRate) {
+        this.successSampleRate = successSampleRate;
+    }
+
+    boolean isEnabled(int status) {
+        if (!log.isInfoEnabled()) {
+            return false;
+        }
+        if (status < 200 || status >= 300 || successSampleRate >= 1.0) {
+            return true;
+        }
+        return successSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+
+    /**
+     * Logs with the status and duration added to the caller's MDC, which must
+     * already hold method and route; both added keys are removed again.
+     */
+    void log(String method, String route, int status, long durationNanos) {
+        long durationMs = durationNanos / 1_000_000;
+        MDC.put(ObsLogFields.HTTP_STATUS_CODE, Integer.toString(status));
+        MDC.put(ObsLogFields.DURATION_MS, Long.toString(durationMs));
+        try {
+            log.info("{} {} {} {}ms", method, route, status, durationMs);
+        } finally {
+            MDC.remove(ObsLogFields.HTTP_STATUS_CODE);
+            MDC.remove(ObsLogFields.DURATION_MS);
+        }
+    }
+}
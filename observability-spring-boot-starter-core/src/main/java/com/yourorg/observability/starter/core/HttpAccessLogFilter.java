@@ -0,0 +1,132 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.MdcSnapshot;
+import com.yourorg.observability.contract.ObsLogFields;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Fills the {@code http.*} MDC fields of {@link ObsLogFields} for servlet
+ * requests and writes one access line when the request completes.
+ *
+ * <p>
+ * {@code http.method} is set on entry. {@code http.route} is the handler
+ * mapping's matched pattern: Spring MVC resolves it once per mapping and
+ * hands out the same string, so nothing is built per request.
+ * {@link HttpRouteMdcInterceptor} puts it into the MDC before the handler
+ * runs; unmatched requests report {@value HttpAccessLog#UNKNOWN_ROUTE}.
+ * Duration is measured with {@link System#nanoTime()}.
+ * </p>
+ *
+ * <p>
+ * For async requests the line is written when the async cycle completes,
+ * with the request's correlation MDC restored on the completing thread.
+ * </p>
+ */
+public class HttpAccessLogFilter extends OncePerRequestFilter {
+
+    private final HttpAccessLog accessLog;
+    private final ObsPathMatcher excludedPaths;
+
+    public HttpAccessLogFilter(double successSampleRate, ObsPathMatcher excludedPaths) {
+        this.accessLog = new HttpAccessLog(successSampleRate);
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return excludedPaths.matches(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        String method = request.getMethod();
+        MDC.put(ObsLogFields.HTTP_METHOD, method);
+        Throwable error = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            error = e;
+            throw e;
+        } finally {
+            if (error == null && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(method, start, MdcSnapshot.capture()));
+            } else {
+                int status = error != null && response.getStatus() < 500 ? 500 : response.getStatus();
+                if (accessLog.isEnabled(status)) {
+                    String route = routeOf(request);
+                    MDC.put(ObsLogFields.HTTP_ROUTE, route);
+                    accessLog.log(method, route, status, System.nanoTime() - start);
+                }
+            }
+            MDC.remove(ObsLogFields.HTTP_METHOD);
+            MDC.remove(ObsLogFields.HTTP_ROUTE);
+        }
+    }
+
+    static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : HttpAccessLog.UNKNOWN_ROUTE;
+    }
+
+    private final class CompletionListener implements AsyncListener {
+        private final String method;
+        private final long start;
+        private final MdcSnapshot mdc;
+
+        CompletionListener(String method, long start, MdcSnapshot mdc) {
+            this.method = method;
+            this.start = start;
+            this.mdc = mdc;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            int status = ((HttpServletResponse) event.getSuppliedResponse()).getStatus();
+            if (!accessLog.isEnabled(status)) {
+                return;
+            }
+            String route = routeOf((HttpServletRequest) event.getSuppliedRequest());
+            try (MdcSnapshot.Scope ignored = mdc.restore()) {
+                MDC.put(ObsLogFields.HTTP_METHOD, method);
+                MDC.put(ObsLogFields.HTTP_ROUTE, route);
+                accessLog.log(method, route, status, System.nanoTime() - start);
+            } finally {
+                MDC.remove(ObsLogFields.HTTP_METHOD);
+                MDC.remove(ObsLogFields.HTTP_ROUTE);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onComplete follows
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
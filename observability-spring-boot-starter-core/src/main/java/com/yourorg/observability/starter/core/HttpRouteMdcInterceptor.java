@@ -0,0 +1,42 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.ObsLogFields;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Puts the matched route into the MDC before the handler runs, so log lines
+ * written by controllers carry {@code http.route}.
+ *
+ * <p>
+ * The route is removed again when the handler completes or hands the request
+ * off to async processing. {@link HttpAccessLogFilter} does not run for async
+ * and error dispatches or excluded paths, so it cannot be relied on to clear
+ * it from the container thread.
+ * </p>
+ */
+public class HttpRouteMdcInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        MDC.put(ObsLogFields.HTTP_ROUTE, HttpAccessLogFilter.routeOf(request));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response, @NonNull Object handler) {
+        MDC.remove(ObsLogFields.HTTP_ROUTE);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, @Nullable Exception ex) {
+        MDC.remove(ObsLogFields.HTTP_ROUTE);
+    }
+}
@@ -6,35 +6,92 @@ import jakarta.annotation.PostConstruct;
 import org.slf4j.MDC;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import reactor.core.publisher.Hooks;
 
 /**
- * Automatically registers MDC keys with Micrometer's ContextRegistry and
- * enables Reactor's automatic context propagation. This ensures that
- * correlation_id (and other MDC values) are transparently carried across
- * Reactor scheduler boundaries without any manual setup in consuming apps.
+ * Carries the {@link ObsMdcKeys} values ({@code correlation_id},
+ * {@code trace_id}, {@code span_id}) across thread boundaries without any
+ * manual setup in consuming apps.
+ *
+ * <ul>
+ * <li>Registers a {@link TaskDecorator} that Spring Boot applies to the
+ * executors it builds ({@code @Async}, {@code applicationTaskExecutor}), and
+ * a post-processor that applies it to the application's own Spring executors
+ * and schedulers and wraps interface-typed {@code ExecutorService}
+ * beans.</li>
+ * <li>Registers the keys with Micrometer's ContextRegistry and, when
+ * {@code reactor-core} is on the classpath, enables Reactor's automatic
+ * context propagation.</li>
+ * </ul>
+ *
+ * <p>
+ * The Reactor hook restores thread-locals around every operator of every
+ * pipeline. With {@code obs.context-propagation.reactor-hook=false}, Reactor
+ * restores them only inside {@code handle} and {@code tap} operators, so the
+ * MDC is populated just where logging happens.
+ * </p>
  *
  * <p>
- * Activates only when both {@code obs.enabled=true} (default) and
- * {@code reactor-core} is on the classpath.
+ * Executors Spring does not manage (e.g. {@code CompletableFuture}'s common
+ * pool) can be wrapped with {@link ObsContextExecutors}.
+ * </p>
+ *
+ * <p>
+ * Activates when both {@code obs.enabled=true} (default) and
+ * {@code obs.context-propagation.enabled=true} (default).
  * </p>
  */
-@AutoConfiguration
-@ConditionalOnProperty(prefix = "obs", name = "enabled", havingValue = "true", matchIfMissing = true)
-@ConditionalOnClass(name = "reactor.core.publisher.Hooks")
+@AutoConfiguration(before = { TaskExecutionAutoConfiguration.class, TaskSchedulingAutoConfiguration.class })
+@ConditionalOnProperty(prefix = "obs", name = { "enabled", "context-propagation.enabled" }, havingValue = "true",
+        matchIfMissing = true)
 public class MdcContextPropagationAutoConfiguration {
 
+    private static final String[] PROPAGATED_KEYS = {
+            ObsMdcKeys.CORRELATION_ID, ObsMdcKeys.TRACE_ID, ObsMdcKeys.SPAN_ID };
+
     @PostConstruct
-    public void enableContextPropagation() {
-        // Enable Reactor ↔ ThreadLocal bridging
-        Hooks.enableAutomaticContextPropagation();
-
-        // Register correlation_id for automatic capture/restore across threads
-        ContextRegistry.getInstance().registerThreadLocalAccessor(
-                ObsMdcKeys.CORRELATION_ID,
-                () -> MDC.get(ObsMdcKeys.CORRELATION_ID),
-                value -> MDC.put(ObsMdcKeys.CORRELATION_ID, value),
-                () -> MDC.remove(ObsMdcKeys.CORRELATION_ID));
+    public void registerThreadLocalAccessors() {
+        // Register the platform MDC keys for automatic capture/restore across threads
+        for (String key : PROPAGATED_KEYS) {
+            ContextRegistry.getInstance().registerThreadLocalAccessor(
+                    key,
+                    () -> MDC.get(key),
+                    value -> MDC.put(key, value),
+                    () -> MDC.remove(key));
+        }
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(TaskDecorator.class)
+    public ObsMdcTaskDecorator obsMdcTaskDecorator() {
+        return new ObsMdcTaskDecorator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "obs.context-propagation", name = "wrap-executors", havingValue = "true",
+            matchIfMissing = true)
+    public static ObsExecutorContextPostProcessor obsExecutorContextPostProcessor() {
+        // Static and self-contained: post-processors are created before regular beans
+        return new ObsExecutorContextPostProcessor(new ObsMdcTaskDecorator());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "reactor.core.publisher.Hooks")
+    @ConditionalOnProperty(prefix = "obs.context-propagation", name = "reactor-hook", havingValue = "true",
+            matchIfMissing = true)
+    static class ReactorContextPropagationConfiguration {
+
+        @PostConstruct
+        void enableAutomaticContextPropagation() {
+            // Enable Reactor ↔ ThreadLocal bridging
+            Hooks.enableAutomaticContextPropagation();
+        }
     }
 }
@@ -0,0 +1,45 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.MdcSnapshot;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ScheduledExecutorService} variant of
+ * {@link MdcPropagatingExecutorService}. Periodic tasks replay the snapshot
+ * taken when they were scheduled on every run.
+ */
+class MdcPropagatingScheduledExecutorService extends MdcPropagatingExecutorService
+        implements ScheduledExecutorService {
+
+    private final ScheduledExecutorService delegate;
+
+    MdcPropagatingScheduledExecutorService(ScheduledExecutorService delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return delegate.schedule(MdcSnapshot.wrap(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return delegate.schedule(MdcSnapshot.wrap(callable), delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return delegate.scheduleAtFixedRate(MdcSnapshot.wrap(command), initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+            TimeUnit unit) {
+        return delegate.scheduleWithFixedDelay(MdcSnapshot.wrap(command), initialDelay, delay, unit);
+    }
+}
@@ -0,0 +1,108 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.MdcSnapshot;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Executors that carry the submitting thread's {@link MdcSnapshot} into every
+ * task, so {@code correlation_id}, {@code trace_id} and {@code span_id} show
+ * up in logs written on the other side of the hop.
+ *
+ * <p>
+ * Use these where Spring does not manage the executor, most commonly with
+ * {@code CompletableFuture}:
+ * </p>
+ *
+ * <pre>
+ * CompletableFuture.runAsync(task, ObsContextExecutors.commonPool());
+ * </pre>
+ *
+ * <p>
+ * Wrapping an already wrapped executor returns it unchanged. Shutting down a
+ * wrapper shuts down the delegate.
+ * </p>
+ */
+public final class ObsContextExecutors {
+
+    static final String VIRTUAL_THREAD_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private static final ExecutorService COMMON_POOL = new MdcPropagatingExecutorService(ForkJoinPool.commonPool());
+
+    private ObsContextExecutors() {}
+
+    public static Executor wrap(Executor executor) {
+        if (executor instanceof ScheduledExecutorService scheduled) {
+            return wrap(scheduled);
+        }
+        if (executor instanceof ExecutorService service) {
+            return wrap(service);
+        }
+        if (executor instanceof MdcPropagatingExecutor) {
+            return executor;
+        }
+        return new MdcPropagatingExecutor(executor);
+    }
+
+    public static ExecutorService wrap(ExecutorService executor) {
+        if (executor instanceof ScheduledExecutorService scheduled) {
+            return wrap(scheduled);
+        }
+        if (executor instanceof MdcPropagatingExecutorService) {
+            return executor;
+        }
+        return new MdcPropagatingExecutorService(executor);
+    }
+
+    public static ScheduledExecutorService wrap(ScheduledExecutorService executor) {
+        if (executor instanceof MdcPropagatingScheduledExecutorService) {
+            return executor;
+        }
+        return new MdcPropagatingScheduledExecutorService(executor);
+    }
+
+    /**
+     * {@link ForkJoinPool#commonPool()}, the default pool of
+     * {@code CompletableFuture} and parallel streams, with propagation.
+     * Shutdown requests are ignored, as they are by the common pool itself.
+     */
+    public static ExecutorService commonPool() {
+        return COMMON_POOL;
+    }
+
+    /**
+     * A propagating {@code Executors.newVirtualThreadPerTaskExecutor()}.
+     *
+     * @throws UnsupportedOperationException when running on a JVM older
+     *                                       than 21
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        ExecutorService executor;
+        try {
+            executor = (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_FACTORY_METHOD).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later", e);
+        }
+        return new MdcPropagatingExecutorService(executor);
+    }
+
+    /**
+     * Plain {@link Executor} wrapper.
+     */
+    static final class MdcPropagatingExecutor implements Executor {
+        private final Executor delegate;
+
+        MdcPropagatingExecutor(Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(MdcSnapshot.wrap(command));
+        }
+    }
+}
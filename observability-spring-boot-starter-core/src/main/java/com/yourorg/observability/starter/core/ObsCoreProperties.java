@@ -1,8 +1,13 @@
 package com.yourorg.observability.starter.core;
 
+import com.yourorg.observability.contract.CorrelationId;
+import com.yourorg.observability.contract.CorrelationIdGenerator;
 import com.yourorg.observability.contract.ObsHeaders;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 @ConfigurationProperties(prefix = "obs")
 public class ObsCoreProperties {
     /**
@@ -12,18 +17,138 @@ public class ObsCoreProperties {
 
     private final Correlation correlation = new Correlation();
 
+    private final ContextPropagation contextPropagation = new ContextPropagation();
+
+    private final AccessLog accessLog = new AccessLog();
+
+    private final SelfMetrics selfMetrics = new SelfMetrics();
+
     public boolean isEnabled() { return enabled; }
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
     public Correlation getCorrelation() { return correlation; }
+    public ContextPropagation getContextPropagation() { return contextPropagation; }
+    public AccessLog getAccessLog() { return accessLog; }
+    public SelfMetrics getSelfMetrics() { return selfMetrics; }
 
     public static class Correlation {
         private boolean enabled = true;
         private String headerName = ObsHeaders.CORRELATION_ID;
 
+        /**
+         * Strategy used to mint ids for requests without a usable header.
+         * Ignored when the application defines its own CorrelationIdGenerator bean.
+         */
+        private CorrelationIdGenerator.Strategy generator = CorrelationIdGenerator.Strategy.RANDOM;
+
+        /**
+         * Inbound header values longer than this are truncated.
+         */
+        private int maxLength = CorrelationId.DEFAULT_MAX_LENGTH;
+
+        /**
+         * Request paths that skip correlation handling entirely (probe traffic).
+         * Same syntax as obs.traces.noise-filter.excluded-paths: prefixes,
+         * "=/exact" paths or Ant-style templates.
+         */
+        private Set<String> excludedPaths = new LinkedHashSet<>(Set.of(
+                "/actuator/health",
+                "/actuator/info",
+                "/ping"));
+
         public boolean isEnabled() { return enabled; }
         public void setEnabled(boolean enabled) { this.enabled = enabled; }
 
         public String getHeaderName() { return headerName; }
         public void setHeaderName(String headerName) { this.headerName = headerName; }
+
+        public CorrelationIdGenerator.Strategy getGenerator() { return generator; }
+        public void setGenerator(CorrelationIdGenerator.Strategy generator) { this.generator = generator; }
+
+        public int getMaxLength() { return maxLength; }
+        public void setMaxLength(int maxLength) { this.maxLength = maxLength; }
+
+        public Set<String> getExcludedPaths() { return excludedPaths; }
+        public void setExcludedPaths(Set<String> excludedPaths) { this.excludedPaths = excludedPaths; }
+    }
+
+    /**
+     * Thread-hop propagation of the platform MDC keys. Evaluated as conditions
+     * by MdcContextPropagationAutoConfiguration.
+     */
+    public static class ContextPropagation {
+        /**
+         * Carry correlation_id, trace_id and span_id across executor and
+         * Reactor thread hops.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Apply propagation to the application's own executor beans, not just
+         * the ones Spring Boot builds.
+         */
+        private boolean wrapExecutors = true;
+
+        /**
+         * Enable Reactor's global automatic context propagation. When false,
+         * MDC values are restored only inside handle/tap operators.
+         */
+        private boolean reactorHook = true;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public boolean isWrapExecutors() { return wrapExecutors; }
+        public void setWrapExecutors(boolean wrapExecutors) { this.wrapExecutors = wrapExecutors; }
+
+        public boolean isReactorHook() { return reactorHook; }
+        public void setReactorHook(boolean reactorHook) { this.reactorHook = reactorHook; }
+    }
+
+    /**
+     * One structured line per request on the "obs.access" logger, with
+     * http.method, http.route, http.status_code and duration_ms as MDC fields.
+     */
+    public static class AccessLog {
+        private boolean enabled = false;
+
+        /**
+         * Fraction of 2xx responses that are logged. Other statuses are always
+         * logged.
+         */
+        private double successSampleRate = 1.0;
+
+        /**
+         * Request paths that get no access line. Same syntax as
+         * obs.correlation.excluded-paths.
+         */
+        private Set<String> excludedPaths = new LinkedHashSet<>(Set.of(
+                "/actuator/health",
+                "/actuator/info",
+                "/ping"));
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public double getSuccessSampleRate() { return successSampleRate; }
+        public void setSuccessSampleRate(double successSampleRate) { this.successSampleRate = successSampleRate; }
+
+        public Set<String> getExcludedPaths() { return excludedPaths; }
+        public void setExcludedPaths(Set<String> excludedPaths) { this.excludedPaths = excludedPaths; }
+    }
+
+    /**
+     * The platform's own obs.internal.* meters. Counters and queue gauges are
+     * always published; component timing is opt-in.
+     */
+    public static class SelfMetrics {
+        /**
+         * Time one call in this many of the platform's hot paths (correlation
+         * filter, span enricher, metric policy filter, log encoder); rounded
+         * up to a power of two. 0 disables timing.
+         */
+        private int timingSampleEvery = 0;
+
+        public int getTimingSampleEvery() { return timingSampleEvery; }
+        public void setTimingSampleEvery(int timingSampleEvery) { this.timingSampleEvery = timingSampleEvery; }
     }
 }
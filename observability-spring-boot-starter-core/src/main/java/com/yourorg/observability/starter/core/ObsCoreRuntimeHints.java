@@ -0,0 +1,44 @@
+package com.yourorg.observability.starter.core;
+
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+/**
+ * Native-image hints for the core starter.
+ *
+ * <p>
+ * Covers the default {@code logback-spring.xml} it ships, which Logback loads
+ * as a classpath resource, and the two reflective lookups of the context
+ * propagation support: the {@code taskDecorator} field that
+ * {@link ObsExecutorContextPostProcessor} reads on Spring's executors, and
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}, which
+ * {@link ObsContextExecutors} finds by name so the starter still runs on Java
+ * 17. Filters, interceptors and properties are plain beans that Spring AOT
+ * already covers.
+ * </p>
+ */
+class ObsCoreRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("logback-spring.xml");
+        for (Class<?> executorType : List.of(ThreadPoolTaskExecutor.class, ThreadPoolTaskScheduler.class,
+                SimpleAsyncTaskExecutor.class)) {
+            Field field = ReflectionUtils.findField(executorType, ObsExecutorContextPostProcessor.TASK_DECORATOR_FIELD);
+            if (field != null) {
+                hints.reflection().registerField(field);
+            }
+        }
+        hints.reflection().registerType(Executors.class, type -> type.withMethod(
+                ObsContextExecutors.VIRTUAL_THREAD_FACTORY_METHOD, List.of(), ExecutableMode.INVOKE));
+    }
+}
@@ -0,0 +1,88 @@
+package com.yourorg.observability.starter.core;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Applies MDC propagation to executors the application context manages.
+ *
+ * <p>
+ * Spring executors ({@link ThreadPoolTaskExecutor},
+ * {@link ThreadPoolTaskScheduler}, {@link SimpleAsyncTaskExecutor} and the
+ * virtual-thread {@code SimpleAsyncTaskScheduler}) get the decorator before
+ * they initialise, unless they already have a decorator of their own.
+ * </p>
+ *
+ * <p>
+ * Plain {@link ExecutorService} beans are replaced by a propagating wrapper,
+ * but only when the bean is declared as an interface type. A bean declared as
+ * {@code ThreadPoolExecutor}, for example, could be injected by that class and
+ * is left alone.
+ * </p>
+ */
+public class ObsExecutorContextPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    static final String TASK_DECORATOR_FIELD = "taskDecorator";
+
+    private final TaskDecorator decorator;
+    private ConfigurableListableBeanFactory beanFactory;
+
+    public ObsExecutorContextPostProcessor(TaskDecorator decorator) {
+        this.decorator = decorator;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory listable) {
+            this.beanFactory = listable;
+        }
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof ThreadPoolTaskExecutor executor && isUndecorated(executor)) {
+            executor.setTaskDecorator(decorator);
+        } else if (bean instanceof ThreadPoolTaskScheduler scheduler && isUndecorated(scheduler)) {
+            scheduler.setTaskDecorator(decorator);
+        } else if (bean instanceof SimpleAsyncTaskExecutor executor && isUndecorated(executor)) {
+            executor.setTaskDecorator(decorator);
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof ExecutorService service && !(bean instanceof MdcPropagatingExecutorService)
+                && isDeclaredAsInterface(beanName)) {
+            return service instanceof ScheduledExecutorService scheduled
+                    ? ObsContextExecutors.wrap(scheduled)
+                    : ObsContextExecutors.wrap(service);
+        }
+        return bean;
+    }
+
+    private static boolean isUndecorated(Object executor) {
+        return new DirectFieldAccessor(executor).getPropertyValue(TASK_DECORATOR_FIELD) == null;
+    }
+
+    private boolean isDeclaredAsInterface(String beanName) {
+        if (beanFactory == null || !beanFactory.containsBeanDefinition(beanName)) {
+            return false;
+        }
+        ResolvableType type = beanFactory.getMergedBeanDefinition(beanName).getResolvableType();
+        Class<?> declared = type.resolve();
+        return declared != null && declared.isInterface() && declared.isAssignableFrom(ScheduledExecutorService.class);
+    }
+}
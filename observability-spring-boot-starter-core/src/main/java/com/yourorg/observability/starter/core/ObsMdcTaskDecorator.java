@@ -0,0 +1,17 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.MdcSnapshot;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * {@link TaskDecorator} that carries the submitter's {@link MdcSnapshot} into
+ * Spring-managed executors ({@code @Async}, {@code TaskExecutor},
+ * {@code TaskScheduler}).
+ */
+public class ObsMdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return MdcSnapshot.wrap(runnable);
+    }
+}
@@ -0,0 +1,41 @@
+package com.yourorg.observability.starter.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one correlation scope opened by {@link CorrelationIdFilter}.
+ *
+ * <p>
+ * Disabled by default; enable it with the bundled {@code observability.jfc}
+ * profile or {@code -XX:StartFlightRecording:settings=...}. While disabled
+ * the filter pays for an allocation the JIT removes and one flag check.
+ * {@code correlationId} matches the {@code correlation_id} carried by the
+ * span and log-append events.
+ * </p>
+ */
+@Name(ObsRequestScopeEvent.NAME)
+@Label("Request Scope")
+@Category({ "Observability", "HTTP" })
+@Description("Correlation scope of one servlet request, from filter entry to exit")
+@Enabled(false)
+@StackTrace(false)
+public class ObsRequestScopeEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.yourorg.observability.RequestScope";
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    String route;
+
+    @Label("Status")
+    int status;
+}
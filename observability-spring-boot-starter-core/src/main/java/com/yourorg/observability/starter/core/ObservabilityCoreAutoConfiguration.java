@@ -1,25 +1,93 @@
 package com.yourorg.observability.starter.core;
 
+import com.yourorg.observability.contract.CorrelationIdGenerator;
+import com.yourorg.observability.contract.CorrelationScopeListener;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import com.yourorg.observability.contract.ObsSampledTimer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.core.Ordered;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @AutoConfiguration
 @EnableConfigurationProperties(ObsCoreProperties.class)
 @ConditionalOnProperty(prefix = "obs", name = "enabled", havingValue = "true", matchIfMissing = true)
 @ConditionalOnClass(name = "jakarta.servlet.Filter")
+@ImportRuntimeHints(ObsCoreRuntimeHints.class)
 public class ObservabilityCoreAutoConfiguration {
 
+    /**
+     * Id source for un-correlated requests. Define your own
+     * {@link CorrelationIdGenerator} bean to replace the built-in strategies.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CorrelationIdGenerator obsCorrelationIdGenerator(ObsCoreProperties props) {
+        return props.getCorrelation().getGenerator();
+    }
+
+    /**
+     * Sampled timing of the correlation filter's own work, published by the
+     * metrics starter as {@code obs.internal.component.time}.
+     */
     @Bean
     @ConditionalOnProperty(prefix = "obs.correlation", name = "enabled", havingValue = "true", matchIfMissing = true)
-    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter(ObsCoreProperties props) {
+    public ObsSampledTimer obsCorrelationFilterTimer(ObsCoreProperties props) {
+        return ObsSampledTimer.of("correlation_filter", props.getSelfMetrics().getTimingSampleEvery());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "obs.correlation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter(ObsCoreProperties props,
+            CorrelationIdGenerator generator, ObjectProvider<CorrelationScopeListener> scopeListeners,
+            @Qualifier("obsCorrelationFilterTimer") ObsSampledTimer timer) {
+        ObsCoreProperties.Correlation correlation = props.getCorrelation();
         FilterRegistrationBean<CorrelationIdFilter> bean = new FilterRegistrationBean<>();
-        bean.setFilter(new CorrelationIdFilter(props.getCorrelation().getHeaderName()));
+        bean.setFilter(new CorrelationIdFilter(correlation.getHeaderName(), generator, correlation.getMaxLength(),
+                ObsPathMatcher.compile(correlation.getExcludedPaths()), scopeListeners.orderedStream().toList(),
+                timer));
         bean.setOrder(Ordered.HIGHEST_PRECEDENCE);
         return bean;
     }
+
+    /**
+     * Access line and http.* MDC fields. Needs Spring MVC for the matched
+     * route; registered just inside the correlation filter so the line
+     * carries correlation_id.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.DispatcherServlet")
+    @ConditionalOnProperty(prefix = "obs.access-log", name = "enabled", havingValue = "true")
+    static class AccessLogConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<HttpAccessLogFilter> httpAccessLogFilter(ObsCoreProperties props) {
+            ObsCoreProperties.AccessLog accessLog = props.getAccessLog();
+            FilterRegistrationBean<HttpAccessLogFilter> bean = new FilterRegistrationBean<>();
+            bean.setFilter(new HttpAccessLogFilter(accessLog.getSuccessSampleRate(),
+                    ObsPathMatcher.compile(accessLog.getExcludedPaths())));
+            bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+            return bean;
+        }
+
+        @Bean
+        public WebMvcConfigurer obsHttpRouteMdcConfigurer() {
+            return new WebMvcConfigurer() {
+                @Override
+                public void addInterceptors(InterceptorRegistry registry) {
+                    registry.addInterceptor(new HttpRouteMdcInterceptor());
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.CorrelationIdGenerator;
+import com.yourorg.observability.contract.CorrelationScopeListener;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.server.WebFilter;
+
+/**
+ * Inbound correlation for WebFlux applications.
+ * Separated from {@link ObservabilityCoreAutoConfiguration} so neither
+ * stack's classes are needed by the other.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(ObsCoreProperties.class)
+@ConditionalOnProperty(prefix = "obs", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(WebFilter.class)
+public class ObservabilityReactiveCoreAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CorrelationIdGenerator obsCorrelationIdGenerator(ObsCoreProperties props) {
+        return props.getCorrelation().getGenerator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "obs.correlation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ReactiveCorrelationIdFilter reactiveCorrelationIdFilter(ObsCoreProperties props,
+            CorrelationIdGenerator generator, ObjectProvider<CorrelationScopeListener> scopeListeners) {
+        ObsCoreProperties.Correlation correlation = props.getCorrelation();
+        return new ReactiveCorrelationIdFilter(correlation.getHeaderName(), generator, correlation.getMaxLength(),
+                ObsPathMatcher.compile(correlation.getExcludedPaths()), scopeListeners.orderedStream().toList());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "obs.access-log", name = "enabled", havingValue = "true")
+    public ReactiveHttpAccessLogFilter reactiveHttpAccessLogFilter(ObsCoreProperties props) {
+        ObsCoreProperties.AccessLog accessLog = props.getAccessLog();
+        return new ReactiveHttpAccessLogFilter(accessLog.getSuccessSampleRate(),
+                ObsPathMatcher.compile(accessLog.getExcludedPaths()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.CorrelationId;
+import com.yourorg.observability.contract.CorrelationIdGenerator;
+import com.yourorg.observability.contract.CorrelationScopeListener;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.lang.NonNull;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.List;
+
+/**
+ * WebFlux counterpart of {@link CorrelationIdFilter}.
+ *
+ * <p>
+ * The id is never put into the MDC of whatever thread happens to run the
+ * filter. It is written to the Reactor {@link Context} under
+ * {@link ObsMdcKeys#CORRELATION_ID} and to the exchange attribute
+ * {@link #CORRELATION_ID_ATTRIBUTE}. Because that key is registered with
+ * Micrometer's ContextRegistry, Reactor restores it into the MDC wherever
+ * thread-locals are restored: on every operator when the global hook is
+ * enabled, or only inside {@code handle}/{@code tap} operators otherwise.
+ * </p>
+ *
+ * <p>
+ * {@link CorrelationScopeListener}s see the final status. An escaping
+ * {@link ResponseStatusException} reports its own status; any other error
+ * reports at least 500. Thread-bound listeners are skipped, since the scope
+ * may end on another thread.
+ * </p>
+ */
+public class ReactiveCorrelationIdFilter implements WebFilter, Ordered {
+
+    public static final String CORRELATION_ID_ATTRIBUTE = ReactiveCorrelationIdFilter.class.getName()
+            + ".correlationId";
+
+    private final String headerName;
+    private final CorrelationIdGenerator generator;
+    private final int maxLength;
+    private final ObsPathMatcher excludedPaths;
+    private final CorrelationScopeListener[] listeners;
+
+    public ReactiveCorrelationIdFilter(String headerName, CorrelationIdGenerator generator, int maxLength,
+            ObsPathMatcher excludedPaths, List<CorrelationScopeListener> listeners) {
+        this.headerName = headerName;
+        this.generator = generator;
+        this.maxLength = maxLength;
+        this.excludedPaths = excludedPaths;
+        this.listeners = listeners.stream()
+                .filter(listener -> !listener.isThreadBound())
+                .toArray(CorrelationScopeListener[]::new);
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        if (excludedPaths.matches(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+
+        String correlationId = CorrelationId.fromHeaderOrNew(exchange.getRequest().getHeaders().getFirst(headerName),
+                generator, maxLength);
+        exchange.getAttributes().put(CORRELATION_ID_ATTRIBUTE, correlationId);
+        exchange.getResponse().getHeaders().set(headerName, correlationId);
+
+        Mono<Void> result = chain.filter(exchange);
+        if (listeners.length > 0) {
+            result = notifyingListeners(result, exchange, correlationId);
+        }
+        return result.contextWrite(Context.of(ObsMdcKeys.CORRELATION_ID, correlationId));
+    }
+
+    private Mono<Void> notifyingListeners(Mono<Void> result, ServerWebExchange exchange, String correlationId) {
+        return Mono.defer(() -> {
+            for (CorrelationScopeListener listener : listeners) {
+                listener.onScopeStart(correlationId);
+            }
+            return result;
+        })
+                .doOnSuccess(ignored -> notifyEnd(correlationId, statusOf(exchange), null))
+                .doOnError(error -> notifyEnd(correlationId, errorStatus(exchange, error), error))
+                .doOnCancel(() -> notifyEnd(correlationId, statusOf(exchange), null));
+    }
+
+    private void notifyEnd(String correlationId, int status, Throwable error) {
+        for (CorrelationScopeListener listener : listeners) {
+            listener.onScopeEnd(correlationId, status, error);
+        }
+    }
+
+    static int statusOf(ServerWebExchange exchange) {
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        return status != null ? status.value() : 200;
+    }
+
+    static int errorStatus(ServerWebExchange exchange, Throwable error) {
+        if (error instanceof ResponseStatusException statusException) {
+            return statusException.getStatusCode().value();
+        }
+        return Math.max(500, statusOf(exchange));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
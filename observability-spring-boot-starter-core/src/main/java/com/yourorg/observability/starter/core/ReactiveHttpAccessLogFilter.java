@@ -0,0 +1,98 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.ObsLogFields;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link HttpAccessLogFilter}.
+ *
+ * <p>
+ * No MDC is held across the exchange, since it may hop threads. When the
+ * exchange completes, errors or is cancelled, the {@code http.*} fields and
+ * {@code correlation_id} are put into the MDC of the completing thread for
+ * the access line only and the previous values restored afterwards. The
+ * route is the matched {@link PathPattern}'s string, parsed once per mapping
+ * by WebFlux.
+ * </p>
+ */
+public class ReactiveHttpAccessLogFilter implements WebFilter, Ordered {
+
+    private final HttpAccessLog accessLog;
+    private final ObsPathMatcher excludedPaths;
+
+    public ReactiveHttpAccessLogFilter(double successSampleRate, ObsPathMatcher excludedPaths) {
+        this.accessLog = new HttpAccessLog(successSampleRate);
+        this.excludedPaths = excludedPaths;
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        if (excludedPaths.matches(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return chain.filter(exchange)
+                    .doOnSuccess(ignored -> log(exchange, ReactiveCorrelationIdFilter.statusOf(exchange), start))
+                    .doOnError(error -> log(exchange, ReactiveCorrelationIdFilter.errorStatus(exchange, error), start))
+                    .doOnCancel(() -> log(exchange, ReactiveCorrelationIdFilter.statusOf(exchange), start));
+        });
+    }
+
+    private void log(ServerWebExchange exchange, int status, long start) {
+        long duration = System.nanoTime() - start;
+        if (!accessLog.isEnabled(status)) {
+            return;
+        }
+        String method = exchange.getRequest().getMethod().name();
+        String route = routeOf(exchange);
+        String correlationId = exchange.getAttribute(ReactiveCorrelationIdFilter.CORRELATION_ID_ATTRIBUTE);
+        String previousMethod = MDC.get(ObsLogFields.HTTP_METHOD);
+        String previousRoute = MDC.get(ObsLogFields.HTTP_ROUTE);
+        String previousCorrelationId = MDC.get(ObsMdcKeys.CORRELATION_ID);
+        MDC.put(ObsLogFields.HTTP_METHOD, method);
+        MDC.put(ObsLogFields.HTTP_ROUTE, route);
+        if (correlationId != null) {
+            MDC.put(ObsMdcKeys.CORRELATION_ID, correlationId);
+        }
+        try {
+            accessLog.log(method, route, status, duration);
+        } finally {
+            restore(ObsLogFields.HTTP_METHOD, previousMethod);
+            restore(ObsLogFields.HTTP_ROUTE, previousRoute);
+            restore(ObsMdcKeys.CORRELATION_ID, previousCorrelationId);
+        }
+    }
+
+    static String routeOf(ServerWebExchange exchange) {
+        Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern instanceof PathPattern pathPattern) {
+            return pathPattern.getPatternString();
+        }
+        return pattern != null ? pattern.toString() : HttpAccessLog.UNKNOWN_ROUTE;
+    }
+
+    private static void restore(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -1,14 +1,27 @@
 package com.yourorg.observability.starter.core;
 
+import com.yourorg.observability.contract.CorrelationIdGenerator;
+import com.yourorg.observability.contract.CorrelationScopeListener;
 import com.yourorg.observability.contract.ObsMdcKeys;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import com.yourorg.observability.contract.ObsSampledTimer;
 import jakarta.servlet.FilterChain;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.MDC;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Path;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class CorrelationIdFilterTest {
@@ -88,4 +101,160 @@ class CorrelationIdFilterTest {
         // MDC must be clean even after exception
         assertThat(MDC.get(ObsMdcKeys.CORRELATION_ID)).isNull();
     }
+
+    @Test
+    void replacesMalformedHeaderWithGeneratedId() throws Exception {
+        CorrelationIdFilter ulidFilter = new CorrelationIdFilter("X-Correlation-Id",
+                CorrelationIdGenerator.Strategy.ULID, 64, ObsPathMatcher.none());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Correlation-Id", "abc\r\nX-Injected: 1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        ulidFilter.doFilter(request, response, chain);
+
+        assertThat(response.getHeader("X-Correlation-Id")).matches("^[0-9A-HJKMNP-TV-Z]{26}$");
+    }
+
+    @Test
+    void truncatesOverlongHeader() throws Exception {
+        CorrelationIdFilter boundedFilter = new CorrelationIdFilter("X-Correlation-Id",
+                CorrelationIdGenerator.Strategy.RANDOM, 8, ObsPathMatcher.none());
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Correlation-Id", "0123456789abcdef");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        boundedFilter.doFilter(request, response, chain);
+
+        assertThat(response.getHeader("X-Correlation-Id")).isEqualTo("01234567");
+    }
+
+    @Test
+    void skipsExcludedProbePaths() throws Exception {
+        CorrelationIdFilter probeAwareFilter = new CorrelationIdFilter("X-Correlation-Id",
+                CorrelationIdGenerator.Strategy.RANDOM, 64,
+                ObsPathMatcher.compile(java.util.Set.of("/actuator/health", "=/ping")));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health/liveness");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        doAnswer(invocation -> {
+            assertThat(MDC.get(ObsMdcKeys.CORRELATION_ID)).isNull();
+            return null;
+        }).when(chain).doFilter(request, response);
+
+        probeAwareFilter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        assertThat(response.getHeader("X-Correlation-Id")).isNull();
+
+        // Exact entries do not act as prefixes
+        MockHttpServletRequest pingPong = new MockHttpServletRequest("GET", "/pingpong");
+        MockHttpServletResponse pingPongResponse = new MockHttpServletResponse();
+        probeAwareFilter.doFilter(pingPong, pingPongResponse, mock(FilterChain.class));
+        assertThat(pingPongResponse.getHeader("X-Correlation-Id")).isNotNull();
+    }
+
+    @Test
+    void notifiesScopeListenersWithFinalStatusAndError() throws Exception {
+        CorrelationScopeListener listener = mock(CorrelationScopeListener.class);
+        CorrelationIdFilter listeningFilter = new CorrelationIdFilter("X-Correlation-Id",
+                CorrelationIdGenerator.Strategy.RANDOM, 64, ObsPathMatcher.none(), java.util.List.of(listener));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Correlation-Id", "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+        doAnswer(invocation -> {
+            verify(listener).onScopeStart("abc-123");
+            response.setStatus(404);
+            return null;
+        }).when(chain).doFilter(request, response);
+
+        listeningFilter.doFilter(request, response, chain);
+        verify(listener).onScopeEnd("abc-123", 404, null);
+
+        MockHttpServletRequest failing = new MockHttpServletRequest();
+        failing.addHeader("X-Correlation-Id", "def-456");
+        MockHttpServletResponse failingResponse = new MockHttpServletResponse();
+        FilterChain failingChain = mock(FilterChain.class);
+        IllegalStateException boom = new IllegalStateException("boom");
+        doThrow(boom).when(failingChain).doFilter(failing, failingResponse);
+
+        assertThatThrownBy(() -> listeningFilter.doFilter(failing, failingResponse, failingChain)).isSameAs(boom);
+        verify(listener).onScopeEnd("def-456", 500, boom);
+    }
+
+    @Test
+    void timesOwnWorkWithoutTheRestOfTheChain() throws Exception {
+        ObsSampledTimer timer = ObsSampledTimer.of("correlation_filter", 1);
+        CorrelationIdFilter timedFilter = new CorrelationIdFilter("X-Correlation-Id",
+                CorrelationIdGenerator.Strategy.RANDOM, 64, ObsPathMatcher.none(), java.util.List.of(), timer);
+        FilterChain slowChain = (req, res) -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        timedFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), slowChain);
+
+        assertThat(timer.getSampledCount()).isEqualTo(1);
+        assertThat(timer.getTotalNanos()).isLessThan(50_000_000L);
+    }
+
+    @Test
+    void reportsScopeAsJfrEventWhenEnabled(@TempDir Path dir) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/42");
+        request.addHeader("X-Correlation-Id", "jfr-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders/{id}");
+            response.setStatus(404);
+        };
+
+        Path file = dir.resolve("scope.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ObsRequestScopeEvent.class).withoutThreshold();
+            recording.start();
+            filter.doFilter(request, response, chain);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(ObsRequestScopeEvent.NAME))
+                .toList();
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("correlationId")).isEqualTo("jfr-123");
+            assertThat(event.getString("method")).isEqualTo("GET");
+            assertThat(event.getString("route")).isEqualTo("/orders/{id}");
+            assertThat(event.getInt("status")).isEqualTo(404);
+        });
+    }
+
+    @Test
+    void reportsFailedScopeAsServerErrorWithoutListeners(@TempDir Path dir) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/42");
+        FilterChain chain = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        Path file = dir.resolve("failed.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ObsRequestScopeEvent.class).withoutThreshold();
+            recording.start();
+            assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), chain))
+                    .isInstanceOf(IllegalStateException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(ObsRequestScopeEvent.NAME)))
+                .singleElement()
+                .satisfies(event -> assertThat(event.getInt("status")).isEqualTo(500));
+    }
 }
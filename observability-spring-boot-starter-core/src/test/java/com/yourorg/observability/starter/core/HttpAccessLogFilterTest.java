@@ -0,0 +1,106 @@
+package com.yourorg.observability.starter.core;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.yourorg.observability.contract.ObsLogFields;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpAccessLogFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(HttpAccessLog.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        accessLogger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @Test
+    void logsOneLineWithHttpFieldsAndCleansMdc() throws Exception {
+        HttpAccessLogFilter filter = filter(1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            assertThat(MDC.get(ObsLogFields.HTTP_METHOD)).isEqualTo("GET");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/orders/{id}");
+            new HttpRouteMdcInterceptor().preHandle(request, response, new Object());
+            assertThat(MDC.get(ObsLogFields.HTTP_ROUTE)).isEqualTo("/orders/{id}");
+            ((MockHttpServletResponse) res).setStatus(201);
+        };
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(appender.list).hasSize(1);
+        ILoggingEvent event = appender.list.get(0);
+        assertThat(event.getFormattedMessage()).startsWith("GET /orders/{id} 201 ");
+        assertThat(event.getMDCPropertyMap())
+                .containsEntry(ObsLogFields.HTTP_METHOD, "GET")
+                .containsEntry(ObsLogFields.HTTP_ROUTE, "/orders/{id}")
+                .containsEntry(ObsLogFields.HTTP_STATUS_CODE, "201")
+                .containsKey(ObsLogFields.DURATION_MS);
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    void unmatchedRequestsAndErrorsAreLogged() {
+        HttpAccessLogFilter filter = filter(0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/nowhere");
+        FilterChain chain = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), chain))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage()).startsWith("POST UNKNOWN 500 "));
+        assertThat(MDC.get(ObsLogFields.HTTP_METHOD)).isNull();
+    }
+
+    @Test
+    void samplesOnlySuccessfulResponses() throws Exception {
+        HttpAccessLogFilter filter = filter(0.0);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/orders"), new MockHttpServletResponse(),
+                (req, res) -> { });
+        assertThat(appender.list).isEmpty();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/orders"), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(404));
+        assertThat(appender.list).hasSize(1);
+    }
+
+    @Test
+    void skipsExcludedPaths() throws Exception {
+        filter(1.0).doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    private static HttpAccessLogFilter filter(double successSampleRate) {
+        return new HttpAccessLogFilter(successSampleRate, ObsPathMatcher.compile(Set.of("/actuator/health")));
+    }
+}
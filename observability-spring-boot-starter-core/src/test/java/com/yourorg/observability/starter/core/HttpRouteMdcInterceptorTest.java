@@ -0,0 +1,83 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.ObsLogFields;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.WebUtils;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class HttpRouteMdcInterceptorTest {
+
+    private final RouteController controller = new RouteController();
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(controller)
+            .addInterceptors(new HttpRouteMdcInterceptor())
+            .addFilters(new HttpAccessLogFilter(0.0, ObsPathMatcher.compile(Set.of("/actuator/**"))))
+            .build();
+
+    @AfterEach
+    void cleanUp() {
+        MDC.clear();
+    }
+
+    @Test
+    void asyncDispatchLeavesNoRouteBehind() throws Exception {
+        MvcResult started = mvc.perform(get("/orders/42/async")).andExpect(request().asyncStarted()).andReturn();
+        assertThat(MDC.get(ObsLogFields.HTTP_ROUTE)).isNull();
+
+        mvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        assertThat(MDC.get(ObsLogFields.HTTP_ROUTE)).isNull();
+    }
+
+    @Test
+    void errorDispatchLeavesNoRouteBehind() throws Exception {
+        mvc.perform(get("/error").with(request -> {
+            request.setDispatcherType(DispatcherType.ERROR);
+            request.setAttribute(WebUtils.ERROR_REQUEST_URI_ATTRIBUTE, "/orders/42");
+            return request;
+        }));
+
+        assertThat(controller.seenRoute).isEqualTo("/error");
+        assertThat(MDC.get(ObsLogFields.HTTP_ROUTE)).isNull();
+    }
+
+    @Test
+    void excludedPathsLeaveNoRouteBehind() throws Exception {
+        mvc.perform(get("/actuator/health"));
+
+        assertThat(controller.seenRoute).isEqualTo("/actuator/health");
+        assertThat(MDC.get(ObsLogFields.HTTP_ROUTE)).isNull();
+    }
+
+    @RestController
+    static class RouteController {
+        volatile String seenRoute;
+
+        @GetMapping("/orders/{id}/async")
+        Callable<String> async(@PathVariable String id) {
+            return () -> id;
+        }
+
+        @GetMapping({"/error", "/actuator/health"})
+        String route() {
+            return seenRoute = MDC.get(ObsLogFields.HTTP_ROUTE);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.yourorg.observability.starter.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MdcContextPropagationAutoConfigurationTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(MdcContextPropagationAutoConfiguration.class,
+                    TaskExecutionAutoConfiguration.class));
+
+    @Test
+    void bootTaskExecutorUsesDecorator() {
+        runner.run(context -> {
+            assertThat(context).hasSingleBean(ObsMdcTaskDecorator.class);
+            ThreadPoolTaskExecutor executor = context.getBean("applicationTaskExecutor", ThreadPoolTaskExecutor.class);
+            assertThat(decoratorOf(executor)).isSameAs(context.getBean(ObsMdcTaskDecorator.class));
+        });
+    }
+
+    @Test
+    void applicationExecutorsAreDecoratedOrWrapped() {
+        TaskDecorator own = runnable -> runnable;
+        runner.withBean("plainScheduler", ThreadPoolTaskScheduler.class, ThreadPoolTaskScheduler::new)
+                .withBean("ownDecorator", ThreadPoolTaskExecutor.class, () -> {
+                    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+                    executor.setTaskDecorator(own);
+                    return executor;
+                })
+                .withBean("workers", ExecutorService.class, Executors::newSingleThreadExecutor)
+                .withBean("concrete", ThreadPoolExecutor.class, () -> (ThreadPoolExecutor) Executors.newFixedThreadPool(1))
+                .run(context -> {
+                    assertThat(decoratorOf(context.getBean("plainScheduler"))).isInstanceOf(ObsMdcTaskDecorator.class);
+                    assertThat(decoratorOf(context.getBean("ownDecorator"))).isSameAs(own);
+                    assertThat(context.getBean("workers")).isInstanceOf(MdcPropagatingExecutorService.class);
+                    assertThat(context.getBean("concrete")).isInstanceOf(ThreadPoolExecutor.class);
+                });
+    }
+
+    @Test
+    void customDecoratorBeanWins() {
+        TaskDecorator custom = runnable -> runnable;
+        runner.withBean(TaskDecorator.class, () -> custom)
+                .run(context -> assertThat(context).doesNotHaveBean(ObsMdcTaskDecorator.class));
+    }
+
+    @Test
+    void disabledByProperty() {
+        runner.withPropertyValues("obs.context-propagation.enabled=false")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean(ObsMdcTaskDecorator.class);
+                    assertThat(context).doesNotHaveBean(ObsExecutorContextPostProcessor.class);
+                });
+    }
+
+    @Test
+    void executorWrappingCanBeTurnedOff() {
+        runner.withPropertyValues("obs.context-propagation.wrap-executors=false")
+                .withBean("workers", ExecutorService.class, Executors::newSingleThreadExecutor)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ObsMdcTaskDecorator.class);
+                    assertThat(context.getBean("workers")).isNotInstanceOf(MdcPropagatingExecutorService.class);
+                });
+    }
+
+    private static Object decoratorOf(Object executor) {
+        return new DirectFieldAccessor(executor).getPropertyValue("taskDecorator");
+    }
+}
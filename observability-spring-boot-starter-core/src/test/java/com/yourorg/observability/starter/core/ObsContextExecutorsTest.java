@@ -0,0 +1,75 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.ObsMdcKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsContextExecutorsTest {
+
+    @AfterEach
+    void cleanUp() {
+        MDC.clear();
+    }
+
+    @Test
+    void executorServicePropagatesAndCleansPooledThread() throws Exception {
+        ExecutorService executor = ObsContextExecutors.wrap(Executors.newSingleThreadExecutor());
+        try {
+            MDC.put(ObsMdcKeys.CORRELATION_ID, "cid-1");
+            MDC.put(ObsMdcKeys.TRACE_ID, "trace-1");
+            assertThat(executor.submit(() -> MDC.get(ObsMdcKeys.CORRELATION_ID) + "/" + MDC.get(ObsMdcKeys.TRACE_ID))
+                    .get(5, TimeUnit.SECONDS)).isEqualTo("cid-1/trace-1");
+
+            List<Future<String>> all = executor.invokeAll(List.of(() -> MDC.get(ObsMdcKeys.CORRELATION_ID)));
+            assertThat(all.get(0).get()).isEqualTo("cid-1");
+
+            MDC.clear();
+            assertThat(executor.submit(() -> MDC.get(ObsMdcKeys.CORRELATION_ID)).get(5, TimeUnit.SECONDS)).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void scheduledExecutorPropagates() throws Exception {
+        ScheduledExecutorService executor = ObsContextExecutors.wrap(Executors.newSingleThreadScheduledExecutor());
+        try {
+            MDC.put(ObsMdcKeys.CORRELATION_ID, "scheduled");
+            assertThat(executor.schedule(() -> MDC.get(ObsMdcKeys.CORRELATION_ID), 1, TimeUnit.MILLISECONDS)
+                    .get(5, TimeUnit.SECONDS)).isEqualTo("scheduled");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void commonPoolWorksWithCompletableFuture() throws Exception {
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "async");
+
+        String seen = CompletableFuture.supplyAsync(() -> MDC.get(ObsMdcKeys.CORRELATION_ID),
+                ObsContextExecutors.commonPool()).get(5, TimeUnit.SECONDS);
+
+        assertThat(seen).isEqualTo("async");
+    }
+
+    @Test
+    void wrappingIsIdempotent() {
+        ExecutorService executor = ObsContextExecutors.wrap(Executors.newSingleThreadExecutor());
+        try {
+            assertThat(ObsContextExecutors.wrap(executor)).isSameAs(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
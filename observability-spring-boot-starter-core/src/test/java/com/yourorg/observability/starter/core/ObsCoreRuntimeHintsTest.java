@@ -0,0 +1,48 @@
+package com.yourorg.observability.starter.core;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsCoreRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    ObsCoreRuntimeHintsTest() {
+        new ObsCoreRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersDefaultLogbackConfiguration() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("logback-spring.xml")).accepts(hints);
+    }
+
+    @Test
+    void registersTheTaskDecoratorFieldOfDecoratedExecutors() {
+        for (Class<?> executorType : new Class<?>[] {ThreadPoolTaskExecutor.class, ThreadPoolTaskScheduler.class,
+                SimpleAsyncTaskExecutor.class, SimpleAsyncTaskScheduler.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onField(executorType, "taskDecorator")).accepts(hints);
+        }
+    }
+
+    @Test
+    void registersTheVirtualThreadExecutorFactory() {
+        // looked up by name: the method does not exist on Java 17, so no Method-based predicate
+        assertThat(hints.reflection().getTypeHint(TypeReference.of(Executors.class)).methods())
+                .anySatisfy(method -> {
+                    assertThat(method.getName()).isEqualTo("newVirtualThreadPerTaskExecutor");
+                    assertThat(method.getParameterTypes()).isEmpty();
+                    assertThat(method.getMode()).isEqualTo(ExecutableMode.INVOKE);
+                });
+    }
+}
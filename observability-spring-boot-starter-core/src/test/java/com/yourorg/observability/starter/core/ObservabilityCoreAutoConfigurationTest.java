@@ -1,5 +1,6 @@
 package com.yourorg.observability.starter.core;
 
+import com.yourorg.observability.contract.CorrelationIdGenerator;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -35,4 +36,31 @@ class ObservabilityCoreAutoConfigurationTest {
                     assertThat(context).doesNotHaveBean("correlationIdFilter");
                 });
     }
+
+    @Test
+    void generatorSelectedByProperty() {
+        runner.withPropertyValues("obs.correlation.generator=ulid")
+                .run(context -> assertThat(context.getBean(CorrelationIdGenerator.class))
+                        .isEqualTo(CorrelationIdGenerator.Strategy.ULID));
+    }
+
+    @Test
+    void customGeneratorBeanWins() {
+        CorrelationIdGenerator custom = () -> "custom-id";
+        runner.withBean(CorrelationIdGenerator.class, () -> custom)
+                .run(context -> assertThat(context.getBean(CorrelationIdGenerator.class)).isSameAs(custom));
+    }
+
+    @Test
+    void accessLogFilterOnlyWhenEnabled() {
+        runner.run(context -> assertThat(context).doesNotHaveBean("httpAccessLogFilter"));
+        runner.withPropertyValues("obs.access-log.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasBean("httpAccessLogFilter");
+                    assertThat(context).hasBean("obsHttpRouteMdcConfigurer");
+                    assertThat(context.getBean("httpAccessLogFilter", FilterRegistrationBean.class).getOrder())
+                            .isGreaterThan(context.getBean("correlationIdFilter", FilterRegistrationBean.class)
+                                    .getOrder());
+                });
+    }
 }
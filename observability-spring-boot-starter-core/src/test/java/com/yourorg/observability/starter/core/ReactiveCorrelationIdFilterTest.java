@@ -0,0 +1,117 @@
+package com.yourorg.observability.starter.core;
+
+import com.yourorg.observability.contract.CorrelationId;
+import com.yourorg.observability.contract.CorrelationIdGenerator;
+import com.yourorg.observability.contract.CorrelationScopeListener;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveCorrelationIdFilterTest {
+
+    private final ReactiveCorrelationIdFilter filter = filter(List.of());
+
+    @Test
+    void writesIdToReactorContextAndResponse() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/orders").header("X-Correlation-Id", "abc-123"));
+        AtomicReference<String> seen = new AtomicReference<>();
+        WebFilterChain chain = ex -> Mono.deferContextual(context -> {
+            seen.set(context.get(ObsMdcKeys.CORRELATION_ID));
+            return Mono.empty();
+        });
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(seen.get()).isEqualTo("abc-123");
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Correlation-Id")).isEqualTo("abc-123");
+        assertThat((String) exchange.getAttribute(ReactiveCorrelationIdFilter.CORRELATION_ID_ATTRIBUTE))
+                .isEqualTo("abc-123");
+    }
+
+    @Test
+    void generatesIdWhenHeaderMissingAndSkipsExcludedPaths() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders"));
+        filter.filter(exchange, ex -> Mono.empty()).block();
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Correlation-Id")).isNotBlank();
+
+        MockServerWebExchange probe = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+        filter.filter(probe, ex -> Mono.empty()).block();
+        assertThat(probe.getResponse().getHeaders().containsKey("X-Correlation-Id")).isFalse();
+    }
+
+    @Test
+    void notifiesScopeListenersWithFinalStatus() {
+        List<String> events = new ArrayList<>();
+        ReactiveCorrelationIdFilter notifying = filter(List.of(new CorrelationScopeListener() {
+            @Override
+            public void onScopeStart(String correlationId) {
+                events.add("start " + correlationId);
+            }
+
+            @Override
+            public void onScopeEnd(String correlationId, int status, Throwable error) {
+                events.add("end " + correlationId + " " + status + " " + (error != null));
+            }
+        }));
+
+        MockServerWebExchange ok = exchange("ok");
+        notifying.filter(ok, ex -> {
+            ex.getResponse().setStatusCode(HttpStatus.CREATED);
+            return Mono.empty();
+        }).block();
+
+        MockServerWebExchange notFound = exchange("missing");
+        assertThatThrownBy(() -> notifying.filter(notFound,
+                ex -> Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND))).block())
+                .isInstanceOf(ResponseStatusException.class);
+
+        MockServerWebExchange failed = exchange("boom");
+        assertThatThrownBy(() -> notifying.filter(failed,
+                ex -> Mono.error(new IllegalStateException("boom"))).block())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(events).containsExactly(
+                "start ok", "end ok 201 false",
+                "start missing", "end missing 404 true",
+                "start boom", "end boom 500 true");
+    }
+
+    @Test
+    void autoConfiguredOnlyForReactiveApplications() {
+        AutoConfigurations configurations = AutoConfigurations.of(ObservabilityReactiveCoreAutoConfiguration.class);
+        new ReactiveWebApplicationContextRunner().withConfiguration(configurations)
+                .run(context -> assertThat(context).hasSingleBean(ReactiveCorrelationIdFilter.class));
+        new ReactiveWebApplicationContextRunner().withConfiguration(configurations)
+                .withPropertyValues("obs.correlation.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(ReactiveCorrelationIdFilter.class));
+        new WebApplicationContextRunner().withConfiguration(configurations)
+                .run(context -> assertThat(context).doesNotHaveBean(ReactiveCorrelationIdFilter.class));
+    }
+
+    private static MockServerWebExchange exchange(String correlationId) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/orders").header("X-Correlation-Id", correlationId));
+    }
+
+    private static ReactiveCorrelationIdFilter filter(List<CorrelationScopeListener> listeners) {
+        return new ReactiveCorrelationIdFilter("X-Correlation-Id", CorrelationIdGenerator.Strategy.RANDOM,
+                CorrelationId.DEFAULT_MAX_LENGTH, ObsPathMatcher.compile(Set.of("/actuator/health")), listeners);
+    }
+}
@@ -0,0 +1,84 @@
+package com.yourorg.observability.starter.core;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.yourorg.observability.contract.ObsLogFields;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import com.yourorg.observability.contract.ObsPathMatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveHttpAccessLogFilterTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(HttpAccessLog.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final ReactiveHttpAccessLogFilter filter = new ReactiveHttpAccessLogFilter(1.0,
+            ObsPathMatcher.compile(Set.of("/actuator/health")));
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        accessLogger.detachAppender(appender);
+        MDC.clear();
+    }
+
+    @Test
+    void logsMatchedRouteWithCorrelationIdAndRestoresMdc() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/orders/42"));
+        exchange.getAttributes().put(ReactiveCorrelationIdFilter.CORRELATION_ID_ATTRIBUTE, "abc-123");
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "other");
+
+        filter.filter(exchange, ex -> {
+            ex.getAttributes().put(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                    PathPatternParser.defaultInstance.parse("/orders/{id}"));
+            ex.getResponse().setStatusCode(HttpStatus.ACCEPTED);
+            return Mono.empty();
+        }).block();
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getFormattedMessage()).startsWith("GET /orders/{id} 202 ");
+            assertThat(event.getMDCPropertyMap())
+                    .containsEntry(ObsMdcKeys.CORRELATION_ID, "abc-123")
+                    .containsEntry(ObsLogFields.HTTP_ROUTE, "/orders/{id}")
+                    .containsEntry(ObsLogFields.HTTP_STATUS_CODE, "202")
+                    .containsKey(ObsLogFields.DURATION_MS);
+        });
+        assertThat(MDC.get(ObsMdcKeys.CORRELATION_ID)).isEqualTo("other");
+        assertThat(MDC.get(ObsLogFields.HTTP_ROUTE)).isNull();
+    }
+
+    @Test
+    void logsErrorStatusAndSkipsExcludedPaths() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/orders"));
+        assertThatThrownBy(() -> filter.filter(exchange,
+                ex -> Mono.error(new ResponseStatusException(HttpStatus.CONFLICT))).block())
+                .isInstanceOf(ResponseStatusException.class);
+
+        MockServerWebExchange probe = MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health"));
+        filter.filter(probe, ex -> Mono.empty()).block();
+
+        assertThat(appender.list).singleElement()
+                .satisfies(event -> assertThat(event.getFormattedMessage()).startsWith("POST UNKNOWN 409 "));
+    }
+}
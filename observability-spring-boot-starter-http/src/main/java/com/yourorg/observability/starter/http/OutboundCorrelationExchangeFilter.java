@@ -11,7 +11,9 @@ import reactor.core.publisher.Mono;
 
 /**
  * WebClient equivalent of {@link OutboundCorrelationInterceptor}.
- * Adds X-Correlation-Id from MDC to outgoing reactive HTTP requests.
+ * Adds X-Correlation-Id from MDC to outgoing reactive HTTP requests, falling
+ * back to the Reactor Context key written by the inbound WebFlux filter when
+ * the MDC has none (automatic context propagation disabled).
  *
  * <p>
  * Auto-configured when {@code spring-webflux} is on the classpath.
@@ -28,13 +30,24 @@ public class OutboundCorrelationExchangeFilter implements ExchangeFilterFunction
     @Override
     @NonNull
     public Mono<ClientResponse> filter(@NonNull ClientRequest request, @NonNull ExchangeFunction next) {
+        if (request.headers().containsKey(headerName)) {
+            return next.exchange(request);
+        }
         String cid = MDC.get(ObsMdcKeys.CORRELATION_ID);
-        if (cid != null && !cid.isBlank() && !request.headers().containsKey(headerName)) {
-            ClientRequest mutated = ClientRequest.from(request)
-                    .header(headerName, java.util.Objects.requireNonNull(cid))
-                    .build();
-            return next.exchange(mutated);
+        if (cid != null && !cid.isBlank()) {
+            return next.exchange(withHeader(request, cid));
         }
-        return next.exchange(request);
+        return Mono.deferContextual(context -> {
+            String contextCid = context.getOrDefault(ObsMdcKeys.CORRELATION_ID, null);
+            return next.exchange(contextCid != null && !contextCid.isBlank()
+                    ? withHeader(request, contextCid)
+                    : request);
+        });
+    }
+
+    private ClientRequest withHeader(ClientRequest request, String cid) {
+        return ClientRequest.from(request)
+                .header(headerName, cid)
+                .build();
     }
 }
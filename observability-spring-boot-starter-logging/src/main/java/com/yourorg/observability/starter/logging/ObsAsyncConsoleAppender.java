@@ -0,0 +1,267 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+import com.yourorg.observability.contract.BoundedRingBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Console appender that never lets a slow stdout consumer stall request
+ * threads.
+ *
+ * <p>
+ * {@link #append} freezes the event ({@code prepareForDeferredProcessing})
+ * and offers it to a lock-free {@link BoundedRingBuffer}. A single daemon
+ * writer thread drains the buffer, encodes events and hands them to stdout
+ * in batches of up to {@code maxBatchBytes}, so a burst costs a few large
+ * writes instead of one flush per line.
+ * </p>
+ *
+ * <p>
+ * When the buffer is full, {@link OverflowPolicy} decides what the calling
+ * thread does. Every discarded event is counted ({@link #getDroppedCount()})
+ * and the writer reports new drops at most once per second as a WARN line in
+ * the same output, so gaps are visible in the log pipeline itself.
+ * </p>
+ *
+ * <p>
+ * The time a logging thread spends in {@link #append} is reported as an
+ * {@link ObsLogAppendEvent} when that JFR event is enabled.
+ * </p>
+ *
+ * <p>
+ * {@link #stop()} stops accepting events and waits up to
+ * {@code shutdownTimeout} for the writer to flush what is already buffered.
+ * </p>
+ */
+public class ObsAsyncConsoleAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    /**
+     * What a logging thread does when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for space; nothing is lost, but callers can stall. */
+        BLOCK,
+        /** Drop TRACE/DEBUG/INFO; wait for space for WARN and ERROR. */
+        DROP_BELOW_WARN,
+        /** Evict the oldest buffered event to make room; never waits. */
+        DROP_OLDEST
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private Encoder<ILoggingEvent> encoder;
+    private OutputStream outputStream;
+    private int bufferSize = 8192;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_BELOW_WARN;
+    private int maxBatchBytes = 64 * 1024;
+    private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+    private final LongAdder dropped = new LongAdder();
+    private BoundedRingBuffer<ILoggingEvent> buffer;
+    private Thread writer;
+    private volatile boolean writerIdle;
+
+    @Override
+    public void start() {
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "].");
+            return;
+        }
+        if (bufferSize < 2) {
+            addError("bufferSize must be at least 2 for the appender named [" + name + "]: " + bufferSize);
+            return;
+        }
+        buffer = new BoundedRingBuffer<>(bufferSize);
+        writer = new Thread(this::runWriter, "obs-async-console");
+        writer.setDaemon(true);
+        super.start();
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        LockSupport.unpark(writer);
+        try {
+            writer.join(Math.max(1, shutdownTimeout.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            addWarn("Timed out after " + shutdownTimeout + " flushing [" + name + "]; "
+                    + buffer.size() + " buffered events were not written.");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        ObsLogAppendEvent jfr = new ObsLogAppendEvent();
+        jfr.begin();
+        event.prepareForDeferredProcessing();
+        boolean accepted = switch (overflowPolicy) {
+            case BLOCK -> offerOrWait(event);
+            case DROP_BELOW_WARN -> buffer.offer(event)
+                    || (event.getLevel().isGreaterOrEqual(Level.WARN) && offerOrWait(event));
+            case DROP_OLDEST -> offerEvictingOldest(event);
+        };
+        if (!accepted) {
+            dropped.increment();
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+        jfr.end(event, name, true);
+    }
+
+    private boolean offerOrWait(ILoggingEvent event) {
+        if (Thread.currentThread() == writer) {
+            return buffer.offer(event);
+        }
+        while (!buffer.offer(event)) {
+            if (!isStarted()) {
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+        return true;
+    }
+
+    private boolean offerEvictingOldest(ILoggingEvent event) {
+        while (!buffer.offer(event)) {
+            if (buffer.poll() != null) {
+                dropped.increment();
+            }
+        }
+        return true;
+    }
+
+    private void runWriter() {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(Math.min(maxBatchBytes, 64 * 1024));
+        long reportedDrops = 0;
+        long lastReport = System.nanoTime() - DROP_REPORT_INTERVAL_NANOS;
+        writeBytes(batch, encoder.headerBytes());
+
+        while (isStarted() || !buffer.isEmpty()) {
+            ILoggingEvent event = buffer.poll();
+            if (event != null) {
+                encodeInto(batch, event);
+                if (batch.size() >= maxBatchBytes) {
+                    flush(batch);
+                }
+                continue;
+            }
+
+            long drops = dropped.sum();
+            if (drops != reportedDrops && System.nanoTime() - lastReport >= DROP_REPORT_INTERVAL_NANOS) {
+                encodeInto(batch, dropReport(drops - reportedDrops, drops));
+                reportedDrops = drops;
+                lastReport = System.nanoTime();
+            }
+            flush(batch);
+
+            writerIdle = true;
+            if (buffer.isEmpty() && isStarted()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerIdle = false;
+        }
+
+        writeBytes(batch, encoder.footerBytes());
+        flush(batch);
+    }
+
+    private void encodeInto(ByteArrayOutputStream batch, ILoggingEvent event) {
+        try {
+            writeBytes(batch, encoder.encode(event));
+        } catch (RuntimeException e) {
+            addError("Failed to encode event for [" + name + "]", e);
+        }
+    }
+
+    private static void writeBytes(ByteArrayOutputStream batch, byte[] bytes) {
+        if (bytes != null && bytes.length > 0) {
+            batch.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private void flush(ByteArrayOutputStream batch) {
+        if (batch.size() == 0) {
+            return;
+        }
+        OutputStream out = outputStream != null ? outputStream : System.out;
+        try {
+            batch.writeTo(out);
+            out.flush();
+        } catch (IOException e) {
+            addError("Failed to write to console for [" + name + "]", e);
+        }
+        batch.reset();
+    }
+
+    private ILoggingEvent dropReport(long newlyDropped, long totalDropped) {
+        LoggingEvent report = new LoggingEvent();
+        if (getContext() instanceof LoggerContext loggerContext) {
+            report.setLoggerContext(loggerContext);
+        }
+        report.setLoggerName(ObsAsyncConsoleAppender.class.getName());
+        report.setThreadName(Thread.currentThread().getName());
+        report.setLevel(Level.WARN);
+        report.setMessage("Log buffer full: dropped " + newlyDropped + " events (" + totalDropped
+                + " since start, overflow-policy=" + overflowPolicy + ")");
+        report.setTimeStamp(System.currentTimeMillis());
+        return report;
+    }
+
+    /**
+     * Events discarded since start because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Events currently waiting for the writer thread.
+     */
+    public int getQueuedCount() {
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    public Encoder<ILoggingEvent> getEncoder() { return encoder; }
+    public void setEncoder(Encoder<ILoggingEvent> encoder) { this.encoder = encoder; }
+
+    /**
+     * Destination for encoded batches; defaults to {@code System.out},
+     * resolved on every write.
+     */
+    public void setOutputStream(OutputStream outputStream) { this.outputStream = outputStream; }
+
+    public int getBufferSize() { return bufferSize; }
+    public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+
+    public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+
+    public int getMaxBatchBytes() { return maxBatchBytes; }
+    public void setMaxBatchBytes(int maxBatchBytes) { this.maxBatchBytes = maxBatchBytes; }
+
+    public Duration getShutdownTimeout() { return shutdownTimeout; }
+    public void setShutdownTimeout(Duration shutdownTimeout) { this.shutdownTimeout = shutdownTimeout; }
+}
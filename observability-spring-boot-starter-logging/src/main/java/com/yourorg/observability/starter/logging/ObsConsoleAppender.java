@@ -0,0 +1,20 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.ConsoleAppender;
+
+/**
+ * Logback's {@link ConsoleAppender} reporting each append as an
+ * {@link ObsLogAppendEvent}. Used for the JSON console output when
+ * {@code obs.logging.async} is off.
+ */
+public class ObsConsoleAppender extends ConsoleAppender<ILoggingEvent> {
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        ObsLogAppendEvent jfr = new ObsLogAppendEvent();
+        jfr.begin();
+        super.append(event);
+        jfr.end(event, name, false);
+    }
+}
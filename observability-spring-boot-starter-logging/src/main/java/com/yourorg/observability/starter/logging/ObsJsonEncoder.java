@@ -0,0 +1,397 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.pattern.ExtendedThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.EncoderBase;
+import net.logstash.logback.argument.StructuredArgument;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * JSON encoder specialised for the {@code ObsLogFields} schema.
+ *
+ * <p>
+ * Produces the same bytes as the {@code LogstashEncoder} built by
+ * {@link ObsLoggingAutoConfiguration} — field order, escaping, timestamp
+ * format and line separator included — but writes them directly into a
+ * per-thread byte buffer: field names are pre-escaped, the static
+ * {@code service}/{@code env}/{@code version} block and logger context
+ * properties are rendered once at {@link #start()}, and the timestamp is
+ * assembled from a per-second cache plus the fraction digits of
+ * {@link ILoggingEvent#getInstant()}. The only
+ * allocation per event is the returned array.
+ * </p>
+ *
+ * <p>
+ * Events that carry markers, key/value pairs or {@link StructuredArgument}s
+ * are delegated to the {@link #setFallback fallback} encoder, since those
+ * add fields whose shape this encoder does not model. Stack traces are
+ * rendered by the same {@link ExtendedThrowableProxyConverter} that
+ * {@code LogstashEncoder} uses.
+ * </p>
+ *
+ * <p>
+ * A {@link #setFallbackFactory fallback factory} defers building the
+ * fallback until the first event that needs it, so services that never log
+ * markers or structured arguments do not pay for a second encoder (and its
+ * Jackson setup) at startup.
+ * </p>
+ */
+public class ObsJsonEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP = fieldPrefix("{", "timestamp");
+    private static final byte[] VERSION = "\",\"@version\":\"1\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MESSAGE = fieldPrefix(",", "message");
+    private static final byte[] LOGGER = fieldPrefix(",", "logger");
+    private static final byte[] THREAD = fieldPrefix(",", "thread");
+    private static final byte[] LEVEL = fieldPrefix(",", "level");
+    private static final byte[] LEVEL_VALUE = ",\"level_value\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] STACK_TRACE = fieldPrefix(",", "stack_trace");
+
+    private final Map<String, String> customFields = new LinkedHashMap<>();
+    private List<String> includeMdcKeyNames = List.of();
+    private volatile Encoder<ILoggingEvent> fallback;
+    private Supplier<Encoder<ILoggingEvent>> fallbackFactory;
+    private ZoneId zone = ZoneId.systemDefault();
+
+    private final ThreadLocal<JsonBuffer> buffers = ThreadLocal.withInitial(JsonBuffer::new);
+    private final Map<String, byte[]> mdcFieldPrefixes = new HashMap<>();
+    private byte[] contextFields;
+    private byte[] customFieldBytes;
+    private ExtendedThrowableProxyConverter throwableConverter;
+    private volatile SecondStamp secondStamp = new SecondStamp(Long.MIN_VALUE, null, null);
+
+    @Override
+    public void start() {
+        if (fallback == null && fallbackFactory == null) {
+            addError("No fallback encoder set for [" + getClass().getSimpleName() + "]");
+            return;
+        }
+        if (fallback != null && !fallback.isStarted()) {
+            fallback.start();
+        }
+
+        mdcFieldPrefixes.clear();
+        for (String key : includeMdcKeyNames) {
+            mdcFieldPrefixes.put(key, fieldPrefix(",", key));
+        }
+
+        JsonBuffer staticFields = new JsonBuffer();
+        Map<String, String> contextProperties = getContext() != null ? getContext().getCopyOfPropertyMap() : Map.of();
+        contextProperties.forEach((name, value) -> staticFields.stringField(fieldPrefix(",", name), value));
+        contextFields = staticFields.toByteArray();
+
+        staticFields.reset();
+        customFields.forEach((name, value) -> staticFields.stringField(fieldPrefix(",", name), value));
+        customFieldBytes = staticFields.toByteArray();
+
+        throwableConverter = new ExtendedThrowableProxyConverter();
+        throwableConverter.setContext(getContext());
+        throwableConverter.start();
+
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (throwableConverter != null) {
+            throwableConverter.stop();
+        }
+        if (fallback != null) {
+            fallback.stop();
+        }
+        super.stop();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        if (requiresFallback(event)) {
+            return fallback().encode(event);
+        }
+
+        JsonBuffer out = buffers.get();
+        out.reset();
+
+        out.write(TIMESTAMP);
+        writeTimestamp(out, event.getInstant());
+        out.write(VERSION);
+        out.stringField(MESSAGE, event.getFormattedMessage());
+        out.stringField(LOGGER, event.getLoggerName());
+        out.stringField(THREAD, event.getThreadName());
+        out.stringField(LEVEL, event.getLevel().toString());
+        out.write(LEVEL_VALUE);
+        out.writeInt(event.getLevel().toInt());
+        if (event.getThrowableProxy() != null) {
+            out.stringField(STACK_TRACE, throwableConverter.convert(event));
+        }
+        out.write(contextFields);
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                byte[] prefix = mdcFieldPrefixes.get(entry.getKey());
+                if (prefix != null) {
+                    out.stringField(prefix, entry.getValue());
+                }
+            }
+        }
+
+        out.write(customFieldBytes);
+        out.write('}');
+        out.write(LINE_SEPARATOR);
+        return out.toByteArray();
+    }
+
+    private Encoder<ILoggingEvent> fallback() {
+        Encoder<ILoggingEvent> current = fallback;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (fallback == null) {
+                Encoder<ILoggingEvent> created = fallbackFactory.get();
+                if (!created.isStarted()) {
+                    created.start();
+                }
+                fallback = created;
+            }
+            return fallback;
+        }
+    }
+
+    private static boolean requiresFallback(ILoggingEvent event) {
+        List<?> markers = event.getMarkerList();
+        if (markers != null && !markers.isEmpty()) {
+            return true;
+        }
+        List<?> keyValuePairs = event.getKeyValuePairs();
+        if (keyValuePairs != null && !keyValuePairs.isEmpty()) {
+            return true;
+        }
+        Object[] arguments = event.getArgumentArray();
+        if (arguments != null) {
+            for (Object argument : arguments) {
+                if (argument instanceof StructuredArgument) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * ISO_OFFSET_DATE_TIME with trailing zeros trimmed from the fraction,
+     * matching {@code DateTimeFormatter} output.
+     */
+    private void writeTimestamp(JsonBuffer out, Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        SecondStamp stamp = secondStamp;
+        if (stamp.epochSecond != epochSecond) {
+            stamp = SecondStamp.of(epochSecond, zone);
+            secondStamp = stamp;
+        }
+        out.write(stamp.dateTime);
+
+        int nanos = instant.getNano();
+        if (nanos != 0) {
+            out.write('.');
+            for (int div = 100_000_000; nanos != 0; div /= 10) {
+                out.write('0' + nanos / div);
+                nanos %= div;
+            }
+        }
+        out.write(stamp.offset);
+    }
+
+    private static byte[] fieldPrefix(String separator, String name) {
+        JsonBuffer buffer = new JsonBuffer();
+        buffer.writeAscii(separator);
+        buffer.write('"');
+        buffer.writeEscaped(name);
+        buffer.writeAscii("\":\"");
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Adds a static string field written after the MDC fields (in insertion
+     * order), like {@code LogstashEncoder} custom fields.
+     */
+    public void addCustomField(String name, String value) {
+        customFields.put(name, value);
+    }
+
+    public List<String> getIncludeMdcKeyNames() { return includeMdcKeyNames; }
+    public void setIncludeMdcKeyNames(List<String> includeMdcKeyNames) { this.includeMdcKeyNames = List.copyOf(includeMdcKeyNames); }
+
+    public Encoder<ILoggingEvent> getFallback() { return fallback; }
+    public void setFallback(Encoder<ILoggingEvent> fallback) { this.fallback = fallback; }
+
+    public void setFallbackFactory(Supplier<Encoder<ILoggingEvent>> fallbackFactory) { this.fallbackFactory = fallbackFactory; }
+
+    public ZoneId getZone() { return zone; }
+    public void setZone(ZoneId zone) { this.zone = zone; }
+
+    private record SecondStamp(long epochSecond, byte[] dateTime, byte[] offset) {
+
+        static SecondStamp of(long epochSecond, ZoneId zone) {
+            ZoneOffset offset = zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+            LocalDateTime local = LocalDateTime.ofEpochSecond(epochSecond, 0, offset);
+            return new SecondStamp(epochSecond,
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(local).getBytes(StandardCharsets.US_ASCII),
+                    offset.getId().getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Growable byte buffer with Jackson-compatible JSON string escaping.
+     */
+    static final class JsonBuffer {
+        private byte[] bytes = new byte[512];
+        private int length;
+
+        void reset() {
+            length = 0;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        void write(int b) {
+            ensure(1);
+            bytes[length++] = (byte) b;
+        }
+
+        void write(byte[] chunk) {
+            ensure(chunk.length);
+            System.arraycopy(chunk, 0, bytes, length, chunk.length);
+            length += chunk.length;
+        }
+
+        void writeAscii(String ascii) {
+            ensure(ascii.length());
+            for (int i = 0; i < ascii.length(); i++) {
+                bytes[length++] = (byte) ascii.charAt(i);
+            }
+        }
+
+        void writeInt(int value) {
+            if (value < 0) {
+                write('-');
+                value = -value;
+            }
+            int digits = 1;
+            for (int v = value; v >= 10; v /= 10) {
+                digits++;
+            }
+            ensure(digits);
+            for (int i = length + digits - 1; i >= length; i--) {
+                bytes[i] = (byte) ('0' + value % 10);
+                value /= 10;
+            }
+            length += digits;
+        }
+
+        /**
+         * Writes {@code prefix} (separator, quoted name, colon, opening quote),
+         * the escaped value and the closing quote; nothing for a null value.
+         */
+        void stringField(byte[] prefix, String value) {
+            if (value == null) {
+                return;
+            }
+            write(prefix);
+            writeEscaped(value);
+            write('"');
+        }
+
+        void writeEscaped(String value) {
+            int n = value.length();
+            ensure(n);
+            for (int i = 0; i < n; i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 0x20 && c != '"' && c != '\\') {
+                        if (length == bytes.length) {
+                            ensure(n - i);
+                        }
+                        bytes[length++] = (byte) c;
+                    } else {
+                        writeAsciiEscape(c);
+                    }
+                } else if (c < 0x800) {
+                    ensure(2);
+                    bytes[length++] = (byte) (0xC0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    writeUnicodeEscape(c);
+                } else {
+                    ensure(3);
+                    bytes[length++] = (byte) (0xE0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+        }
+
+        private void writeAsciiEscape(char c) {
+            char shortEscape = switch (c) {
+                case '"' -> '"';
+                case '\\' -> '\\';
+                case '\b' -> 'b';
+                case '\t' -> 't';
+                case '\n' -> 'n';
+                case '\f' -> 'f';
+                case '\r' -> 'r';
+                default -> 0;
+            };
+            if (shortEscape != 0) {
+                ensure(2);
+                bytes[length++] = '\\';
+                bytes[length++] = (byte) shortEscape;
+            } else {
+                writeUnicodeEscape(c);
+            }
+        }
+
+        private void writeUnicodeEscape(char c) {
+            ensure(6);
+            bytes[length++] = '\\';
+            bytes[length++] = 'u';
+            bytes[length++] = HEX[(c >> 12) & 0xF];
+            bytes[length++] = HEX[(c >> 8) & 0xF];
+            bytes[length++] = HEX[(c >> 4) & 0xF];
+            bytes[length++] = HEX[c & 0xF];
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Map;
+
+/**
+ * JFR event timing one append to the JSON console appender, on the logging
+ * thread: encode and write for {@link ObsConsoleAppender}, the hand-off to
+ * the ring buffer for {@link ObsAsyncConsoleAppender}.
+ *
+ * <p>
+ * Disabled by default. The ids come from the event's MDC, so they match the
+ * request scope and span events of the same request.
+ * </p>
+ */
+@Name(ObsLogAppendEvent.NAME)
+@Label("Log Append")
+@Category({ "Observability", "Logging" })
+@Description("Time spent appending one log event to the console appender")
+@Enabled(false)
+@StackTrace(false)
+public class ObsLogAppendEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.yourorg.observability.LogAppend";
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Trace Id")
+    String traceId;
+
+    @Label("Span Id")
+    String spanId;
+
+    @Label("Level")
+    String level;
+
+    @Label("Logger")
+    String logger;
+
+    @Label("Appender")
+    String appender;
+
+    @Label("Async")
+    boolean async;
+
+    void end(ILoggingEvent logEvent, String appenderName, boolean asyncAppender) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        Map<String, String> mdc = logEvent.getMDCPropertyMap();
+        correlationId = mdc.get(ObsMdcKeys.CORRELATION_ID);
+        traceId = mdc.get(ObsMdcKeys.TRACE_ID);
+        spanId = mdc.get(ObsMdcKeys.SPAN_ID);
+        level = logEvent.getLevel().toString();
+        logger = logEvent.getLoggerName();
+        appender = appenderName;
+        async = asyncAppender;
+        commit();
+    }
+}
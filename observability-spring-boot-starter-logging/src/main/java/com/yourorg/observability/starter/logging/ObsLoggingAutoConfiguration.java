@@ -1,19 +1,34 @@
 package com.yourorg.observability.starter.logging;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.yourorg.observability.contract.CorrelationScopeListener;
 import com.yourorg.observability.contract.ObsLogFields;
+import com.yourorg.observability.contract.ObsSampledTimer;
 import jakarta.annotation.PostConstruct;
 import net.logstash.logback.encoder.LogstashEncoder;
 import net.logstash.logback.fieldnames.LogstashFieldNames;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
 
 /**
  * Structured logging auto-configuration.
@@ -31,6 +46,36 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
  * </p>
  *
  * <p>
+ * {@code obs.logging.encoder=obs} swaps in {@link ObsJsonEncoder}, which
+ * writes the same bytes without going through Jackson.
+ * </p>
+ *
+ * <p>
+ * With {@code obs.logging.async.enabled=true} the console appender is an
+ * {@link ObsAsyncConsoleAppender}: logging threads only enqueue, and a
+ * background writer batches output so a stalled stdout pipe cannot block
+ * request threads.
+ * </p>
+ *
+ * <p>
+ * {@code obs.logging.rate-limit.enabled=true} registers an
+ * {@link ObsRateLimitTurboFilter} that collapses bursts of the same message
+ * into periodic summary events, independently of the output format.
+ * </p>
+ *
+ * <p>
+ * {@code obs.logging.tail-buffer.enabled=true} keeps below-threshold events
+ * of each correlated request in memory ({@link ObsTailLogBuffers}) and only
+ * writes them if the request fails or logs an ERROR.
+ * </p>
+ *
+ * <p>
+ * With Micrometer on the classpath, {@link ObsLoggingMetrics} publishes
+ * encoded bytes, async queue depth and drops, and tail buffer memory as
+ * {@code obs.internal.logging.*}.
+ * </p>
+ *
+ * <p>
  * <strong>Zero OTLP dependency for logs.</strong> Logs go to stdout as JSON →
  * picked up by FluentBit/Filebeat at the infrastructure layer.
  * </p>
@@ -39,74 +84,113 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 @EnableConfigurationProperties(ObsLoggingProperties.class)
 @ConditionalOnProperty(prefix = "obs.logging", name = "enabled", havingValue = "true", matchIfMissing = true)
 @ConditionalOnClass(LogstashEncoder.class)
+@ImportRuntimeHints(ObsLoggingRuntimeHints.class)
 public class ObsLoggingAutoConfiguration {
 
+    private static final List<String> INCLUDED_MDC_KEYS = List.of(
+            ObsLogFields.CORRELATION_ID, ObsLogFields.TRACE_ID, ObsLogFields.SPAN_ID,
+            ObsLogFields.HTTP_METHOD, ObsLogFields.HTTP_ROUTE, ObsLogFields.HTTP_STATUS_CODE, ObsLogFields.DURATION_MS);
+
     private final ObsLoggingProperties props;
     private final String serviceName;
     private final String env;
     private final String version;
+    private final ObsTailLogBuffers tailBuffers;
+    private final ObsSampledTimer encoderTimer;
+    private ObsMeteredEncoder meteredEncoder;
+    private ObsAsyncConsoleAppender asyncAppender;
 
+    public ObsLoggingAutoConfiguration(ObsLoggingProperties props, String serviceName, String env, String version) {
+        this(props, serviceName, env, version, 0);
+    }
+
+    @Autowired
     public ObsLoggingAutoConfiguration(
             ObsLoggingProperties props,
             @Value("${spring.application.name:unknown}") String serviceName,
             @Value("${obs.logging.env:${obs.metrics.env:dev}}") String env,
-            @Value("${spring.application.version:${obs.logging.version:unknown}}") String version) {
+            @Value("${spring.application.version:${obs.logging.version:unknown}}") String version,
+            @Value("${obs.self-metrics.timing-sample-every:0}") int timingSampleEvery) {
         this.props = props;
         this.serviceName = serviceName;
         this.env = env;
         this.version = version;
+        this.encoderTimer = ObsSampledTimer.of("log_encoder", timingSampleEvery);
+
+        ObsLoggingProperties.TailBuffer tailBuffer = props.getTailBuffer();
+        this.tailBuffers = tailBuffer.isEnabled()
+                ? new ObsTailLogBuffers(tailBuffer.getMaxEventsPerRequest(), tailBuffer.getMaxMemory().toBytes(),
+                        tailBuffer.getFailureStatus())
+                : null;
     }
 
     @PostConstruct
     public void configureStructuredLogging() {
-        if (props.getFormat() != ObsLoggingProperties.LogFormat.JSON) {
-            return; // Keep default text format for development
+        if (props.getRateLimit().isEnabled()) {
+            installRateLimitFilter();
         }
 
+        // Text format keeps the default appenders for development
+        if (props.getFormat() == ObsLoggingProperties.LogFormat.JSON) {
+            installJsonConsoleAppender();
+        }
+
+        if (tailBuffers != null) {
+            installTailBuffering();
+        }
+    }
+
+    /**
+     * Per-request log buffers, registered as a {@link CorrelationScopeListener}
+     * so the correlation filter opens and closes them.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "obs.logging.tail-buffer", name = "enabled", havingValue = "true")
+    public ObsTailLogBuffers obsTailLogBuffers() {
+        return tailBuffers;
+    }
+
+    /**
+     * Sampled timing of the console appender's JSON encoding, published by the
+     * metrics starter as {@code obs.internal.component.time}.
+     */
+    @Bean
+    public ObsSampledTimer obsLogEncoderTimer() {
+        return encoderTimer;
+    }
+
+    /**
+     * Binds {@link ObsLoggingMetrics} when Micrometer is present.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class LoggingMetricsConfiguration {
+
+        @Bean
+        public ObsLoggingMetrics obsLoggingMetrics(ObsLoggingAutoConfiguration logging) {
+            return new ObsLoggingMetrics(logging.meteredEncoder, logging.asyncAppender, logging.tailBuffers);
+        }
+    }
+
+    private void installJsonConsoleAppender() {
         try {
             LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
             Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
 
-            // Create JSON encoder with org-standard field names
-            LogstashEncoder encoder = new LogstashEncoder();
+            ObsMeteredEncoder encoder = new ObsMeteredEncoder(createJsonEncoder(context), encoderTimer);
             encoder.setContext(context);
-
-            // Map standard fields to match ObsLogFields contract
-            LogstashFieldNames fieldNames = new LogstashFieldNames();
-            fieldNames.setTimestamp(ObsLogFields.TIMESTAMP);
-            fieldNames.setLevel(ObsLogFields.LEVEL);
-            fieldNames.setLogger("logger");
-            fieldNames.setThread("thread");
-            fieldNames.setMessage("message");
-            fieldNames.setStackTrace("stack_trace");
-            encoder.setFieldNames(fieldNames);
-
-            // Inject application metadata as custom fields using Jackson for safety
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            com.fasterxml.jackson.databind.node.ObjectNode node = mapper.createObjectNode();
-            node.put(ObsLogFields.SERVICE, serviceName);
-            node.put(ObsLogFields.ENV, env);
-            node.put(ObsLogFields.VERSION, version);
-            encoder.setCustomFields(node.toString());
-
-            // Include MDC fields (correlation_id, trace_id, span_id) automatically
-            encoder.setIncludeMdcKeyNames(java.util.List.of(
-                    ObsLogFields.CORRELATION_ID, ObsLogFields.TRACE_ID, ObsLogFields.SPAN_ID,
-                    ObsLogFields.HTTP_METHOD, ObsLogFields.HTTP_ROUTE, ObsLogFields.HTTP_STATUS_CODE, ObsLogFields.DURATION_MS));
-
             encoder.start();
 
             // Replace root logger's appender with structured JSON
-            ConsoleAppender<ILoggingEvent> appender = new ConsoleAppender<>();
-            appender.setContext(context);
-            appender.setEncoder(encoder);
-            appender.setName("OBS_JSON_CONSOLE");
+            Appender<ILoggingEvent> appender = createConsoleAppender(context, encoder);
             appender.start();
 
             // Safety check: Only switch if the new appender is actually working
             if (appender.isStarted()) {
                 rootLogger.detachAndStopAllAppenders();
                 rootLogger.addAppender(appender);
+                meteredEncoder = encoder;
+                asyncAppender = appender instanceof ObsAsyncConsoleAppender async ? async : null;
             } else {
                 System.err.println("CRITICAL: Failed to start JSON console appender. Keeping default logging.");
             }
@@ -116,4 +200,157 @@ public class ObsLoggingAutoConfiguration {
             e.printStackTrace();
         }
     }
+
+    private void installTailBuffering() {
+        try {
+            LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+            Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
+            ObsLoggingProperties.TailBuffer tailBuffer = props.getTailBuffer();
+
+            context.getTurboFilterList().stream()
+                    .filter(ObsTailCaptureTurboFilter.class::isInstance)
+                    .toList()
+                    .forEach(existing -> {
+                        existing.stop();
+                        context.getTurboFilterList().remove(existing);
+                    });
+
+            BooleanSupplier unsampled = tailBuffer.isIncludeUnsampledTraces()
+                    && ClassUtils.isPresent(ObsLoggingRuntimeHints.OTEL_SPAN, getClass().getClassLoader())
+                            ? OtelTraceSampling::isCurrentTraceUnsampled
+                            : () -> false;
+
+            // Wrap every root appender; the wrapper keeps the delegate's name
+            List<Appender<ILoggingEvent>> appenders = new ArrayList<>();
+            rootLogger.iteratorForAppenders().forEachRemaining(appenders::add);
+            for (Appender<ILoggingEvent> appender : appenders) {
+                if (appender instanceof ObsTailBufferingAppender) {
+                    continue;
+                }
+                ObsTailBufferingAppender wrapper = new ObsTailBufferingAppender(appender, tailBuffers, unsampled);
+                wrapper.setContext(context);
+                wrapper.setName(appender.getName());
+                wrapper.start();
+                rootLogger.detachAppender(appender);
+                rootLogger.addAppender(wrapper);
+            }
+
+            ObsTailCaptureTurboFilter filter = new ObsTailCaptureTurboFilter(tailBuffers);
+            filter.setContext(context);
+            filter.setName("OBS_TAIL_CAPTURE");
+            filter.setCaptureLevel(Level.toLevel(tailBuffer.getCaptureLevel(), Level.DEBUG));
+            filter.start();
+            context.addTurboFilter(filter);
+        } catch (Exception e) {
+            System.err.println("CRITICAL: Failed to install tail log buffering: " + e.getMessage());
+        }
+    }
+
+    private void installRateLimitFilter() {
+        try {
+            LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+            ObsLoggingProperties.RateLimit rateLimit = props.getRateLimit();
+
+            // Replace a filter left by a previous application context in the same JVM
+            context.getTurboFilterList().stream()
+                    .filter(ObsRateLimitTurboFilter.class::isInstance)
+                    .toList()
+                    .forEach(existing -> {
+                        existing.stop();
+                        context.getTurboFilterList().remove(existing);
+                    });
+
+            ObsRateLimitTurboFilter filter = new ObsRateLimitTurboFilter();
+            filter.setContext(context);
+            filter.setName("OBS_RATE_LIMIT");
+            filter.setWindow(rateLimit.getWindow());
+            filter.setMaxEventsPerWindow(rateLimit.getMaxEventsPerWindow());
+            filter.setMinLevel(Level.toLevel(rateLimit.getMinLevel(), Level.WARN));
+            filter.setMaxKeys(rateLimit.getMaxKeys());
+            filter.start();
+            context.addTurboFilter(filter);
+        } catch (Exception e) {
+            System.err.println("CRITICAL: Failed to install log rate limiting: " + e.getMessage());
+        }
+    }
+
+    private Appender<ILoggingEvent> createConsoleAppender(LoggerContext context, Encoder<ILoggingEvent> encoder) {
+        ObsLoggingProperties.Async async = props.getAsync();
+        if (async.isEnabled()) {
+            ObsAsyncConsoleAppender appender = new ObsAsyncConsoleAppender();
+            appender.setContext(context);
+            appender.setEncoder(encoder);
+            appender.setName("OBS_JSON_CONSOLE");
+            appender.setBufferSize(async.getBufferSize());
+            appender.setOverflowPolicy(async.getOverflowPolicy());
+            appender.setMaxBatchBytes(async.getMaxBatchBytes());
+            appender.setShutdownTimeout(async.getShutdownTimeout());
+            return appender;
+        }
+
+        ConsoleAppender<ILoggingEvent> appender = new ObsConsoleAppender();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setName("OBS_JSON_CONSOLE");
+        return appender;
+    }
+
+    /**
+     * Builds and starts the org-standard JSON encoder selected by
+     * {@code obs.logging.encoder}. Exposed separately so the exact production
+     * encoder can be exercised outside of the root logger (e.g. by the
+     * benchmarks module).
+     */
+    public Encoder<ILoggingEvent> createJsonEncoder(LoggerContext context) {
+        if (props.getEncoder() != ObsLoggingProperties.EncoderType.OBS) {
+            return createLogstashEncoder(context);
+        }
+
+        // Same schema and bytes, written without Jackson; Logstash handles markers/structured args,
+        // built on the first such event
+        ObsJsonEncoder encoder = new ObsJsonEncoder();
+        encoder.setContext(context);
+        encoder.setFallbackFactory(() -> createLogstashEncoder(context));
+        encoder.setIncludeMdcKeyNames(INCLUDED_MDC_KEYS);
+        encoder.addCustomField(ObsLogFields.SERVICE, serviceName);
+        encoder.addCustomField(ObsLogFields.ENV, env);
+        encoder.addCustomField(ObsLogFields.VERSION, version);
+        encoder.start();
+        return encoder;
+    }
+
+    /**
+     * Builds and starts the {@link LogstashEncoder} with org-standard field
+     * names. This is the reference output that {@link ObsJsonEncoder} matches.
+     */
+    public LogstashEncoder createLogstashEncoder(LoggerContext context) {
+        // Create JSON encoder with org-standard field names
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+
+        // Map standard fields to match ObsLogFields contract
+        LogstashFieldNames fieldNames = new LogstashFieldNames();
+        fieldNames.setTimestamp(ObsLogFields.TIMESTAMP);
+        fieldNames.setLevel(ObsLogFields.LEVEL);
+        fieldNames.setLogger("logger");
+        fieldNames.setThread("thread");
+        fieldNames.setMessage("message");
+        fieldNames.setStackTrace("stack_trace");
+        encoder.setFieldNames(fieldNames);
+
+        // Inject application metadata as custom fields, escaped by jackson-core (no ObjectMapper at startup)
+        encoder.setCustomFields("{" + jsonField(ObsLogFields.SERVICE, serviceName) + ","
+                + jsonField(ObsLogFields.ENV, env) + "," + jsonField(ObsLogFields.VERSION, version) + "}");
+
+        // Include MDC fields (correlation_id, trace_id, span_id) automatically
+        encoder.setIncludeMdcKeyNames(INCLUDED_MDC_KEYS);
+
+        encoder.start();
+        return encoder;
+    }
+
+    private static String jsonField(String name, String value) {
+        JsonStringEncoder json = JsonStringEncoder.getInstance();
+        return "\"" + new String(json.quoteAsString(name)) + "\":\"" + new String(json.quoteAsString(value)) + "\"";
+    }
 }
@@ -0,0 +1,77 @@
+package com.yourorg.observability.starter.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes what the logging pipeline costs and loses as
+ * {@code obs.internal.logging.*}: encoded events and bytes, the async
+ * appender's queue and drops, and the tail buffers' memory and outcomes.
+ * Parts that are not installed are skipped.
+ */
+public class ObsLoggingMetrics implements MeterBinder {
+
+    static final String METRIC_PREFIX = "obs.internal.logging";
+
+    private final ObsMeteredEncoder encoder;
+    private final ObsAsyncConsoleAppender asyncAppender;
+    private final ObsTailLogBuffers tailBuffers;
+
+    public ObsLoggingMetrics(ObsMeteredEncoder encoder, ObsAsyncConsoleAppender asyncAppender,
+            ObsTailLogBuffers tailBuffers) {
+        this.encoder = encoder;
+        this.asyncAppender = asyncAppender;
+        this.tailBuffers = tailBuffers;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (encoder != null) {
+            FunctionCounter.builder(METRIC_PREFIX + ".encoder.events", encoder, ObsMeteredEncoder::getEncodedEventCount)
+                    .description("Events encoded as JSON")
+                    .register(registry);
+            FunctionCounter.builder(METRIC_PREFIX + ".encoder.bytes", encoder, ObsMeteredEncoder::getEncodedBytes)
+                    .description("Bytes of JSON written by the encoder")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+        if (asyncAppender != null) {
+            Gauge.builder(METRIC_PREFIX + ".async.queue.size", asyncAppender, ObsAsyncConsoleAppender::getQueuedCount)
+                    .description("Events waiting for the writer thread")
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".async.queue.capacity", asyncAppender,
+                    ObsAsyncConsoleAppender::getBufferSize)
+                    .description("Configured size of the async appender buffer")
+                    .register(registry);
+            FunctionCounter.builder(METRIC_PREFIX + ".async.events.dropped", asyncAppender,
+                    ObsAsyncConsoleAppender::getDroppedCount)
+                    .description("Events dropped because the buffer was full")
+                    .register(registry);
+        }
+        if (tailBuffers != null) {
+            Gauge.builder(METRIC_PREFIX + ".tail.buffered.bytes", tailBuffers, ObsTailLogBuffers::getBufferedBytes)
+                    .description("Estimated memory held by request log buffers")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".tail.scopes", tailBuffers, ObsTailLogBuffers::getActiveScopeCount)
+                    .description("Requests with an open log buffer")
+                    .register(registry);
+            FunctionCounter.builder(METRIC_PREFIX + ".tail.events", tailBuffers,
+                    ObsTailLogBuffers::getFlushedEventCount)
+                    .description("Buffered events by outcome")
+                    .tag("outcome", "flushed")
+                    .register(registry);
+            FunctionCounter.builder(METRIC_PREFIX + ".tail.events", tailBuffers,
+                    ObsTailLogBuffers::getDiscardedEventCount)
+                    .description("Buffered events by outcome")
+                    .tag("outcome", "discarded")
+                    .register(registry);
+            FunctionCounter.builder(METRIC_PREFIX + ".tail.buffers.evicted", tailBuffers,
+                    ObsTailLogBuffers::getEvictedBufferCount)
+                    .description("Request buffers evicted to stay within the memory budget")
+                    .register(registry);
+        }
+    }
+}
@@ -2,6 +2,10 @@ package com.yourorg.observability.starter.logging;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "obs.logging")
 public class ObsLoggingProperties {
 
@@ -20,9 +24,190 @@ public class ObsLoggingProperties {
      */
     private LogFormat format = LogFormat.JSON;
 
+    public enum EncoderType {
+        LOGSTASH, OBS
+    }
+
+    /**
+     * JSON encoder: "logstash" (LogstashEncoder) or "obs" (ObsJsonEncoder,
+     * byte-compatible output without per-event Jackson/MDC copies).
+     */
+    private EncoderType encoder = EncoderType.LOGSTASH;
+
+    private final Async async = new Async();
+
+    private final RateLimit rateLimit = new RateLimit();
+
+    private final TailBuffer tailBuffer = new TailBuffer();
+
     public boolean isEnabled() { return enabled; }
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
 
     public LogFormat getFormat() { return format; }
     public void setFormat(LogFormat format) { this.format = format; }
+
+    public EncoderType getEncoder() { return encoder; }
+    public void setEncoder(EncoderType encoder) { this.encoder = encoder; }
+
+    public Async getAsync() { return async; }
+
+    public RateLimit getRateLimit() { return rateLimit; }
+
+    public TailBuffer getTailBuffer() { return tailBuffer; }
+
+    /**
+     * Hands JSON events to a background writer thread instead of writing to
+     * stdout on the logging thread (see {@link ObsAsyncConsoleAppender}).
+     */
+    public static class Async {
+        /**
+         * Enable the asynchronous console appender.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Events buffered between logging threads and the writer (at least 2,
+         * rounded up to a power of two).
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * What a logging thread does when the buffer is full.
+         */
+        private ObsAsyncConsoleAppender.OverflowPolicy overflowPolicy =
+                ObsAsyncConsoleAppender.OverflowPolicy.DROP_BELOW_WARN;
+
+        /**
+         * Encoded bytes accumulated before a single write to stdout.
+         */
+        private int maxBatchBytes = 64 * 1024;
+
+        /**
+         * How long shutdown waits for buffered events to be written.
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public int getBufferSize() { return bufferSize; }
+        public void setBufferSize(int bufferSize) {
+            if (bufferSize < 2) {
+                throw new IllegalArgumentException("obs.logging.async.buffer-size must be at least 2: " + bufferSize);
+            }
+            this.bufferSize = bufferSize;
+        }
+
+        public ObsAsyncConsoleAppender.OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+        public void setOverflowPolicy(ObsAsyncConsoleAppender.OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+
+        public int getMaxBatchBytes() { return maxBatchBytes; }
+        public void setMaxBatchBytes(int maxBatchBytes) { this.maxBatchBytes = maxBatchBytes; }
+
+        public Duration getShutdownTimeout() { return shutdownTimeout; }
+        public void setShutdownTimeout(Duration shutdownTimeout) { this.shutdownTimeout = shutdownTimeout; }
+    }
+
+    /**
+     * Burst suppression per (logger, message template, level); see
+     * {@link ObsRateLimitTurboFilter}.
+     */
+    public static class RateLimit {
+        /**
+         * Register the rate-limiting TurboFilter.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fixed window per key; also the interval between summary events.
+         */
+        private Duration window = Duration.ofSeconds(10);
+
+        /**
+         * Events per key allowed through in each window.
+         */
+        private int maxEventsPerWindow = 50;
+
+        /**
+         * Lowest level that is rate-limited (TRACE, DEBUG, INFO, WARN, ERROR).
+         */
+        private String minLevel = "WARN";
+
+        /**
+         * Distinct keys tracked at once; extra keys evict the oldest.
+         */
+        private int maxKeys = 1024;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public Duration getWindow() { return window; }
+        public void setWindow(Duration window) { this.window = window; }
+
+        public int getMaxEventsPerWindow() { return maxEventsPerWindow; }
+        public void setMaxEventsPerWindow(int maxEventsPerWindow) { this.maxEventsPerWindow = maxEventsPerWindow; }
+
+        public String getMinLevel() { return minLevel; }
+        public void setMinLevel(String minLevel) { this.minLevel = minLevel; }
+
+        public int getMaxKeys() { return maxKeys; }
+        public void setMaxKeys(int maxKeys) { this.maxKeys = maxKeys; }
+    }
+
+    /**
+     * Tail-based per-request buffering of below-threshold events; see
+     * {@link ObsTailLogBuffers}.
+     */
+    public static class TailBuffer {
+        /**
+         * Buffer below-threshold events per correlation id and write them only
+         * for failed requests.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Lowest level captured into the buffer (e.g. DEBUG or TRACE).
+         */
+        private String captureLevel = "DEBUG";
+
+        /**
+         * Events kept per request; older ones are dropped first.
+         */
+        private int maxEventsPerRequest = 256;
+
+        /**
+         * Estimated memory across all buffers before whole buffers are
+         * evicted, oldest request first.
+         */
+        private DataSize maxMemory = DataSize.ofMegabytes(16);
+
+        /**
+         * Response status at or above which a request counts as failed.
+         */
+        private int failureStatus = 500;
+
+        /**
+         * Also buffer at-threshold events of requests whose trace is not
+         * sampled, so they are written only when the request fails.
+         */
+        private boolean includeUnsampledTraces = false;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public String getCaptureLevel() { return captureLevel; }
+        public void setCaptureLevel(String captureLevel) { this.captureLevel = captureLevel; }
+
+        public int getMaxEventsPerRequest() { return maxEventsPerRequest; }
+        public void setMaxEventsPerRequest(int maxEventsPerRequest) { this.maxEventsPerRequest = maxEventsPerRequest; }
+
+        public DataSize getMaxMemory() { return maxMemory; }
+        public void setMaxMemory(DataSize maxMemory) { this.maxMemory = maxMemory; }
+
+        public int getFailureStatus() { return failureStatus; }
+        public void setFailureStatus(int failureStatus) { this.failureStatus = failureStatus; }
+
+        public boolean isIncludeUnsampledTraces() { return includeUnsampledTraces; }
+        public void setIncludeUnsampledTraces(boolean includeUnsampledTraces) { this.includeUnsampledTraces = includeUnsampledTraces; }
+    }
 }
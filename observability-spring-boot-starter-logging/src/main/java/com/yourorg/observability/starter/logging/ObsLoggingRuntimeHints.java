@@ -0,0 +1,36 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.core.ConsoleAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import net.logstash.logback.fieldnames.LogstashFieldNames;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Native-image hints for the logging starter.
+ *
+ * <p>
+ * The appenders, encoders and turbo filters are also meant to be referenced
+ * by class name from an application's Logback XML (see
+ * {@code logback-obs.xml}), where Joran instantiates them reflectively and
+ * calls their setters. The OpenTelemetry {@code Span} type is looked up by
+ * name before tail buffering decides whether to consult the trace's sampling
+ * flag.
+ * </p>
+ */
+class ObsLoggingRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String OTEL_SPAN = "io.opentelemetry.api.trace.Span";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern("logback-obs.xml");
+        hints.reflection().registerTypes(TypeReference.listOf(ObsJsonEncoder.class, ObsAsyncConsoleAppender.class,
+                ObsConsoleAppender.class, ObsRateLimitTurboFilter.class, ObsTailCaptureTurboFilter.class, ConsoleAppender.class,
+                LogstashEncoder.class, LogstashFieldNames.class),
+                type -> type.withMembers(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.reflection().registerType(TypeReference.of(OTEL_SPAN));
+    }
+}
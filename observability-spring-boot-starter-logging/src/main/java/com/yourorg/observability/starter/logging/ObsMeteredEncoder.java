@@ -0,0 +1,80 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.yourorg.observability.contract.ObsSampledTimer;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the events and bytes another encoder produces and times it with an
+ * {@link ObsSampledTimer}.
+ *
+ * <p>
+ * Installed around the JSON encoder of the console appender, so it measures
+ * whichever encoder {@code obs.logging.encoder} selects, on whichever thread
+ * encodes (the logging thread, or the writer thread of
+ * {@link ObsAsyncConsoleAppender}).
+ * </p>
+ */
+public class ObsMeteredEncoder extends EncoderBase<ILoggingEvent> {
+
+    private final Encoder<ILoggingEvent> delegate;
+    private final ObsSampledTimer timer;
+    private final LongAdder events = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    public ObsMeteredEncoder(Encoder<ILoggingEvent> delegate, ObsSampledTimer timer) {
+        this.delegate = delegate;
+        this.timer = timer;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        long start = timer.start();
+        byte[] encoded = delegate.encode(event);
+        timer.stop(start);
+        events.increment();
+        if (encoded != null) {
+            bytes.add(encoded.length);
+        }
+        return encoded;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return delegate.headerBytes();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return delegate.footerBytes();
+    }
+
+    @Override
+    public void start() {
+        if (!delegate.isStarted()) {
+            delegate.start();
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        delegate.stop();
+        super.stop();
+    }
+
+    public Encoder<ILoggingEvent> getDelegate() {
+        return delegate;
+    }
+
+    public long getEncodedEventCount() {
+        return events.sum();
+    }
+
+    public long getEncodedBytes() {
+        return bytes.sum();
+    }
+}
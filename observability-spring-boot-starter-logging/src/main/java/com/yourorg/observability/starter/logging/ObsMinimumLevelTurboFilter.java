@@ -0,0 +1,33 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * Denies every event below a minimum level, across all loggers, until the
+ * minimum is cleared.
+ *
+ * <p>
+ * Meant for shedding load at runtime without touching logger levels:
+ * turbo filters also answer {@code isDebugEnabled()} / {@code isInfoEnabled()},
+ * so guarded call sites skip building their messages. With no minimum set
+ * the filter is neutral and costs one volatile read per event.
+ * </p>
+ */
+public class ObsMinimumLevelTurboFilter extends TurboFilter {
+
+    private volatile Level minimum;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        Level current = minimum;
+        return current != null && !level.isGreaterOrEqual(current) ? FilterReply.DENY : FilterReply.NEUTRAL;
+    }
+
+    public Level getMinimum() { return minimum; }
+    public void setMinimum(Level minimum) { this.minimum = minimum; }
+}
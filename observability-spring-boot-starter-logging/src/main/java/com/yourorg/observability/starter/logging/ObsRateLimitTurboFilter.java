@@ -0,0 +1,206 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suppresses log bursts per (logger, message template, level).
+ *
+ * <p>
+ * Each key gets a fixed window of {@code window}; the first
+ * {@code maxEventsPerWindow} events pass and the rest are denied and counted.
+ * Keys live in a bounded table of {@code maxKeys} slots; a key may use one of
+ * two slots (two hash functions), and when both are taken by other keys the
+ * one whose window started earlier is evicted. Lookups compare the template
+ * by reference first, so the steady state allocates nothing.
+ * </p>
+ *
+ * <p>
+ * A sweeper thread runs once per window and, for every key that suppressed
+ * events, logs one summary event on the original logger and level, marked
+ * with {@link #SUMMARY_MARKER} (which this filter always lets through).
+ * Summaries are emitted from the sweeper so they do not inherit the MDC of
+ * whichever request happened to close the window.
+ * </p>
+ *
+ * <p>
+ * Only events at or above {@code minLevel} that the logger would actually
+ * emit are counted; {@code isXxxEnabled()} checks are never affected.
+ * </p>
+ */
+public class ObsRateLimitTurboFilter extends TurboFilter {
+
+    public static final Marker SUMMARY_MARKER = MarkerFactory.getMarker("OBS_RATE_LIMIT_SUMMARY");
+
+    private static final String FQCN = ObsRateLimitTurboFilter.class.getName();
+
+    private Duration window = Duration.ofSeconds(10);
+    private int maxEventsPerWindow = 50;
+    private Level minLevel = Level.WARN;
+    private int maxKeys = 1024;
+
+    private long windowNanos;
+    private int mask;
+    private AtomicReferenceArray<Slot> slots;
+    private final LongAdder evictedSuppressed = new LongAdder();
+    private ScheduledExecutorService sweeper;
+
+    @Override
+    public void start() {
+        windowNanos = window.toNanos();
+        int size = Math.max(2, Integer.highestOneBit(Math.max(1, maxKeys - 1)) << 1);
+        mask = size - 1;
+        slots = new AtomicReferenceArray<>(size);
+
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "obs-log-rate-limit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, window.toMillis());
+        sweeper.scheduleAtFixedRate(this::sweep, period, period, TimeUnit.MILLISECONDS);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || level == null || !isStarted() || marker == SUMMARY_MARKER) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!level.isGreaterOrEqual(minLevel) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Slot slot = slotFor(logger, format, level);
+        long now = System.nanoTime();
+        long start = slot.windowStart.get();
+        if (now - start >= windowNanos && slot.windowStart.compareAndSet(start, now)) {
+            slot.count.set(0);
+        }
+
+        if (slot.count.get() < maxEventsPerWindow && slot.count.incrementAndGet() <= maxEventsPerWindow) {
+            return FilterReply.NEUTRAL;
+        }
+        slot.suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    private Slot slotFor(Logger logger, String format, Level level) {
+        int hash = (System.identityHashCode(logger) * 31 + format.hashCode()) * 31 + level.levelInt;
+        hash ^= hash >>> 16;
+        int first = hash & mask;
+        int second = (hash * 0x9E3779B9 >>> 16) & mask;
+
+        Slot a = slots.get(first);
+        if (a != null && a.matches(logger, format, level)) {
+            return a;
+        }
+        Slot b = slots.get(second);
+        if (b != null && b.matches(logger, format, level)) {
+            return b;
+        }
+
+        int index;
+        Slot victim;
+        if (a == null || (b != null && a.windowStart.get() - b.windowStart.get() <= 0)) {
+            index = first;
+            victim = a;
+        } else {
+            index = second;
+            victim = b;
+        }
+        Slot created = new Slot(logger, format, level, System.nanoTime() - windowNanos);
+        if (slots.compareAndSet(index, victim, created)) {
+            if (victim != null) {
+                evictedSuppressed.add(victim.suppressed.sumThenReset());
+            }
+            return created;
+        }
+        // Lost the race to another thread; use whatever is there if it is ours
+        Slot current = slots.get(index);
+        return current != null && current.matches(logger, format, level) ? current : created;
+    }
+
+    /**
+     * Emits one summary event per key that suppressed events since the last
+     * sweep and drops keys that have been idle for two windows.
+     */
+    void sweep() {
+        long now = System.nanoTime();
+        long intervalMs = window.toMillis();
+        for (int i = 0; i < slots.length(); i++) {
+            Slot slot = slots.get(i);
+            if (slot == null) {
+                continue;
+            }
+            long suppressed = slot.suppressed.sumThenReset();
+            if (suppressed > 0) {
+                slot.logger.log(SUMMARY_MARKER, FQCN, Level.toLocationAwareLoggerInteger(slot.level),
+                        "Suppressed {} repeated {} events in the last {} ms: {}",
+                        new Object[] { suppressed, slot.level, intervalMs, slot.format }, null);
+            } else if (now - slot.windowStart.get() >= 2 * windowNanos) {
+                slots.compareAndSet(i, slot, null);
+            }
+        }
+
+        long evicted = evictedSuppressed.sumThenReset();
+        if (evicted > 0) {
+            addWarn("Suppressed " + evicted + " log events for keys evicted from the rate-limit table; "
+                    + "consider raising obs.logging.rate-limit.max-keys");
+        }
+    }
+
+    public Duration getWindow() { return window; }
+    public void setWindow(Duration window) { this.window = window; }
+
+    public int getMaxEventsPerWindow() { return maxEventsPerWindow; }
+    public void setMaxEventsPerWindow(int maxEventsPerWindow) { this.maxEventsPerWindow = maxEventsPerWindow; }
+
+    public Level getMinLevel() { return minLevel; }
+    public void setMinLevel(Level minLevel) { this.minLevel = minLevel; }
+
+    public int getMaxKeys() { return maxKeys; }
+    public void setMaxKeys(int maxKeys) { this.maxKeys = maxKeys; }
+
+    private static final class Slot {
+        final Logger logger;
+        final String format;
+        final Level level;
+        final AtomicLong windowStart;
+        final AtomicInteger count = new AtomicInteger();
+        final LongAdder suppressed = new LongAdder();
+
+        Slot(Logger logger, String format, Level level, long windowStart) {
+            this.logger = logger;
+            this.format = format;
+            this.level = level;
+            this.windowStart = new AtomicLong(windowStart);
+        }
+
+        boolean matches(Logger logger, String format, Level level) {
+            return this.logger == logger && this.level == level
+                    && (this.format == format || this.format.equals(format));
+        }
+    }
+}
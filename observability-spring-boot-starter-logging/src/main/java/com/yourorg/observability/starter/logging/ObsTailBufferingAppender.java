@@ -0,0 +1,98 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import com.yourorg.observability.contract.ObsMdcKeys;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Wraps an output appender and diverts per-request events into
+ * {@link ObsTailLogBuffers}.
+ *
+ * <p>
+ * Events below their logger's effective level that
+ * {@link ObsTailCaptureTurboFilter} admitted are buffered, or dropped if
+ * their request has no open buffer. Below-threshold events accepted by other
+ * turbo filters (a {@code MarkerFilter}, a {@code DynamicThresholdFilter})
+ * are treated like any other event. With {@code bufferUnsampled}, events of
+ * requests whose current trace is not sampled are buffered as well, so such
+ * requests only reach the output when they fail. An ERROR event flushes its
+ * request's buffer ahead of itself. Everything else goes straight to the
+ * delegate. Each wrapper registers its delegate as a sink, so a flush
+ * reaches every wrapped appender.
+ * </p>
+ */
+public class ObsTailBufferingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private final Appender<ILoggingEvent> delegate;
+    private final ObsTailLogBuffers buffers;
+    private final BooleanSupplier unsampled;
+    private final Consumer<ILoggingEvent> sink;
+
+    public ObsTailBufferingAppender(Appender<ILoggingEvent> delegate, ObsTailLogBuffers buffers,
+            BooleanSupplier unsampled) {
+        this.delegate = delegate;
+        this.buffers = buffers;
+        this.unsampled = unsampled;
+        this.sink = delegate::doAppend;
+    }
+
+    @Override
+    public void start() {
+        buffers.addSink(sink);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        buffers.removeSink(sink);
+        delegate.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        boolean captured = isBelowThreshold(event) && buffers.isAdmitted(event);
+        if (!buffers.hasActiveScopes()) {
+            if (!captured) {
+                delegate.doAppend(event);
+            }
+            return;
+        }
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        String correlationId = mdc != null ? mdc.get(ObsMdcKeys.CORRELATION_ID) : null;
+        if (correlationId == null) {
+            if (!captured) {
+                delegate.doAppend(event);
+            }
+            return;
+        }
+
+        if (event.getLevel().isGreaterOrEqual(Level.ERROR)) {
+            buffers.flush(correlationId);
+        } else if (captured || unsampled.getAsBoolean()) {
+            if (buffers.offer(correlationId, event) || (captured && !buffers.isActive(correlationId))) {
+                return;
+            }
+        }
+        delegate.doAppend(event);
+    }
+
+    private boolean isBelowThreshold(ILoggingEvent event) {
+        if (!(getContext() instanceof LoggerContext loggerContext)) {
+            return false;
+        }
+        return !event.getLevel().isGreaterOrEqual(loggerContext.getLogger(event.getLoggerName()).getEffectiveLevel());
+    }
+
+    public Appender<ILoggingEvent> getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,51 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Lets below-threshold events through the logger level check while a
+ * correlated request is in flight, so {@link ObsTailBufferingAppender} can
+ * hold them.
+ *
+ * <p>
+ * Events at or above the logger's effective level, or below
+ * {@code captureLevel}, are left alone ({@code NEUTRAL}). Otherwise the
+ * filter answers {@code ACCEPT} only if the current MDC carries a
+ * correlation id with an open buffer — which also makes
+ * {@code isDebugEnabled()} true inside such requests. Each call it accepts is
+ * recorded in {@link ObsTailLogBuffers}, so the appender can tell captured
+ * events from ones other turbo filters accepted.
+ * </p>
+ */
+public class ObsTailCaptureTurboFilter extends TurboFilter {
+
+    private final ObsTailLogBuffers buffers;
+    private Level captureLevel = Level.DEBUG;
+
+    public ObsTailCaptureTurboFilter(ObsTailLogBuffers buffers) {
+        this.buffers = buffers;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || !isStarted() || level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !level.isGreaterOrEqual(captureLevel) || !buffers.hasActiveScopes()) {
+            return FilterReply.NEUTRAL;
+        }
+        String correlationId = MDC.get(ObsMdcKeys.CORRELATION_ID);
+        if (correlationId == null || !buffers.isActive(correlationId)) {
+            return FilterReply.NEUTRAL;
+        }
+        buffers.admit(logger.getName(), level, format);
+        return FilterReply.ACCEPT;
+    }
+
+    public Level getCaptureLevel() { return captureLevel; }
+    public void setCaptureLevel(Level captureLevel) { this.captureLevel = captureLevel; }
+}
@@ -0,0 +1,356 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import com.yourorg.observability.contract.CorrelationScopeListener;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Per-request log buffers keyed by correlation id.
+ *
+ * <p>
+ * A buffer exists while the request's correlation scope is open. Events
+ * routed here by {@link ObsTailBufferingAppender} are held (at most
+ * {@code maxEventsPerRequest}, oldest dropped first) and either flushed to
+ * the output — when the request ends with a status at or above
+ * {@code failureStatus}, an escaping exception, or when an ERROR is logged —
+ * or discarded when the request ends normally. After a flush the request is
+ * "interesting" and its remaining events pass straight through.
+ * </p>
+ *
+ * <p>
+ * All buffers share a memory budget ({@code maxTotalBytes}, estimated per
+ * event). When it is exceeded, whole buffers are evicted oldest request
+ * first; an evicted request keeps discarding until it ends.
+ * </p>
+ *
+ * <p>
+ * Every wrapped root appender registers its delegate as a sink. An event
+ * that reaches several wrappers is buffered once (the outcome of the first
+ * {@link #offer} is replayed for the same event on the same thread) and a
+ * flush writes it to every sink.
+ * </p>
+ *
+ * <p>
+ * {@link ObsTailCaptureTurboFilter} records each below-threshold call it
+ * admits ({@link #admit}), so the appender only holds back events that exist
+ * because of tail capture. Events other turbo filters accept are written as
+ * usual.
+ * </p>
+ */
+public class ObsTailLogBuffers implements CorrelationScopeListener {
+
+    private final Map<String, RequestBuffer> active = new ConcurrentHashMap<>();
+    private final int maxEventsPerRequest;
+    private volatile long maxTotalBytes;
+    private final int failureStatus;
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final LongAdder flushedEvents = new LongAdder();
+    private final LongAdder discardedEvents = new LongAdder();
+    private final LongAdder evictedBuffers = new LongAdder();
+    private final List<Consumer<ILoggingEvent>> sinks = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<LastOffer> lastOffer = new ThreadLocal<>();
+    private final ThreadLocal<Admission> admission = new ThreadLocal<>();
+
+    public ObsTailLogBuffers(int maxEventsPerRequest, long maxTotalBytes, int failureStatus) {
+        this.maxEventsPerRequest = maxEventsPerRequest;
+        this.maxTotalBytes = maxTotalBytes;
+        this.failureStatus = failureStatus;
+    }
+
+    @Override
+    public void onScopeStart(String correlationId) {
+        active.compute(correlationId, (id, existing) -> existing != null ? existing.retain() : new RequestBuffer());
+    }
+
+    @Override
+    public void onScopeEnd(String correlationId, int status, Throwable error) {
+        lastOffer.remove();
+        admission.remove();
+        RequestBuffer buffer = active.get(correlationId);
+        if (buffer == null) {
+            return;
+        }
+        if (error != null || status >= failureStatus) {
+            flush(buffer);
+        }
+        // Same id may be in flight on concurrent requests (client retries)
+        active.computeIfPresent(correlationId, (id, existing) -> existing.release() ? null : existing);
+        if (buffer.isReleased()) {
+            release(buffer.discard());
+        }
+    }
+
+    /**
+     * Records that the capture filter let a below-threshold logging call
+     * through on this thread.
+     */
+    void admit(String loggerName, Level level, String format) {
+        admission.set(new Admission(loggerName, level, format));
+    }
+
+    /**
+     * Whether {@code event} comes from the call last admitted on this
+     * thread. The first matching event is bound to the admission, so every
+     * wrapper gets the same answer for it and no later event matches.
+     */
+    boolean isAdmitted(ILoggingEvent event) {
+        Admission last = admission.get();
+        return last != null && last.matches(event);
+    }
+
+    boolean hasActiveScopes() {
+        return !active.isEmpty();
+    }
+
+    boolean isActive(String correlationId) {
+        return active.containsKey(correlationId);
+    }
+
+    /**
+     * Holds {@code event} for later.
+     *
+     * @return {@code false} if the caller should write the event now (no open
+     * scope, or the request was already flushed)
+     */
+    boolean offer(String correlationId, ILoggingEvent event) {
+        LastOffer last = lastOffer.get();
+        if (last != null && last.event == event) {
+            return last.held;
+        }
+        boolean held = hold(correlationId, event);
+        lastOffer.set(new LastOffer(event, held));
+        return held;
+    }
+
+    private boolean hold(String correlationId, ILoggingEvent event) {
+        RequestBuffer buffer = active.get(correlationId);
+        if (buffer == null) {
+            return false;
+        }
+        event.prepareForDeferredProcessing();
+        long size = estimateSize(event);
+        int outcome = buffer.add(event, size, maxEventsPerRequest);
+        if (outcome == RequestBuffer.PASS_THROUGH) {
+            return false;
+        }
+        if (outcome == RequestBuffer.DROPPED) {
+            discardedEvents.increment();
+            return true;
+        }
+        if (bufferedBytes.addAndGet(size - buffer.takeReleasedBytes()) > maxTotalBytes) {
+            evictOldest();
+        }
+        return true;
+    }
+
+    /**
+     * Writes everything buffered for {@code correlationId} and lets the rest
+     * of the request through unbuffered.
+     */
+    void flush(String correlationId) {
+        RequestBuffer buffer = active.get(correlationId);
+        if (buffer != null) {
+            flush(buffer);
+        }
+    }
+
+    private void flush(RequestBuffer buffer) {
+        long released = buffer.flushTo(this::writeToSinks, flushedEvents);
+        release(released);
+    }
+
+    private void release(long bytes) {
+        if (bytes > 0) {
+            bufferedBytes.addAndGet(-bytes);
+        }
+    }
+
+    private void evictOldest() {
+        while (bufferedBytes.get() > maxTotalBytes) {
+            RequestBuffer oldest = null;
+            for (RequestBuffer candidate : active.values()) {
+                if (candidate.isEvictable() && (oldest == null || candidate.startNanos - oldest.startNanos < 0)) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            long[] evicted = oldest.evict();
+            discardedEvents.add(evicted[0]);
+            release(evicted[1]);
+            evictedBuffers.increment();
+        }
+    }
+
+    private static long estimateSize(ILoggingEvent event) {
+        String message = event.getFormattedMessage();
+        long size = 256 + (message != null ? 2L * message.length() : 0);
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            size += 128L * throwable.getStackTraceElementProxyArray().length;
+        }
+        return size;
+    }
+
+    private void writeToSinks(ILoggingEvent event) {
+        for (Consumer<ILoggingEvent> sink : sinks) {
+            sink.accept(event);
+        }
+    }
+
+    void addSink(Consumer<ILoggingEvent> sink) {
+        sinks.add(sink);
+    }
+
+    void removeSink(Consumer<ILoggingEvent> sink) {
+        sinks.remove(sink);
+    }
+
+    public long getMaxTotalBytes() {
+        return maxTotalBytes;
+    }
+
+    /**
+     * Changes the memory budget at runtime; lowering it evicts the oldest
+     * request buffers until the buffered estimate fits.
+     */
+    public void setMaxTotalBytes(long maxTotalBytes) {
+        this.maxTotalBytes = maxTotalBytes;
+        evictOldest();
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    public long getFlushedEventCount() {
+        return flushedEvents.sum();
+    }
+
+    public long getDiscardedEventCount() {
+        return discardedEvents.sum();
+    }
+
+    public long getEvictedBufferCount() {
+        return evictedBuffers.sum();
+    }
+
+    public int getActiveScopeCount() {
+        return active.size();
+    }
+
+    private record LastOffer(ILoggingEvent event, boolean held) {
+    }
+
+    private static final class Admission {
+        private final String loggerName;
+        private final Level level;
+        private final String format;
+        private ILoggingEvent event;
+
+        Admission(String loggerName, Level level, String format) {
+            this.loggerName = loggerName;
+            this.level = level;
+            this.format = format;
+        }
+
+        boolean matches(ILoggingEvent candidate) {
+            if (event != null) {
+                return event == candidate;
+            }
+            if (candidate.getLevel() == level && candidate.getMessage() == format
+                    && loggerName.equals(candidate.getLoggerName())) {
+                event = candidate;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class RequestBuffer {
+        static final int BUFFERED = 0;
+        static final int PASS_THROUGH = 1;
+        static final int DROPPED = 2;
+
+        final long startNanos = System.nanoTime();
+        private final ArrayDeque<ILoggingEvent> events = new ArrayDeque<>();
+        private int refs = 1;
+        private long bytes;
+        private long releasedBytes;
+        private boolean flushed;
+        private boolean evicted;
+
+        synchronized RequestBuffer retain() {
+            refs++;
+            return this;
+        }
+
+        synchronized boolean release() {
+            return --refs == 0;
+        }
+
+        synchronized boolean isReleased() {
+            return refs == 0;
+        }
+
+        synchronized boolean isEvictable() {
+            return !flushed && !evicted && bytes > 0;
+        }
+
+        synchronized int add(ILoggingEvent event, long size, int maxEvents) {
+            if (flushed) {
+                return PASS_THROUGH;
+            }
+            if (evicted) {
+                return DROPPED;
+            }
+            if (events.size() >= maxEvents) {
+                long dropped = estimateSize(events.pollFirst());
+                bytes -= dropped;
+                releasedBytes += dropped;
+            }
+            events.addLast(event);
+            bytes += size;
+            return BUFFERED;
+        }
+
+        synchronized long takeReleasedBytes() {
+            long released = releasedBytes;
+            releasedBytes = 0;
+            return released;
+        }
+
+        synchronized long flushTo(Consumer<ILoggingEvent> sink, LongAdder counter) {
+            flushed = true;
+            counter.add(events.size());
+            for (ILoggingEvent event : events) {
+                sink.accept(event);
+            }
+            return discard();
+        }
+
+        synchronized long discard() {
+            long released = bytes;
+            events.clear();
+            bytes = 0;
+            return released;
+        }
+
+        synchronized long[] evict() {
+            evicted = true;
+            long count = events.size();
+            return new long[] { count, discard() };
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.yourorg.observability.starter.logging;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+
+/**
+ * Reads the sampling decision of the current OpenTelemetry span. Only loaded
+ * when {@code opentelemetry-api} is on the classpath.
+ */
+final class OtelTraceSampling {
+
+    private OtelTraceSampling() {
+    }
+
+    static boolean isCurrentTraceUnsampled() {
+        SpanContext spanContext = Span.current().getSpanContext();
+        return spanContext.isValid() && !spanContext.isSampled();
+    }
+}
@@ -0,0 +1,197 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsAsyncConsoleAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private ObsAsyncConsoleAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        if (appender != null) {
+            appender.stop();
+        }
+        context.stop();
+    }
+
+    @Test
+    void writesEveryEventInOrderAndFlushesOnStop() {
+        appender = appender(1024, ObsAsyncConsoleAppender.OverflowPolicy.BLOCK, out);
+
+        for (int i = 0; i < 500; i++) {
+            appender.doAppend(event(Level.INFO, "line-" + i));
+        }
+        appender.stop();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(500);
+        assertThat(lines[0]).isEqualTo("INFO line-0");
+        assertThat(lines[499]).isEqualTo("INFO line-499");
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void doesNotStartWithASingleSlotBuffer() {
+        appender = appender(1, ObsAsyncConsoleAppender.OverflowPolicy.BLOCK, out);
+
+        assertThat(appender.isStarted()).isFalse();
+        assertThat(context.getStatusManager().getCopyOfStatusList())
+                .anySatisfy(status -> assertThat(status.getMessage()).startsWith("bufferSize must be at least 2"));
+    }
+
+    @Test
+    void dropBelowWarnDiscardsInfoWhenFullButKeepsErrors() throws Exception {
+        StalledStream stalled = new StalledStream();
+        appender = appender(2, ObsAsyncConsoleAppender.OverflowPolicy.DROP_BELOW_WARN, stalled);
+
+        appender.doAppend(event(Level.INFO, "taken-by-writer"));
+        assertThat(stalled.writing.await(5, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(event(Level.INFO, "buffered-1"));
+        appender.doAppend(event(Level.INFO, "buffered-2"));
+        appender.doAppend(event(Level.INFO, "dropped-1"));
+        appender.doAppend(event(Level.DEBUG, "dropped-2"));
+
+        assertThat(appender.getDroppedCount()).isEqualTo(2);
+
+        Thread error = new Thread(() -> appender.doAppend(event(Level.ERROR, "must-survive")));
+        error.start();
+        stalled.release.countDown();
+        error.join(5_000);
+        appender.stop();
+
+        String written = stalled.captured.toString(StandardCharsets.UTF_8);
+        assertThat(written).contains("buffered-1", "buffered-2", "ERROR must-survive")
+                .doesNotContain("dropped-1", "dropped-2");
+    }
+
+    @Test
+    void dropOldestKeepsMostRecentEvents() throws Exception {
+        StalledStream stalled = new StalledStream();
+        appender = appender(2, ObsAsyncConsoleAppender.OverflowPolicy.DROP_OLDEST, stalled);
+
+        appender.doAppend(event(Level.INFO, "taken-by-writer"));
+        assertThat(stalled.writing.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 5; i++) {
+            appender.doAppend(event(Level.INFO, "event-" + i));
+        }
+
+        assertThat(appender.getDroppedCount()).isEqualTo(3);
+
+        stalled.release.countDown();
+        appender.stop();
+
+        String written = stalled.captured.toString(StandardCharsets.UTF_8);
+        assertThat(written).contains("event-3", "event-4").doesNotContain("event-0", "event-2");
+    }
+
+    @Test
+    void reportsAppendAsJfrEventWithMdcIds(@TempDir Path dir) throws Exception {
+        appender = appender(1024, ObsAsyncConsoleAppender.OverflowPolicy.BLOCK, out);
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerContext(context);
+        event.setLoggerName("test");
+        event.setLevel(Level.WARN);
+        event.setMessage("slow");
+        event.setMDCPropertyMap(Map.of("correlation_id", "cid-7", "trace_id", "t-1", "span_id", "s-1"));
+
+        Path file = dir.resolve("append.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ObsLogAppendEvent.class).withoutThreshold();
+            recording.start();
+            appender.doAppend(event);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals(ObsLogAppendEvent.NAME))
+                .toList();
+        assertThat(events).singleElement().satisfies(recorded -> {
+            assertThat(recorded.getString("correlationId")).isEqualTo("cid-7");
+            assertThat(recorded.getString("traceId")).isEqualTo("t-1");
+            assertThat(recorded.getString("spanId")).isEqualTo("s-1");
+            assertThat(recorded.getString("level")).isEqualTo("WARN");
+            assertThat(recorded.getString("appender")).isEqualTo("TEST_ASYNC");
+            assertThat(recorded.getBoolean("async")).isTrue();
+        });
+    }
+
+    private ObsAsyncConsoleAppender appender(int bufferSize, ObsAsyncConsoleAppender.OverflowPolicy policy,
+            OutputStream target) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%level %msg%n");
+        encoder.start();
+
+        ObsAsyncConsoleAppender async = new ObsAsyncConsoleAppender();
+        async.setContext(context);
+        async.setName("TEST_ASYNC");
+        async.setEncoder(encoder);
+        async.setBufferSize(bufferSize);
+        async.setOverflowPolicy(policy);
+        async.setMaxBatchBytes(1);
+        async.setOutputStream(target);
+        async.start();
+        return async;
+    }
+
+    private ILoggingEvent event(Level level, String message) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerContext(context);
+        event.setLoggerName("test");
+        event.setLevel(level);
+        event.setMessage(message);
+        event.setTimeStamp(System.currentTimeMillis());
+        event.setMDCPropertyMap(Map.of());
+        return event;
+    }
+
+    /**
+     * Blocks the writer thread inside its first write until released, like a
+     * full stdout pipe.
+     */
+    private static final class StalledStream extends OutputStream {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int off, int len) {
+            writing.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            captured.write(bytes, off, len);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.yourorg.observability.contract.ObsLogFields;
+import net.logstash.logback.argument.StructuredArguments;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MarkerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsJsonEncoderTest {
+
+    private LoggerContext context;
+    private Encoder<ILoggingEvent> reference;
+    private Encoder<ILoggingEvent> encoder;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.putProperty("region", "eu-west-1");
+        ObsLoggingProperties props = new ObsLoggingProperties();
+        props.setEncoder(ObsLoggingProperties.EncoderType.OBS);
+        ObsLoggingAutoConfiguration config = new ObsLoggingAutoConfiguration(props, "orders \"svc\"", "prod", "1.2.3");
+
+        reference = config.createLogstashEncoder(context);
+        encoder = config.createJsonEncoder(context);
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.stop();
+        reference.stop();
+        context.stop();
+    }
+
+    @Test
+    void createsObsEncoderWhenSelected() {
+        assertThat(encoder).isInstanceOf(ObsJsonEncoder.class);
+    }
+
+    @Test
+    void matchesLogstashForRequestScopedEvent() {
+        Map<String, String> mdc = new HashMap<>();
+        mdc.put(ObsLogFields.CORRELATION_ID, "3f2b8c1e-5d4a-4e7b-9c6d-0a1b2c3d4e5f");
+        mdc.put(ObsLogFields.TRACE_ID, "4bf92f3577b34da6a3ce929d0e0e4736");
+        mdc.put(ObsLogFields.SPAN_ID, "00f067aa0ba902b7");
+        mdc.put(ObsLogFields.HTTP_ROUTE, "/orders/{id}");
+        mdc.put("not_included", "ignored");
+
+        LoggingEvent event = event(Level.INFO, "Order {} loaded in {} ms", 1700000000123L, mdc);
+        event.setArgumentArray(new Object[] { 1042, 7 });
+
+        assertSameBytes(event);
+    }
+
+    @Test
+    void matchesLogstashForTimestampFractions() {
+        for (long millis : new long[] { 0, 1, 10, 100, 120, 999 }) {
+            assertSameBytes(event(Level.DEBUG, "tick", 1700000000000L + millis, Map.of()));
+        }
+    }
+
+    @Test
+    void matchesLogstashForSubMillisecondInstants() {
+        for (int nanos : new int[] { 1, 120_000, 123_456, 123_456_789, 500_000_000 }) {
+            LoggingEvent event = event(Level.DEBUG, "tick", 0L, Map.of());
+            event.setInstant(Instant.ofEpochSecond(1700000000L, nanos));
+            assertSameBytes(event);
+        }
+        LoggingEvent event = event(Level.DEBUG, "tick", 0L, Map.of());
+        event.setInstant(Instant.ofEpochSecond(1700000000L, 123_456_789));
+        assertThat(new String(encoder.encode(event), StandardCharsets.UTF_8)).contains(".123456789");
+    }
+
+    @Test
+    void matchesLogstashEscaping() {
+        Map<String, String> mdc = new LinkedHashMap<>();
+        mdc.put(ObsLogFields.HTTP_METHOD, null);
+        mdc.put(ObsLogFields.CORRELATION_ID, "a\"b\\c");
+
+        LoggingEvent event = event(Level.WARN,
+                "quote \" backslash \\ tab \t nl \n ctl \u0001 del \u007f é   emoji 😀 </tag>",
+                1700000000500L, mdc, "worker\t\"1\"");
+
+        assertSameBytes(event);
+    }
+
+    @Test
+    void matchesLogstashForExceptions() {
+        LoggingEvent event = event(Level.ERROR, "failed", 1700000000042L, Map.of(ObsLogFields.TRACE_ID, "abc"));
+        event.setThrowableProxy(new ThrowableProxy(
+                new IllegalStateException("outer", new IllegalArgumentException("inner"))));
+
+        assertSameBytes(event);
+    }
+
+    @Test
+    void delegatesMarkersAndStructuredArguments() {
+        LoggingEvent marked = event(Level.INFO, "audit", 1700000000001L, Map.of());
+        marked.addMarker(MarkerFactory.getMarker("AUDIT"));
+        assertSameBytes(marked);
+
+        LoggingEvent structured = event(Level.INFO, "order {}", 1700000000001L, Map.of());
+        structured.setArgumentArray(new Object[] { StructuredArguments.kv("order_id", 42) });
+        assertSameBytes(structured);
+        assertThat(new String(encoder.encode(structured), StandardCharsets.UTF_8)).contains("\"order_id\":42");
+    }
+
+    @Test
+    void buildsFallbackOnFirstEventThatNeedsIt() {
+        assertThat(((ObsJsonEncoder) encoder).getFallback()).isNull();
+
+        encoder.encode(event(Level.INFO, "plain", 1700000000001L, Map.of()));
+        assertThat(((ObsJsonEncoder) encoder).getFallback()).isNull();
+
+        LoggingEvent marked = event(Level.INFO, "audit", 1700000000001L, Map.of());
+        marked.addMarker(MarkerFactory.getMarker("AUDIT"));
+        assertSameBytes(marked);
+        assertThat(((ObsJsonEncoder) encoder).getFallback()).isInstanceOf(LogstashEncoder.class);
+    }
+
+    private void assertSameBytes(ILoggingEvent event) {
+        String expected = new String(reference.encode(event), StandardCharsets.UTF_8);
+        String actual = new String(encoder.encode(event), StandardCharsets.UTF_8);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private LoggingEvent event(Level level, String message, long timestamp, Map<String, String> mdc) {
+        return event(level, message, timestamp, mdc, "http-nio-8080-exec-1");
+    }
+
+    private LoggingEvent event(Level level, String message, long timestamp, Map<String, String> mdc, String thread) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerContext(context);
+        event.setLoggerName("com.yourorg.orders.OrderController");
+        event.setThreadName(thread);
+        event.setLevel(level);
+        event.setMessage(message);
+        event.setTimeStamp(timestamp);
+        event.setMDCPropertyMap(mdc);
+        return event;
+    }
+}
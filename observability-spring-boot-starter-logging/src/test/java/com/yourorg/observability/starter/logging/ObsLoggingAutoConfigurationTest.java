@@ -1,6 +1,12 @@
 package com.yourorg.observability.starter.logging;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import com.yourorg.observability.contract.ObsSampledTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
@@ -33,4 +39,86 @@ class ObsLoggingAutoConfigurationTest {
                 .run(context -> assertThat(context)
                         .hasSingleBean(ObsLoggingAutoConfiguration.class));
     }
+
+    @Test
+    void asyncAppenderReplacesConsoleAppenderWhenEnabled() {
+        contextRunner
+                .withPropertyValues("obs.logging.async.enabled=true",
+                        "obs.logging.async.buffer-size=1024",
+                        "obs.logging.async.overflow-policy=drop-oldest")
+                .run(context -> {
+                    assertThat(rootAppender()).isInstanceOf(ObsAsyncConsoleAppender.class);
+                    ObsAsyncConsoleAppender appender = (ObsAsyncConsoleAppender) rootAppender();
+                    assertThat(appender.isStarted()).isTrue();
+                    assertThat(appender.getBufferSize()).isEqualTo(1024);
+                    assertThat(appender.getOverflowPolicy())
+                            .isEqualTo(ObsAsyncConsoleAppender.OverflowPolicy.DROP_OLDEST);
+                });
+
+        // Restore the synchronous appender for the rest of the JVM
+        contextRunner.run(context -> assertThat(rootAppender()).isNotInstanceOf(ObsAsyncConsoleAppender.class));
+    }
+
+    @Test
+    void rejectsSingleSlotAsyncBuffer() {
+        contextRunner
+                .withPropertyValues("obs.logging.async.enabled=true", "obs.logging.async.buffer-size=1")
+                .run(context -> assertThat(context).hasFailed());
+    }
+
+    @Test
+    void publishesEncoderAndQueueMeters() {
+        contextRunner
+                .withPropertyValues("obs.logging.async.enabled=true", "obs.self-metrics.timing-sample-every=1")
+                .run(context -> {
+                    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+                    context.getBean(ObsLoggingMetrics.class).bindTo(registry);
+                    assertThat(rootAppender()).isInstanceOf(ObsAsyncConsoleAppender.class);
+
+                    LoggerFactory.getLogger("metered").warn("counted");
+                    ((ObsAsyncConsoleAppender) rootAppender()).stop();
+
+                    assertThat(registry.get("obs.internal.logging.encoder.bytes").functionCounter().count())
+                            .isPositive();
+                    assertThat(registry.get("obs.internal.logging.async.queue.capacity").gauge().value())
+                            .isEqualTo(8192);
+                    assertThat(registry.get("obs.internal.logging.async.events.dropped").functionCounter().count())
+                            .isZero();
+                    assertThat(context.getBean("obsLogEncoderTimer", ObsSampledTimer.class)
+                            .getSampledCount()).isPositive();
+                });
+
+        // Restore the synchronous appender for the rest of the JVM
+        contextRunner.run(context -> assertThat(rootAppender()).isNotInstanceOf(ObsAsyncConsoleAppender.class));
+    }
+
+    @Test
+    void rateLimitFilterRegisteredWhenEnabled() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        contextRunner
+                .withPropertyValues("obs.logging.rate-limit.enabled=true",
+                        "obs.logging.rate-limit.max-events-per-window=5",
+                        "obs.logging.rate-limit.min-level=info")
+                .run(context -> {
+                    assertThat(loggerContext.getTurboFilterList())
+                            .filteredOn(ObsRateLimitTurboFilter.class::isInstance)
+                            .singleElement()
+                            .satisfies(filter -> {
+                                ObsRateLimitTurboFilter rateLimit = (ObsRateLimitTurboFilter) filter;
+                                assertThat(rateLimit.getMaxEventsPerWindow()).isEqualTo(5);
+                                assertThat(rateLimit.getMinLevel()).isEqualTo(Level.INFO);
+                            });
+                });
+
+        loggerContext.getTurboFilterList().stream()
+                .filter(ObsRateLimitTurboFilter.class::isInstance)
+                .forEach(filter -> filter.stop());
+        loggerContext.getTurboFilterList().removeIf(ObsRateLimitTurboFilter.class::isInstance);
+    }
+
+    private static Object rootAppender() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        return loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).getAppender("OBS_JSON_CONSOLE");
+    }
 }
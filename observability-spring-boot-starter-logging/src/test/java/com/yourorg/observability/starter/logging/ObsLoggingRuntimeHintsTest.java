@@ -0,0 +1,41 @@
+package com.yourorg.observability.starter.logging;
+
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsLoggingRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    ObsLoggingRuntimeHintsTest() {
+        new ObsLoggingRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersLogbackFragment() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("logback-obs.xml")).accepts(hints);
+    }
+
+    @Test
+    void registersComponentsConfigurableFromLogbackXml() {
+        for (Class<?> type : new Class<?>[] { ObsJsonEncoder.class, ObsAsyncConsoleAppender.class,
+                ObsConsoleAppender.class, ObsRateLimitTurboFilter.class, LogstashEncoder.class }) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(type)
+                    .withMemberCategories(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS))
+                    .accepts(hints);
+        }
+    }
+
+    @Test
+    void registersOtelSpanProbe() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(ObsLoggingRuntimeHints.OTEL_SPAN)))
+                .accepts(hints);
+    }
+}
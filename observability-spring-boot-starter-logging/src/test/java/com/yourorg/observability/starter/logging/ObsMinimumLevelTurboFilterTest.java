@@ -0,0 +1,52 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsMinimumLevelTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("com.example.Orders");
+    private final ObsMinimumLevelTurboFilter filter = new ObsMinimumLevelTurboFilter();
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    void neutralWithoutMinimum() {
+        assertThat(filter.decide(null, logger, Level.TRACE, "x", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void deniesBelowMinimum() {
+        filter.setMinimum(Level.WARN);
+
+        assertThat(filter.decide(null, logger, Level.DEBUG, "x", null, null)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, logger, Level.INFO, "x", null, null)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, logger, Level.WARN, "x", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, logger, Level.ERROR, "x", null, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void answersLevelChecksOnceInstalled() {
+        logger.setLevel(Level.DEBUG);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        filter.setMinimum(Level.WARN);
+        assertThat(logger.isInfoEnabled()).isFalse();
+        assertThat(logger.isWarnEnabled()).isTrue();
+
+        filter.setMinimum(null);
+        assertThat(logger.isDebugEnabled()).isTrue();
+    }
+}
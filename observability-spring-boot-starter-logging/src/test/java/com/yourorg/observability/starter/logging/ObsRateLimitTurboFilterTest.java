@@ -0,0 +1,100 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsRateLimitTurboFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private ObsRateLimitTurboFilter filter;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ObsRateLimitTurboFilter();
+        filter.setContext(context);
+        filter.setWindow(Duration.ofHours(1));
+        filter.setMaxEventsPerWindow(3);
+        filter.setMinLevel(Level.WARN);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender.setContext(context);
+        appender.start();
+        logger = context.getLogger("com.yourorg.orders.PaymentClient");
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    void suppressesRepeatsBeyondLimitPerTemplate() {
+        for (int i = 0; i < 10; i++) {
+            logger.warn("Payment gateway timeout after {} ms", i);
+        }
+        logger.warn("Different template");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getMessage).containsExactly(
+                "Payment gateway timeout after {} ms",
+                "Payment gateway timeout after {} ms",
+                "Payment gateway timeout after {} ms",
+                "Different template");
+    }
+
+    @Test
+    void levelsAreSeparateKeysAndBelowMinLevelIsUntouched() {
+        for (int i = 0; i < 5; i++) {
+            logger.info("Order {} loaded", i);
+            logger.error("Order {} loaded", i);
+        }
+
+        assertThat(appender.list).filteredOn(e -> e.getLevel() == Level.INFO).hasSize(5);
+        assertThat(appender.list).filteredOn(e -> e.getLevel() == Level.ERROR).hasSize(3);
+    }
+
+    @Test
+    void disabledLevelsAreNotCounted() {
+        logger.setLevel(Level.ERROR);
+        for (int i = 0; i < 10; i++) {
+            logger.warn("noise");
+        }
+        logger.setLevel(Level.INFO);
+        logger.warn("noise");
+
+        assertThat(appender.list).hasSize(1);
+    }
+
+    @Test
+    void sweepEmitsOneSummaryWithSuppressedCount() {
+        for (int i = 0; i < 10; i++) {
+            logger.warn("Payment gateway timeout after {} ms", i);
+        }
+        appender.list.clear();
+
+        filter.sweep();
+        filter.sweep();
+
+        assertThat(appender.list).hasSize(1);
+        ILoggingEvent summary = appender.list.get(0);
+        assertThat(summary.getLevel()).isEqualTo(Level.WARN);
+        assertThat(summary.getLoggerName()).isEqualTo(logger.getName());
+        assertThat(summary.getMarkerList()).containsExactly(ObsRateLimitTurboFilter.SUMMARY_MARKER);
+        assertThat(summary.getFormattedMessage())
+                .isEqualTo("Suppressed 7 repeated WARN events in the last 3600000 ms: Payment gateway timeout after {} ms");
+    }
+}
@@ -0,0 +1,221 @@
+package com.yourorg.observability.starter.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.MarkerFilter;
+import ch.qos.logback.core.read.ListAppender;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsTailLogBuffersTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> output = new ListAppender<>();
+    private ObsTailLogBuffers buffers;
+    private Logger logger;
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+        context.stop();
+    }
+
+    @Test
+    void failedRequestFlushesBufferedDebugEvents() {
+        setUp(256, 1 << 20, () -> false);
+
+        inScope("req-1", () -> {
+            logger.debug("cache miss for {}", 42);
+            logger.info("handled");
+            assertThat(messages()).containsExactly("handled");
+        }, 503);
+
+        assertThat(messages()).containsExactly("handled", "cache miss for {}");
+        assertThat(buffers.getFlushedEventCount()).isEqualTo(1);
+        assertThat(buffers.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    void successfulRequestDiscardsBufferedEvents() {
+        setUp(256, 1 << 20, () -> false);
+
+        inScope("req-1", () -> {
+            assertThat(logger.isDebugEnabled()).isTrue();
+            logger.debug("noise");
+            logger.info("handled");
+        }, 200);
+
+        assertThat(messages()).containsExactly("handled");
+        assertThat(buffers.getActiveScopeCount()).isZero();
+        assertThat(buffers.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    void errorEventFlushesAndRestOfRequestPassesThrough() {
+        setUp(256, 1 << 20, () -> false);
+
+        inScope("req-1", () -> {
+            logger.debug("before");
+            logger.error("boom");
+            logger.debug("after");
+        }, 200);
+
+        assertThat(messages()).containsExactly("before", "boom", "after");
+    }
+
+    @Test
+    void debugOutsideScopeStaysDisabled() {
+        setUp(256, 1 << 20, () -> false);
+
+        logger.debug("no scope");
+
+        assertThat(logger.isDebugEnabled()).isFalse();
+        assertThat(output.list).isEmpty();
+    }
+
+    @Test
+    void debugAcceptedByAnotherTurboFilterIsWrittenAsUsual() {
+        setUp(256, 1 << 20, () -> false);
+        MarkerFilter audit = new MarkerFilter();
+        audit.setContext(context);
+        audit.setMarker("AUDIT");
+        audit.setOnMatch("ACCEPT");
+        audit.start();
+        context.getTurboFilterList().add(0, audit);
+        Marker marker = MarkerFactory.getMarker("AUDIT");
+
+        logger.debug(marker, "no scope");
+        inScope("req-1", () -> {
+            logger.debug(marker, "audited");
+            logger.debug("captured");
+        }, 200);
+        buffers.onScopeStart("other");
+        logger.debug(marker, "uncorrelated");
+        buffers.onScopeEnd("other", 200, null);
+
+        assertThat(messages()).containsExactly("no scope", "audited", "uncorrelated");
+        assertThat(buffers.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    void perRequestLimitDropsOldest() {
+        setUp(2, 1 << 20, () -> false);
+
+        inScope("req-1", () -> {
+            logger.debug("one");
+            logger.debug("two");
+            logger.debug("three");
+        }, 500);
+
+        assertThat(messages()).containsExactly("two", "three");
+    }
+
+    @Test
+    void memoryCapEvictsOldestWholeBuffer() {
+        setUp(256, 1_000, () -> false);
+
+        buffers.onScopeStart("old");
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "old");
+        logger.debug("old-1");
+        logger.debug("old-2");
+
+        buffers.onScopeStart("new");
+        MDC.put(ObsMdcKeys.CORRELATION_ID, "new");
+        for (int i = 0; i < 3; i++) {
+            logger.debug("new-" + i);
+        }
+
+        assertThat(buffers.getEvictedBufferCount()).isPositive();
+        buffers.onScopeEnd("old", 500, null);
+        assertThat(messages()).doesNotContain("old-1", "old-2");
+    }
+
+    @Test
+    void unsampledTracesAreBufferedAtThresholdToo() {
+        setUp(256, 1 << 20, () -> true);
+
+        inScope("req-1", () -> logger.info("unsampled info"), 200);
+        assertThat(output.list).isEmpty();
+
+        inScope("req-2", () -> logger.info("unsampled but failed"), 500);
+        assertThat(messages()).containsExactly("unsampled but failed");
+    }
+
+    @Test
+    void bufferedEventsAreHeldOnceAndFlushedToEveryRootAppender() {
+        setUp(256, 1 << 20, () -> false);
+        ListAppender<ILoggingEvent> second = new ListAppender<>();
+        second.setContext(context);
+        second.start();
+        ObsTailBufferingAppender wrapper = new ObsTailBufferingAppender(second, buffers, () -> false);
+        wrapper.setContext(context);
+        wrapper.start();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(wrapper);
+
+        inScope("req-1", () -> {
+            logger.debug("before");
+            logger.info("handled");
+        }, 503);
+        inScope("req-2", () -> {
+            logger.debug("quiet");
+            logger.error("boom");
+        }, 200);
+
+        assertThat(buffers.getFlushedEventCount()).isEqualTo(2);
+        assertThat(messages()).containsExactly("handled", "before", "quiet", "boom");
+        assertThat(second.list).extracting(ILoggingEvent::getMessage)
+                .containsExactly("handled", "before", "quiet", "boom");
+
+        wrapper.stop();
+        inScope("req-3", () -> logger.debug("after stop"), 500);
+        assertThat(second.list).hasSize(4);
+        assertThat(messages()).endsWith("after stop");
+    }
+
+    private void setUp(int maxEvents, long maxBytes, BooleanSupplier unsampled) {
+        buffers = new ObsTailLogBuffers(maxEvents, maxBytes, 500);
+        context.setMDCAdapter(MDC.getMDCAdapter());
+
+        output.setContext(context);
+        output.start();
+        ObsTailBufferingAppender wrapper = new ObsTailBufferingAppender(output, buffers, unsampled);
+        wrapper.setContext(context);
+        wrapper.start();
+
+        ObsTailCaptureTurboFilter filter = new ObsTailCaptureTurboFilter(buffers);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(wrapper);
+        logger = context.getLogger("com.yourorg.orders.OrderService");
+    }
+
+    private void inScope(String correlationId, Runnable body, int status) {
+        buffers.onScopeStart(correlationId);
+        MDC.put(ObsMdcKeys.CORRELATION_ID, correlationId);
+        try {
+            body.run();
+        } finally {
+            buffers.onScopeEnd(correlationId, status, null);
+            MDC.remove(ObsMdcKeys.CORRELATION_ID);
+        }
+    }
+
+    private List<String> messages() {
+        return output.list.stream().map(ILoggingEvent::getMessage).toList();
+    }
+}
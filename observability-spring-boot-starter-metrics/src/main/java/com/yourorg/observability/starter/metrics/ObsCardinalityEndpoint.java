@@ -0,0 +1,38 @@
+package com.yourorg.observability.starter.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/obscardinality}: tag combinations per meter name against
+ * its limit, most utilised first. {@code /actuator/obscardinality/{name}}
+ * shows a single meter.
+ */
+@Endpoint(id = "obscardinality")
+public class ObsCardinalityEndpoint {
+
+    private final ObsCardinalityLimitFilter filter;
+
+    public ObsCardinalityEndpoint(ObsCardinalityLimitFilter filter) {
+        this.filter = filter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> cardinality() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("maxCombinations", filter.getMaxCombinations());
+        result.put("meters", filter.getCardinalities());
+        return result;
+    }
+
+    @ReadOperation
+    @Nullable
+    public Map<String, Object> meter(@Selector String name) {
+        return filter.getCardinality(name);
+    }
+}
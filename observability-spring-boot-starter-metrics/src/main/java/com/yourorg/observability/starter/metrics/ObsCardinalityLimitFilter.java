@@ -0,0 +1,219 @@
+package com.yourorg.observability.starter.metrics;
+
+import com.yourorg.observability.contract.HighCardinalityValues;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caps the number of tag combinations (time series) per meter name.
+ *
+ * <p>
+ * The first {@code maxCombinations} distinct combinations of a meter name are
+ * registered as they are. Later combinations are collapsed: every tag value
+ * except those of {@code preservedTags} (the common tags) becomes
+ * {@value #OVERFLOW_VALUE}, so all of them share one overflow series.
+ * Id-like values (UUIDs, numeric path segments, long numbers; see
+ * {@link HighCardinalityValues}) are replaced by {@value #OVERFLOW_VALUE}
+ * before counting when {@code collapseIdValues} is set.
+ * </p>
+ *
+ * <p>
+ * Admitted combinations are kept as 64-bit hashes, not as tag lists. Each
+ * meter name also has a 256-byte HyperLogLog sketch of the raw combinations
+ * it has seen, so {@link #getCardinalities()} shows how far over the limit a
+ * meter would be. Micrometer calls {@link #map} once per new meter id, not on
+ * every recording.
+ * </p>
+ */
+public class ObsCardinalityLimitFilter implements MeterFilter {
+
+    public static final String OVERFLOW_VALUE = "OTHER";
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int maxCombinations;
+    private final Map<String, Integer> limits;
+    private final Set<String> preservedTags;
+    private final boolean collapseIdValues;
+    private final Map<String, MeterCardinality> meters = new ConcurrentHashMap<>();
+
+    public ObsCardinalityLimitFilter(int maxCombinations, Map<String, Integer> limits, Set<String> preservedTags,
+            boolean collapseIdValues) {
+        this.maxCombinations = maxCombinations;
+        this.limits = Map.copyOf(limits);
+        this.preservedTags = Set.copyOf(preservedTags);
+        this.collapseIdValues = collapseIdValues;
+    }
+
+    @Override
+    public Meter.Id map(Meter.Id id) {
+        long rawHash = FNV_OFFSET;
+        long hash = FNV_OFFSET;
+        boolean idLike = false;
+        for (Tag tag : id.getTagsAsIterable()) {
+            String key = tag.getKey();
+            String value = tag.getValue();
+            rawHash = hash(hash(rawHash, key), value);
+            hash = hash(hash, key);
+            if (collapseIdValues && !preservedTags.contains(key) && HighCardinalityValues.isIdLike(value)) {
+                idLike = true;
+                hash = hash(hash, OVERFLOW_VALUE);
+            } else {
+                hash = hash(hash, value);
+            }
+        }
+
+        MeterCardinality cardinality = meters.computeIfAbsent(id.getName(),
+                name -> new MeterCardinality(limits.getOrDefault(name, maxCombinations)));
+        if (cardinality.admit(mix(rawHash), mix(hash))) {
+            return idLike ? collapse(id, true) : id;
+        }
+        return collapse(id, false);
+    }
+
+    private Meter.Id collapse(Meter.Id id, boolean idLikeOnly) {
+        List<Tag> tags = new ArrayList<>();
+        for (Tag tag : id.getTagsAsIterable()) {
+            boolean replace = !preservedTags.contains(tag.getKey())
+                    && (!idLikeOnly || HighCardinalityValues.isIdLike(tag.getValue()));
+            tags.add(replace ? Tag.of(tag.getKey(), OVERFLOW_VALUE) : tag);
+        }
+        return id.replaceTags(tags);
+    }
+
+    /**
+     * Per meter name, most utilised first.
+     */
+    public List<Map<String, Object>> getCardinalities() {
+        List<Map<String, Object>> result = new ArrayList<>(meters.size());
+        meters.forEach((name, cardinality) -> result.add(cardinality.describe(name)));
+        result.sort((a, b) -> Double.compare((double) b.get("utilization"), (double) a.get("utilization")));
+        return result;
+    }
+
+    public Map<String, Object> getCardinality(String name) {
+        MeterCardinality cardinality = meters.get(name);
+        return cardinality != null ? cardinality.describe(name) : null;
+    }
+
+    public int getMaxCombinations() {
+        return maxCombinations;
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        // separator so ("ab", "c") and ("a", "bc") differ
+        return (hash ^ 0xffff) * FNV_PRIME;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash != 0 ? hash : 1;
+    }
+
+    /**
+     * Admitted combination hashes (open addressing, 0 = empty) plus a
+     * HyperLogLog sketch of all raw combinations seen.
+     */
+    static final class MeterCardinality {
+        private static final int SKETCH_BITS = 8;
+        private static final int SKETCH_SIZE = 1 << SKETCH_BITS;
+
+        private final int limit;
+        private final byte[] sketch = new byte[SKETCH_SIZE];
+        private long[] admitted = new long[16];
+        private int size;
+        private long overflowed;
+
+        MeterCardinality(int limit) {
+            this.limit = limit;
+        }
+
+        synchronized boolean admit(long rawHash, long hash) {
+            observe(rawHash);
+            int mask = admitted.length - 1;
+            int index = (int) hash & mask;
+            while (admitted[index] != 0) {
+                if (admitted[index] == hash) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            if (size >= limit) {
+                overflowed++;
+                return false;
+            }
+            admitted[index] = hash;
+            if (++size * 2 > admitted.length) {
+                grow();
+            }
+            return true;
+        }
+
+        private void grow() {
+            long[] old = admitted;
+            admitted = new long[old.length * 2];
+            int mask = admitted.length - 1;
+            for (long hash : old) {
+                if (hash != 0) {
+                    int index = (int) hash & mask;
+                    while (admitted[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    admitted[index] = hash;
+                }
+            }
+        }
+
+        private void observe(long hash) {
+            int register = (int) (hash >>> (64 - SKETCH_BITS));
+            byte rank = (byte) (Long.numberOfLeadingZeros((hash << SKETCH_BITS) | (1L << (SKETCH_BITS - 1))) + 1);
+            if (rank > sketch[register]) {
+                sketch[register] = rank;
+            }
+        }
+
+        synchronized long estimate() {
+            double sum = 0;
+            int zeros = 0;
+            for (byte rank : sketch) {
+                sum += 1.0 / (1L << rank);
+                if (rank == 0) {
+                    zeros++;
+                }
+            }
+            double m = SKETCH_SIZE;
+            double estimate = 0.7213 / (1 + 1.079 / m) * m * m / sum;
+            if (estimate <= 2.5 * m && zeros > 0) {
+                estimate = m * Math.log(m / zeros);
+            }
+            return Math.round(estimate);
+        }
+
+        synchronized Map<String, Object> describe(String name) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("name", name);
+            result.put("limit", limit);
+            result.put("combinations", size);
+            result.put("estimatedDistinct", Math.max(size, estimate()));
+            result.put("overflowed", overflowed);
+            result.put("utilization", limit > 0 ? (double) size / limit : 1.0);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.yourorg.observability.starter.metrics;
+
+/**
+ * A recorded value with the sampled span it was recorded under; the value is
+ * in the meter's exported unit.
+ */
+record ObsExemplar(double value, long epochNanos, String traceId, String spanId) {
+}
@@ -0,0 +1,89 @@
+package com.yourorg.observability.starter.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.util.NamedThreadFactory;
+import io.micrometer.registry.otlp.OtlpConfig;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.ConditionalOnEnabledMetricsExport;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.otlp.OtlpMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * OTLP exemplars: trace and span ids of sampled spans on exported timer and
+ * distribution summary data points, so a latency bucket in the metrics
+ * backend links to a trace.
+ *
+ * <p>
+ * Runs before Spring Boot's OTLP export auto-configuration and defines the
+ * {@link OtlpMeterRegistry} itself, publishing through an
+ * {@link ObsExemplarHttpSender} that adds the exemplars kept by the
+ * {@link ObsExemplarSampler}. Everything else about the registry —
+ * {@code management.otlp.metrics.export.*}, the {@link OtlpConfig} bean,
+ * virtual threads — is as Boot would configure it. A user-defined
+ * {@link OtlpMeterRegistry} wins and exports no exemplars.
+ * </p>
+ *
+ * <p>
+ * With Micrometer Tracing present, {@link ObsExemplarObservationHandler}
+ * samples every observation ending under a sampled span, which covers
+ * {@code http.server.requests}.
+ * </p>
+ *
+ * <p>
+ * Opt-in via {@code obs.metrics.exemplars.enabled} (default: false), since
+ * the registry is created through a package-private Micrometer constructor.
+ * While it is off, Spring Boot defines the registry as usual.
+ * </p>
+ */
+@AutoConfiguration(before = OtlpMetricsExportAutoConfiguration.class, after = MetricsAutoConfiguration.class)
+@EnableConfigurationProperties(ObsMetricsProperties.class)
+@ConditionalOnProperty(prefix = "obs.metrics", name = "enabled", havingValue = "true")
+@ConditionalOnClass(OtlpMeterRegistry.class)
+@ConditionalOnBean(Clock.class)
+@ConditionalOnEnabledMetricsExport("otlp")
+public class ObsExemplarAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "obs.metrics.exemplars", name = "enabled", havingValue = "true")
+    static class ExemplarConfiguration {
+
+        @Bean
+        public ObsExemplarSampler obsExemplarSampler(ObsMetricsProperties props, Clock clock) {
+            return new ObsExemplarSampler(clock, props.getExemplars().getMaxMeters());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public OtlpMeterRegistry otlpMeterRegistry(OtlpConfig otlpConfig, Clock clock, ObsExemplarSampler sampler,
+                Environment environment) {
+            ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+                    ? new VirtualThreadTaskExecutor("otlp-meter-registry-").getVirtualThreadFactory()
+                    : new NamedThreadFactory("otlp-metrics-publisher");
+            return ObsExemplarHttpSender.registry(otlpConfig, clock, threadFactory, sampler);
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnClass(name = "io.micrometer.tracing.handler.TracingObservationHandler")
+        static class ObservationConfiguration {
+
+            @Bean
+            public ObsExemplarObservationHandler obsExemplarObservationHandler(ObsExemplarSampler sampler,
+                    OtlpMeterRegistry registry) {
+                return new ObsExemplarObservationHandler(sampler, registry);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.yourorg.observability.starter.metrics;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.ipc.http.HttpSender;
+import io.micrometer.core.ipc.http.HttpUrlConnectionSender;
+import io.micrometer.registry.otlp.OtlpConfig;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Adds the pending exemplars of an {@link ObsExemplarSampler} to each OTLP
+ * metrics request before handing it to the real sender.
+ *
+ * <p>
+ * Micrometer's {@link OtlpMeterRegistry} builds the protobuf request itself
+ * and has no exemplar support, but it posts through an {@link HttpSender}.
+ * The constructor taking one is package-private, so {@link #registry} reaches
+ * it reflectively and falls back to the registry Spring Boot would create,
+ * without exemplars, if that constructor is not there or not accessible. Requests that do not parse, and steps
+ * without exemplars, pass through untouched.
+ * </p>
+ */
+final class ObsExemplarHttpSender implements HttpSender {
+
+    private static final Logger log = LoggerFactory.getLogger(ObsExemplarHttpSender.class);
+
+    private final HttpSender delegate;
+    private final ObsExemplarSampler sampler;
+    private volatile MeterRegistry registry;
+
+    ObsExemplarHttpSender(HttpSender delegate, ObsExemplarSampler sampler) {
+        this.delegate = delegate;
+        this.sampler = sampler;
+    }
+
+    /**
+     * Creates an {@link OtlpMeterRegistry} that publishes through a new
+     * sender around {@link HttpUrlConnectionSender}, Micrometer's default.
+     */
+    static OtlpMeterRegistry registry(OtlpConfig config, Clock clock, ThreadFactory threadFactory,
+            ObsExemplarSampler sampler) {
+        return registry(config, clock, threadFactory, sampler, () -> OtlpMeterRegistry.class
+                .getDeclaredConstructor(OtlpConfig.class, Clock.class, ThreadFactory.class, HttpSender.class));
+    }
+
+    /**
+     * Creates the registry through the constructor {@code lookup} finds, or
+     * returns the registry Spring Boot would have created, without
+     * exemplars, if it cannot be found or called. Exceptions thrown by the
+     * constructor itself propagate.
+     */
+    static OtlpMeterRegistry registry(OtlpConfig config, Clock clock, ThreadFactory threadFactory,
+            ObsExemplarSampler sampler, ConstructorLookup lookup) {
+        ObsExemplarHttpSender sender = new ObsExemplarHttpSender(new HttpUrlConnectionSender(), sampler);
+        OtlpMeterRegistry registry;
+        try {
+            Constructor<OtlpMeterRegistry> constructor = lookup.find();
+            constructor.setAccessible(true);
+            registry = constructor.newInstance(config, clock, threadFactory, sender);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Could not create the OTLP meter registry", e.getCause());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("OTLP exemplars disabled: this Micrometer version does not accept a custom HttpSender ({})",
+                    e.toString());
+            return new OtlpMeterRegistry(config, clock, threadFactory);
+        }
+        sender.registry = registry;
+        return registry;
+    }
+
+    @Override
+    public Response send(Request request) throws Throwable {
+        MeterRegistry registry = this.registry;
+        if (registry == null || !sampler.hasPending()) {
+            return delegate.send(request);
+        }
+        ExportMetricsServiceRequest metrics;
+        try {
+            metrics = ExportMetricsServiceRequest.parseFrom(request.getEntity());
+        } catch (InvalidProtocolBufferException e) {
+            return delegate.send(request);
+        }
+        ExportMetricsServiceRequest withExemplars = sampler.attach(metrics, registry.config().namingConvention());
+        if (withExemplars == metrics) {
+            return delegate.send(request);
+        }
+        return delegate.send(new Request(request.getUrl(), withExemplars.toByteArray(), request.getMethod(),
+                request.getRequestHeaders()));
+    }
+
+    @FunctionalInterface
+    interface ConstructorLookup {
+        Constructor<OtlpMeterRegistry> find() throws NoSuchMethodException;
+    }
+}
@@ -0,0 +1,112 @@
+package com.yourorg.observability.starter.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offers every observation that ends under a sampled span to the
+ * {@link ObsExemplarSampler}, so {@code http.server.requests} and other
+ * observed timers carry links to traces.
+ *
+ * <p>
+ * The timer is looked up the way Micrometer's
+ * {@code DefaultMeterObservationHandler} records it — observation name, low
+ * cardinality key values and an {@code error} tag — in the OTLP registry
+ * itself, so meter filters map it to the series that is exported. Each
+ * combination is looked up once and cached, for as many combinations as the
+ * sampler holds meters; further ones are looked up per call. Unsampled spans
+ * cost one check.
+ * </p>
+ *
+ * <p>
+ * The exemplar value is this handler's own start-to-stop time, on the
+ * registry's clock, not the duration the meter handler recorded: the meter
+ * handler does not expose it. The two differ by the time the handlers
+ * registered between them take to start and stop, typically microseconds,
+ * so a recording just across a bucket bound can put its exemplar in the
+ * neighbouring bucket. The exemplar's trace is still a request of that
+ * series.
+ * </p>
+ */
+public class ObsExemplarObservationHandler implements ObservationHandler<Observation.Context> {
+
+    private static final String START = ObsExemplarObservationHandler.class.getName() + ".start";
+
+    private final ObsExemplarSampler sampler;
+    private final MeterRegistry registry;
+    private final Clock clock;
+    private final int maxTimers;
+    private final ConcurrentHashMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ObsExemplarObservationHandler(ObsExemplarSampler sampler, MeterRegistry registry) {
+        this.sampler = sampler;
+        this.registry = registry;
+        this.clock = registry.config().clock();
+        this.maxTimers = sampler.getMaxMeters();
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        context.put(START, clock.monotonicTime());
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        Long start = context.get(START);
+        TracingObservationHandler.TracingContext tracing = context.get(TracingObservationHandler.TracingContext.class);
+        Span span = tracing != null ? tracing.getSpan() : null;
+        if (start == null || span == null) {
+            return;
+        }
+        TraceContext trace = span.context();
+        if (!Boolean.TRUE.equals(trace.sampled())) {
+            return;
+        }
+        long nanos = clock.monotonicTime() - start;
+        sampler.sample(timer(context), nanos, trace.traceId(), trace.spanId());
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return true;
+    }
+
+    private Timer timer(Observation.Context context) {
+        Throwable error = context.getError();
+        TimerKey key = new TimerKey(context.getName(), context.getLowCardinalityKeyValues(),
+                error != null ? error.getClass().getSimpleName() : "none");
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = Timer.builder(key.name()).tags(key.tags()).register(registry);
+            if (timers.size() < maxTimers) {
+                timers.putIfAbsent(key, timer);
+            }
+        }
+        return timer;
+    }
+
+    private record TimerKey(String name, KeyValues keyValues, String error) {
+
+        List<Tag> tags() {
+            List<Tag> tags = new ArrayList<>();
+            for (KeyValue keyValue : keyValues) {
+                tags.add(Tag.of(keyValue.getKey(), keyValue.getValue()));
+            }
+            tags.add(Tag.of("error", error));
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.yourorg.observability.starter.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * One exemplar slot per histogram bucket of a meter.
+ *
+ * <p>
+ * Slot {@code i} takes values in {@code (bounds[i-1], bounds[i]]}; the last
+ * slot takes everything above the highest bound. The first offer into an
+ * empty slot wins and later offers into a full slot are dropped without
+ * allocating, so recording threads never wait on each other and memory is
+ * fixed at construction. {@link #drain()} empties the slots for the next
+ * export step.
+ * </p>
+ */
+final class ObsExemplarReservoir {
+
+    private final double[] bounds;
+    private final AtomicReferenceArray<ObsExemplar> slots;
+
+    ObsExemplarReservoir(double[] bounds) {
+        this.bounds = bounds.clone();
+        this.slots = new AtomicReferenceArray<>(bounds.length + 1);
+    }
+
+    /**
+     * @return whether the exemplar was kept
+     */
+    boolean offer(double value, long epochNanos, String traceId, String spanId) {
+        int slot = slotOf(value);
+        if (slots.get(slot) != null) {
+            return false;
+        }
+        return slots.compareAndSet(slot, null, new ObsExemplar(value, epochNanos, traceId, spanId));
+    }
+
+    List<ObsExemplar> drain() {
+        List<ObsExemplar> drained = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            ObsExemplar exemplar = slots.getAndSet(i, null);
+            if (exemplar != null) {
+                drained.add(exemplar);
+            }
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getSlotCount() {
+        return slots.length();
+    }
+
+    private int slotOf(double value) {
+        int index = Arrays.binarySearch(bounds, value);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,234 @@
+package com.yourorg.observability.starter.metrics;
+
+import com.google.protobuf.ByteString;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.NamingConvention;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSupport;
+import io.micrometer.core.instrument.noop.NoopMeter;
+import io.micrometer.core.instrument.util.TimeUtils;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.metrics.v1.Exemplar;
+import io.opentelemetry.proto.metrics.v1.ExponentialHistogramDataPoint;
+import io.opentelemetry.proto.metrics.v1.HistogramDataPoint;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Keeps exemplars — recorded values with the trace and span id of a sampled
+ * span — for timers and distribution summaries, and adds them to the OTLP
+ * export so a latency bucket links to a trace.
+ *
+ * <p>
+ * Each meter gets an {@link ObsExemplarReservoir} with one lock-free slot per
+ * histogram bucket, sized from the meter's buckets on its first exemplar.
+ * Meters without explicit buckets (no histogram, or an exponential one) use
+ * a fixed ladder of latency bounds from 5 ms to 10 s if they are timers, and
+ * a single slot otherwise. At most {@code maxMeters} meters get a reservoir,
+ * so memory is bounded by meters × slots.
+ * </p>
+ *
+ * <p>
+ * {@link ObsExemplarObservationHandler} samples every observation that ends
+ * under a sampled span. Code recording its own meters can call
+ * {@link #sample(Timer, long, String, String)} or
+ * {@link #sample(DistributionSummary, double, String, String)} with the ids
+ * of the current span.
+ * </p>
+ */
+public class ObsExemplarSampler {
+
+    private static final double[] DEFAULT_TIMER_BOUNDS_SECONDS = {
+            0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Clock clock;
+    private final int maxMeters;
+    private final ConcurrentHashMap<Meter.Id, ObsExemplarReservoir> reservoirs = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder exported = new LongAdder();
+
+    public ObsExemplarSampler(Clock clock, int maxMeters) {
+        this.clock = clock;
+        this.maxMeters = maxMeters;
+    }
+
+    /**
+     * Offers a timer recording of {@code nanos} made under the given span.
+     */
+    public void sample(Timer timer, long nanos, String traceId, String spanId) {
+        offer(timer, TimeUtils.nanosToUnit(nanos, timer.baseTimeUnit()), traceId, spanId);
+    }
+
+    /**
+     * Offers a distribution summary recording of {@code amount} made under
+     * the given span.
+     */
+    public void sample(DistributionSummary summary, double amount, String traceId, String spanId) {
+        offer(summary, amount, traceId, spanId);
+    }
+
+    /**
+     * Meters holding a reservoir.
+     */
+    public int getMeterCount() {
+        return reservoirs.size();
+    }
+
+    /**
+     * Exemplars added to OTLP exports so far.
+     */
+    public long getExportedCount() {
+        return exported.sum();
+    }
+
+    int getMaxMeters() {
+        return maxMeters;
+    }
+
+    boolean hasPending() {
+        return pending.get() > 0;
+    }
+
+    private void offer(HistogramSupport meter, double value, String traceId, String spanId) {
+        if (meter instanceof NoopMeter || traceId == null || spanId == null) {
+            return;
+        }
+        ObsExemplarReservoir reservoir = reservoirs.get(meter.getId());
+        if (reservoir == null) {
+            if (reservoirs.size() >= maxMeters) {
+                return;
+            }
+            reservoir = reservoirs.computeIfAbsent(meter.getId(), id -> new ObsExemplarReservoir(bounds(meter)));
+        }
+        if (reservoir.offer(value, TimeUnit.MILLISECONDS.toNanos(clock.wallTime()), traceId, spanId)) {
+            pending.incrementAndGet();
+        }
+    }
+
+    private static double[] bounds(HistogramSupport meter) {
+        CountAtBucket[] buckets = meter.takeSnapshot().histogramCounts();
+        TimeUnit unit = meter instanceof Timer timer ? timer.baseTimeUnit() : null;
+        double[] bounds = new double[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            bounds[i] = unit != null ? buckets[i].bucket(unit) : buckets[i].bucket();
+        }
+        if (bounds.length == 0 && unit != null) {
+            bounds = new double[DEFAULT_TIMER_BOUNDS_SECONDS.length];
+            for (int i = 0; i < bounds.length; i++) {
+                bounds[i] = TimeUtils.secondsToUnit(DEFAULT_TIMER_BOUNDS_SECONDS[i], unit);
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Moves pending exemplars onto the matching histogram data points of an
+     * export request. A data point matches a meter by its exported name and
+     * attributes under {@code convention}.
+     *
+     * @return the request with exemplars, or {@code request} itself when
+     *         none matched
+     */
+    ExportMetricsServiceRequest attach(ExportMetricsServiceRequest request, NamingConvention convention) {
+        if (!hasPending()) {
+            return request;
+        }
+        Map<ExportKey, ObsExemplarReservoir> byKey = new HashMap<>();
+        reservoirs.forEach((id, reservoir) -> {
+            if (!reservoir.isEmpty()) {
+                byKey.put(ExportKey.of(id, convention), reservoir);
+            }
+        });
+        if (byKey.isEmpty()) {
+            return request;
+        }
+
+        ExportMetricsServiceRequest.Builder builder = request.toBuilder();
+        int attached = 0;
+        for (ResourceMetrics.Builder resourceMetrics : builder.getResourceMetricsBuilderList()) {
+            for (ScopeMetrics.Builder scopeMetrics : resourceMetrics.getScopeMetricsBuilderList()) {
+                for (Metric.Builder metric : scopeMetrics.getMetricsBuilderList()) {
+                    switch (metric.getDataCase()) {
+                        case HISTOGRAM -> {
+                            for (HistogramDataPoint.Builder point : metric.getHistogramBuilder()
+                                    .getDataPointsBuilderList()) {
+                                attached += drain(byKey, metric.getName(), point.getAttributesList(),
+                                        point::addExemplars);
+                            }
+                        }
+                        case EXPONENTIAL_HISTOGRAM -> {
+                            for (ExponentialHistogramDataPoint.Builder point : metric.getExponentialHistogramBuilder()
+                                    .getDataPointsBuilderList()) {
+                                attached += drain(byKey, metric.getName(), point.getAttributesList(),
+                                        point::addExemplars);
+                            }
+                        }
+                        default -> {
+                            // counters and gauges carry no exemplars here
+                        }
+                    }
+                }
+            }
+        }
+        if (attached == 0) {
+            return request;
+        }
+        pending.addAndGet(-attached);
+        exported.add(attached);
+        return builder.build();
+    }
+
+    private static int drain(Map<ExportKey, ObsExemplarReservoir> byKey, String name, List<KeyValue> attributes,
+            Consumer<Exemplar> target) {
+        ObsExemplarReservoir reservoir = byKey.remove(new ExportKey(name, ExportKey.attributes(attributes)));
+        if (reservoir == null) {
+            return 0;
+        }
+        List<ObsExemplar> exemplars = reservoir.drain();
+        for (ObsExemplar exemplar : exemplars) {
+            target.accept(Exemplar.newBuilder()
+                    .setTimeUnixNano(exemplar.epochNanos())
+                    .setAsDouble(exemplar.value())
+                    .setTraceId(ByteString.copyFrom(HEX.parseHex(exemplar.traceId())))
+                    .setSpanId(ByteString.copyFrom(HEX.parseHex(exemplar.spanId())))
+                    .build());
+        }
+        return exemplars.size();
+    }
+
+    private record ExportKey(String name, Map<String, String> attributes) {
+
+        static ExportKey of(Meter.Id id, NamingConvention convention) {
+            Map<String, String> attributes = new HashMap<>();
+            for (Tag tag : id.getConventionTags(convention)) {
+                attributes.put(tag.getKey(), tag.getValue());
+            }
+            return new ExportKey(id.getConventionName(convention), attributes);
+        }
+
+        static Map<String, String> attributes(List<KeyValue> keyValues) {
+            Map<String, String> attributes = new HashMap<>();
+            for (KeyValue keyValue : keyValues) {
+                attributes.put(keyValue.getKey(), keyValue.getValue().getStringValue());
+            }
+            return attributes;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.yourorg.observability.starter.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/obshistograms}: estimated histogram bucket memory per
+ * configured prefix and meter, largest first, and the meters registered
+ * without buckets while histograms were suspended.
+ * {@code /actuator/obshistograms/{name}} shows a single meter.
+ */
+@Endpoint(id = "obshistograms")
+public class ObsHistogramEndpoint {
+
+    private final ObsHistogramFilter filter;
+
+    public ObsHistogramEndpoint(ObsHistogramFilter filter) {
+        this.filter = filter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> histograms() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("flavor", filter.isExponentialFlavor() ? "base2_exponential_bucket_histogram"
+                : "explicit_bucket_histogram");
+        result.put("maxBuckets", filter.getMaxBuckets());
+        result.put("estimatedBytes", filter.getEstimatedBytes());
+        result.put("prefixes", filter.getHistograms());
+        result.put("suspended", filter.isSuspended());
+        result.put("registeredWhileSuspended", filter.getSuspendedMeters());
+        return result;
+    }
+
+    @ReadOperation
+    @Nullable
+    public Map<String, Object> meter(@Selector String name) {
+        return filter.getHistogram(name);
+    }
+}
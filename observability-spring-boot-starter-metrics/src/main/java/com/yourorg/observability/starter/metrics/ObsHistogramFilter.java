@@ -0,0 +1,289 @@
+package com.yourorg.observability.starter.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.PercentileHistogramBuckets;
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Turns on histograms for timers and distribution summaries under selected
+ * meter-name prefixes instead of registry-wide.
+ *
+ * <p>
+ * An {@code exponential} prefix publishes a percentile histogram, which the
+ * OTLP registry exports as a base-2 exponential histogram of at most
+ * {@code maxBuckets} buckets when its histogram flavor is
+ * {@code base2_exponential_bucket_histogram}; with the explicit flavor it
+ * falls back to Micrometer's fixed percentile buckets. An {@code slo} prefix
+ * publishes only its SLO boundaries as buckets. The longest matching prefix
+ * wins; on a tie SLO boundaries win.
+ * </p>
+ *
+ * <p>
+ * Every series of a matched meter costs one long per bucket. The filter
+ * counts the series it configures per meter name, so
+ * {@link #getHistograms()} shows the estimated bucket memory per prefix and
+ * meter, and the per-series cost of prefixes no meter has matched yet.
+ * </p>
+ *
+ * <p>
+ * While {@link #setSuspended suspended}, every timer and distribution summary
+ * registered is configured without histogram buckets or SLO boundaries,
+ * whatever its prefix. Micrometer fixes a meter's distribution when it is
+ * registered, so meters that already exist keep theirs, and meters that
+ * would have had buckets are remembered ({@link #getSuspendedMeters()}) until
+ * {@link #takeSuspendedIds()} hands them over for re-registration.
+ * </p>
+ */
+public class ObsHistogramFilter implements MeterFilter {
+
+    private final Map<String, ServiceLevelObjectiveBoundary[]> slo;
+    private final Set<String> exponential;
+    private final boolean exponentialFlavor;
+    private final int maxBuckets;
+    private final Map<String, MeterHistogram> meters = new ConcurrentHashMap<>();
+    private final Set<Meter.Id> suspendedIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean suspended;
+
+    public ObsHistogramFilter(Set<String> exponential, Map<String, ServiceLevelObjectiveBoundary[]> slo,
+            boolean exponentialFlavor, int maxBuckets) {
+        this.exponential = Set.copyOf(exponential);
+        this.slo = Map.copyOf(slo);
+        this.exponentialFlavor = exponentialFlavor;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    @Nullable
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        Meter.Type type = id.getType();
+        if (type != Meter.Type.TIMER && type != Meter.Type.DISTRIBUTION_SUMMARY) {
+            return config;
+        }
+        if (suspended) {
+            if (hasBuckets(config) || matchingPrefix(id.getName()) != null) {
+                suspendedIds.add(id);
+            }
+            return DistributionStatisticConfig.builder()
+                    .percentilesHistogram(false)
+                    .serviceLevelObjectives()
+                    .build()
+                    .merge(config);
+        }
+        String prefix = matchingPrefix(id.getName());
+        if (prefix == null) {
+            return config;
+        }
+
+        DistributionStatisticConfig configured;
+        int buckets;
+        ServiceLevelObjectiveBoundary[] boundaries = slo.get(prefix);
+        if (boundaries != null) {
+            double[] values = sloValues(boundaries, type);
+            configured = DistributionStatisticConfig.builder()
+                    .percentilesHistogram(false)
+                    .serviceLevelObjectives(values)
+                    .build()
+                    .merge(config);
+            buckets = values.length;
+        } else {
+            configured = DistributionStatisticConfig.builder()
+                    .percentilesHistogram(true)
+                    .build()
+                    .merge(config);
+            buckets = exponentialBuckets(configured);
+        }
+        meters.computeIfAbsent(id.getName(), name -> new MeterHistogram(prefix, buckets)).series.increment();
+        return configured;
+    }
+
+    private static boolean hasBuckets(DistributionStatisticConfig config) {
+        double[] slos = config.getServiceLevelObjectiveBoundaries();
+        return Boolean.TRUE.equals(config.isPercentileHistogram()) || (slos != null && slos.length > 0);
+    }
+
+    private int exponentialBuckets(DistributionStatisticConfig config) {
+        double[] slos = config.getServiceLevelObjectiveBoundaries();
+        if (exponentialFlavor && (slos == null || slos.length == 0)) {
+            return maxBuckets;
+        }
+        // explicit flavor: Micrometer's percentile buckets within the expected range
+        return PercentileHistogramBuckets.buckets(config.merge(DistributionStatisticConfig.DEFAULT)).size();
+    }
+
+    @Nullable
+    private String matchingPrefix(String name) {
+        String best = null;
+        for (String prefix : slo.keySet()) {
+            if (matches(name, prefix) && (best == null || prefix.length() > best.length())) {
+                best = prefix;
+            }
+        }
+        for (String prefix : exponential) {
+            if (matches(name, prefix) && (best == null || prefix.length() > best.length())) {
+                best = prefix;
+            }
+        }
+        return best;
+    }
+
+    private static boolean matches(String name, String prefix) {
+        return name.startsWith(prefix) && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.');
+    }
+
+    private static double[] sloValues(ServiceLevelObjectiveBoundary[] boundaries, Meter.Type type) {
+        double[] values = new double[boundaries.length];
+        int count = 0;
+        for (ServiceLevelObjectiveBoundary boundary : boundaries) {
+            Double value = boundary.getValue(type);
+            if (value != null) {
+                values[count++] = value;
+            }
+        }
+        return count == values.length ? values : Arrays.copyOf(values, count);
+    }
+
+    /**
+     * Per configured prefix, largest estimate first.
+     */
+    public List<Map<String, Object>> getHistograms() {
+        Map<String, List<Map<String, Object>>> byPrefix = new LinkedHashMap<>();
+        meters.forEach((name, histogram) -> byPrefix
+                .computeIfAbsent(histogram.prefix, prefix -> new ArrayList<>())
+                .add(histogram.describe(name)));
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        slo.forEach((prefix, boundaries) -> result.add(describePrefix(prefix, "slo", boundaries.length,
+                byPrefix.getOrDefault(prefix, List.of()))));
+        for (String prefix : exponential) {
+            if (!slo.containsKey(prefix)) {
+                result.add(describePrefix(prefix, "exponential", exponentialFlavor ? maxBuckets : null,
+                        byPrefix.getOrDefault(prefix, List.of())));
+            }
+        }
+        result.sort(Comparator.comparingLong((Map<String, Object> prefix) -> (long) prefix.get("estimatedBytes"))
+                .reversed());
+        return result;
+    }
+
+    @Nullable
+    public Map<String, Object> getHistogram(String name) {
+        MeterHistogram histogram = meters.get(name);
+        return histogram != null ? histogram.describe(name) : null;
+    }
+
+    public long getEstimatedBytes() {
+        long total = 0;
+        for (MeterHistogram histogram : meters.values()) {
+            total += histogram.estimatedBytes();
+        }
+        return total;
+    }
+
+    /**
+     * Meters registered without buckets while suspended, with their series
+     * count per name.
+     */
+    public List<Map<String, Object>> getSuspendedMeters() {
+        Map<String, Long> series = new HashMap<>();
+        for (Meter.Id id : suspendedIds) {
+            series.merge(id.getName(), 1L, Long::sum);
+        }
+        List<Map<String, Object>> result = new ArrayList<>(series.size());
+        series.forEach((name, count) -> {
+            Map<String, Object> meter = new LinkedHashMap<>();
+            meter.put("name", name);
+            meter.put("series", count);
+            result.add(meter);
+        });
+        result.sort(Comparator.comparing(meter -> (String) meter.get("name")));
+        return result;
+    }
+
+    /**
+     * Removes and returns the ids of meters registered without buckets while
+     * suspended, so they can be removed from their registries and pick up
+     * their histogram when next registered.
+     */
+    public Set<Meter.Id> takeSuspendedIds() {
+        Set<Meter.Id> taken = new HashSet<>();
+        for (Meter.Id id : suspendedIds) {
+            if (suspendedIds.remove(id)) {
+                taken.add(id);
+            }
+        }
+        return taken;
+    }
+
+    public boolean isSuspended() {
+        return suspended;
+    }
+
+    public void setSuspended(boolean suspended) {
+        this.suspended = suspended;
+    }
+
+    public boolean isExponentialFlavor() {
+        return exponentialFlavor;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    private static Map<String, Object> describePrefix(String prefix, String type, @Nullable Integer buckets,
+            List<Map<String, Object>> matched) {
+        long bytes = 0;
+        for (Map<String, Object> meter : matched) {
+            bytes += (long) meter.get("estimatedBytes");
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("prefix", prefix);
+        result.put("type", type);
+        if (buckets != null) {
+            result.put("bucketsPerSeries", buckets);
+            result.put("bytesPerSeries", (long) buckets * Long.BYTES);
+        }
+        result.put("estimatedBytes", bytes);
+        result.put("meters", matched);
+        return result;
+    }
+
+    static final class MeterHistogram {
+        final String prefix;
+        final int buckets;
+        final LongAdder series = new LongAdder();
+
+        MeterHistogram(String prefix, int buckets) {
+            this.prefix = prefix;
+            this.buckets = buckets;
+        }
+
+        long estimatedBytes() {
+            return series.sum() * buckets * Long.BYTES;
+        }
+
+        Map<String, Object> describe(String name) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("name", name);
+            result.put("series", series.sum());
+            result.put("bucketsPerSeries", buckets);
+            result.put("estimatedBytes", estimatedBytes());
+            return result;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.yourorg.observability.starter.metrics;
+
+import com.yourorg.observability.contract.ObsMetricPolicy;
+import com.yourorg.observability.contract.ObsSampledTimer;
+import com.yourorg.observability.contract.PrefixMatcher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Enforces {@link ObsMetricPolicy}: denies meters with a forbidden tag key or
+ * a name outside the allowed prefixes.
+ *
+ * <p>
+ * As a {@link MeterBinder} it publishes the meters it denied as
+ * {@code obs.internal.metrics.policy.denied} tagged {@code reason}
+ * ({@code forbidden_tag}, {@code prefix}). Those counters fall under the
+ * always-allowed {@link ObsMetricPolicy#INTERNAL_PREFIX}, so they pass the
+ * filter themselves.
+ * </p>
+ */
+public class ObsMetricPolicyFilter implements MeterFilter, MeterBinder {
+
+    private final Supplier<PrefixMatcher> allowed;
+    private final ObsSampledTimer timer;
+    private final LongAdder deniedByTag = new LongAdder();
+    private final LongAdder deniedByPrefix = new LongAdder();
+
+    /**
+     * @param allowed compiled allowed prefixes; obtained on the first meter,
+     *                off the context refresh path
+     */
+    public ObsMetricPolicyFilter(Supplier<PrefixMatcher> allowed, ObsSampledTimer timer) {
+        this.allowed = allowed;
+        this.timer = timer;
+    }
+
+    @Override
+    public MeterFilterReply accept(Meter.Id id) {
+        long start = timer.start();
+        MeterFilterReply reply = decide(id);
+        timer.stop(start);
+        return reply;
+    }
+
+    private MeterFilterReply decide(Meter.Id id) {
+        // Deny metrics with forbidden tag keys
+        for (Tag tag : id.getTagsAsIterable()) {
+            if (ObsMetricPolicy.isForbiddenTag(tag.getKey())) {
+                deniedByTag.increment();
+                return MeterFilterReply.DENY;
+            }
+        }
+
+        // Deny metrics not matching allowed prefixes (from contract OR config)
+        if (allowed.get().matches(id.getName())) {
+            return MeterFilterReply.NEUTRAL;
+        }
+        deniedByPrefix.increment();
+        return MeterFilterReply.DENY;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("obs.internal.metrics.policy.denied", deniedByTag, LongAdder::sum)
+                .description("Meter registrations denied by the metric policy")
+                .tag("reason", "forbidden_tag")
+                .register(registry);
+        FunctionCounter.builder("obs.internal.metrics.policy.denied", deniedByPrefix, LongAdder::sum)
+                .description("Meter registrations denied by the metric policy")
+                .tag("reason", "prefix")
+                .register(registry);
+    }
+
+    public long getDeniedCount() {
+        return deniedByTag.sum() + deniedByPrefix.sum();
+    }
+}
@@ -0,0 +1,56 @@
+package com.yourorg.observability.starter.metrics;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Defaults the OTLP registry to base-2 exponential histograms when
+ * {@code obs.metrics.histograms.exponential} lists any prefix, and bridges
+ * {@code obs.metrics.histograms.max-buckets} to
+ * {@code management.otlp.metrics.export.max-bucket-count}.
+ *
+ * <p>
+ * The flavor only changes meters that publish a percentile histogram
+ * without SLO boundaries, which {@link ObsHistogramFilter} restricts to the
+ * exponential prefixes. Explicitly set management properties win.
+ * Registered in {@code META-INF/spring.factories}.
+ * </p>
+ */
+public class ObsMetricsHistogramInitializer implements EnvironmentPostProcessor {
+
+    static final String FLAVOR_PROPERTY = "management.otlp.metrics.export.histogram-flavor";
+    static final String MAX_BUCKETS_PROPERTY = "management.otlp.metrics.export.max-bucket-count";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("obs.metrics.enabled", Boolean.class, false)) {
+            return;
+        }
+        Binder binder = Binder.get(environment);
+        Set<String> exponential = binder.bind("obs.metrics.histograms.exponential", Bindable.setOf(String.class))
+                .orElse(Set.of());
+        if (exponential.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> defaults = new HashMap<>();
+        if (!environment.containsProperty(FLAVOR_PROPERTY)) {
+            defaults.put(FLAVOR_PROPERTY, "base2_exponential_bucket_histogram");
+        }
+        if (!environment.containsProperty(MAX_BUCKETS_PROPERTY)) {
+            defaults.put(MAX_BUCKETS_PROPERTY,
+                    binder.bind("obs.metrics.histograms.max-buckets", Integer.class).orElse(160));
+        }
+        if (!defaults.isEmpty()) {
+            environment.getPropertySources().addLast(new MapPropertySource("obs-metrics-histogram-defaults", defaults));
+        }
+    }
+}
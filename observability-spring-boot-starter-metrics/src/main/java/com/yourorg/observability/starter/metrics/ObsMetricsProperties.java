@@ -1,5 +1,6 @@
 package com.yourorg.observability.starter.metrics;
 
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "obs.metrics")
@@ -15,6 +16,18 @@ public class ObsMetricsProperties {
      */
     private java.util.List<String> additionalAllowedPrefixes = java.util.Collections.emptyList();
 
+    /**
+     * Maximum number of per-meter-name allow/deny decisions remembered by the
+     * policy filter. 0 disables the memo.
+     */
+    private int policyDecisionCacheSize = 2048;
+
+    private final Cardinality cardinality = new Cardinality();
+
+    private final Histograms histograms = new Histograms();
+
+    private final Exemplars exemplars = new Exemplars();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -30,4 +43,176 @@ public class ObsMetricsProperties {
     public void setAdditionalAllowedPrefixes(java.util.List<String> additionalAllowedPrefixes) {
         this.additionalAllowedPrefixes = additionalAllowedPrefixes;
     }
+
+    public int getPolicyDecisionCacheSize() {
+        return policyDecisionCacheSize;
+    }
+
+    public void setPolicyDecisionCacheSize(int policyDecisionCacheSize) {
+        this.policyDecisionCacheSize = policyDecisionCacheSize;
+    }
+
+    public Cardinality getCardinality() {
+        return cardinality;
+    }
+
+    public Histograms getHistograms() {
+        return histograms;
+    }
+
+    public Exemplars getExemplars() {
+        return exemplars;
+    }
+
+    public static class Cardinality {
+        /**
+         * Cap tag combinations per meter name; further combinations share
+         * one series with "OTHER" values.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Tag combinations registered per meter name before collapsing.
+         */
+        private int maxCombinations = 1000;
+
+        /**
+         * Per-meter-name overrides of max-combinations.
+         */
+        private java.util.Map<String, Integer> limits = new java.util.LinkedHashMap<>();
+
+        /**
+         * Tag keys whose values are never collapsed (the common tags).
+         */
+        private java.util.Set<String> preservedTags = new java.util.LinkedHashSet<>(
+                java.util.List.of("service.name", "env"));
+
+        /**
+         * Replace UUIDs, numeric path segments and long numbers in tag
+         * values with "OTHER" before counting.
+         */
+        private boolean collapseIdValues = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxCombinations() {
+            return maxCombinations;
+        }
+
+        public void setMaxCombinations(int maxCombinations) {
+            this.maxCombinations = maxCombinations;
+        }
+
+        public java.util.Map<String, Integer> getLimits() {
+            return limits;
+        }
+
+        public void setLimits(java.util.Map<String, Integer> limits) {
+            this.limits = limits;
+        }
+
+        public java.util.Set<String> getPreservedTags() {
+            return preservedTags;
+        }
+
+        public void setPreservedTags(java.util.Set<String> preservedTags) {
+            this.preservedTags = preservedTags;
+        }
+
+        public boolean isCollapseIdValues() {
+            return collapseIdValues;
+        }
+
+        public void setCollapseIdValues(boolean collapseIdValues) {
+            this.collapseIdValues = collapseIdValues;
+        }
+    }
+
+    /**
+     * Histograms for selected meter-name prefixes only. A prefix matches the
+     * meter of that name and those below it ("http.server" matches
+     * "http.server.requests"); the longest matching prefix wins.
+     */
+    public static class Histograms {
+        /**
+         * Prefixes publishing an OTel base-2 exponential histogram.
+         */
+        private java.util.Set<String> exponential = new java.util.LinkedHashSet<>();
+
+        /**
+         * Prefixes publishing fixed buckets at these SLO boundaries
+         * (durations for timers, numbers for distribution summaries).
+         */
+        private java.util.Map<String, ServiceLevelObjectiveBoundary[]> slo = new java.util.LinkedHashMap<>();
+
+        /**
+         * Bucket limit of exponential histograms. Micrometer applies one limit
+         * registry-wide, so this becomes the default of
+         * management.otlp.metrics.export.max-bucket-count.
+         */
+        private int maxBuckets = 160;
+
+        public java.util.Set<String> getExponential() {
+            return exponential;
+        }
+
+        public void setExponential(java.util.Set<String> exponential) {
+            this.exponential = exponential;
+        }
+
+        public java.util.Map<String, ServiceLevelObjectiveBoundary[]> getSlo() {
+            return slo;
+        }
+
+        public void setSlo(java.util.Map<String, ServiceLevelObjectiveBoundary[]> slo) {
+            this.slo = slo;
+        }
+
+        public int getMaxBuckets() {
+            return maxBuckets;
+        }
+
+        public void setMaxBuckets(int maxBuckets) {
+            this.maxBuckets = maxBuckets;
+        }
+    }
+
+    /**
+     * Trace links on exported timers and distribution summaries, taken from
+     * observations that end under a sampled span.
+     */
+    public static class Exemplars {
+        /**
+         * Add exemplars to the OTLP export. Replaces Spring Boot's
+         * OtlpMeterRegistry with one created reflectively.
+         */
+        private boolean enabled;
+
+        /**
+         * Meters holding exemplars; further meters export none.
+         */
+        private int maxMeters = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxMeters() {
+            return maxMeters;
+        }
+
+        public void setMaxMeters(int maxMeters) {
+            this.maxMeters = maxMeters;
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.yourorg.observability.starter.metrics;
+
+import io.micrometer.registry.otlp.HistogramFlavor;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
+
+/**
+ * Native-image hints for the metrics starter.
+ *
+ * <p>
+ * {@link HistogramFlavor} is bound from the environment with a
+ * {@code Binder} at bean creation rather than through a
+ * {@code @ConfigurationProperties} class, so AOT does not see it. SLO
+ * boundaries are converted from strings through their static
+ * {@code valueOf}. The exemplar-aware OTLP registry is created through a
+ * package-private constructor found by reflection.
+ * </p>
+ */
+class ObsMetricsRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(HistogramFlavor.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(ServiceLevelObjectiveBoundary.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(OtlpMeterRegistry.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+    }
+}
@@ -0,0 +1,68 @@
+package com.yourorg.observability.starter.metrics;
+
+import com.yourorg.observability.contract.ObsSampledTimer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the platform's component timings and histogram memory.
+ *
+ * <p>
+ * Every {@link ObsSampledTimer} bean that is enabled becomes
+ * {@code obs.internal.component.time} tagged {@code component}. Its count is
+ * the number of sampled calls, about {@code 1/sample_every} of all calls;
+ * the mean is per call. The estimated bucket memory of
+ * {@link ObsHistogramFilter} is {@code obs.internal.metrics.histograms.bytes}.
+ * The {@link ObsExemplarSampler} publishes exported exemplars and meters
+ * holding a reservoir under {@code obs.internal.metrics.exemplars.*}.
+ * </p>
+ */
+public class ObsSelfMetrics implements MeterBinder {
+
+    private final List<ObsSampledTimer> timers;
+    private final ObsHistogramFilter histograms;
+    private final ObsExemplarSampler exemplars;
+
+    public ObsSelfMetrics(List<ObsSampledTimer> timers, ObsHistogramFilter histograms,
+            ObsExemplarSampler exemplars) {
+        this.timers = List.copyOf(timers);
+        this.histograms = histograms;
+        this.exemplars = exemplars;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ObsSampledTimer timer : timers) {
+            if (!timer.isEnabled()) {
+                continue;
+            }
+            FunctionTimer.builder("obs.internal.component.time", timer, ObsSampledTimer::getSampledCount,
+                    ObsSampledTimer::getTotalNanos, TimeUnit.NANOSECONDS)
+                    .description("Sampled time spent in an observability component")
+                    .tag("component", timer.getComponent())
+                    .tag("sample_every", Integer.toString(timer.getSampleEvery()))
+                    .register(registry);
+        }
+        if (histograms != null) {
+            Gauge.builder("obs.internal.metrics.histograms.bytes", histograms, ObsHistogramFilter::getEstimatedBytes)
+                    .description("Estimated memory of the histogram buckets configured by obs.metrics.histograms")
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+        if (exemplars != null) {
+            FunctionCounter.builder("obs.internal.metrics.exemplars.exported", exemplars,
+                    ObsExemplarSampler::getExportedCount)
+                    .description("Exemplars added to OTLP metric exports")
+                    .register(registry);
+            Gauge.builder("obs.internal.metrics.exemplars.meters", exemplars, ObsExemplarSampler::getMeterCount)
+                    .description("Meters holding an exemplar reservoir")
+                    .register(registry);
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package com.yourorg.observability.starter.metrics;
 
 import com.yourorg.observability.contract.ObsMetricPolicy;
-import io.micrometer.core.instrument.Meter;
+import com.yourorg.observability.contract.ObsSampledTimer;
+import com.yourorg.observability.contract.PrefixMatcher;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.Tag;
-import io.micrometer.core.instrument.config.MeterFilter;
-import io.micrometer.core.instrument.config.MeterFilterReply;
+import io.micrometer.registry.otlp.HistogramFlavor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.env.Environment;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Metrics module — adds org-standard common tags and metric governance
@@ -27,6 +34,14 @@ import org.springframework.context.annotation.Bean;
  * meters</li>
  * <li>Metric governance via {@link ObsMetricPolicy} (deny-list
  * enforcement)</li>
+ * <li>The platform's own {@code obs.internal.*} meters: denied meter counts,
+ * sampled component timings, histogram memory</li>
+ * <li>Tag cardinality limit per meter name with an "OTHER" overflow
+ * series, inspectable at {@code /actuator/obscardinality}</li>
+ * <li>Histograms for selected meter-name prefixes only, with their bucket
+ * memory at {@code /actuator/obshistograms}</li>
+ * <li>Exemplars linking timer buckets to sampled traces, see
+ * {@link ObsExemplarAutoConfiguration}</li>
  * <li>Feature toggle via {@code obs.metrics.enabled} (default: false /
  * opt-in)</li>
  * </ul>
@@ -35,6 +50,7 @@ import org.springframework.context.annotation.Bean;
 @EnableConfigurationProperties(ObsMetricsProperties.class)
 @ConditionalOnProperty(prefix = "obs.metrics", name = "enabled", havingValue = "true")
 @ConditionalOnClass(MeterRegistry.class)
+@ImportRuntimeHints(ObsMetricsRuntimeHints.class)
 public class ObservabilityMetricsAutoConfiguration {
 
     /**
@@ -63,31 +79,79 @@ public class ObservabilityMetricsAutoConfiguration {
      * This is the app-layer first line of defense. The Collector provides
      * the second layer (defense in depth).
      * </p>
+     *
+     * <p>
+     * Contract and configured prefixes are compiled once into a
+     * {@link PrefixMatcher}, so per-meter cost does not grow with the number
+     * of allowed prefixes. Compilation waits for the first meter, off the
+     * context refresh path.
+     * </p>
+     */
+    @Bean
+    public ObsMetricPolicyFilter obsMetricPolicyFilter(ObsMetricsProperties props,
+            @Qualifier("obsMetricPolicyTimer") ObsSampledTimer timer) {
+        return new ObsMetricPolicyFilter(SingletonSupplier.of(() -> ObsMetricPolicy
+                .allowedPrefixMatcher(props.getAdditionalAllowedPrefixes())
+                .withDecisionCache(props.getPolicyDecisionCacheSize())), timer);
+    }
+
+    @Bean
+    public ObsSampledTimer obsMetricPolicyTimer(
+            @Value("${obs.self-metrics.timing-sample-every:0}") int timingSampleEvery) {
+        return ObsSampledTimer.of("metric_policy_filter", timingSampleEvery);
+    }
+
+    /**
+     * Publishes every module's {@link ObsSampledTimer} and the histogram
+     * memory estimate under {@code obs.internal.*}.
+     */
+    @Bean
+    public ObsSelfMetrics obsSelfMetrics(ObjectProvider<ObsSampledTimer> timers,
+            ObjectProvider<ObsHistogramFilter> histograms, ObjectProvider<ObsExemplarSampler> exemplars) {
+        return new ObsSelfMetrics(timers.orderedStream().toList(), histograms.getIfAvailable(),
+                exemplars.getIfAvailable());
+    }
+
+    /**
+     * Caps tag combinations per meter name; see
+     * {@link ObsCardinalityLimitFilter}.
      */
     @Bean
-    public MeterFilter obsMetricPolicyFilter(ObsMetricsProperties props) {
-        return new MeterFilter() {
-            @Override
-            public MeterFilterReply accept(Meter.Id id) {
-                // Deny metrics with forbidden tag keys
-                for (Tag tag : id.getTags()) {
-                    if (ObsMetricPolicy.isForbiddenTag(tag.getKey())) {
-                        return MeterFilterReply.DENY;
-                    }
-                }
+    @ConditionalOnProperty(prefix = "obs.metrics.cardinality", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public ObsCardinalityLimitFilter obsCardinalityLimitFilter(ObsMetricsProperties props) {
+        ObsMetricsProperties.Cardinality cardinality = props.getCardinality();
+        return new ObsCardinalityLimitFilter(cardinality.getMaxCombinations(), cardinality.getLimits(),
+                cardinality.getPreservedTags(), cardinality.isCollapseIdValues());
+    }
 
-                // Deny metrics not matching allowed prefixes (from contract OR config)
-                String name = id.getName();
-                if (ObsMetricPolicy.isAllowed(name)) {
-                    return MeterFilterReply.NEUTRAL;
-                }
+    @Bean
+    @ConditionalOnBean(ObsCardinalityLimitFilter.class)
+    @ConditionalOnAvailableEndpoint(endpoint = ObsCardinalityEndpoint.class)
+    public ObsCardinalityEndpoint obsCardinalityEndpoint(ObsCardinalityLimitFilter filter) {
+        return new ObsCardinalityEndpoint(filter);
+    }
 
-                if (props.getAdditionalAllowedPrefixes().stream().anyMatch(name::startsWith)) {
-                    return MeterFilterReply.NEUTRAL;
-                }
+    /**
+     * Per-prefix exponential or SLO histograms; see
+     * {@link ObsHistogramFilter}. Reads the registry's histogram flavor and
+     * bucket limit so the memory estimate matches what is exported.
+     */
+    @Bean
+    public ObsHistogramFilter obsHistogramFilter(ObsMetricsProperties props, Environment environment) {
+        ObsMetricsProperties.Histograms histograms = props.getHistograms();
+        Binder binder = Binder.get(environment);
+        HistogramFlavor flavor = binder.bind(ObsMetricsHistogramInitializer.FLAVOR_PROPERTY, HistogramFlavor.class)
+                .orElse(HistogramFlavor.EXPLICIT_BUCKET_HISTOGRAM);
+        int maxBuckets = binder.bind(ObsMetricsHistogramInitializer.MAX_BUCKETS_PROPERTY, Integer.class)
+                .orElse(histograms.getMaxBuckets());
+        return new ObsHistogramFilter(histograms.getExponential(), histograms.getSlo(),
+                flavor == HistogramFlavor.BASE2_EXPONENTIAL_BUCKET_HISTOGRAM, maxBuckets);
+    }
 
-                return MeterFilterReply.DENY;
-            }
-        };
+    @Bean
+    @ConditionalOnAvailableEndpoint(endpoint = ObsHistogramEndpoint.class)
+    public ObsHistogramEndpoint obsHistogramEndpoint(ObsHistogramFilter filter) {
+        return new ObsHistogramEndpoint(filter);
     }
 }
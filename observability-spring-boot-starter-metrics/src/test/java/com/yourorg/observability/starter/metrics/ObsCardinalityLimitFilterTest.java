@@ -0,0 +1,116 @@
+package com.yourorg.observability.starter.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsCardinalityLimitFilterTest {
+
+    private static final Set<String> PRESERVED = Set.of("service.name", "env");
+
+    @Test
+    void admitsCombinationsUpToTheLimitAndCollapsesTheRestToOther() {
+        ObsCardinalityLimitFilter filter = new ObsCardinalityLimitFilter(3, Map.of(), PRESERVED, false);
+        MeterRegistry registry = registry(filter);
+
+        for (String uri : List.of("/a", "/b", "/c", "/d", "/e")) {
+            registry.counter("http.requests", "uri", uri, "method", "GET").increment();
+        }
+        registry.counter("http.requests", "uri", "/a", "method", "GET").increment();
+
+        assertThat(registry.find("http.requests").counters()).extracting(counter -> counter.getId().getTag("uri"))
+                .containsExactlyInAnyOrder("/a", "/b", "/c", ObsCardinalityLimitFilter.OVERFLOW_VALUE);
+        Counter overflow = registry.get("http.requests").tag("uri", ObsCardinalityLimitFilter.OVERFLOW_VALUE)
+                .counter();
+        assertThat(overflow.getId().getTag("method")).isEqualTo(ObsCardinalityLimitFilter.OVERFLOW_VALUE);
+        assertThat(overflow.count()).isEqualTo(2);
+        assertThat(registry.get("http.requests").tag("uri", "/a").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void overflowKeepsPreservedTags() {
+        ObsCardinalityLimitFilter filter = new ObsCardinalityLimitFilter(1, Map.of(), PRESERVED, false);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().commonTags("service.name", "orders", "env", "prod").meterFilter(filter);
+
+        registry.counter("jobs", "job", "import").increment();
+        registry.counter("jobs", "job", "export").increment();
+
+        Counter overflow = registry.get("jobs").tag("job", ObsCardinalityLimitFilter.OVERFLOW_VALUE).counter();
+        assertThat(overflow.getId().getTags()).contains(Tag.of("service.name", "orders"), Tag.of("env", "prod"));
+    }
+
+    @Test
+    void perMeterLimitOverridesTheDefault() {
+        ObsCardinalityLimitFilter filter = new ObsCardinalityLimitFilter(10, Map.of("db.calls", 1), PRESERVED,
+                false);
+        MeterRegistry registry = registry(filter);
+
+        for (String table : List.of("orders", "users", "items")) {
+            registry.counter("db.calls", "table", table).increment();
+            registry.counter("cache.calls", "cache", table).increment();
+        }
+
+        assertThat(registry.find("db.calls").counters()).hasSize(2);
+        assertThat(registry.find("cache.calls").counters()).hasSize(3);
+        assertThat(filter.getCardinality("db.calls")).containsEntry("limit", 1).containsEntry("overflowed", 2L);
+        assertThat(filter.getCardinality("cache.calls")).containsEntry("limit", 10);
+    }
+
+    @Test
+    void idLikeValuesAreCollapsedBeforeCounting() {
+        ObsCardinalityLimitFilter filter = new ObsCardinalityLimitFilter(2, Map.of(), PRESERVED, true);
+        MeterRegistry registry = registry(filter);
+
+        for (int i = 0; i < 5; i++) {
+            registry.counter("http.requests", "uri", "/orders/" + (1000 + i), "method", "GET").increment();
+        }
+
+        assertThat(registry.find("http.requests").counters()).singleElement().satisfies(counter -> {
+            assertThat(counter.getId().getTag("uri")).isEqualTo(ObsCardinalityLimitFilter.OVERFLOW_VALUE);
+            assertThat(counter.getId().getTag("method")).isEqualTo("GET");
+            assertThat(counter.count()).isEqualTo(5);
+        });
+        assertThat(filter.getCardinality("http.requests")).containsEntry("combinations", 1)
+                .containsEntry("overflowed", 0L);
+    }
+
+    @Test
+    void endpointReportsMetersMostUtilisedFirst() {
+        ObsCardinalityLimitFilter filter = new ObsCardinalityLimitFilter(4, Map.of(), PRESERVED, false);
+        MeterRegistry registry = registry(filter);
+        registry.counter("quiet", "k", "a").increment();
+        for (int i = 0; i < 6; i++) {
+            registry.counter("busy", "k", "v" + i).increment();
+        }
+        ObsCardinalityEndpoint endpoint = new ObsCardinalityEndpoint(filter);
+
+        Map<String, Object> cardinality = endpoint.cardinality();
+
+        assertThat(cardinality).containsEntry("maxCombinations", 4);
+        assertThat(filter.getCardinalities()).extracting(meter -> meter.get("name"))
+                .containsExactly("busy", "quiet");
+        assertThat(cardinality.get("meters")).isEqualTo(filter.getCardinalities());
+        assertThat(endpoint.meter("busy")).containsEntry("limit", 4)
+                .containsEntry("combinations", 4)
+                .containsEntry("overflowed", 2L)
+                .containsEntry("utilization", 1.0)
+                .hasEntrySatisfying("estimatedDistinct", estimate -> assertThat((long) estimate).isBetween(5L, 7L));
+        assertThat(endpoint.meter("quiet")).containsEntry("utilization", 0.25);
+        assertThat(endpoint.meter("missing")).isNull();
+    }
+
+    private static MeterRegistry registry(ObsCardinalityLimitFilter filter) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(filter);
+        return registry;
+    }
+}
@@ -0,0 +1,105 @@
+package com.yourorg.observability.starter.metrics;
+
+import com.yourorg.observability.testkit.OtlpTestReceiver;
+import com.yourorg.observability.testkit.ReceivedMetric;
+import com.yourorg.observability.testkit.TelemetryAssertions;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.otlp.OtlpMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.tracing.MicrometerTracingAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsExemplarAutoConfigurationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final OtlpTestReceiver receiver = OtlpTestReceiver.start();
+    private final SdkTracerProvider provider = SdkTracerProvider.builder()
+            .setSampler(Sampler.parentBased(Sampler.traceIdRatioBased(0.5)))
+            .build();
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObservabilityMetricsAutoConfiguration.class,
+                    ObsExemplarAutoConfiguration.class, MetricsAutoConfiguration.class,
+                    CompositeMeterRegistryAutoConfiguration.class, OtlpMetricsExportAutoConfiguration.class,
+                    ObservationAutoConfiguration.class, MicrometerTracingAutoConfiguration.class))
+            .withBean(Tracer.class, () -> new OtelTracer(provider.get("test"), new OtelCurrentTraceContext(),
+                    event -> {
+                    }))
+            .withPropertyValues("obs.metrics.enabled=true",
+                    "obs.metrics.histograms.slo.http.server.requests=10ms,100ms,1s",
+                    "management.otlp.metrics.export.url=" + receiver.getMetricsEndpoint(),
+                    "management.otlp.metrics.export.step=1h");
+
+    @AfterEach
+    void close() {
+        provider.close();
+        receiver.close();
+    }
+
+    @Test
+    void exportsExemplarsOfSampledRequests() {
+        List<String> sampled = new ArrayList<>();
+        List<String> unsampled = new ArrayList<>();
+        runner.withPropertyValues("obs.metrics.exemplars.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(ObsExemplarSampler.class);
+            ObservationRegistry observations = context.getBean(ObservationRegistry.class);
+            Tracer tracer = context.getBean(Tracer.class);
+            for (int i = 0; i < 40; i++) {
+                Observation observation = Observation.createNotStarted("http.server.requests", observations)
+                        .lowCardinalityKeyValue("uri", "/orders")
+                        .start();
+                try (Observation.Scope ignored = observation.openScope()) {
+                    TraceContext trace = tracer.currentSpan().context();
+                    (Boolean.TRUE.equals(trace.sampled()) ? sampled : unsampled).add(trace.traceId());
+                }
+                observation.stop();
+            }
+            context.getBean(OtlpMeterRegistry.class).close();
+        });
+
+        assertThat(sampled).isNotEmpty();
+        ReceivedMetric metric = TelemetryAssertions.assertMetricExported(receiver, "http.server.requests", TIMEOUT);
+        assertThat(metric.type()).isEqualTo("HISTOGRAM");
+        assertThat(metric.points()).singleElement().satisfies(point -> {
+            assertThat(point.count()).isEqualTo(40);
+            assertThat(point.attributes()).containsEntry("uri", "/orders").containsEntry("error", "none");
+            assertThat(point.exemplars()).isNotEmpty().allSatisfy(exemplar -> {
+                assertThat(exemplar.traceId()).isIn(sampled).isNotIn(unsampled);
+                assertThat(exemplar.spanId()).hasSize(16);
+                assertThat(exemplar.timeUnixNano()).isPositive();
+            });
+        });
+        TelemetryAssertions.assertMetricExported(receiver, "obs.internal.metrics.exemplars.meters", TIMEOUT);
+    }
+
+    @Test
+    void leavesTheRegistryToBootUnlessEnabled() {
+        runner.run(context -> {
+            assertThat(context).doesNotHaveBean(ObsExemplarSampler.class);
+            assertThat(context).doesNotHaveBean(ObsExemplarObservationHandler.class);
+            assertThat(context).hasSingleBean(OtlpMeterRegistry.class);
+            assertThat(context.getBeanFactory().getBeanDefinition("otlpMeterRegistry").getFactoryBeanName())
+                    .isEqualTo(OtlpMetricsExportAutoConfiguration.class.getName());
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.yourorg.observability.starter.metrics;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.util.NamedThreadFactory;
+import io.micrometer.registry.otlp.OtlpConfig;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsExemplarHttpSenderTest {
+
+    private static final OtlpConfig CONFIG = key -> key.equals("otlp.enabled") ? "false" : null;
+    private static final ThreadFactory THREADS = new NamedThreadFactory("otlp-test");
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ObsExemplarHttpSender.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final ObsExemplarSampler sampler = new ObsExemplarSampler(Clock.SYSTEM, 10);
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detachAppender() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void createsTheRegistryThroughThePackagePrivateConstructor() {
+        OtlpMeterRegistry registry = ObsExemplarHttpSender.registry(CONFIG, Clock.SYSTEM, THREADS, sampler);
+
+        assertThat(registry).isNotNull();
+        assertThat(appender.list).isEmpty();
+        registry.close();
+    }
+
+    @Test
+    void fallsBackToAPlainRegistryWhenTheConstructorIsMissing() {
+        OtlpMeterRegistry registry = ObsExemplarHttpSender.registry(CONFIG, Clock.SYSTEM, THREADS, sampler, () -> {
+            throw new NoSuchMethodException("OtlpMeterRegistry.<init>(..., HttpSender)");
+        });
+
+        assertThat(registry).isExactlyInstanceOf(OtlpMeterRegistry.class);
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage()).startsWith("OTLP exemplars disabled")
+                    .contains("NoSuchMethodException");
+        });
+        registry.counter("orders").increment();
+        assertThat(registry.get("orders").counter().count()).isEqualTo(1);
+        registry.close();
+    }
+
+    @Test
+    void fallsBackWhenTheConstructorCannotBeCalled() {
+        OtlpMeterRegistry registry = ObsExemplarHttpSender.registry(CONFIG, Clock.SYSTEM, THREADS, sampler,
+                () -> OtlpMeterRegistry.class.getConstructor(OtlpConfig.class, Clock.class));
+
+        assertThat(registry).isExactlyInstanceOf(OtlpMeterRegistry.class);
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.WARN);
+        registry.close();
+    }
+}
@@ -0,0 +1,116 @@
+package com.yourorg.observability.starter.metrics;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.NamingConvention;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.metrics.v1.Exemplar;
+import io.opentelemetry.proto.metrics.v1.Histogram;
+import io.opentelemetry.proto.metrics.v1.HistogramDataPoint;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsExemplarSamplerTest {
+
+    private static final String TRACE_A = "0af7651916cd43dd8448eb211c80319c";
+    private static final String TRACE_B = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String TRACE_C = "5b8efff798038103d269b633813fc60c";
+    private static final String SPAN = "b7ad6b7169203331";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ObsExemplarSampler sampler = new ObsExemplarSampler(new MockClock(), 10);
+
+    private final Timer timer = Timer.builder("http.server.requests")
+            .tag("uri", "/orders")
+            .serviceLevelObjectives(Duration.ofMillis(10), Duration.ofMillis(100))
+            .register(registry);
+
+    @Test
+    void keepsFirstExemplarPerBucket() {
+        sampler.sample(timer, Duration.ofMillis(5).toNanos(), TRACE_A, SPAN);
+        sampler.sample(timer, Duration.ofMillis(7).toNanos(), TRACE_B, SPAN);
+        sampler.sample(timer, Duration.ofMillis(500).toNanos(), TRACE_C, SPAN);
+
+        List<Exemplar> exemplars = exemplars(sampler.attach(request("http.server.requests", "/orders"),
+                NamingConvention.dot));
+
+        assertThat(exemplars).extracting(exemplar -> HexFormat.of().formatHex(exemplar.getTraceId().toByteArray()))
+                .containsExactly(TRACE_A, TRACE_C);
+        assertThat(exemplars.get(0).getAsDouble()).isEqualTo(0.005);
+        assertThat(HexFormat.of().formatHex(exemplars.get(0).getSpanId().toByteArray())).isEqualTo(SPAN);
+        assertThat(sampler.getExportedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void exportsEachExemplarOnce() {
+        sampler.sample(timer, Duration.ofMillis(5).toNanos(), TRACE_A, SPAN);
+        sampler.attach(request("http.server.requests", "/orders"), NamingConvention.dot);
+
+        ExportMetricsServiceRequest next = request("http.server.requests", "/orders");
+        assertThat(sampler.attach(next, NamingConvention.dot)).isSameAs(next);
+
+        sampler.sample(timer, Duration.ofMillis(6).toNanos(), TRACE_B, SPAN);
+        assertThat(exemplars(sampler.attach(next, NamingConvention.dot))).hasSize(1);
+    }
+
+    @Test
+    void attachesOnlyToTheMatchingSeries() {
+        sampler.sample(timer, Duration.ofMillis(5).toNanos(), TRACE_A, SPAN);
+
+        ExportMetricsServiceRequest other = request("http.server.requests", "/payments");
+        assertThat(sampler.attach(other, NamingConvention.dot)).isSameAs(other);
+        assertThat(exemplars(sampler.attach(request("http.server.requests", "/orders"), NamingConvention.dot)))
+                .hasSize(1);
+    }
+
+    @Test
+    void boundsMetersAndUsesLatencyLadderWithoutBuckets() {
+        ObsExemplarSampler capped = new ObsExemplarSampler(new MockClock(), 1);
+        Timer plain = Timer.builder("jobs.run").register(registry);
+
+        capped.sample(plain, Duration.ofMillis(1).toNanos(), TRACE_A, SPAN);
+        capped.sample(plain, Duration.ofSeconds(3).toNanos(), TRACE_B, SPAN);
+        capped.sample(timer, Duration.ofMillis(5).toNanos(), TRACE_C, SPAN);
+
+        assertThat(capped.getMeterCount()).isEqualTo(1);
+        assertThat(exemplars(capped.attach(request("jobs.run", null), NamingConvention.dot))).hasSize(2);
+    }
+
+    @Test
+    void ignoresRecordingsWithoutSpan() {
+        sampler.sample(timer, 1, null, null);
+
+        assertThat(sampler.getMeterCount()).isZero();
+        assertThat(sampler.hasPending()).isFalse();
+    }
+
+    private static ExportMetricsServiceRequest request(String name, String uri) {
+        HistogramDataPoint.Builder point = HistogramDataPoint.newBuilder().setCount(1);
+        if (uri != null) {
+            point.addAttributes(KeyValue.newBuilder().setKey("uri").setValue(AnyValue.newBuilder().setStringValue(uri)));
+        }
+        return ExportMetricsServiceRequest.newBuilder()
+                .addResourceMetrics(ResourceMetrics.newBuilder()
+                        .addScopeMetrics(ScopeMetrics.newBuilder()
+                                .addMetrics(Metric.newBuilder()
+                                        .setName(name)
+                                        .setHistogram(Histogram.newBuilder().addDataPoints(point)))))
+                .build();
+    }
+
+    private static List<Exemplar> exemplars(ExportMetricsServiceRequest request) {
+        return request.getResourceMetrics(0).getScopeMetrics(0).getMetrics(0).getHistogram().getDataPoints(0)
+                .getExemplarsList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.yourorg.observability.starter.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsHistogramFilterTest {
+
+    @Test
+    void matchesWholeNameSegmentsOnly() {
+        ObsHistogramFilter filter = new ObsHistogramFilter(Set.of("http.server"), Map.of(), true, 160);
+        MeterRegistry registry = registry(filter);
+
+        for (String name : List.of("http.server", "http.server.requests", "http.serverless.requests", "jvm.gc.pause")) {
+            registry.timer(name);
+        }
+        registry.counter("http.server.errors");
+
+        assertThat(filter.getHistogram("http.server")).isNotNull();
+        assertThat(filter.getHistogram("http.server.requests")).isNotNull();
+        assertThat(filter.getHistogram("http.serverless.requests")).isNull();
+        assertThat(filter.getHistogram("jvm.gc.pause")).isNull();
+        assertThat(filter.getHistogram("http.server.errors")).isNull();
+    }
+
+    @Test
+    void longestPrefixWinsAndSloWinsATie() {
+        ObsHistogramFilter filter = new ObsHistogramFilter(Set.of("http.server", "db"),
+                Map.of("http", boundaries("100ms", "1s"), "db", boundaries("50ms")), true, 160);
+        MeterRegistry registry = registry(filter);
+
+        registry.timer("http.server.requests");
+        registry.timer("http.client.requests");
+        registry.timer("db.queries");
+
+        assertThat(filter.getHistogram("http.server.requests")).containsEntry("bucketsPerSeries", 160);
+        assertThat(filter.getHistogram("http.client.requests")).containsEntry("bucketsPerSeries", 2);
+        assertThat(filter.getHistogram("db.queries")).containsEntry("bucketsPerSeries", 1);
+    }
+
+    @Test
+    void sloPrefixPublishesOnlyItsBoundaries() {
+        MeterRegistry registry = registry(new ObsHistogramFilter(Set.of(),
+                Map.of("orders", boundaries("100ms", "1s", "5.5")), false, 160));
+
+        Timer timer = registry.timer("orders.latency");
+        timer.record(Duration.ofMillis(20));
+        DistributionSummary summary = registry.summary("orders.size");
+        summary.record(3);
+
+        assertThat(Arrays.stream(buckets(timer)).map(bucket -> bucket.bucket(TimeUnit.MILLISECONDS)))
+                .containsExactly(5.0, 100.0, 1000.0);
+        assertThat(Arrays.stream(buckets(summary)).map(CountAtBucket::bucket)).containsExactly(5.5);
+        assertThat(buckets(timer)[1].count()).isEqualTo(1);
+    }
+
+    @Test
+    void exponentialPrefixUsesMaxBucketsOnlyWithTheExponentialFlavor() {
+        ObsHistogramFilter exponential = new ObsHistogramFilter(Set.of("http"), Map.of(), true, 80);
+        registry(exponential).timer("http.server.requests");
+        ObsHistogramFilter explicit = new ObsHistogramFilter(Set.of("http"), Map.of(), false, 80);
+        registry(explicit).timer("http.server.requests");
+
+        assertThat(exponential.getHistogram("http.server.requests")).containsEntry("bucketsPerSeries", 80);
+        assertThat(explicit.getHistogram("http.server.requests")).hasEntrySatisfying("bucketsPerSeries",
+                buckets -> assertThat((int) buckets).isPositive().isNotEqualTo(80));
+    }
+
+    @Test
+    void endpointReportsPrefixesLargestFirst() {
+        ObsHistogramFilter filter = new ObsHistogramFilter(Set.of("http", "cache"),
+                Map.of("db", boundaries("10ms", "100ms")), true, 160);
+        MeterRegistry registry = registry(filter);
+        registry.timer("http.server.requests", "uri", "/a");
+        registry.timer("http.server.requests", "uri", "/b");
+        registry.timer("db.queries");
+        ObsHistogramEndpoint endpoint = new ObsHistogramEndpoint(filter);
+
+        Map<String, Object> histograms = endpoint.histograms();
+
+        assertThat(histograms).containsEntry("flavor", "base2_exponential_bucket_histogram")
+                .containsEntry("maxBuckets", 160)
+                .containsEntry("estimatedBytes", (2L * 160 + 2) * Long.BYTES)
+                .containsEntry("suspended", false)
+                .containsEntry("registeredWhileSuspended", List.of());
+        assertThat(filter.getHistograms()).extracting(prefix -> prefix.get("prefix"))
+                .containsExactly("http", "db", "cache");
+        assertThat(filter.getHistograms().get(2)).containsEntry("type", "exponential")
+                .containsEntry("bytesPerSeries", 160L * Long.BYTES)
+                .containsEntry("estimatedBytes", 0L)
+                .containsEntry("meters", List.of());
+        assertThat(endpoint.meter("http.server.requests")).containsEntry("series", 2L)
+                .containsEntry("estimatedBytes", 2L * 160 * Long.BYTES);
+        assertThat(endpoint.meter("jvm.gc.pause")).isNull();
+    }
+
+    private static MeterRegistry registry(ObsHistogramFilter filter) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(filter);
+        return registry;
+    }
+
+    private static ServiceLevelObjectiveBoundary[] boundaries(String... values) {
+        return Arrays.stream(values).map(ServiceLevelObjectiveBoundary::valueOf)
+                .toArray(ServiceLevelObjectiveBoundary[]::new);
+    }
+
+    private static CountAtBucket[] buckets(Timer timer) {
+        return timer.takeSnapshot().histogramCounts();
+    }
+
+    private static CountAtBucket[] buckets(DistributionSummary summary) {
+        return summary.takeSnapshot().histogramCounts();
+    }
+}
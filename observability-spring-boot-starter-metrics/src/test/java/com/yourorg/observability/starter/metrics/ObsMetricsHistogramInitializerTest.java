@@ -0,0 +1,56 @@
+package com.yourorg.observability.starter.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsMetricsHistogramInitializerTest {
+
+    private final ObsMetricsHistogramInitializer initializer = new ObsMetricsHistogramInitializer();
+
+    @Test
+    void defaultsToExponentialFlavorWhenExponentialPrefixesAreListed() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("obs.metrics.enabled", "true")
+                .withProperty("obs.metrics.histograms.exponential", "http.server.requests,db");
+
+        initializer.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty(ObsMetricsHistogramInitializer.FLAVOR_PROPERTY))
+                .isEqualTo("base2_exponential_bucket_histogram");
+        assertThat(environment.getProperty(ObsMetricsHistogramInitializer.MAX_BUCKETS_PROPERTY)).isEqualTo("160");
+    }
+
+    @Test
+    void bridgesMaxBucketsAndLeavesExplicitSettingsAlone() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("obs.metrics.enabled", "true")
+                .withProperty("obs.metrics.histograms.exponential", "http")
+                .withProperty("obs.metrics.histograms.max-buckets", "80")
+                .withProperty(ObsMetricsHistogramInitializer.FLAVOR_PROPERTY, "explicit_bucket_histogram");
+
+        initializer.postProcessEnvironment(environment, new SpringApplication());
+
+        assertThat(environment.getProperty(ObsMetricsHistogramInitializer.FLAVOR_PROPERTY))
+                .isEqualTo("explicit_bucket_histogram");
+        assertThat(environment.getProperty(ObsMetricsHistogramInitializer.MAX_BUCKETS_PROPERTY)).isEqualTo("80");
+    }
+
+    @Test
+    void contributesNothingWithoutExponentialPrefixesOrWhenDisabled() {
+        MockEnvironment withoutPrefixes = new MockEnvironment()
+                .withProperty("obs.metrics.enabled", "true")
+                .withProperty("obs.metrics.histograms.slo.http", "100ms");
+        MockEnvironment disabled = new MockEnvironment()
+                .withProperty("obs.metrics.histograms.exponential", "http");
+
+        initializer.postProcessEnvironment(withoutPrefixes, new SpringApplication());
+        initializer.postProcessEnvironment(disabled, new SpringApplication());
+
+        assertThat(withoutPrefixes.containsProperty(ObsMetricsHistogramInitializer.FLAVOR_PROPERTY)).isFalse();
+        assertThat(disabled.containsProperty(ObsMetricsHistogramInitializer.FLAVOR_PROPERTY)).isFalse();
+        assertThat(disabled.containsProperty(ObsMetricsHistogramInitializer.MAX_BUCKETS_PROPERTY)).isFalse();
+    }
+}
@@ -0,0 +1,12 @@
+package com.yourorg.observability.starter.profiling;
+
+/**
+ * One method's share of a route's samples.
+ *
+ * @param method      declaring class and method name
+ * @param selfWeight  weight of samples with the method on top of the stack
+ * @param totalWeight weight of samples with the method anywhere on the stack
+ * @param selfSamples samples with the method on top of the stack
+ */
+public record ObsHotMethod(String method, long selfWeight, long totalWeight, long selfSamples) {
+}
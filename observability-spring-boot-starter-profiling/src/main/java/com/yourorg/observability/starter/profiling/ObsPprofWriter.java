@@ -0,0 +1,181 @@
+package com.yourorg.observability.starter.profiling;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes gzipped pprof profiles ({@code profile.proto}) without a protobuf
+ * runtime.
+ *
+ * <p>
+ * Every frame name becomes one function and one location with the same id.
+ * Samples carry a {@code route} label, so {@code go tool pprof -tagfocus}
+ * and flame graph tools can split or filter the profile by route.
+ * </p>
+ */
+final class ObsPprofWriter {
+    private ObsPprofWriter() {
+    }
+
+    // profile.proto field numbers
+    private static final int PROFILE_SAMPLE_TYPE = 1;
+    private static final int PROFILE_SAMPLE = 2;
+    private static final int PROFILE_LOCATION = 4;
+    private static final int PROFILE_FUNCTION = 5;
+    private static final int PROFILE_STRING_TABLE = 6;
+    private static final int PROFILE_TIME_NANOS = 9;
+    private static final int PROFILE_DURATION_NANOS = 10;
+    private static final int PROFILE_PERIOD_TYPE = 11;
+    private static final int PROFILE_PERIOD = 12;
+
+    private static final int VALUE_TYPE_TYPE = 1;
+    private static final int VALUE_TYPE_UNIT = 2;
+    private static final int SAMPLE_LOCATION_ID = 1;
+    private static final int SAMPLE_VALUE = 2;
+    private static final int SAMPLE_LABEL = 3;
+    private static final int LABEL_KEY = 1;
+    private static final int LABEL_STR = 2;
+    private static final int LOCATION_ID = 1;
+    private static final int LOCATION_LINE = 4;
+    private static final int LINE_FUNCTION_ID = 1;
+    private static final int FUNCTION_ID = 1;
+    private static final int FUNCTION_NAME = 2;
+    private static final int FUNCTION_SYSTEM_NAME = 3;
+
+    /**
+     * @param stacks      root-first stacks with their sample count and weight,
+     *                    per route
+     * @param periodNanos CPU sampling period; ignored for allocation profiles
+     */
+    static byte[] write(ObsSampleType type, Map<String, Map<List<String>, long[]>> stacks, long periodNanos,
+            long startEpochNanos, long endEpochNanos) {
+        Strings strings = new Strings();
+        Map<String, Long> functionIds = new HashMap<>();
+        ProtoBuffer profile = new ProtoBuffer();
+
+        profile.message(PROFILE_SAMPLE_TYPE, valueType(strings, type.countType, type.countUnit));
+        profile.message(PROFILE_SAMPLE_TYPE, valueType(strings, type.weightType, type.weightUnit));
+
+        long routeKey = strings.index("route");
+        stacks.forEach((route, byStack) -> {
+            long routeValue = strings.index(route);
+            byStack.forEach((frames, counts) -> {
+                ProtoBuffer sample = new ProtoBuffer();
+                ProtoBuffer locations = new ProtoBuffer();
+                for (int i = frames.size() - 1; i >= 0; i--) {
+                    String frame = frames.get(i);
+                    Long id = functionIds.get(frame);
+                    if (id == null) {
+                        id = (long) functionIds.size() + 1;
+                        functionIds.put(frame, id);
+                        long name = strings.index(frame);
+                        ProtoBuffer function = new ProtoBuffer();
+                        function.varint(FUNCTION_ID, id);
+                        function.varint(FUNCTION_NAME, name);
+                        function.varint(FUNCTION_SYSTEM_NAME, name);
+                        profile.message(PROFILE_FUNCTION, function);
+
+                        ProtoBuffer line = new ProtoBuffer();
+                        line.varint(LINE_FUNCTION_ID, id);
+                        ProtoBuffer location = new ProtoBuffer();
+                        location.varint(LOCATION_ID, id);
+                        location.message(LOCATION_LINE, line);
+                        profile.message(PROFILE_LOCATION, location);
+                    }
+                    locations.rawVarint(id);
+                }
+                sample.bytes(SAMPLE_LOCATION_ID, locations.toByteArray());
+                ProtoBuffer values = new ProtoBuffer();
+                values.rawVarint(counts[0]);
+                values.rawVarint(counts[1]);
+                sample.bytes(SAMPLE_VALUE, values.toByteArray());
+                ProtoBuffer label = new ProtoBuffer();
+                label.varint(LABEL_KEY, routeKey);
+                label.varint(LABEL_STR, routeValue);
+                sample.message(SAMPLE_LABEL, label);
+                profile.message(PROFILE_SAMPLE, sample);
+            });
+        });
+
+        profile.varint(PROFILE_TIME_NANOS, startEpochNanos);
+        profile.varint(PROFILE_DURATION_NANOS, Math.max(0, endEpochNanos - startEpochNanos));
+        if (type == ObsSampleType.CPU) {
+            profile.message(PROFILE_PERIOD_TYPE, valueType(strings, type.weightType, type.weightUnit));
+            profile.varint(PROFILE_PERIOD, periodNanos);
+        }
+        for (String string : strings.table) {
+            profile.bytes(PROFILE_STRING_TABLE, string.getBytes(StandardCharsets.UTF_8));
+        }
+        return gzip(profile.toByteArray());
+    }
+
+    private static ProtoBuffer valueType(Strings strings, String type, String unit) {
+        ProtoBuffer valueType = new ProtoBuffer();
+        valueType.varint(VALUE_TYPE_TYPE, strings.index(type));
+        valueType.varint(VALUE_TYPE_UNIT, strings.index(unit));
+        return valueType;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * String table; index 0 is the empty string, as pprof requires.
+     */
+    private static final class Strings {
+        final List<String> table = new ArrayList<>(List.of(""));
+        final Map<String, Long> indexes = new HashMap<>(Map.of("", 0L));
+
+        long index(String value) {
+            return indexes.computeIfAbsent(value, v -> {
+                table.add(v);
+                return (long) table.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Minimal protobuf writer: varint and length-delimited fields only.
+     */
+    private static final class ProtoBuffer extends ByteArrayOutputStream {
+
+        void varint(int field, long value) {
+            if (value != 0) {
+                rawVarint((long) field << 3);
+                rawVarint(value);
+            }
+        }
+
+        void bytes(int field, byte[] value) {
+            rawVarint(((long) field << 3) | 2);
+            rawVarint(value.length);
+            write(value, 0, value.length);
+        }
+
+        void message(int field, ProtoBuffer message) {
+            bytes(field, message.toByteArray());
+        }
+
+        void rawVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+    }
+}
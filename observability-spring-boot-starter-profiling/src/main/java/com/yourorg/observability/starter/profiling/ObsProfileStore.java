@@ -0,0 +1,228 @@
+package com.yourorg.observability.starter.profiling;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sample counts and weights per route, sample type and stack, in bounded
+ * memory.
+ *
+ * <p>
+ * Frame names are interned once; a stack is an array of frame ids from the
+ * root. At most {@code maxRoutes} routes are kept individually (later ones
+ * share {@link #OTHER_ROUTE}) and at most {@code maxStacksPerRoute} stacks per
+ * route and type (later ones share one {@link #OTHER_STACKS} entry), so the
+ * store stays within a few megabytes whatever the traffic.
+ * </p>
+ *
+ * <p>
+ * Written by the profiler's event thread, read by the endpoint; every method
+ * is synchronized.
+ * </p>
+ */
+public class ObsProfileStore {
+
+    /** Samples taken while the thread was not in a correlation scope. */
+    public static final String NO_ROUTE = "[no request]";
+    /** Routes beyond {@code maxRoutes}. */
+    public static final String OTHER_ROUTE = "[other]";
+    /** Frame standing for stacks beyond {@code maxStacksPerRoute}. */
+    public static final String OTHER_STACKS = "[other stacks]";
+
+    private final int maxRoutes;
+    private final int maxStacksPerRoute;
+    private final Map<String, Integer> frameIds = new HashMap<>();
+    private final List<String> frames = new ArrayList<>();
+    private final Map<String, Map<ObsSampleType, Map<Stack, long[]>>> routes = new HashMap<>();
+    private final Stack otherStacks;
+    private long startEpochNanos;
+
+    public ObsProfileStore(int maxRoutes, int maxStacksPerRoute) {
+        this.maxRoutes = maxRoutes;
+        this.maxStacksPerRoute = maxStacksPerRoute;
+        this.otherStacks = stack(List.of(OTHER_STACKS));
+        this.startEpochNanos = epochNanos();
+    }
+
+    /**
+     * Interns the frames of one stack, root first.
+     */
+    public synchronized Stack stack(List<String> rootFirstFrames) {
+        int[] ids = new int[rootFirstFrames.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = frameIds.computeIfAbsent(rootFirstFrames.get(i), frame -> {
+                frames.add(frame);
+                return frames.size() - 1;
+            });
+        }
+        return new Stack(ids);
+    }
+
+    public synchronized void record(String route, ObsSampleType type, Stack stack, long weight) {
+        Map<ObsSampleType, Map<Stack, long[]>> byType = routes.get(route);
+        if (byType == null) {
+            if (routes.size() >= maxRoutes && !NO_ROUTE.equals(route)) {
+                route = OTHER_ROUTE;
+            }
+            byType = routes.computeIfAbsent(route, r -> new EnumMap<>(ObsSampleType.class));
+        }
+        Map<Stack, long[]> stacks = byType.computeIfAbsent(type, t -> new HashMap<>());
+        long[] counts = stacks.get(stack);
+        if (counts == null) {
+            if (stacks.size() >= maxStacksPerRoute) {
+                stack = otherStacks;
+                counts = stacks.get(stack);
+            }
+            if (counts == null) {
+                counts = new long[2];
+                stacks.put(stack, counts);
+            }
+        }
+        counts[0]++;
+        counts[1] += weight;
+    }
+
+    /**
+     * Sample count and weight per route, heaviest first.
+     */
+    public synchronized Map<String, long[]> totals(ObsSampleType type) {
+        Map<String, long[]> totals = new HashMap<>();
+        routes.forEach((route, byType) -> {
+            Map<Stack, long[]> stacks = byType.get(type);
+            if (stacks != null) {
+                long[] sum = new long[2];
+                stacks.values().forEach(counts -> {
+                    sum[0] += counts[0];
+                    sum[1] += counts[1];
+                });
+                totals.put(route, sum);
+            }
+        });
+        Map<String, long[]> sorted = new LinkedHashMap<>();
+        totals.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1]).reversed())
+                .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    /**
+     * The {@code limit} methods of a route with the highest self weight;
+     * ties go to the higher total weight.
+     */
+    public synchronized List<ObsHotMethod> hotMethods(String route, ObsSampleType type, int limit) {
+        Map<Stack, long[]> stacks = stacks(route, type);
+        if (stacks.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, long[]> byFrame = new HashMap<>();
+        Set<Integer> seen = new HashSet<>();
+        stacks.forEach((stack, counts) -> {
+            int[] ids = stack.frames;
+            if (ids.length == 0) {
+                return;
+            }
+            long[] leaf = byFrame.computeIfAbsent(ids[ids.length - 1], id -> new long[3]);
+            leaf[0] += counts[1];
+            leaf[2] += counts[0];
+            seen.clear();
+            for (int id : ids) {
+                if (seen.add(id)) {
+                    byFrame.computeIfAbsent(id, i -> new long[3])[1] += counts[1];
+                }
+            }
+        });
+        return byFrame.entrySet().stream()
+                .filter(e -> e.getValue()[0] > 0)
+                .map(e -> new ObsHotMethod(frames.get(e.getKey()), e.getValue()[0], e.getValue()[1],
+                        e.getValue()[2]))
+                .sorted(Comparator.comparingLong(ObsHotMethod::selfWeight)
+                        .thenComparingLong(ObsHotMethod::totalWeight).reversed()
+                        .thenComparing(ObsHotMethod::method))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Copies the stacks of one route, or of every route when {@code route}
+     * is {@code null}, as root-first frame names with their sample count and
+     * weight.
+     */
+    public synchronized Map<String, Map<List<String>, long[]>> snapshot(String route, ObsSampleType type) {
+        Map<String, Map<List<String>, long[]>> result = new LinkedHashMap<>();
+        for (String name : route != null ? List.of(route) : routes.keySet()) {
+            Map<List<String>, long[]> copy = new LinkedHashMap<>();
+            stacks(name, type).forEach((stack, counts) -> copy.put(names(stack), counts.clone()));
+            if (!copy.isEmpty()) {
+                result.put(name, copy);
+            }
+        }
+        return result;
+    }
+
+    public synchronized int getRouteCount() {
+        return routes.size();
+    }
+
+    public synchronized long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    /**
+     * Drops all samples; interned frames are kept.
+     */
+    public synchronized void reset() {
+        routes.clear();
+        startEpochNanos = epochNanos();
+    }
+
+    private Map<Stack, long[]> stacks(String route, ObsSampleType type) {
+        Map<ObsSampleType, Map<Stack, long[]>> byType = routes.get(route);
+        Map<Stack, long[]> stacks = byType != null ? byType.get(type) : null;
+        return stacks != null ? stacks : Map.of();
+    }
+
+    private List<String> names(Stack stack) {
+        List<String> names = new ArrayList<>(stack.frames.length);
+        for (int id : stack.frames) {
+            names.add(frames.get(id));
+        }
+        return names;
+    }
+
+    private static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    /**
+     * Interned stack, root first.
+     */
+    public static final class Stack {
+        private final int[] frames;
+        private final int hash;
+
+        Stack(int[] frames) {
+            this.frames = frames;
+            this.hash = Arrays.hashCode(frames);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Stack stack && hash == stack.hash && Arrays.equals(frames, stack.frames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
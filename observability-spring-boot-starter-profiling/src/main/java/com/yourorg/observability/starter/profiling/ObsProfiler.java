@@ -0,0 +1,255 @@
+package com.yourorg.observability.starter.profiling;
+
+import com.yourorg.observability.starter.core.ObsRequestScopeEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Continuous CPU and allocation profiler built on JFR event streaming.
+ *
+ * <p>
+ * A {@link RecordingStream} delivers {@code jdk.ExecutionSample},
+ * {@code jdk.ObjectAllocationSample} and {@link ObsRequestScopeEvent}s to one
+ * daemon thread. Samples are folded into root-first stacks, attributed to the
+ * route of the correlation scope they were taken in
+ * ({@link ObsScopeAttributor}) and aggregated in an {@link ObsProfileStore}.
+ * </p>
+ *
+ * <p>
+ * Every {@value #BUDGET_CHECK_SECONDS} seconds the CPU time of that thread is
+ * compared with {@code obs.profiling.overhead-budget}. Over budget, the CPU
+ * sampling period is doubled and the allocation sample rate halved, up to
+ * {@value #MAX_THROTTLE}x; once well under budget, the rates are restored step
+ * by step. CPU sample weights follow the period in force.
+ * </p>
+ */
+public class ObsProfiler implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ObsProfiler.class);
+
+    static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    static final int MAX_THROTTLE = 16;
+    static final long BUDGET_CHECK_SECONDS = 10;
+
+    private static final String METRIC_PREFIX = "obs.internal.profiling";
+    private static final long SCOPE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int MAX_PENDING_PER_THREAD = 4096;
+
+    private final ObsProfilingProperties props;
+    private final ObsProfileStore store;
+    private final ObsScopeAttributor attributor;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final Map<ObsSampleType, LongAdder> samples = new EnumMap<>(ObsSampleType.class);
+
+    private RecordingStream stream;
+    private volatile int throttle = 1;
+    private volatile double overhead;
+    private long latestEventNanos;
+    private long checkStartWall;
+    private long checkStartCpu = -1;
+
+    public ObsProfiler(ObsProfilingProperties props, ObsProfileStore store) {
+        this.props = props;
+        this.store = store;
+        this.attributor = new ObsScopeAttributor(store, SCOPE_WAIT_NANOS, MAX_PENDING_PER_THREAD);
+        for (ObsSampleType type : ObsSampleType.values()) {
+            samples.put(type, new LongAdder());
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream next = new RecordingStream();
+        applyRates(next);
+        next.enable(ObsRequestScopeEvent.NAME).withoutThreshold().withoutStackTrace();
+        next.onEvent(EXECUTION_SAMPLE, this::onExecutionSample);
+        next.onEvent(ALLOCATION_SAMPLE, this::onAllocationSample);
+        next.onEvent(ObsRequestScopeEvent.NAME, this::onRequestScope);
+        next.onFlush(this::onFlush);
+        next.onError(e -> log.warn("Profiler event handling failed", e));
+        next.startAsync();
+        stream = next;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void applyRates(RecordingStream target) {
+        int factor = throttle;
+        target.enable(EXECUTION_SAMPLE).withPeriod(cpuPeriod(factor));
+        int allocationRate = props.getAllocationSamplesPerSecond();
+        if (allocationRate > 0) {
+            target.enable(ALLOCATION_SAMPLE).with("throttle", Math.max(1, allocationRate / factor) + "/s");
+        } else {
+            target.disable(ALLOCATION_SAMPLE);
+        }
+    }
+
+    private Duration cpuPeriod(int factor) {
+        return props.getCpuPeriod().multipliedBy(factor);
+    }
+
+    private void onExecutionSample(RecordedEvent event) {
+        record(event, event.getThread("sampledThread"), ObsSampleType.CPU, cpuPeriod(throttle).toNanos());
+    }
+
+    private void onAllocationSample(RecordedEvent event) {
+        record(event, event.getThread(), ObsSampleType.ALLOCATION, event.getLong("weight"));
+    }
+
+    private void record(RecordedEvent event, RecordedThread thread, ObsSampleType type, long weight) {
+        if (thread == null) {
+            return;
+        }
+        long time = nanos(event.getStartTime());
+        latestEventNanos = Math.max(latestEventNanos, time);
+        attributor.sample(thread.getJavaThreadId(), time, type, stack(event.getStackTrace()), weight);
+        samples.get(type).increment();
+    }
+
+    private void onRequestScope(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread != null) {
+            String route = event.getString("route");
+            attributor.scope(thread.getJavaThreadId(), nanos(event.getStartTime()), nanos(event.getEndTime()),
+                    route != null ? route : ObsProfileStore.NO_ROUTE);
+        }
+    }
+
+    private ObsProfileStore.Stack stack(RecordedStackTrace trace) {
+        if (trace == null) {
+            return store.stack(List.of("[unknown]"));
+        }
+        List<RecordedFrame> frames = trace.getFrames();
+        int depth = Math.min(frames.size(), props.getMaxStackDepth());
+        List<String> rootFirst = new ArrayList<>(depth + 1);
+        if (trace.isTruncated() || depth < frames.size()) {
+            rootFirst.add("[truncated]");
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            RecordedMethod method = frames.get(i).getMethod();
+            rootFirst.add(method.getType().getName() + "." + method.getName());
+        }
+        return store.stack(rootFirst);
+    }
+
+    private void onFlush() {
+        attributor.expire(latestEventNanos);
+        if (!threads.isCurrentThreadCpuTimeSupported()) {
+            return;
+        }
+        long wall = System.nanoTime();
+        long cpu = threads.getCurrentThreadCpuTime();
+        if (checkStartCpu < 0) {
+            checkStartWall = wall;
+            checkStartCpu = cpu;
+        } else if (wall - checkStartWall >= TimeUnit.SECONDS.toNanos(BUDGET_CHECK_SECONDS)) {
+            if (adjust(cpu - checkStartCpu, wall - checkStartWall)) {
+                synchronized (this) {
+                    if (stream != null) {
+                        applyRates(stream);
+                    }
+                }
+            }
+            checkStartWall = wall;
+            checkStartCpu = cpu;
+        }
+    }
+
+    /**
+     * Moves the throttle one step towards the overhead budget.
+     *
+     * @return whether the throttle changed
+     */
+    boolean adjust(long cpuNanos, long wallNanos) {
+        overhead = (double) cpuNanos / wallNanos;
+        double budget = props.getOverheadBudget();
+        int previous = throttle;
+        if (overhead > budget && previous < MAX_THROTTLE) {
+            throttle = previous * 2;
+        } else if (overhead < budget / 4 && previous > 1) {
+            throttle = previous / 2;
+        }
+        if (throttle == previous) {
+            return false;
+        }
+        log.info("Profiler overhead {} of one CPU (budget {}); sampling throttled {}x", String.format("%.4f", overhead),
+                budget, throttle);
+        return true;
+    }
+
+    public int getThrottle() {
+        return throttle;
+    }
+
+    public double getOverhead() {
+        return overhead;
+    }
+
+    public Duration getCpuPeriod() {
+        return cpuPeriod(throttle);
+    }
+
+    public long getSampleCount(ObsSampleType type) {
+        return samples.get(type).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (ObsSampleType type : ObsSampleType.values()) {
+            FunctionCounter.builder(METRIC_PREFIX + ".samples", samples.get(type), LongAdder::doubleValue)
+                    .description("JFR samples processed by the profiler")
+                    .tag("type", type.getId())
+                    .register(registry);
+        }
+        Gauge.builder(METRIC_PREFIX + ".overhead", this, ObsProfiler::getOverhead)
+                .description("Share of one CPU used by the profiler's event thread")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".throttle", this, ObsProfiler::getThrottle)
+                .description("Factor the sampling rates are currently divided by")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".routes", store, ObsProfileStore::getRouteCount)
+                .description("Routes with samples")
+                .register(registry);
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
@@ -0,0 +1,53 @@
+package com.yourorg.observability.starter.profiling;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Profiling module — continuous per-route CPU and allocation profiles from
+ * JFR, without an external profiler.
+ *
+ * <p>
+ * {@link ObsProfiler} streams the JVM's own execution and allocation samples
+ * and attributes them to the route of the request scope opened by the core
+ * starter's correlation filter; samples outside a request count as
+ * {@value ObsProfileStore#NO_ROUTE}. {@link ObsProfilingEndpoint} lists the
+ * hot methods per route and exports pprof.
+ * </p>
+ *
+ * <p>
+ * Opt-in via {@code obs.profiling.enabled=true}. Processing stays under
+ * {@code obs.profiling.overhead-budget} by throttling the sample rates;
+ * {@code obs.internal.profiling.*} reports samples, overhead and throttle.
+ * </p>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(ObsProfilingProperties.class)
+@ConditionalOnProperty(prefix = "obs.profiling", name = "enabled", havingValue = "true")
+@ConditionalOnClass(name = "jdk.jfr.consumer.RecordingStream")
+public class ObsProfilingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ObsProfileStore obsProfileStore(ObsProfilingProperties props) {
+        return new ObsProfileStore(props.getMaxRoutes(), props.getMaxStacksPerRoute());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ObsProfiler obsProfiler(ObsProfilingProperties props, ObsProfileStore store) {
+        return new ObsProfiler(props, store);
+    }
+
+    @Bean
+    @ConditionalOnAvailableEndpoint(endpoint = ObsProfilingEndpoint.class)
+    public ObsProfilingEndpoint obsProfilingEndpoint(ObsProfiler profiler, ObsProfileStore store,
+            ObsProfilingProperties props) {
+        return new ObsProfilingEndpoint(profiler, store, props.getTopMethods());
+    }
+}
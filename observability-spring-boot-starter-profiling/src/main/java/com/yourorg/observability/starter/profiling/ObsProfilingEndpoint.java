@@ -0,0 +1,93 @@
+package com.yourorg.observability.starter.profiling;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/obsprofile}: CPU or allocation samples per route with the
+ * top hot methods of each ({@code ?type=cpu|alloc&route=...&top=N}).
+ * {@code /actuator/obsprofile/pprof} exports the same samples as a gzipped
+ * pprof profile with a {@code route} label; DELETE starts over.
+ */
+@Endpoint(id = "obsprofile")
+public class ObsProfilingEndpoint {
+
+    private static final String PPROF = "pprof";
+
+    private final ObsProfiler profiler;
+    private final ObsProfileStore store;
+    private final int defaultTop;
+
+    public ObsProfilingEndpoint(ObsProfiler profiler, ObsProfileStore store, int defaultTop) {
+        this.profiler = profiler;
+        this.store = store;
+        this.defaultTop = defaultTop;
+    }
+
+    @ReadOperation
+    public Map<String, Object> profile(@Nullable String type, @Nullable String route, @Nullable Integer top) {
+        ObsSampleType sampleType = type(type);
+        int limit = top != null ? top : defaultTop;
+        Map<String, Object> routes = new LinkedHashMap<>();
+        store.totals(sampleType).forEach((name, totals) -> {
+            if (route == null || route.equals(name)) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("samples", totals[0]);
+                entry.put("weight", totals[1]);
+                entry.put("hotMethods", store.hotMethods(name, sampleType, limit));
+                routes.put(name, entry);
+            }
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("type", sampleType.getId());
+        result.put("unit", sampleType.weightUnit);
+        result.put("since", Instant.ofEpochSecond(0, store.getStartEpochNanos()));
+        result.put("samples", profiler.getSampleCount(sampleType));
+        result.put("cpuPeriod", profiler.getCpuPeriod());
+        result.put("throttle", profiler.getThrottle());
+        result.put("overhead", profiler.getOverhead());
+        result.put("routes", routes);
+        return result;
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource export(@Selector String format, @Nullable String type, @Nullable String route) {
+        if (!PPROF.equals(format)) {
+            return null;
+        }
+        ObsSampleType sampleType = type(type);
+        Instant now = Instant.now();
+        return new ByteArrayResource(ObsPprofWriter.write(sampleType, store.snapshot(route, sampleType),
+                profiler.getCpuPeriod().toNanos(), store.getStartEpochNanos(),
+                now.getEpochSecond() * 1_000_000_000L + now.getNano()));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        store.reset();
+    }
+
+    private static ObsSampleType type(String type) {
+        if (type == null) {
+            return ObsSampleType.CPU;
+        }
+        ObsSampleType sampleType = ObsSampleType.fromId(type);
+        if (sampleType == null) {
+            throw new InvalidEndpointRequestException("Unknown sample type '" + type + "'",
+                    "type must be one of " + List.of("cpu", "alloc"));
+        }
+        return sampleType;
+    }
+}
@@ -0,0 +1,117 @@
+package com.yourorg.observability.starter.profiling;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "obs.profiling")
+public class ObsProfilingProperties {
+
+    /**
+     * Run the continuous JFR profiler.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Interval between CPU samples of each running thread, before throttling.
+     */
+    private Duration cpuPeriod = Duration.ofMillis(20);
+
+    /**
+     * Allocation samples per second, before throttling; 0 disables allocation
+     * profiling.
+     */
+    private int allocationSamplesPerSecond = 100;
+
+    /**
+     * Share of one CPU the profiler's event processing may use. Above it, the
+     * sampling rates are halved until it fits again.
+     */
+    private double overheadBudget = 0.02;
+
+    /**
+     * Routes profiled individually; further routes share one "[other]" entry.
+     */
+    private int maxRoutes = 100;
+
+    /**
+     * Distinct stacks kept per route and sample type; further stacks are
+     * counted under one "[other stacks]" entry.
+     */
+    private int maxStacksPerRoute = 200;
+
+    /**
+     * Frames kept per stack, from the root; deeper frames are cut off.
+     */
+    private int maxStackDepth = 64;
+
+    /**
+     * Hot methods listed per route by /actuator/obsprofile when no "top" is
+     * given.
+     */
+    private int topMethods = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getCpuPeriod() {
+        return cpuPeriod;
+    }
+
+    public void setCpuPeriod(Duration cpuPeriod) {
+        this.cpuPeriod = cpuPeriod;
+    }
+
+    public int getAllocationSamplesPerSecond() {
+        return allocationSamplesPerSecond;
+    }
+
+    public void setAllocationSamplesPerSecond(int allocationSamplesPerSecond) {
+        this.allocationSamplesPerSecond = allocationSamplesPerSecond;
+    }
+
+    public double getOverheadBudget() {
+        return overheadBudget;
+    }
+
+    public void setOverheadBudget(double overheadBudget) {
+        this.overheadBudget = overheadBudget;
+    }
+
+    public int getMaxRoutes() {
+        return maxRoutes;
+    }
+
+    public void setMaxRoutes(int maxRoutes) {
+        this.maxRoutes = maxRoutes;
+    }
+
+    public int getMaxStacksPerRoute() {
+        return maxStacksPerRoute;
+    }
+
+    public void setMaxStacksPerRoute(int maxStacksPerRoute) {
+        this.maxStacksPerRoute = maxStacksPerRoute;
+    }
+
+    public int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    public void setMaxStackDepth(int maxStackDepth) {
+        this.maxStackDepth = maxStackDepth;
+    }
+
+    public int getTopMethods() {
+        return topMethods;
+    }
+
+    public void setTopMethods(int topMethods) {
+        this.topMethods = topMethods;
+    }
+}
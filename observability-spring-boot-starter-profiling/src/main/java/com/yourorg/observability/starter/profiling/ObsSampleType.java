@@ -0,0 +1,42 @@
+package com.yourorg.observability.starter.profiling;
+
+/**
+ * Kinds of samples aggregated per route, with their pprof sample types.
+ */
+public enum ObsSampleType {
+    /** {@code jdk.ExecutionSample}; weight is the sampling period in nanoseconds. */
+    CPU("cpu", "samples", "count", "cpu", "nanoseconds"),
+    /** {@code jdk.ObjectAllocationSample}; weight is the bytes the sample stands for. */
+    ALLOCATION("alloc", "alloc_samples", "count", "alloc_space", "bytes");
+
+    private final String id;
+    final String countType;
+    final String countUnit;
+    final String weightType;
+    final String weightUnit;
+
+    ObsSampleType(String id, String countType, String countUnit, String weightType, String weightUnit) {
+        this.id = id;
+        this.countType = countType;
+        this.countUnit = countUnit;
+        this.weightType = weightType;
+        this.weightUnit = weightUnit;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the type with the given id ({@code cpu}, {@code alloc}), or
+     *         {@code null}
+     */
+    public static ObsSampleType fromId(String id) {
+        for (ObsSampleType type : values()) {
+            if (type.id.equalsIgnoreCase(id)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
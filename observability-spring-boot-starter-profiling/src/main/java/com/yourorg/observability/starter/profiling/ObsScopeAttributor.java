@@ -0,0 +1,92 @@
+package com.yourorg.observability.starter.profiling;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Assigns samples to the route of the correlation scope they were taken in.
+ *
+ * <p>
+ * JFR delivers events ordered by commit time, and a request scope event is
+ * committed when the scope ends, after the samples taken inside it. Samples
+ * therefore wait per thread until the thread's next scope event: those inside
+ * its time range get its route, earlier ones {@link ObsProfileStore#NO_ROUTE}.
+ * Samples still waiting after {@code scopeWaitNanos} of event time, or beyond
+ * {@code maxPendingPerThread}, were not taken in a scope that will be reported
+ * and also go to {@link ObsProfileStore#NO_ROUTE}.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe; used only by the profiler's event thread.
+ * </p>
+ */
+class ObsScopeAttributor {
+
+    private final ObsProfileStore store;
+    private final long scopeWaitNanos;
+    private final int maxPendingPerThread;
+    private final Map<Long, ArrayDeque<Pending>> pending = new HashMap<>();
+
+    ObsScopeAttributor(ObsProfileStore store, long scopeWaitNanos, int maxPendingPerThread) {
+        this.store = store;
+        this.scopeWaitNanos = scopeWaitNanos;
+        this.maxPendingPerThread = maxPendingPerThread;
+    }
+
+    void sample(long threadId, long timeNanos, ObsSampleType type, ObsProfileStore.Stack stack, long weight) {
+        ArrayDeque<Pending> queue = pending.computeIfAbsent(threadId, id -> new ArrayDeque<>());
+        if (queue.size() >= maxPendingPerThread) {
+            queue.poll().recordTo(store, ObsProfileStore.NO_ROUTE);
+        }
+        queue.add(new Pending(timeNanos, type, stack, weight));
+    }
+
+    void scope(long threadId, long startNanos, long endNanos, String route) {
+        ArrayDeque<Pending> queue = pending.get(threadId);
+        if (queue == null) {
+            return;
+        }
+        while (!queue.isEmpty() && queue.peek().timeNanos <= endNanos) {
+            Pending sample = queue.poll();
+            sample.recordTo(store, sample.timeNanos >= startNanos ? route : ObsProfileStore.NO_ROUTE);
+        }
+        if (queue.isEmpty()) {
+            pending.remove(threadId);
+        }
+    }
+
+    /**
+     * Releases samples that waited longer than the scope wait, measured
+     * against the latest event time seen.
+     */
+    void expire(long nowNanos) {
+        long cutoff = nowNanos - scopeWaitNanos;
+        Iterator<ArrayDeque<Pending>> queues = pending.values().iterator();
+        while (queues.hasNext()) {
+            ArrayDeque<Pending> queue = queues.next();
+            while (!queue.isEmpty() && queue.peek().timeNanos < cutoff) {
+                queue.poll().recordTo(store, ObsProfileStore.NO_ROUTE);
+            }
+            if (queue.isEmpty()) {
+                queues.remove();
+            }
+        }
+    }
+
+    int pendingCount() {
+        int count = 0;
+        for (ArrayDeque<Pending> queue : pending.values()) {
+            count += queue.size();
+        }
+        return count;
+    }
+
+    private record Pending(long timeNanos, ObsSampleType type, ObsProfileStore.Stack stack, long weight) {
+
+        void recordTo(ObsProfileStore store, String route) {
+            store.record(route, type, stack, weight);
+        }
+    }
+}
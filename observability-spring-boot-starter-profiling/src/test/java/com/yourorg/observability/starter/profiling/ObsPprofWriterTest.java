@@ -0,0 +1,109 @@
+package com.yourorg.observability.starter.profiling;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsPprofWriterTest {
+
+    @Test
+    void writesGzippedProfileWithRouteLabels() throws IOException {
+        Map<List<String>, long[]> orders = new LinkedHashMap<>();
+        orders.put(List.of("Main.run", "Json.parse"), new long[] { 3, 60_000_000 });
+        orders.put(List.of("Main.run", "Db.query"), new long[] { 1, 20_000_000 });
+        Map<String, Map<List<String>, long[]>> stacks = Map.of("/orders", orders);
+
+        byte[] gzipped = ObsPprofWriter.write(ObsSampleType.CPU, stacks, 20_000_000, 1_000, 5_000);
+        Profile profile = Profile.parse(new GZIPInputStream(new ByteArrayInputStream(gzipped)).readAllBytes());
+
+        assertThat(profile.strings.get(0)).isEmpty();
+        assertThat(profile.strings).contains("samples", "count", "cpu", "nanoseconds", "route", "/orders",
+                "Main.run", "Json.parse", "Db.query");
+        assertThat(profile.functions).isEqualTo(3);
+        assertThat(profile.locations).isEqualTo(3);
+        assertThat(profile.period).isEqualTo(20_000_000);
+        assertThat(profile.durationNanos).isEqualTo(4_000);
+        assertThat(profile.samples).hasSize(2);
+        Sample first = profile.samples.get(0);
+        assertThat(first.values).containsExactly(3L, 60_000_000L);
+        // Leaf first: Json.parse got function id 1, Main.run id 2
+        assertThat(first.locationIds).containsExactly(1L, 2L);
+        assertThat(profile.strings.get((int) first.labelValue)).isEqualTo("/orders");
+    }
+
+    private record Sample(List<Long> locationIds, List<Long> values, long labelValue) {
+    }
+
+    private static final class Profile {
+        final List<String> strings = new ArrayList<>();
+        final List<Sample> samples = new ArrayList<>();
+        int functions;
+        int locations;
+        long period;
+        long durationNanos;
+
+        static Profile parse(byte[] bytes) throws IOException {
+            Profile profile = new Profile();
+            CodedInputStream in = CodedInputStream.newInstance(bytes);
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 2 -> profile.samples.add(sample(in.readBytes().newCodedInput()));
+                    case 4 -> {
+                        in.readBytes();
+                        profile.locations++;
+                    }
+                    case 5 -> {
+                        in.readBytes();
+                        profile.functions++;
+                    }
+                    case 6 -> profile.strings.add(in.readStringRequireUtf8());
+                    case 10 -> profile.durationNanos = in.readInt64();
+                    case 12 -> profile.period = in.readInt64();
+                    default -> in.skipField(tag);
+                }
+            }
+            return profile;
+        }
+
+        private static Sample sample(CodedInputStream in) throws IOException {
+            List<Long> locationIds = new ArrayList<>();
+            List<Long> values = new ArrayList<>();
+            long labelValue = 0;
+            for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case 1 -> packed(in, locationIds);
+                    case 2 -> packed(in, values);
+                    case 3 -> {
+                        CodedInputStream label = in.readBytes().newCodedInput();
+                        for (int labelTag = label.readTag(); labelTag != 0; labelTag = label.readTag()) {
+                            if (WireFormat.getTagFieldNumber(labelTag) == 2) {
+                                labelValue = label.readInt64();
+                            } else {
+                                label.skipField(labelTag);
+                            }
+                        }
+                    }
+                    default -> in.skipField(tag);
+                }
+            }
+            return new Sample(locationIds, values, labelValue);
+        }
+
+        private static void packed(CodedInputStream in, List<Long> target) throws IOException {
+            CodedInputStream packed = in.readBytes().newCodedInput();
+            while (!packed.isAtEnd()) {
+                target.add(packed.readUInt64());
+            }
+        }
+    }
+}
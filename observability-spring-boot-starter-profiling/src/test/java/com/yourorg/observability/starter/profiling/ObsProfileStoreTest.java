@@ -0,0 +1,75 @@
+package com.yourorg.observability.starter.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsProfileStoreTest {
+
+    private final ObsProfileStore store = new ObsProfileStore(2, 2);
+
+    @Test
+    void ranksHotMethodsBySelfWeight() {
+        ObsProfileStore.Stack parse = store.stack(List.of("Main.run", "Controller.get", "Json.parse"));
+        ObsProfileStore.Stack query = store.stack(List.of("Main.run", "Controller.get", "Db.query"));
+        record("/orders", parse, 3);
+        record("/orders", query, 1);
+
+        List<ObsHotMethod> hot = store.hotMethods("/orders", ObsSampleType.CPU, 10);
+
+        assertThat(hot).extracting(ObsHotMethod::method).containsExactly("Json.parse", "Db.query");
+        assertThat(hot.get(0)).isEqualTo(new ObsHotMethod("Json.parse", 30, 30, 3));
+        assertThat(store.totals(ObsSampleType.CPU).get("/orders")).containsExactly(4, 40);
+    }
+
+    @Test
+    void countsRecursiveFramesOnceInTotalWeight() {
+        ObsProfileStore.Stack recursive = store.stack(List.of("Tree.walk", "Tree.walk", "Tree.visit"));
+        record("/tree", recursive, 1);
+        record("/tree", store.stack(List.of("Tree.walk")), 1);
+
+        assertThat(store.hotMethods("/tree", ObsSampleType.CPU, 10))
+                .containsExactly(new ObsHotMethod("Tree.walk", 10, 20, 1), new ObsHotMethod("Tree.visit", 10, 10, 1));
+    }
+
+    @Test
+    void boundsRoutesAndStacks() {
+        ObsProfileStore.Stack a = store.stack(List.of("A.a"));
+        record("/one", a, 1);
+        record("/two", a, 1);
+        record("/three", a, 1);
+        record(ObsProfileStore.NO_ROUTE, a, 1);
+        record("/one", store.stack(List.of("B.b")), 1);
+        record("/one", store.stack(List.of("C.c")), 1);
+        record("/one", store.stack(List.of("D.d")), 1);
+
+        assertThat(store.totals(ObsSampleType.CPU)).containsOnlyKeys("/one", "/two", ObsProfileStore.OTHER_ROUTE,
+                ObsProfileStore.NO_ROUTE);
+        Map<List<String>, long[]> stacks = store.snapshot("/one", ObsSampleType.CPU).get("/one");
+        assertThat(stacks).containsOnlyKeys(List.of("A.a"), List.of("B.b"), List.of(ObsProfileStore.OTHER_STACKS));
+        assertThat(stacks.get(List.of(ObsProfileStore.OTHER_STACKS))).containsExactly(2, 20);
+    }
+
+    @Test
+    void keepsSampleTypesApartAndResets() {
+        ObsProfileStore.Stack stack = store.stack(List.of("A.a"));
+        record("/one", stack, 2);
+        store.record("/one", ObsSampleType.ALLOCATION, stack, 4096);
+
+        assertThat(store.totals(ObsSampleType.ALLOCATION).get("/one")).containsExactly(1, 4096);
+
+        store.reset();
+
+        assertThat(store.totals(ObsSampleType.CPU)).isEmpty();
+        assertThat(store.getRouteCount()).isZero();
+    }
+
+    private void record(String route, ObsProfileStore.Stack stack, int times) {
+        for (int i = 0; i < times; i++) {
+            store.record(route, ObsSampleType.CPU, stack, 10);
+        }
+    }
+}
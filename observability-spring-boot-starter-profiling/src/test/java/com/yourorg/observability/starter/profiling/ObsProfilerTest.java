@@ -0,0 +1,98 @@
+package com.yourorg.observability.starter.profiling;
+
+import com.yourorg.observability.starter.core.CorrelationIdFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsProfilerTest {
+
+    private static volatile long sink;
+
+    private final ObsProfilingProperties props = new ObsProfilingProperties();
+    private final ObsProfileStore store = new ObsProfileStore(10, 100);
+    private ObsProfiler profiler;
+
+    @AfterEach
+    void tearDown() {
+        if (profiler != null) {
+            profiler.stop();
+        }
+    }
+
+    @Test
+    void attributesCpuSamplesToTheRouteOfTheRequestScope() throws Exception {
+        props.setCpuPeriod(Duration.ofMillis(10));
+        profiler = new ObsProfiler(props, store);
+        profiler.start();
+        Thread.sleep(200);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/burn/7");
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/burn/{id}");
+            burn(Duration.ofMillis(600));
+        };
+        new CorrelationIdFilter("X-Correlation-Id").doFilter(request, new MockHttpServletResponse(), chain);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(15).toNanos();
+        while (!store.totals(ObsSampleType.CPU).containsKey("/burn/{id}") && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(store.totals(ObsSampleType.CPU)).containsKey("/burn/{id}");
+        Map<List<String>, long[]> stacks = store.snapshot("/burn/{id}", ObsSampleType.CPU).get("/burn/{id}");
+        assertThat(stacks.keySet()).anySatisfy(stack -> assertThat(stack).contains(ObsProfilerTest.class.getName() + ".burn"));
+        assertThat(profiler.getSampleCount(ObsSampleType.CPU)).isPositive();
+    }
+
+    @Test
+    void throttlesSamplingWhileOverBudget() {
+        props.setOverheadBudget(0.02);
+        profiler = new ObsProfiler(props, store);
+
+        assertThat(profiler.adjust(10, 100)).isTrue();
+        assertThat(profiler.adjust(10, 100)).isTrue();
+        assertThat(profiler.getThrottle()).isEqualTo(4);
+        assertThat(profiler.getCpuPeriod()).isEqualTo(Duration.ofMillis(80));
+        assertThat(profiler.getOverhead()).isEqualTo(0.1);
+
+        assertThat(profiler.adjust(1, 100)).isFalse();
+        assertThat(profiler.adjust(0, 100)).isTrue();
+        assertThat(profiler.getThrottle()).isEqualTo(2);
+
+        for (int i = 0; i < 10; i++) {
+            profiler.adjust(50, 100);
+        }
+        assertThat(profiler.getThrottle()).isEqualTo(ObsProfiler.MAX_THROTTLE);
+    }
+
+    @Test
+    void publishesSelfMeters() {
+        profiler = new ObsProfiler(props, store);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        profiler.bindTo(registry);
+
+        assertThat(registry.get("obs.internal.profiling.samples").tag("type", "cpu").functionCounter().count())
+                .isZero();
+        assertThat(registry.get("obs.internal.profiling.throttle").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("obs.internal.profiling.routes").gauge().value()).isZero();
+    }
+
+    private static void burn(Duration duration) {
+        long end = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < end) {
+            sink += Long.numberOfTrailingZeros(sink + System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.yourorg.observability.starter.profiling;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsProfilingAutoConfigurationTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObsProfilingAutoConfiguration.class));
+
+    @Test
+    void disabledByDefault() {
+        runner.run(context -> assertThat(context).doesNotHaveBean(ObsProfiler.class));
+    }
+
+    @Test
+    void startsProfilerAndExposesEndpoint() {
+        runner.withPropertyValues("obs.profiling.enabled=true", "obs.profiling.top-methods=3",
+                "management.endpoints.web.exposure.include=obsprofile")
+                .run(context -> {
+                    assertThat(context.getBean(ObsProfiler.class).isRunning()).isTrue();
+                    assertThat(context.getBean(ObsProfilingEndpoint.class).profile("alloc", null, null))
+                            .containsEntry("type", "alloc")
+                            .containsEntry("unit", "bytes")
+                            .containsEntry("throttle", 1);
+                });
+    }
+}
@@ -0,0 +1,55 @@
+package com.yourorg.observability.starter.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsScopeAttributorTest {
+
+    private final ObsProfileStore store = new ObsProfileStore(10, 10);
+    private final ObsScopeAttributor attributor = new ObsScopeAttributor(store, 1_000, 3);
+    private final ObsProfileStore.Stack stack = store.stack(List.of("A.a"));
+
+    @Test
+    void assignsSamplesInsideTheScopeToItsRoute() {
+        attributor.sample(1, 100, ObsSampleType.CPU, stack, 1);
+        attributor.sample(1, 200, ObsSampleType.CPU, stack, 1);
+        attributor.sample(2, 250, ObsSampleType.CPU, stack, 1);
+        attributor.sample(1, 300, ObsSampleType.CPU, stack, 1);
+        attributor.sample(1, 400, ObsSampleType.CPU, stack, 1);
+
+        attributor.scope(1, 150, 300, "/orders/{id}");
+
+        assertThat(samples("/orders/{id}")).isEqualTo(2);
+        assertThat(samples(ObsProfileStore.NO_ROUTE)).isEqualTo(1);
+        assertThat(attributor.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void releasesSamplesWithoutScopeAfterTheWait() {
+        attributor.sample(1, 100, ObsSampleType.CPU, stack, 1);
+        attributor.sample(1, 900, ObsSampleType.CPU, stack, 1);
+
+        attributor.expire(1_500);
+
+        assertThat(samples(ObsProfileStore.NO_ROUTE)).isEqualTo(1);
+        assertThat(attributor.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void boundsPendingSamplesPerThread() {
+        for (int i = 0; i < 5; i++) {
+            attributor.sample(1, i, ObsSampleType.CPU, stack, 1);
+        }
+
+        assertThat(attributor.pendingCount()).isEqualTo(3);
+        assertThat(samples(ObsProfileStore.NO_ROUTE)).isEqualTo(2);
+    }
+
+    private long samples(String route) {
+        long[] totals = store.totals(ObsSampleType.CPU).get(route);
+        return totals != null ? totals[0] : 0;
+    }
+}
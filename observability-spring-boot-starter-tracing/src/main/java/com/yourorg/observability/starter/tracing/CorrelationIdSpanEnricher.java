@@ -1,6 +1,9 @@
 package com.yourorg.observability.starter.tracing;
 
 import com.yourorg.observability.contract.ObsMdcKeys;
+import com.yourorg.observability.contract.ObsSampledTimer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import io.opentelemetry.sdk.trace.ReadableSpan;
@@ -8,24 +11,75 @@ import io.opentelemetry.sdk.trace.SpanProcessor;
 import org.slf4j.MDC;
 
 /**
- * Enriches every span with the org's {@code correlation_id} from MDC.
+ * Enriches spans with the org's {@code correlation_id}.
  *
  * <p>
  * This bridges the gap between log correlation (MDC-based) and trace
  * correlation (span attributes), enabling queries like
  * "find the trace for correlation_id = abc-123" in Grafana/Tempo.
  * </p>
+ *
+ * <p>
+ * The id is read from the span's parent {@link Context}
+ * ({@link ObsCorrelationContext}), where it is stored once per request. The
+ * MDC is consulted only for local root spans started outside such a request
+ * (reactive pipelines, scheduled jobs). With {@code localRootOnly}, child
+ * spans are skipped entirely; the id is then queried on the trace root.
+ * </p>
+ *
+ * <p>
+ * The optional {@link ObsSampledTimer} measures {@code onStart} on sampled
+ * spans.
+ * </p>
  */
 public class CorrelationIdSpanEnricher implements SpanProcessor {
 
+    private static final AttributeKey<String> CORRELATION_ID = AttributeKey.stringKey(ObsMdcKeys.CORRELATION_ID);
+
+    private final boolean localRootOnly;
+    private final ObsSampledTimer timer;
+
+    public CorrelationIdSpanEnricher() {
+        this(false);
+    }
+
+    public CorrelationIdSpanEnricher(boolean localRootOnly) {
+        this(localRootOnly, ObsSampledTimer.disabled("span_enricher"));
+    }
+
+    public CorrelationIdSpanEnricher(boolean localRootOnly, ObsSampledTimer timer) {
+        this.localRootOnly = localRootOnly;
+        this.timer = timer;
+    }
+
     @Override
     public void onStart(Context parentContext, ReadWriteSpan span) {
-        String cid = MDC.get(ObsMdcKeys.CORRELATION_ID);
-        if (cid != null && !cid.isBlank()) {
-            span.setAttribute("correlation_id", cid);
+        long start = timer.start();
+        enrich(parentContext, span);
+        timer.stop(start);
+    }
+
+    private void enrich(Context parentContext, ReadWriteSpan span) {
+        boolean localRoot = isLocalRoot(span.getParentSpanContext());
+        if (localRootOnly && !localRoot) {
+            return;
+        }
+        String cid = ObsCorrelationContext.correlationId(parentContext);
+        if (cid == null && localRoot) {
+            cid = MDC.get(ObsMdcKeys.CORRELATION_ID);
+            if (cid != null && cid.isBlank()) {
+                cid = null;
+            }
+        }
+        if (cid != null) {
+            span.setAttribute(CORRELATION_ID, cid);
         }
     }
 
+    private static boolean isLocalRoot(SpanContext parent) {
+        return !parent.isValid() || parent.isRemote();
+    }
+
     @Override
     public boolean isStartRequired() {
         return true;
@@ -0,0 +1,284 @@
+package com.yourorg.observability.starter.tracing;
+
+import com.yourorg.observability.contract.BoundedRingBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Batching span processor backed by lock-free ring buffers, replacing the
+ * SDK's {@code BatchSpanProcessor}.
+ *
+ * <p>
+ * Ending a sampled span is one {@link BoundedRingBuffer#offer}; when the ring
+ * is full the span is dropped and counted, the caller never blocks. Each of
+ * the {@code workers} threads is the only consumer of its own ring; producers
+ * pick a ring by thread. {@code queueSize} is split across the rings, each
+ * holding at least two spans. A worker exports when it holds
+ * {@code maxBatchSize} spans or {@code scheduleDelay} after the first span of
+ * a batch, and converts spans to {@link SpanData} there rather than on the
+ * request thread.
+ * </p>
+ *
+ * <p>
+ * As a {@link MeterBinder} it publishes {@code obs.internal.traces.export.*}:
+ * queue size and capacity, export latency, and exported, failed and dropped
+ * span counts.
+ * </p>
+ */
+public class ObsBatchSpanProcessor implements SpanProcessor, MeterBinder {
+
+    static final String METRIC_PREFIX = "obs.internal.traces.export";
+
+    private final SpanExporter exporter;
+    private final int maxBatchSize;
+    private final long scheduleDelayNanos;
+    private final long exportTimeoutNanos;
+    private final Worker[] workers;
+    private final int capacity;
+
+    private final LongAdder droppedSpans = new LongAdder();
+    private final LongAdder exportedSpans = new LongAdder();
+    private final LongAdder failedSpans = new LongAdder();
+    private volatile Timer exportLatency;
+    private volatile boolean running = true;
+
+    public ObsBatchSpanProcessor(SpanExporter exporter, int queueSize, int maxBatchSize, Duration scheduleDelay,
+            Duration exportTimeout, int workerCount) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be at least 1");
+        }
+        this.exporter = exporter;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.scheduleDelayNanos = scheduleDelay.toNanos();
+        this.exportTimeoutNanos = exportTimeout.toNanos();
+        // a single-slot ring cannot tell a filled slot from a free one
+        int ringSize = Math.max(2, (queueSize + workerCount - 1) / workerCount);
+        this.workers = new Worker[workerCount];
+        int total = 0;
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new Worker(ringSize, "obs-span-export-" + i);
+            total += workers[i].ring.capacity();
+        }
+        this.capacity = total;
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        // no-op
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (!span.getSpanContext().isSampled()) {
+            return;
+        }
+        Worker worker = workers.length == 1
+                ? workers[0]
+                : workers[(int) (Thread.currentThread().getId() % workers.length)];
+        if (!running || !worker.ring.offer(span)) {
+            droppedSpans.increment();
+        } else if (worker.parked && worker.ring.size() >= maxBatchSize) {
+            LockSupport.unpark(worker.thread);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        List<CompletableResultCode> results = new ArrayList<>(workers.length);
+        for (Worker worker : workers) {
+            results.add(worker.requestFlush());
+        }
+        return CompletableResultCode.ofAll(results);
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (!running) {
+            return CompletableResultCode.ofSuccess();
+        }
+        running = false;
+        long deadline = System.nanoTime() + exportTimeoutNanos;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+        for (Worker worker : workers) {
+            try {
+                worker.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return exporter.shutdown();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queue.size", this, ObsBatchSpanProcessor::getQueueSize)
+                .description("Sampled spans waiting to be exported")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".queue.capacity", this, processor -> processor.capacity)
+                .description("Spans the export queue can hold")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".spans.exported", exportedSpans, LongAdder::sum)
+                .description("Spans handed to the exporter successfully")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".spans.failed", failedSpans, LongAdder::sum)
+                .description("Spans in batches the exporter rejected or timed out on")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".spans.dropped", droppedSpans, LongAdder::sum)
+                .description("Spans dropped because the export queue was full")
+                .register(registry);
+        exportLatency = Timer.builder(METRIC_PREFIX + ".latency")
+                .description("Time to export one batch")
+                .register(registry);
+    }
+
+    public int getQueueSize() {
+        int size = 0;
+        for (Worker worker : workers) {
+            size += worker.ring.size();
+        }
+        return size;
+    }
+
+    public int getQueueCapacity() {
+        return capacity;
+    }
+
+    public long getDroppedSpanCount() {
+        return droppedSpans.sum();
+    }
+
+    public long getExportedSpanCount() {
+        return exportedSpans.sum();
+    }
+
+    public long getFailedSpanCount() {
+        return failedSpans.sum();
+    }
+
+    private void export(List<ReadableSpan> batch) {
+        List<SpanData> data = new ArrayList<>(batch.size());
+        for (ReadableSpan span : batch) {
+            data.add(span.toSpanData());
+        }
+        batch.clear();
+        long start = System.nanoTime();
+        try {
+            CompletableResultCode result = exporter.export(data);
+            result.join(exportTimeoutNanos, TimeUnit.NANOSECONDS);
+            if (result.isSuccess()) {
+                exportedSpans.add(data.size());
+            } else {
+                failedSpans.add(data.size());
+            }
+        } catch (RuntimeException e) {
+            failedSpans.add(data.size());
+        } finally {
+            Timer timer = exportLatency;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private final class Worker implements Runnable {
+        final BoundedRingBuffer<ReadableSpan> ring;
+        final Thread thread;
+        final AtomicReference<CompletableResultCode> flushRequest = new AtomicReference<>();
+        volatile boolean parked;
+
+        Worker(int ringSize, String name) {
+            this.ring = new BoundedRingBuffer<>(ringSize);
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        CompletableResultCode requestFlush() {
+            if (!thread.isAlive()) {
+                // stopped workers have drained their ring already
+                return CompletableResultCode.ofSuccess();
+            }
+            CompletableResultCode result = new CompletableResultCode();
+            CompletableResultCode pending = flushRequest.getAndSet(result);
+            if (pending != null) {
+                result.whenComplete(pending::succeed);
+            }
+            LockSupport.unpark(thread);
+            return result;
+        }
+
+        @Override
+        public void run() {
+            List<ReadableSpan> batch = new ArrayList<>(maxBatchSize);
+            long deadline = 0;
+            while (running) {
+                boolean wasEmpty = batch.isEmpty();
+                ring.drain(batch::add, maxBatchSize - batch.size());
+                long now = System.nanoTime();
+                if (wasEmpty && !batch.isEmpty()) {
+                    deadline = now + scheduleDelayNanos;
+                }
+                CompletableResultCode flush = flushRequest.getAndSet(null);
+                if (flush != null) {
+                    drainAll(batch);
+                    flush.succeed();
+                } else if (batch.size() >= maxBatchSize || (!batch.isEmpty() && now - deadline >= 0)) {
+                    export(batch);
+                } else {
+                    parked = true;
+                    if (ring.size() < maxBatchSize - batch.size() && flushRequest.get() == null && running) {
+                        LockSupport.parkNanos(this, batch.isEmpty() ? scheduleDelayNanos : deadline - now);
+                    }
+                    parked = false;
+                }
+            }
+            drainAll(batch);
+            CompletableResultCode flush = flushRequest.getAndSet(null);
+            if (flush != null) {
+                flush.succeed();
+            }
+        }
+
+        private void drainAll(List<ReadableSpan> batch) {
+            do {
+                ring.drain(batch::add, maxBatchSize - batch.size());
+                if (!batch.isEmpty()) {
+                    export(batch);
+                }
+            } while (ring.size() > 0);
+        }
+    }
+}
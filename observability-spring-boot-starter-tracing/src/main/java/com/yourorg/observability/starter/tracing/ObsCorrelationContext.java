@@ -0,0 +1,50 @@
+package com.yourorg.observability.starter.tracing;
+
+import com.yourorg.observability.contract.CorrelationId;
+import com.yourorg.observability.contract.ObsMdcKeys;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+
+/**
+ * Where the request's {@code correlation_id} lives in the OpenTelemetry
+ * {@link Context}.
+ *
+ * <p>
+ * The id is stored once per request under a private {@link ContextKey}, so
+ * every span started within the request finds it in its parent context
+ * without touching the MDC. Optionally it is also stored as the W3C baggage
+ * entry {@code correlation_id}, so the configured propagators forward it to
+ * downstream services.
+ * </p>
+ */
+public final class ObsCorrelationContext {
+
+    private static final ContextKey<String> CORRELATION_ID = ContextKey.named("obs-correlation-id");
+
+    private ObsCorrelationContext() {}
+
+    public static Context with(Context context, String correlationId, boolean asBaggage) {
+        Context updated = context.with(CORRELATION_ID, correlationId);
+        if (asBaggage) {
+            updated = Baggage.fromContext(updated).toBuilder()
+                    .put(ObsMdcKeys.CORRELATION_ID, correlationId)
+                    .build()
+                    .storeInContext(updated);
+        }
+        return updated;
+    }
+
+    /**
+     * The id stored by {@link #with}, else the inbound baggage entry (validated
+     * like an inbound header), else {@code null}.
+     */
+    public static String correlationId(Context context) {
+        String correlationId = context.get(CORRELATION_ID);
+        if (correlationId != null) {
+            return correlationId;
+        }
+        String fromBaggage = Baggage.fromContext(context).getEntryValue(ObsMdcKeys.CORRELATION_ID);
+        return fromBaggage != null ? CorrelationId.sanitize(fromBaggage, CorrelationId.DEFAULT_MAX_LENGTH) : null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.yourorg.observability.starter.tracing;
 
+import com.yourorg.observability.contract.ObsPathMatcher;
+
 import java.util.Set;
 
 /**
@@ -14,23 +16,25 @@ import java.util.Set;
  * <p>
  * Configurable via {@code obs.traces.noise-filter.excluded-paths}.
  * Defaults: {@code /actuator/health}, {@code /actuator/info}, {@code /ping}.
+ * Entries are prefixes unless written as {@code =/exact} or as an Ant-style
+ * template (see {@link ObsPathMatcher}).
  * </p>
  */
 public class ObsHealthCheckTracingFilter {
 
     private final Set<String> excludedPaths;
+    private final ObsPathMatcher matcher;
 
     public ObsHealthCheckTracingFilter(Set<String> excludedPaths) {
         this.excludedPaths = excludedPaths;
+        this.matcher = ObsPathMatcher.compile(excludedPaths);
     }
 
     /**
      * Returns true if the given URI path should be excluded from tracing.
      */
     public boolean isExcluded(String path) {
-        if (path == null)
-            return false;
-        return excludedPaths.stream().anyMatch(path::startsWith);
+        return matcher.matches(path);
     }
 
     public Set<String> getExcludedPaths() {
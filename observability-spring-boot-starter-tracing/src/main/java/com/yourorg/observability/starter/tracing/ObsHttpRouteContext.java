@@ -0,0 +1,38 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+
+import java.util.function.Supplier;
+
+/**
+ * Where the templated route of the current servlet request lives in the
+ * OpenTelemetry {@link Context}.
+ *
+ * <p>
+ * Server spans started by Micrometer observations carry no {@code http.route}
+ * when the sampler runs, because the handler is only matched later.
+ * {@link ObsHttpRouteFilter} stores the route here before the observation
+ * starts; it is resolved on first read, so requests whose spans never reach
+ * a root sampling decision do not pay for the match.
+ * </p>
+ */
+public final class ObsHttpRouteContext {
+
+    private static final ContextKey<Supplier<String>> HTTP_ROUTE = ContextKey.named("obs-http-route");
+
+    private ObsHttpRouteContext() {}
+
+    public static Context with(Context context, Supplier<String> route) {
+        return context.with(HTTP_ROUTE, route);
+    }
+
+    /**
+     * The route stored by {@link #with}, or {@code null} if there is none or
+     * no request mapping matches.
+     */
+    public static String route(Context context) {
+        Supplier<String> route = context.get(HTTP_ROUTE);
+        return route != null ? route.get() : null;
+    }
+}
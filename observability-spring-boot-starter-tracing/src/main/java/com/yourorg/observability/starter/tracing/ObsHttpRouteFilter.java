@@ -0,0 +1,79 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Makes the request's templated route available to the head sampler through
+ * {@link ObsHttpRouteContext}.
+ *
+ * <p>
+ * Runs ahead of Spring Boot's server observation filter. The route is the
+ * most specific request-mapping pattern matching the request path (the same
+ * value the handler mapping later reports as {@code http.route}); it is only
+ * computed when a sampler asks for it. Patterns are read from
+ * {@code patternSource} on first use, once the handler mappings are
+ * initialized. Paths no pattern matches have no route, so raw paths never
+ * become sampling keys.
+ * </p>
+ */
+public class ObsHttpRouteFilter extends OncePerRequestFilter {
+
+    private final Supplier<? extends Collection<String>> patternSource;
+    private volatile List<PathPattern> patterns;
+
+    public ObsHttpRouteFilter(Supplier<? extends Collection<String>> patternSource) {
+        this.patternSource = patternSource;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        try (Scope ignored = ObsHttpRouteContext.with(Context.current(), () -> resolve(path)).makeCurrent()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    String resolve(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns()) {
+            if (pattern.matches(container)) {
+                return pattern.getPatternString();
+            }
+        }
+        return null;
+    }
+
+    private List<PathPattern> patterns() {
+        List<PathPattern> current = patterns;
+        if (current == null) {
+            current = new ArrayList<>();
+            for (String pattern : patternSource.get()) {
+                try {
+                    current.add(PathPatternParser.defaultInstance.parse(pattern));
+                } catch (IllegalArgumentException ex) {
+                    // AntPathMatcher-only syntax; such routes fall back to the span name
+                }
+            }
+            current.sort(PathPattern.SPECIFICITY_COMPARATOR);
+            patterns = List.copyOf(current);
+        }
+        return current;
+    }
+}
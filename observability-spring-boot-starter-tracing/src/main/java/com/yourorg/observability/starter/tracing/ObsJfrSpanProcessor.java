@@ -0,0 +1,79 @@
+package com.yourorg.observability.starter.tracing;
+
+import com.yourorg.observability.contract.ObsMdcKeys;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import org.slf4j.MDC;
+
+/**
+ * Reports the span lifecycle to JFR as {@link ObsSpanStartEvent} and
+ * {@link ObsSpanEndEvent}, so a recording lines spans up with the CPU,
+ * allocation and lock events of the same threads.
+ *
+ * <p>
+ * Both events are disabled by default; until a recording enables them each
+ * callback is a single flag check. The correlation id is resolved the same
+ * way as in {@link CorrelationIdSpanEnricher}, so it matches the request
+ * scope and log-append events.
+ * </p>
+ */
+public class ObsJfrSpanProcessor implements SpanProcessor {
+
+    private static final AttributeKey<String> CORRELATION_ID = AttributeKey.stringKey(ObsMdcKeys.CORRELATION_ID);
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        ObsSpanStartEvent event = new ObsSpanStartEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        SpanContext context = span.getSpanContext();
+        SpanContext parent = span.getParentSpanContext();
+        event.correlationId = correlationId(parentContext);
+        event.traceId = context.getTraceId();
+        event.spanId = context.getSpanId();
+        event.parentSpanId = parent.isValid() ? parent.getSpanId() : null;
+        event.name = span.getName();
+        event.commit();
+    }
+
+    private static String correlationId(Context parentContext) {
+        String cid = ObsCorrelationContext.correlationId(parentContext);
+        if (cid == null) {
+            cid = MDC.get(ObsMdcKeys.CORRELATION_ID);
+        }
+        return cid;
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return true;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        ObsSpanEndEvent event = new ObsSpanEndEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        SpanContext context = span.getSpanContext();
+        String cid = span.getAttribute(CORRELATION_ID);
+        event.correlationId = cid != null ? cid : MDC.get(ObsMdcKeys.CORRELATION_ID);
+        event.traceId = context.getTraceId();
+        event.spanId = context.getSpanId();
+        event.name = span.getName();
+        event.spanDuration = span.getLatencyNanos();
+        event.error = span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR;
+        event.commit();
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+}
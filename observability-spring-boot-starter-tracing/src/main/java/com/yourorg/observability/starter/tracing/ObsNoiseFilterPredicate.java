@@ -0,0 +1,91 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.observation.transport.ReceiverContext;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ObservationPredicate} that suppresses observations for noise
+ * endpoints configured in {@link ObsHealthCheckTracingFilter}.
+ *
+ * <p>
+ * Only inbound request observations ({@link ReceiverContext}) are inspected;
+ * every other context (JDBC, cache, tasks, outbound clients) is accepted after
+ * a single type check. The path is read from the request carrier — the
+ * servlet or reactive request — because the {@code uri} key value is only
+ * added when the observation stops, after this predicate has run. Nothing on
+ * this path throws or allocates.
+ * </p>
+ */
+public class ObsNoiseFilterPredicate implements ObservationPredicate {
+
+    static final String SERVLET_REQUEST = "jakarta.servlet.http.HttpServletRequest";
+    static final String REACTIVE_REQUEST = "org.springframework.http.server.reactive.ServerHttpRequest";
+
+    private static final boolean SERVLET_PRESENT = ClassUtils.isPresent(
+            SERVLET_REQUEST, ObsNoiseFilterPredicate.class.getClassLoader());
+    private static final boolean REACTIVE_PRESENT = ClassUtils.isPresent(
+            REACTIVE_REQUEST, ObsNoiseFilterPredicate.class.getClassLoader());
+
+    private final ObsHealthCheckTracingFilter filter;
+
+    public ObsNoiseFilterPredicate(ObsHealthCheckTracingFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean test(String name, Observation.Context context) {
+        if (!(context instanceof ReceiverContext<?> receiver)) {
+            return true;
+        }
+        String path = requestPath(receiver.getCarrier());
+        if (path == null) {
+            KeyValue uri = context.getLowCardinalityKeyValue("uri");
+            path = uri != null ? uri.getValue() : null;
+        }
+        return !filter.isExcluded(path);
+    }
+
+    private static String requestPath(Object carrier) {
+        if (SERVLET_PRESENT && ServletPaths.isRequest(carrier)) {
+            return ServletPaths.path(carrier);
+        }
+        if (REACTIVE_PRESENT && ReactivePaths.isRequest(carrier)) {
+            return ReactivePaths.path(carrier);
+        }
+        return null;
+    }
+
+    /**
+     * Isolated so the servlet API is only loaded when present.
+     */
+    private static final class ServletPaths {
+        static boolean isRequest(Object carrier) {
+            return carrier instanceof HttpServletRequest;
+        }
+
+        static String path(Object carrier) {
+            HttpServletRequest request = (HttpServletRequest) carrier;
+            String uri = request.getRequestURI();
+            String contextPath = request.getContextPath();
+            return contextPath == null || contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+        }
+    }
+
+    /**
+     * Isolated so spring-web's reactive types are only loaded when present.
+     */
+    private static final class ReactivePaths {
+        static boolean isRequest(Object carrier) {
+            return carrier instanceof ServerHttpRequest;
+        }
+
+        static String path(Object carrier) {
+            return ((ServerHttpRequest) carrier).getPath().pathWithinApplication().value();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Head sampler with a spans-per-second budget instead of a fixed
+ * probability, so export volume stays flat as traffic grows.
+ *
+ * <p>
+ * Spans with a parent follow the parent's decision. A new trace is sampled
+ * when both its route's bucket and the service-wide bucket have a token; the
+ * route's token is only taken once the service bucket has admitted the span,
+ * so spans refused by the service budget do not drain their route. In
+ * addition, every route has a small reserved bucket
+ * ({@code minPerRouteSpansPerSecond}) that is tried first and bypasses the
+ * service budget, so quiet routes are still traced during a spike elsewhere.
+ * The worst-case rate is therefore {@code spansPerSecond + routes *
+ * minPerRouteSpansPerSecond}.
+ * </p>
+ *
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding its theoretical arrival
+ * time (GCRA), updated with one CAS. The route is taken from
+ * {@code http.route}, else from the templated route that
+ * {@link ObsHttpRouteFilter} put into the parent context (spans started by
+ * Micrometer observations carry no attributes yet), else the span name. Raw
+ * paths are never used, so keys stay bounded by the application's routes. At
+ * most {@code maxRoutes} keys are tracked, the rest share one bucket.
+ * </p>
+ *
+ * <p>
+ * Rates can be changed at runtime ({@link #setLimits}); buckets pick up the
+ * new rate on their next decision.
+ * </p>
+ *
+ * <p>
+ * As a {@link MeterBinder} it publishes root-span decisions as
+ * {@code obs.internal.traces.sampler.spans} tagged {@code decision} and the
+ * number of tracked routes.
+ * </p>
+ */
+public class ObsRateLimitingSampler implements Sampler, MeterBinder {
+
+    static final String OVERFLOW_ROUTE = "<other>";
+
+    private static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final LongSupplier nanoClock;
+    private final int maxRoutes;
+    private final Map<String, RouteBuckets> routes = new ConcurrentHashMap<>();
+    private final RouteBuckets overflow;
+    private final Bucket service;
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile Limits limits;
+
+    public ObsRateLimitingSampler(double spansPerSecond, double perRouteSpansPerSecond,
+            double minPerRouteSpansPerSecond, int maxRoutes) {
+        this(spansPerSecond, perRouteSpansPerSecond, minPerRouteSpansPerSecond, maxRoutes, System::nanoTime);
+    }
+
+    ObsRateLimitingSampler(double spansPerSecond, double perRouteSpansPerSecond, double minPerRouteSpansPerSecond,
+            int maxRoutes, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.maxRoutes = maxRoutes;
+        this.limits = new Limits(spansPerSecond, perRouteSpansPerSecond, minPerRouteSpansPerSecond);
+        long now = nanoClock.getAsLong();
+        this.service = new Bucket(now);
+        this.overflow = new RouteBuckets(now);
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+            Attributes attributes, List<LinkData> parentLinks) {
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (parent.isValid()) {
+            return parent.isSampled() ? SamplingResult.recordAndSample() : SamplingResult.drop();
+        }
+
+        Limits current = limits;
+        RouteBuckets route = bucketsFor(routeOf(parentContext, name, attributes));
+        long now = nanoClock.getAsLong();
+        boolean sample = route.reserved.tryAcquire(now, current.minPerRouteInterval, current.minPerRouteBurst)
+                || (route.shared.hasToken(now, current.perRouteInterval, current.perRouteBurst)
+                        && service.tryAcquire(now, current.serviceInterval, current.serviceBurst)
+                        && route.shared.tryAcquire(now, current.perRouteInterval, current.perRouteBurst));
+        if (sample) {
+            sampled.increment();
+            return SamplingResult.recordAndSample();
+        }
+        dropped.increment();
+        return SamplingResult.drop();
+    }
+
+    private static String routeOf(Context parentContext, String name, Attributes attributes) {
+        String route = attributes.get(HTTP_ROUTE);
+        if (route == null) {
+            route = ObsHttpRouteContext.route(parentContext);
+        }
+        return route != null ? route : name;
+    }
+
+    private RouteBuckets bucketsFor(String route) {
+        RouteBuckets buckets = routes.get(route);
+        if (buckets != null) {
+            return buckets;
+        }
+        if (routes.size() >= maxRoutes) {
+            return overflow;
+        }
+        return routes.computeIfAbsent(route, key -> new RouteBuckets(nanoClock.getAsLong()));
+    }
+
+    public void setLimits(double spansPerSecond, double perRouteSpansPerSecond, double minPerRouteSpansPerSecond) {
+        this.limits = new Limits(spansPerSecond, perRouteSpansPerSecond, minPerRouteSpansPerSecond);
+    }
+
+    public double getSpansPerSecond() {
+        return limits.spansPerSecond;
+    }
+
+    public double getPerRouteSpansPerSecond() {
+        return limits.perRouteSpansPerSecond;
+    }
+
+    public double getMinPerRouteSpansPerSecond() {
+        return limits.minPerRouteSpansPerSecond;
+    }
+
+    /**
+     * Root spans sampled since start.
+     */
+    public long getSampledCount() {
+        return sampled.sum();
+    }
+
+    /**
+     * Root spans dropped since start.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getTrackedRouteCount() {
+        return routes.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("obs.internal.traces.sampler.spans", sampled, LongAdder::sum)
+                .description("Root spans decided by the rate-limiting sampler")
+                .tag("decision", "sampled")
+                .register(registry);
+        FunctionCounter.builder("obs.internal.traces.sampler.spans", dropped, LongAdder::sum)
+                .description("Root spans decided by the rate-limiting sampler")
+                .tag("decision", "dropped")
+                .register(registry);
+        Gauge.builder("obs.internal.traces.sampler.routes", this, ObsRateLimitingSampler::getTrackedRouteCount)
+                .description("Routes with their own sampling budget")
+                .register(registry);
+    }
+
+    @Override
+    public String getDescription() {
+        Limits current = limits;
+        return "ObsRateLimitingSampler{spansPerSecond=" + current.spansPerSecond
+                + ", perRouteSpansPerSecond=" + current.perRouteSpansPerSecond
+                + ", minPerRouteSpansPerSecond=" + current.minPerRouteSpansPerSecond + "}";
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+
+    /**
+     * Rates as GCRA emission intervals; a burst of one second's worth of
+     * tokens (at least one) is allowed.
+     */
+    private static final class Limits {
+        final double spansPerSecond;
+        final double perRouteSpansPerSecond;
+        final double minPerRouteSpansPerSecond;
+        final long serviceInterval;
+        final long serviceBurst;
+        final long perRouteInterval;
+        final long perRouteBurst;
+        final long minPerRouteInterval;
+        final long minPerRouteBurst;
+
+        Limits(double spansPerSecond, double perRouteSpansPerSecond, double minPerRouteSpansPerSecond) {
+            this.spansPerSecond = spansPerSecond;
+            this.perRouteSpansPerSecond = perRouteSpansPerSecond;
+            this.minPerRouteSpansPerSecond = minPerRouteSpansPerSecond;
+            this.serviceInterval = interval(spansPerSecond);
+            this.serviceBurst = burst(spansPerSecond, serviceInterval);
+            this.perRouteInterval = interval(perRouteSpansPerSecond);
+            this.perRouteBurst = burst(perRouteSpansPerSecond, perRouteInterval);
+            this.minPerRouteInterval = interval(minPerRouteSpansPerSecond);
+            this.minPerRouteBurst = burst(minPerRouteSpansPerSecond, minPerRouteInterval);
+        }
+
+        private static long interval(double perSecond) {
+            return perSecond > 0 ? Math.max(1, (long) (NANOS_PER_SECOND / perSecond)) : -1;
+        }
+
+        private static long burst(double perSecond, long interval) {
+            return interval < 0 ? 0 : (long) (Math.max(1, Math.ceil(perSecond)) - 1) * interval;
+        }
+    }
+
+    /**
+     * GCRA bucket: {@code tat} is when the bucket will be empty again.
+     */
+    private static final class Bucket {
+        private final AtomicLong tat;
+
+        Bucket(long now) {
+            this.tat = new AtomicLong(now);
+        }
+
+        boolean hasToken(long now, long interval, long burst) {
+            if (interval < 0) {
+                return false;
+            }
+            long current = tat.get();
+            return (current - now > 0 ? current : now) - now <= burst;
+        }
+
+        boolean tryAcquire(long now, long interval, long burst) {
+            if (interval < 0) {
+                return false;
+            }
+            for (;;) {
+                long current = tat.get();
+                long start = current - now > 0 ? current : now;
+                if (start - now > burst) {
+                    return false;
+                }
+                if (tat.compareAndSet(current, start + interval)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static final class RouteBuckets {
+        final Bucket reserved;
+        final Bucket shared;
+
+        RouteBuckets(long now) {
+            this.reserved = new Bucket(now);
+            this.shared = new Bucket(now);
+        }
+    }
+}
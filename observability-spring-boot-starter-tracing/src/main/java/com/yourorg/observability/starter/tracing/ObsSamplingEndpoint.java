@@ -0,0 +1,46 @@
+package com.yourorg.observability.starter.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/obssampling}: shows the rate-limiting sampler's budget and
+ * decisions, and changes the budget without a restart. Omitted write
+ * parameters keep their current value; changes are not persisted.
+ */
+@Endpoint(id = "obssampling")
+public class ObsSamplingEndpoint {
+
+    private final ObsRateLimitingSampler sampler;
+
+    public ObsSamplingEndpoint(ObsRateLimitingSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> sampling() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("spansPerSecond", sampler.getSpansPerSecond());
+        result.put("perRouteSpansPerSecond", sampler.getPerRouteSpansPerSecond());
+        result.put("minPerRouteSpansPerSecond", sampler.getMinPerRouteSpansPerSecond());
+        result.put("trackedRoutes", sampler.getTrackedRouteCount());
+        result.put("sampled", sampler.getSampledCount());
+        result.put("dropped", sampler.getDroppedCount());
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable Double spansPerSecond, @Nullable Double perRouteSpansPerSecond,
+            @Nullable Double minPerRouteSpansPerSecond) {
+        sampler.setLimits(
+                spansPerSecond != null ? spansPerSecond : sampler.getSpansPerSecond(),
+                perRouteSpansPerSecond != null ? perRouteSpansPerSecond : sampler.getPerRouteSpansPerSecond(),
+                minPerRouteSpansPerSecond != null ? minPerRouteSpansPerSecond : sampler.getMinPerRouteSpansPerSecond());
+        return sampling();
+    }
+}
@@ -0,0 +1,47 @@
+package com.yourorg.observability.starter.tracing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event committed by {@link ObsJfrSpanProcessor} when a sampled span
+ * ends, on the thread that ended it. Disabled by default.
+ *
+ * <p>
+ * The span may have started on another thread, so its length is carried in
+ * {@code spanDuration} rather than as the event's own duration.
+ * </p>
+ */
+@Name(ObsSpanEndEvent.NAME)
+@Label("Span End")
+@Category({ "Observability", "Tracing" })
+@Description("A sampled span was ended")
+@Enabled(false)
+@StackTrace(false)
+public class ObsSpanEndEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.yourorg.observability.SpanEnd";
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Trace Id")
+    String traceId;
+
+    @Label("Span Id")
+    String spanId;
+
+    @Label("Name")
+    String name;
+
+    @Label("Span Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long spanDuration;
+
+    @Label("Error")
+    boolean error;
+}
@@ -0,0 +1,37 @@
+package com.yourorg.observability.starter.tracing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event committed by {@link ObsJfrSpanProcessor} when a sampled span
+ * starts, on the thread that started it. Disabled by default.
+ */
+@Name(ObsSpanStartEvent.NAME)
+@Label("Span Start")
+@Category({ "Observability", "Tracing" })
+@Description("A sampled span was started")
+@Enabled(false)
+@StackTrace(false)
+public class ObsSpanStartEvent extends jdk.jfr.Event {
+    public static final String NAME = "com.yourorg.observability.SpanStart";
+
+    @Label("Correlation Id")
+    String correlationId;
+
+    @Label("Trace Id")
+    String traceId;
+
+    @Label("Span Id")
+    String spanId;
+
+    @Label("Parent Span Id")
+    String parentSpanId;
+
+    @Label("Name")
+    String name;
+}
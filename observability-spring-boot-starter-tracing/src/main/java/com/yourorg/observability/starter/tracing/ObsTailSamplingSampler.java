@@ -0,0 +1,48 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+/**
+ * Records every span so {@link ObsTailSamplingSpanProcessor} can decide on it
+ * later.
+ *
+ * <p>
+ * The head sampler's decision is kept as the baseline: sampled spans are
+ * exported as usual, spans it would drop are recorded but not sampled. Since
+ * the sampled flag is what propagates, downstream services still see the head
+ * decision.
+ * </p>
+ */
+public class ObsTailSamplingSampler implements Sampler {
+
+    private final Sampler head;
+
+    public ObsTailSamplingSampler(Sampler head) {
+        this.head = head;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+            Attributes attributes, List<LinkData> parentLinks) {
+        SamplingResult result = head.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        return result.getDecision() == SamplingDecision.DROP ? SamplingResult.recordOnly() : result;
+    }
+
+    @Override
+    public String getDescription() {
+        return "ObsTailSamplingSampler{head=" + head.getDescription() + "}";
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+}
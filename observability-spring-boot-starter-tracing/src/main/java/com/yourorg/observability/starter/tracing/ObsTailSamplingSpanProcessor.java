@@ -0,0 +1,454 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process tail sampling for spans the head sampler did not keep.
+ *
+ * <p>
+ * With {@link ObsTailSamplingSampler} in front of the head sampler, every
+ * span is recorded; head-sampled spans carry the sampled flag and go through
+ * the regular export pipeline untouched (the baseline policy). All other
+ * spans end up here, buffered per trace id. When the trace's local root span
+ * ends, the trace is exported if any of its spans has status ERROR or a 5xx
+ * HTTP status, or the root took at least
+ * {@code latencyThreshold} — the same policies as the collector's
+ * {@code tail_sampling} processor. Otherwise it is discarded.
+ * </p>
+ *
+ * <p>
+ * Spans of a kept trace that end after its root are exported directly for
+ * another {@code decisionWait}. Traces whose root never ends here are
+ * evaluated on their own spans after {@code decisionWait}; while a local root
+ * that started here is still open the decision is deferred, up to
+ * {@code maxDecisionWait}.
+ * </p>
+ *
+ * <p>
+ * All buffers share a memory budget ({@code maxTotalBytes}, estimated per
+ * span); when it is exceeded, whole traces are evicted oldest first, taken
+ * from the head of an arrival-ordered queue that the sweeper also walks. A trace
+ * holds at most {@code maxSpansPerTrace} spans; further spans are dropped but
+ * still count towards the decision. Every discarded span is counted.
+ * </p>
+ *
+ * <p>
+ * As a {@link MeterBinder} it publishes {@code obs.internal.traces.tail.*}:
+ * buffered bytes and traces, traces by decision, and dropped and exported
+ * spans.
+ * </p>
+ */
+public class ObsTailSamplingSpanProcessor implements SpanProcessor, MeterBinder {
+
+    static final String METRIC_PREFIX = "obs.internal.traces.tail";
+
+    private static final AttributeKey<Long> HTTP_STATUS_CODE = AttributeKey.longKey("http.status_code");
+    private static final AttributeKey<Long> HTTP_RESPONSE_STATUS_CODE = AttributeKey.longKey("http.response.status_code");
+    private static final AttributeKey<String> HTTP_STATUS_CODE_STRING = AttributeKey.stringKey("http.status_code");
+    private static final AttributeKey<String> HTTP_STATUS_CODE_TAG = AttributeKey.stringKey("status");
+
+    private static final int SERVER_ERROR = 500;
+
+    private final SpanExporter exporter;
+    private final long latencyThresholdNanos;
+    private final int maxSpansPerTrace;
+    private volatile long maxTotalBytes;
+    private final long decisionWaitNanos;
+    private final long maxDecisionWaitNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    // Arrival order; decided buffers are dropped lazily by sweep and eviction
+    private final ConcurrentLinkedQueue<TraceBuffer> arrivals = new ConcurrentLinkedQueue<>();
+    private final Map<String, Long> recentlyKept = new ConcurrentHashMap<>();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final LongAdder keptTraces = new LongAdder();
+    private final LongAdder discardedTraces = new LongAdder();
+    private final LongAdder evictedTraces = new LongAdder();
+    private final LongAdder droppedSpans = new LongAdder();
+    private final LongAdder exportedSpans = new LongAdder();
+    private final ScheduledExecutorService sweeper;
+
+    public ObsTailSamplingSpanProcessor(SpanExporter exporter, Duration latencyThreshold,
+            int maxSpansPerTrace, long maxTotalBytes, Duration decisionWait, Duration maxDecisionWait) {
+        this(exporter, latencyThreshold, maxSpansPerTrace, maxTotalBytes, decisionWait, maxDecisionWait,
+                System::nanoTime, true);
+    }
+
+    ObsTailSamplingSpanProcessor(SpanExporter exporter, Duration latencyThreshold,
+            int maxSpansPerTrace, long maxTotalBytes, Duration decisionWait, Duration maxDecisionWait,
+            LongSupplier nanoClock, boolean startSweeper) {
+        this.exporter = exporter;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.maxTotalBytes = maxTotalBytes;
+        this.decisionWaitNanos = decisionWait.toNanos();
+        this.maxDecisionWaitNanos = Math.max(decisionWaitNanos, maxDecisionWait.toNanos());
+        this.nanoClock = nanoClock;
+        if (startSweeper) {
+            sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "obs-tail-sampling");
+                thread.setDaemon(true);
+                return thread;
+            });
+            sweeper.scheduleWithFixedDelay(this::sweep, 1, 1, TimeUnit.SECONDS);
+        } else {
+            sweeper = null;
+        }
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        if (!span.getSpanContext().isSampled() && isLocalRoot(span.getParentSpanContext())) {
+            bufferFor(span.getSpanContext().getTraceId()).rootStarted();
+        }
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return true;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (span.getSpanContext().isSampled()) {
+            return;
+        }
+        SpanData data = span.toSpanData();
+        String traceId = data.getTraceId();
+        if (recentlyKept.containsKey(traceId)) {
+            export(List.of(data));
+            return;
+        }
+
+        boolean interesting = isInteresting(data);
+        long size = estimateSize(data);
+        TraceBuffer buffer;
+        int outcome;
+        do {
+            buffer = bufferFor(traceId);
+            outcome = buffer.add(data, size, interesting, maxSpansPerTrace);
+        } while (outcome == TraceBuffer.CLOSED);
+
+        if (outcome == TraceBuffer.DROPPED) {
+            droppedSpans.increment();
+        } else if (bufferedBytes.addAndGet(size) > maxTotalBytes) {
+            evictOldest();
+        }
+
+        if (isLocalRoot(data.getParentSpanContext())) {
+            boolean slow = data.getEndEpochNanos() - data.getStartEpochNanos() >= latencyThresholdNanos;
+            decide(traceId, buffer, slow);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    private TraceBuffer bufferFor(String traceId) {
+        return traces.computeIfAbsent(traceId, id -> {
+            TraceBuffer created = new TraceBuffer(id, nanoClock.getAsLong());
+            arrivals.add(created);
+            return created;
+        });
+    }
+
+    private static boolean isLocalRoot(SpanContext parent) {
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private static boolean isInteresting(SpanData data) {
+        if (data.getStatus().getStatusCode() == StatusCode.ERROR) {
+            return true;
+        }
+        Long status = data.getAttributes().get(HTTP_RESPONSE_STATUS_CODE);
+        if (status == null) {
+            status = data.getAttributes().get(HTTP_STATUS_CODE);
+        }
+        if (status != null) {
+            return status >= SERVER_ERROR;
+        }
+        // Micrometer observations record the status as a string tag
+        String text = data.getAttributes().get(HTTP_STATUS_CODE_STRING);
+        if (text == null) {
+            text = data.getAttributes().get(HTTP_STATUS_CODE_TAG);
+        }
+        return text != null && parseStatus(text) >= SERVER_ERROR;
+    }
+
+    private static int parseStatus(String text) {
+        if (text.length() != 3) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < 3; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private void decide(String traceId, TraceBuffer buffer, boolean slow) {
+        if (!traces.remove(traceId, buffer)) {
+            return;
+        }
+        List<SpanData> spans = buffer.close();
+        release(buffer.bytes());
+        if (slow || buffer.isInteresting()) {
+            keptTraces.increment();
+            recentlyKept.put(traceId, nanoClock.getAsLong());
+            export(spans);
+        } else {
+            discardedTraces.increment();
+        }
+    }
+
+    private void export(List<SpanData> spans) {
+        if (spans.isEmpty()) {
+            return;
+        }
+        exportedSpans.add(spans.size());
+        exporter.export(spans);
+    }
+
+    private void release(long bytes) {
+        if (bytes > 0) {
+            bufferedBytes.addAndGet(-bytes);
+        }
+    }
+
+    private void evictOldest() {
+        while (bufferedBytes.get() > maxTotalBytes) {
+            TraceBuffer evicted = arrivals.poll();
+            if (evicted == null) {
+                return;
+            }
+            if (!traces.remove(evicted.traceId, evicted)) {
+                continue;
+            }
+            droppedSpans.add(evicted.close().size());
+            release(evicted.bytes());
+            evictedTraces.increment();
+        }
+    }
+
+    /**
+     * Decides traces older than {@code decisionWait} (or
+     * {@code maxDecisionWait} while their local root is open) and forgets
+     * old keep decisions.
+     */
+    void sweep() {
+        long now = nanoClock.getAsLong();
+        Iterator<TraceBuffer> pending = arrivals.iterator();
+        while (pending.hasNext()) {
+            TraceBuffer buffer = pending.next();
+            if (buffer.isClosed()) {
+                pending.remove();
+                continue;
+            }
+            long age = now - buffer.startNanos;
+            if (age < decisionWaitNanos) {
+                break;
+            }
+            if (age < maxDecisionWaitNanos && buffer.isRootOpen()) {
+                continue;
+            }
+            decide(buffer.traceId, buffer, false);
+            pending.remove();
+        }
+        Iterator<Map.Entry<String, Long>> kept = recentlyKept.entrySet().iterator();
+        while (kept.hasNext()) {
+            if (now - kept.next().getValue() >= decisionWaitNanos) {
+                kept.remove();
+            }
+        }
+    }
+
+    private static long estimateSize(SpanData data) {
+        return 256 + 2L * data.getName().length()
+                + 64L * data.getAttributes().size()
+                + 128L * data.getEvents().size()
+                + 64L * data.getLinks().size();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+        for (Map.Entry<String, TraceBuffer> entry : traces.entrySet()) {
+            decide(entry.getKey(), entry.getValue(), false);
+        }
+        arrivals.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    public long getMaxTotalBytes() {
+        return maxTotalBytes;
+    }
+
+    /**
+     * Changes the memory budget at runtime; lowering it evicts the oldest
+     * undecided traces until the buffered estimate fits.
+     */
+    public void setMaxTotalBytes(long maxTotalBytes) {
+        this.maxTotalBytes = maxTotalBytes;
+        evictOldest();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".buffered.bytes", this, ObsTailSamplingSpanProcessor::getBufferedBytes)
+                .description("Estimated memory held by undecided traces")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".buffered.traces", this, ObsTailSamplingSpanProcessor::getBufferedTraceCount)
+                .description("Undecided traces in the buffer")
+                .register(registry);
+        traceCounter(registry, "kept", keptTraces);
+        traceCounter(registry, "discarded", discardedTraces);
+        traceCounter(registry, "evicted", evictedTraces);
+        FunctionCounter.builder(METRIC_PREFIX + ".spans.dropped", droppedSpans, LongAdder::sum)
+                .description("Spans lost to the per-trace cap or to eviction")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".spans.exported", exportedSpans, LongAdder::sum)
+                .description("Spans of kept traces handed to the exporter")
+                .register(registry);
+    }
+
+    private static void traceCounter(MeterRegistry registry, String decision, LongAdder count) {
+        FunctionCounter.builder(METRIC_PREFIX + ".traces", count, LongAdder::sum)
+                .description("Traces decided by the tail sampler")
+                .tag("decision", decision)
+                .register(registry);
+    }
+
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+
+    public int getBufferedTraceCount() {
+        return traces.size();
+    }
+
+    public long getKeptTraceCount() {
+        return keptTraces.sum();
+    }
+
+    public long getDiscardedTraceCount() {
+        return discardedTraces.sum();
+    }
+
+    /**
+     * Traces dropped undecided because the memory budget was exceeded.
+     */
+    public long getEvictedTraceCount() {
+        return evictedTraces.sum();
+    }
+
+    /**
+     * Spans lost to the per-trace cap or to eviction.
+     */
+    public long getDroppedSpanCount() {
+        return droppedSpans.sum();
+    }
+
+    public long getExportedSpanCount() {
+        return exportedSpans.sum();
+    }
+
+    private static final class TraceBuffer {
+        static final int BUFFERED = 0;
+        static final int DROPPED = 1;
+        static final int CLOSED = 2;
+
+        final String traceId;
+        final long startNanos;
+        private List<SpanData> spans = new ArrayList<>();
+        private long bytes;
+        private boolean interesting;
+        private boolean rootOpen;
+        private boolean closed;
+
+        TraceBuffer(String traceId, long startNanos) {
+            this.traceId = traceId;
+            this.startNanos = startNanos;
+        }
+
+        synchronized void rootStarted() {
+            rootOpen = true;
+        }
+
+        synchronized boolean isRootOpen() {
+            return rootOpen;
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        synchronized int add(SpanData span, long size, boolean interestingSpan, int maxSpans) {
+            if (closed) {
+                return CLOSED;
+            }
+            interesting |= interestingSpan;
+            if (spans.size() >= maxSpans) {
+                return DROPPED;
+            }
+            spans.add(span);
+            bytes += size;
+            return BUFFERED;
+        }
+
+        /**
+         * Hands over the spans; the buffer may stay queued until the sweeper
+         * drops it, so it keeps no reference to them.
+         */
+        synchronized List<SpanData> close() {
+            closed = true;
+            List<SpanData> closing = spans;
+            spans = List.of();
+            return closing;
+        }
+
+        synchronized long bytes() {
+            return bytes;
+        }
+
+        synchronized boolean isInteresting() {
+            return interesting;
+        }
+    }
+}
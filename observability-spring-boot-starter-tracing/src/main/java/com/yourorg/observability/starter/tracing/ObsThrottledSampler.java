@@ -0,0 +1,80 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+
+/**
+ * Keeps only a fraction of what another sampler samples, adjustable at
+ * runtime.
+ *
+ * <p>
+ * The fraction applies where a trace enters this service — root spans and
+ * spans with a remote parent — by trace id, so every service throttled to
+ * the same fraction keeps the same traces. Children of a local span follow
+ * their parent, so kept traces stay complete within the service. At
+ * {@code 1.0} the delegate's result is returned untouched.
+ * </p>
+ */
+public class ObsThrottledSampler implements Sampler {
+
+    private final Sampler delegate;
+    private volatile double ratio = 1.0;
+    private volatile Sampler gate;
+
+    public ObsThrottledSampler(Sampler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+            Attributes attributes, List<LinkData> parentLinks) {
+        SamplingResult result = delegate.shouldSample(parentContext, traceId, name, spanKind, attributes,
+                parentLinks);
+        Sampler currentGate = gate;
+        if (currentGate == null || result.getDecision() != SamplingDecision.RECORD_AND_SAMPLE) {
+            return result;
+        }
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (parent.isValid() && !parent.isRemote()) {
+            return result;
+        }
+        return currentGate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks)
+                .getDecision() == SamplingDecision.RECORD_AND_SAMPLE ? result : SamplingResult.drop();
+    }
+
+    /**
+     * Fraction of the delegate's sampled entry spans to keep, {@code 0..1}.
+     */
+    public void setRatio(double ratio) {
+        double clamped = Math.max(0.0, Math.min(1.0, ratio));
+        this.gate = clamped >= 1.0 ? null : Sampler.traceIdRatioBased(clamped);
+        this.ratio = clamped;
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    public Sampler getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getDescription() {
+        return "ObsThrottledSampler{ratio=" + ratio + ", delegate=" + delegate.getDescription() + "}";
+    }
+
+    @Override
+    public String toString() {
+        return getDescription();
+    }
+}
@@ -2,6 +2,9 @@ package com.yourorg.observability.starter.tracing;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -15,8 +18,24 @@ public class ObsTracingProperties {
      */
     private double sampleRate = 0.05;
 
+    /**
+     * Head sampler for new traces: a fixed probability (sample-rate) or a
+     * spans-per-second budget (rate-limit.*).
+     */
+    private SamplerType sampler = SamplerType.PROBABILITY;
+
+    private final RateLimit rateLimit = new RateLimit();
+
+    private final TailSampling tailSampling = new TailSampling();
+
+    private final Export export = new Export();
+
     private final NoiseFilter noiseFilter = new NoiseFilter();
 
+    private final Correlation correlation = new Correlation();
+
+    private final Jfr jfr = new Jfr();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -33,13 +52,269 @@ public class ObsTracingProperties {
         this.sampleRate = sampleRate;
     }
 
+    public SamplerType getSampler() {
+        return sampler;
+    }
+
+    public void setSampler(SamplerType sampler) {
+        this.sampler = sampler;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public TailSampling getTailSampling() {
+        return tailSampling;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
     public NoiseFilter getNoiseFilter() {
         return noiseFilter;
     }
 
+    public Correlation getCorrelation() {
+        return correlation;
+    }
+
+    public Jfr getJfr() {
+        return jfr;
+    }
+
+    public enum SamplerType {
+        PROBABILITY, RATE_LIMITING
+    }
+
+    public static class RateLimit {
+        /**
+         * Service-wide budget of sampled new traces per second.
+         */
+        private double spansPerSecond = 100;
+
+        /**
+         * Budget per route (http.route, else path, else span name).
+         */
+        private double perRouteSpansPerSecond = 10;
+
+        /**
+         * Guaranteed rate per route, granted even when the service budget is
+         * exhausted. 0 disables the guarantee.
+         */
+        private double minPerRouteSpansPerSecond = 0.1;
+
+        /**
+         * Routes tracked individually; further routes share one budget.
+         */
+        private int maxRoutes = 256;
+
+        public double getSpansPerSecond() {
+            return spansPerSecond;
+        }
+
+        public void setSpansPerSecond(double spansPerSecond) {
+            this.spansPerSecond = spansPerSecond;
+        }
+
+        public double getPerRouteSpansPerSecond() {
+            return perRouteSpansPerSecond;
+        }
+
+        public void setPerRouteSpansPerSecond(double perRouteSpansPerSecond) {
+            this.perRouteSpansPerSecond = perRouteSpansPerSecond;
+        }
+
+        public double getMinPerRouteSpansPerSecond() {
+            return minPerRouteSpansPerSecond;
+        }
+
+        public void setMinPerRouteSpansPerSecond(double minPerRouteSpansPerSecond) {
+            this.minPerRouteSpansPerSecond = minPerRouteSpansPerSecond;
+        }
+
+        public int getMaxRoutes() {
+            return maxRoutes;
+        }
+
+        public void setMaxRoutes(int maxRoutes) {
+            this.maxRoutes = maxRoutes;
+        }
+    }
+
+    public static class TailSampling {
+        /**
+         * Record spans the head sampler drops and export their traces when
+         * they contain an error or a 5xx status, or the local root is slow.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Local root duration from which a trace is kept.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        /**
+         * Estimated memory all buffered traces may use; the oldest traces
+         * are evicted beyond it.
+         */
+        private DataSize maxMemory = DataSize.ofMegabytes(32);
+
+        /**
+         * Spans buffered per trace; further spans are dropped.
+         */
+        private int maxSpansPerTrace = 1000;
+
+        /**
+         * How long a trace whose local root has not ended is buffered before
+         * it is decided on the spans seen so far.
+         */
+        private Duration decisionWait = Duration.ofSeconds(10);
+
+        /**
+         * How long a trace is buffered at most while its local root span is
+         * still open; it is then decided on the spans seen so far.
+         */
+        private Duration maxDecisionWait = Duration.ofSeconds(60);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getLatencyThreshold() {
+            return latencyThreshold;
+        }
+
+        public void setLatencyThreshold(Duration latencyThreshold) {
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        public DataSize getMaxMemory() {
+            return maxMemory;
+        }
+
+        public void setMaxMemory(DataSize maxMemory) {
+            this.maxMemory = maxMemory;
+        }
+
+        public int getMaxSpansPerTrace() {
+            return maxSpansPerTrace;
+        }
+
+        public void setMaxSpansPerTrace(int maxSpansPerTrace) {
+            this.maxSpansPerTrace = maxSpansPerTrace;
+        }
+
+        public Duration getDecisionWait() {
+            return decisionWait;
+        }
+
+        public void setDecisionWait(Duration decisionWait) {
+            this.decisionWait = decisionWait;
+        }
+
+        public Duration getMaxDecisionWait() {
+            return maxDecisionWait;
+        }
+
+        public void setMaxDecisionWait(Duration maxDecisionWait) {
+            this.maxDecisionWait = maxDecisionWait;
+        }
+    }
+
+    public static class Export {
+        /**
+         * Export sampled spans through ObsBatchSpanProcessor (lock-free ring
+         * buffers, obs.internal.traces.export.* meters) instead of the SDK's
+         * BatchSpanProcessor.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Spans queued across all workers; further spans are dropped and
+         * counted.
+         */
+        private int queueSize = 2048;
+
+        /**
+         * Spans per export call.
+         */
+        private int maxBatchSize = 512;
+
+        /**
+         * Longest time a span waits for its batch to fill.
+         */
+        private Duration scheduleDelay = Duration.ofSeconds(5);
+
+        /**
+         * Time an export call may take before its spans count as failed.
+         */
+        private Duration exportTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Export threads, each draining its own queue.
+         */
+        private int workers = 1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public void setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public Duration getScheduleDelay() {
+            return scheduleDelay;
+        }
+
+        public void setScheduleDelay(Duration scheduleDelay) {
+            this.scheduleDelay = scheduleDelay;
+        }
+
+        public Duration getExportTimeout() {
+            return exportTimeout;
+        }
+
+        public void setExportTimeout(Duration exportTimeout) {
+            this.exportTimeout = exportTimeout;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+    }
+
     public static class NoiseFilter {
         /**
-         * URI path prefixes to exclude from tracing (reduces noise and cost).
+         * URI paths to exclude from tracing (reduces noise and cost). Entries
+         * are prefixes, "=/exact" paths, or Ant-style templates such as
+         * "/static/**" or "/internal/{id}/status".
          */
         private Set<String> excludedPaths = new LinkedHashSet<>(Set.of(
                 "/actuator/health",
@@ -54,4 +329,65 @@ public class ObsTracingProperties {
             this.excludedPaths = excludedPaths;
         }
     }
+
+    public static class Correlation {
+        /**
+         * Store correlation_id in the OTel context per request and add it to
+         * spans as the "correlation_id" attribute.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Add the attribute to local root spans only (server spans and
+         * other trace entry points), not to every child span.
+         */
+        private boolean localRootOnly = false;
+
+        /**
+         * Also store correlation_id as W3C baggage so it is propagated to
+         * downstream services.
+         */
+        private boolean baggage = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isLocalRootOnly() {
+            return localRootOnly;
+        }
+
+        public void setLocalRootOnly(boolean localRootOnly) {
+            this.localRootOnly = localRootOnly;
+        }
+
+        public boolean isBaggage() {
+            return baggage;
+        }
+
+        public void setBaggage(boolean baggage) {
+            this.baggage = baggage;
+        }
+    }
+
+    public static class Jfr {
+        /**
+         * Report span start and end as JFR events. The events stay disabled
+         * until a recording enables them, e.g. with the bundled
+         * observability.jfc profile.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
 }
@@ -0,0 +1,19 @@
+package com.yourorg.observability.starter.tracing;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Native-image hints for the tracing starter: the request types
+ * {@link ObsNoiseFilterPredicate} probes for by name, so a native image
+ * that contains them still finds them.
+ */
+class ObsTracingRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(TypeReference.of(ObsNoiseFilterPredicate.SERVLET_REQUEST));
+        hints.reflection().registerType(TypeReference.of(ObsNoiseFilterPredicate.REACTIVE_REQUEST));
+    }
+}
@@ -13,7 +13,9 @@ import java.util.Map;
  * so that the org-wide config key controls Spring Boot's native sampling.
  *
  * <p>
- * Registered as a bean by {@link ObservabilityTracingAutoConfiguration}.
+ * Registered in {@code META-INF/spring.factories}; Spring Boot loads
+ * environment post-processors from there only. Ignored when
+ * {@code obs.traces.sampler=rate-limiting} replaces the probability sampler.
  * </p>
  */
 public class ObsTracingSamplingInitializer implements EnvironmentPostProcessor {
@@ -1,12 +1,34 @@
 package com.yourorg.observability.starter.tracing;
 
+import com.yourorg.observability.contract.ObsSampledTimer;
 import io.micrometer.observation.ObservationPredicate;
 import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.exporter.SpanExportingPredicate;
+import io.micrometer.tracing.exporter.SpanFilter;
+import io.micrometer.tracing.exporter.SpanReporter;
+import io.micrometer.tracing.otel.bridge.CompositeSpanExporter;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.autoconfigure.tracing.SdkTracerProviderBuilderCustomizer;
+import org.springframework.boot.actuate.autoconfigure.tracing.SpanProcessors;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 
 /**
  * Tracing module — adds org-standard customizations on top of Spring Boot's
@@ -18,20 +40,30 @@ import org.springframework.context.annotation.Bean;
  * </p>
  * <ul>
  * <li>Configurable head-sampling via {@code obs.traces.sample-rate} (default
- * 0.05)</li>
+ * 0.05), or a spans-per-second budget per service and route with
+ * {@code obs.traces.sampler=rate-limiting}</li>
  * <li>Feature toggle via {@code obs.traces.enabled}</li>
- * <li>Span enrichment with {@code correlation_id} from MDC</li>
+ * <li>Span enrichment with {@code correlation_id}, stored once per request in
+ * the OTel context (optionally as W3C baggage)</li>
  * <li>Noise filtering for health check endpoints</li>
+ * <li>Optional in-process tail sampling ({@code obs.traces.tail-sampling.*})
+ * that keeps error and slow traces the head sampler dropped</li>
+ * <li>Optional lock-free batching export ({@code obs.traces.export.*}) with
+ * queue, latency and drop meters</li>
+ * <li>Span start and end as JFR events for on-demand recordings
+ * ({@code obs.traces.jfr.enabled})</li>
  * </ul>
  *
  * <p>
- * For production, prefer tail-sampling at the OTel Collector level.
+ * For production, prefer tail-sampling at the OTel Collector level; the
+ * in-process buffer only sees the spans of this service.
  * </p>
  */
-@AutoConfiguration
+@AutoConfiguration(beforeName = "org.springframework.boot.actuate.autoconfigure.tracing.OpenTelemetryTracingAutoConfiguration")
 @EnableConfigurationProperties(ObsTracingProperties.class)
 @ConditionalOnProperty(prefix = "obs.traces", name = "enabled", havingValue = "true", matchIfMissing = true)
 @ConditionalOnClass(Tracer.class)
+@ImportRuntimeHints(ObsTracingRuntimeHints.class)
 public class ObservabilityTracingAutoConfiguration {
 
     /**
@@ -41,18 +73,7 @@ public class ObservabilityTracingAutoConfiguration {
     @Bean
     @ConditionalOnClass(ObservationPredicate.class)
     public ObservationPredicate obsNoiseFilterPredicate(ObsHealthCheckTracingFilter filter) {
-        return (name, context) -> {
-            if (context instanceof io.micrometer.observation.Observation.Context) {
-                try {
-                    String uri = context.getLowCardinalityKeyValue("uri").getValue();
-                    return !filter.isExcluded(uri);
-                } catch (Exception e) {
-                    // KeyValue not found (e.g. non-HTTP observation) or other issue
-                    return true;
-                }
-            }
-            return true;
-        };
+        return new ObsNoiseFilterPredicate(filter);
     }
 
     /**
@@ -62,4 +83,173 @@ public class ObservabilityTracingAutoConfiguration {
     public ObsHealthCheckTracingFilter obsHealthCheckTracingFilter(ObsTracingProperties props) {
         return new ObsHealthCheckTracingFilter(props.getNoiseFilter().getExcludedPaths());
     }
+
+    /**
+     * Opens an OTel context carrying the request's correlation id; picked up
+     * by the servlet correlation filter as a CorrelationScopeListener.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "obs.traces.correlation", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public OtelCorrelationScopeListener obsOtelCorrelationScopeListener(ObsTracingProperties props) {
+        return new OtelCorrelationScopeListener(props.getCorrelation().isBaggage());
+    }
+
+    /**
+     * Registered with the SDK tracer provider by Spring Boot, which collects
+     * SpanProcessor beans.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.opentelemetry.sdk.trace.SpanProcessor")
+    @ConditionalOnProperty(prefix = "obs.traces.correlation", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    static class SpanEnrichmentConfiguration {
+
+        /**
+         * Sampled timing of {@link CorrelationIdSpanEnricher#onStart}, at
+         * {@code obs.self-metrics.timing-sample-every}.
+         */
+        @Bean
+        public ObsSampledTimer obsSpanEnricherTimer(
+                @Value("${obs.self-metrics.timing-sample-every:0}") int timingSampleEvery) {
+            return ObsSampledTimer.of("span_enricher", timingSampleEvery);
+        }
+
+        @Bean
+        public CorrelationIdSpanEnricher obsCorrelationIdSpanEnricher(ObsTracingProperties props,
+                @Qualifier("obsSpanEnricherTimer") ObsSampledTimer timer) {
+            return new CorrelationIdSpanEnricher(props.getCorrelation().isLocalRootOnly(), timer);
+        }
+    }
+
+    /**
+     * Span lifecycle as JFR events; disabled in JFR until a recording
+     * enables them.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.opentelemetry.sdk.trace.SpanProcessor")
+    @ConditionalOnProperty(prefix = "obs.traces.jfr", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class JfrConfiguration {
+
+        @Bean
+        public ObsJfrSpanProcessor obsJfrSpanProcessor() {
+            return new ObsJfrSpanProcessor();
+        }
+    }
+
+    /**
+     * Replaces Spring Boot's probability sampler; runs before its tracing
+     * auto-configuration so that sampler backs off.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.opentelemetry.sdk.trace.samplers.Sampler")
+    @ConditionalOnProperty(prefix = "obs.traces", name = "sampler", havingValue = "rate-limiting")
+    static class RateLimitingSamplerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(type = "io.opentelemetry.sdk.trace.samplers.Sampler")
+        public ObsRateLimitingSampler obsRateLimitingSampler(ObsTracingProperties props) {
+            ObsTracingProperties.RateLimit rateLimit = props.getRateLimit();
+            return new ObsRateLimitingSampler(rateLimit.getSpansPerSecond(), rateLimit.getPerRouteSpansPerSecond(),
+                    rateLimit.getMinPerRouteSpansPerSecond(), rateLimit.getMaxRoutes());
+        }
+
+        @Bean
+        @ConditionalOnAvailableEndpoint(endpoint = ObsSamplingEndpoint.class)
+        public ObsSamplingEndpoint obsSamplingEndpoint(ObsRateLimitingSampler sampler) {
+            return new ObsSamplingEndpoint(sampler);
+        }
+    }
+
+    /**
+     * Resolves the templated route before the server observation starts, so
+     * the rate-limiting sampler budgets new traces per route rather than per
+     * span name.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = { "io.opentelemetry.sdk.trace.samplers.Sampler",
+            "org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping" })
+    @ConditionalOnProperty(prefix = "obs.traces", name = "sampler", havingValue = "rate-limiting")
+    static class HttpRouteConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<ObsHttpRouteFilter> obsHttpRouteFilter(
+                ObjectProvider<RequestMappingInfoHandlerMapping> mappings) {
+            FilterRegistrationBean<ObsHttpRouteFilter> bean = new FilterRegistrationBean<>();
+            bean.setFilter(new ObsHttpRouteFilter(() -> mappings.orderedStream()
+                    .flatMap(mapping -> mapping.getHandlerMethods().keySet().stream())
+                    .flatMap(info -> info.getPatternValues().stream())
+                    .toList()));
+            // Ahead of Spring Boot's ServerHttpObservationFilter (HIGHEST_PRECEDENCE + 1)
+            bean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return bean;
+        }
+    }
+
+    /**
+     * Records head-dropped spans and hands them to the tail-sampling
+     * processor. Kept traces are sent to the same exporters as Spring Boot's
+     * batch processor, with its span filters, exporting predicates and
+     * reporters applied.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = { "io.opentelemetry.sdk.trace.SdkTracerProviderBuilder",
+            "io.micrometer.tracing.otel.bridge.CompositeSpanExporter" })
+    @ConditionalOnProperty(prefix = "obs.traces.tail-sampling", name = "enabled", havingValue = "true")
+    static class TailSamplingConfiguration {
+
+        @Bean
+        public ObsTailSamplingSpanProcessor obsTailSamplingSpanProcessor(ObsTracingProperties props,
+                ObjectProvider<SpanExporter> exporters, ObjectProvider<SpanExportingPredicate> predicates,
+                ObjectProvider<SpanReporter> reporters, ObjectProvider<SpanFilter> filters) {
+            ObsTracingProperties.TailSampling tailSampling = props.getTailSampling();
+            SpanExporter exporter = new CompositeSpanExporter(exporters.orderedStream().toList(),
+                    predicates.orderedStream().toList(), reporters.orderedStream().toList(),
+                    filters.orderedStream().toList());
+            return new ObsTailSamplingSpanProcessor(exporter, tailSampling.getLatencyThreshold(),
+                    tailSampling.getMaxSpansPerTrace(), tailSampling.getMaxMemory().toBytes(),
+                    tailSampling.getDecisionWait(), tailSampling.getMaxDecisionWait());
+        }
+
+        @Bean
+        public SdkTracerProviderBuilderCustomizer obsTailSamplingSamplerCustomizer(ObjectProvider<Sampler> sampler) {
+            // Applied after Spring Boot has set its sampler; wraps whichever head sampler is in use
+            return builder -> builder.setSampler(new ObsTailSamplingSampler(
+                    sampler.getIfAvailable(() -> Sampler.parentBased(Sampler.alwaysOff()))));
+        }
+    }
+
+    /**
+     * Hands sampled spans to {@link ObsBatchSpanProcessor} instead of Spring
+     * Boot's {@link BatchSpanProcessor}. Boot always defines that bean, so it
+     * is left out of the {@link SpanProcessors} passed to the tracer
+     * provider; exporters, filters and reporters are applied as Boot does.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = { "io.opentelemetry.sdk.trace.export.BatchSpanProcessor",
+            "io.micrometer.tracing.otel.bridge.CompositeSpanExporter" })
+    @ConditionalOnProperty(prefix = "obs.traces.export", name = "enabled", havingValue = "true")
+    static class SpanExportConfiguration {
+
+        @Bean
+        public ObsBatchSpanProcessor obsBatchSpanProcessor(ObsTracingProperties props,
+                ObjectProvider<SpanExporter> exporters, ObjectProvider<SpanExportingPredicate> predicates,
+                ObjectProvider<SpanReporter> reporters, ObjectProvider<SpanFilter> filters) {
+            ObsTracingProperties.Export export = props.getExport();
+            SpanExporter exporter = new CompositeSpanExporter(exporters.orderedStream().toList(),
+                    predicates.orderedStream().toList(), reporters.orderedStream().toList(),
+                    filters.orderedStream().toList());
+            return new ObsBatchSpanProcessor(exporter, export.getQueueSize(), export.getMaxBatchSize(),
+                    export.getScheduleDelay(), export.getExportTimeout(), export.getWorkers());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public SpanProcessors spanProcessors(ObjectProvider<SpanProcessor> processors) {
+            return SpanProcessors.of(processors.orderedStream()
+                    .filter(processor -> !(processor instanceof BatchSpanProcessor))
+                    .toList());
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package com.yourorg.observability.starter.tracing;
+
+import com.yourorg.observability.contract.CorrelationScopeListener;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Makes the request's correlation id part of the current OpenTelemetry
+ * {@link Context} for the duration of the correlation scope.
+ *
+ * <p>
+ * The servlet correlation filter runs before the server observation starts,
+ * so the server span and all of its children see the id in their parent
+ * context. The scope is thread-bound and therefore only opened by filters
+ * that end it on the same thread.
+ * </p>
+ */
+public class OtelCorrelationScopeListener implements CorrelationScopeListener {
+
+    private final ThreadLocal<Scope> scopes = new ThreadLocal<>();
+    private final boolean asBaggage;
+
+    public OtelCorrelationScopeListener(boolean asBaggage) {
+        this.asBaggage = asBaggage;
+    }
+
+    @Override
+    public void onScopeStart(String correlationId) {
+        scopes.set(ObsCorrelationContext.with(Context.current(), correlationId, asBaggage).makeCurrent());
+    }
+
+    @Override
+    public void onScopeEnd(String correlationId, int status, Throwable error) {
+        Scope scope = scopes.get();
+        if (scope != null) {
+            scopes.remove();
+            scope.close();
+        }
+    }
+
+    @Override
+    public boolean isThreadBound() {
+        return true;
+    }
+}
@@ -1,27 +1,41 @@
 package com.yourorg.observability.starter.tracing;
 
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
 import io.opentelemetry.sdk.trace.ReadWriteSpan;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class CorrelationIdSpanEnricherTest {
 
+    private static final AttributeKey<String> CORRELATION_ID = AttributeKey.stringKey("correlation_id");
+    private static final SpanContext LOCAL_PARENT = SpanContext.create("4bf92f3577b34da6a3ce929d0e0e4736",
+            "00f067aa0ba902b7", TraceFlags.getSampled(), TraceState.getDefault());
+
     private final CorrelationIdSpanEnricher enricher = new CorrelationIdSpanEnricher();
 
     @Test
     void onStartAddsCorrelationIdFromMdc() {
-        ReadWriteSpan span = mock(ReadWriteSpan.class);
+        ReadWriteSpan span = span(SpanContext.getInvalid());
         MDC.put("correlation_id", "test-corr-id");
 
         try {
-            enricher.onStart(Context.current(), span);
+            enricher.onStart(Context.root(), span);
 
-            verify(span).setAttribute("correlation_id", "test-corr-id");
+            verify(span).setAttribute(CORRELATION_ID, "test-corr-id");
         } finally {
             MDC.clear();
         }
@@ -29,11 +43,71 @@ class CorrelationIdSpanEnricherTest {
 
     @Test
     void onStartDoesNothingIfMdcEmpty() {
-        ReadWriteSpan span = mock(ReadWriteSpan.class);
+        ReadWriteSpan span = span(SpanContext.getInvalid());
         MDC.clear();
 
-        enricher.onStart(Context.current(), span);
+        enricher.onStart(Context.root(), span);
+
+        verify(span, never()).setAttribute(any(AttributeKey.class), anyString());
+    }
+
+    @Test
+    void prefersParentContextAndSkipsMdcForChildSpans() {
+        ReadWriteSpan child = span(LOCAL_PARENT);
+        MDC.put("correlation_id", "stale-mdc");
+        try {
+            enricher.onStart(ObsCorrelationContext.with(Context.root(), "from-context", false), child);
+            enricher.onStart(Context.root(), span(LOCAL_PARENT));
+
+            verify(child).setAttribute(CORRELATION_ID, "from-context");
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @Test
+    void localRootOnlySkipsChildSpans() {
+        CorrelationIdSpanEnricher rootsOnly = new CorrelationIdSpanEnricher(true);
+        Context context = ObsCorrelationContext.with(Context.root(), "cid-1", false);
+        ReadWriteSpan root = span(SpanContext.getInvalid());
+        ReadWriteSpan child = span(LOCAL_PARENT);
+
+        rootsOnly.onStart(context, root);
+        rootsOnly.onStart(context, child);
+
+        verify(root).setAttribute(CORRELATION_ID, "cid-1");
+        verify(child, never()).setAttribute(any(AttributeKey.class), anyString());
+    }
+
+    @Test
+    void readsValidatedInboundBaggage() {
+        Context inbound = Baggage.builder().put("correlation_id", "upstream-id").build()
+                .storeInContext(Context.root());
+        Context injected = Baggage.builder().put("correlation_id", "bad\nvalue").build()
+                .storeInContext(Context.root());
+
+        assertThat(ObsCorrelationContext.correlationId(inbound)).isEqualTo("upstream-id");
+        assertThat(ObsCorrelationContext.correlationId(injected)).isNull();
+        assertThat(Baggage.fromContext(ObsCorrelationContext.with(Context.root(), "cid-2", true))
+                .getEntryValue("correlation_id")).isEqualTo("cid-2");
+    }
+
+    @Test
+    void scopeListenerBindsContextForTheRequest() {
+        OtelCorrelationScopeListener listener = new OtelCorrelationScopeListener(false);
+        try (Scope ignored = Context.root().makeCurrent()) {
+            listener.onScopeStart("cid-3");
+            assertThat(ObsCorrelationContext.correlationId(Context.current())).isEqualTo("cid-3");
 
-        verifyNoInteractions(span);
+            listener.onScopeEnd("cid-3", 200, null);
+            assertThat(ObsCorrelationContext.correlationId(Context.current())).isNull();
+        }
+        assertThat(listener.isThreadBound()).isTrue();
+    }
+
+    private static ReadWriteSpan span(SpanContext parent) {
+        ReadWriteSpan span = mock(ReadWriteSpan.class);
+        when(span.getParentSpanContext()).thenReturn(parent);
+        return span;
     }
 }
@@ -0,0 +1,248 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsBatchSpanProcessorTest {
+
+    private final InMemoryExporter exporter = new InMemoryExporter();
+    private SdkTracerProvider provider;
+
+    private Tracer tracer(ObsBatchSpanProcessor processor, Sampler sampler) {
+        provider = SdkTracerProvider.builder().setSampler(sampler).addSpanProcessor(processor).build();
+        return provider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) {
+            provider.shutdown().join(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void exportsFullBatchesWithoutWaitingForDelay() {
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 64, 4, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), 1);
+        Tracer tracer = tracer(processor, Sampler.alwaysOn());
+
+        for (int i = 0; i < 8; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        awaitExported(8);
+        assertThat(exporter.batchSizes).containsOnly(4);
+    }
+
+    @Test
+    void exportsPartialBatchAfterScheduleDelay() {
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 64, 512, Duration.ofMillis(50),
+                Duration.ofSeconds(5), 1);
+        Tracer tracer = tracer(processor, Sampler.alwaysOn());
+
+        tracer.spanBuilder("lonely").startSpan().end();
+
+        awaitExported(1);
+        assertThat(processor.getQueueSize()).isZero();
+    }
+
+    @Test
+    void forceFlushExportsEverythingQueued() {
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 64, 512, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), 2);
+        Tracer tracer = tracer(processor, Sampler.alwaysOn());
+
+        for (int i = 0; i < 10; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        assertThat(processor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(exporter.spans).hasSize(10);
+    }
+
+    @Test
+    void singleSpanQueueKeepsTwoSlotsAndDropsTheRest() {
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 1, 512, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), 1);
+        Tracer tracer = tracer(processor, Sampler.alwaysOn());
+
+        for (int i = 0; i < 3; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        assertThat(processor.getQueueCapacity()).isEqualTo(2);
+        assertThat(processor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("span-0", "span-1");
+        assertThat(processor.getDroppedSpanCount()).isEqualTo(1);
+    }
+
+    @Test
+    void moreWorkersThanQueuedSpansStillExport() {
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 2, 512, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), 4);
+        Tracer tracer = tracer(processor, Sampler.alwaysOn());
+
+        for (int i = 0; i < 3; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        assertThat(processor.getQueueCapacity()).isEqualTo(8);
+        assertThat(processor.forceFlush().join(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("span-0", "span-1");
+        assertThat(processor.getDroppedSpanCount()).isEqualTo(1);
+        assertThat(processor.getQueueSize()).isZero();
+    }
+
+    @Test
+    void ignoresUnsampledSpans() {
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 64, 512, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), 1);
+        Tracer tracer = tracer(processor, new ObsTailSamplingSampler(Sampler.alwaysOff()));
+
+        tracer.spanBuilder("recorded-only").startSpan().end();
+
+        processor.forceFlush().join(5, TimeUnit.SECONDS);
+        assertThat(exporter.spans).isEmpty();
+        assertThat(processor.getDroppedSpanCount()).isZero();
+    }
+
+    @Test
+    void accountsForEverySpanUnderSaturatingLoad() throws Exception {
+        exporter.delayMillis = 5;
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 32, 8, Duration.ofMillis(10),
+                Duration.ofSeconds(5), 2);
+        Tracer tracer = tracer(processor, Sampler.alwaysOn());
+
+        int producers = 3;
+        int spansPerProducer = 2_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < spansPerProducer; i++) {
+                    tracer.spanBuilder("load").startSpan().end();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        processor.forceFlush().join(10, TimeUnit.SECONDS);
+
+        int total = producers * spansPerProducer;
+        assertThat(processor.getDroppedSpanCount()).isPositive();
+        assertThat(processor.getExportedSpanCount() + processor.getDroppedSpanCount()).isEqualTo(total);
+        assertThat(exporter.spanIds).hasSize(exporter.spans.size());
+        assertThat((long) exporter.spans.size()).isEqualTo(processor.getExportedSpanCount());
+    }
+
+    @Test
+    void countsFailedExportsAndDropsAfterShutdown() {
+        exporter.fail.set(true);
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 64, 2, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), 1);
+        Tracer tracer = tracer(processor, Sampler.alwaysOn());
+
+        tracer.spanBuilder("a").startSpan().end();
+        tracer.spanBuilder("b").startSpan().end();
+        processor.forceFlush().join(5, TimeUnit.SECONDS);
+        assertThat(processor.getFailedSpanCount()).isEqualTo(2);
+
+        processor.shutdown().join(5, TimeUnit.SECONDS);
+        tracer.spanBuilder("late").startSpan().end();
+        assertThat(processor.getDroppedSpanCount()).isEqualTo(1);
+    }
+
+    @Test
+    void publishesExportMeters() {
+        ObsBatchSpanProcessor processor = new ObsBatchSpanProcessor(exporter, 100, 512, Duration.ofMinutes(1),
+                Duration.ofSeconds(5), 2);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        processor.bindTo(registry);
+        Tracer tracer = tracer(processor, Sampler.alwaysOn());
+
+        tracer.spanBuilder("a").startSpan().end();
+        assertThat(registry.get("obs.internal.traces.export.queue.size").gauge().value()).isEqualTo(1);
+        processor.forceFlush().join(5, TimeUnit.SECONDS);
+
+        assertThat(registry.get("obs.internal.traces.export.queue.capacity").gauge().value()).isEqualTo(128);
+        assertThat(registry.get("obs.internal.traces.export.queue.size").gauge().value()).isZero();
+        assertThat(registry.get("obs.internal.traces.export.spans.exported").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("obs.internal.traces.export.spans.dropped").functionCounter().count()).isZero();
+        assertThat(registry.get("obs.internal.traces.export.spans.failed").functionCounter().count()).isZero();
+        assertThat(registry.get("obs.internal.traces.export.latency").timer().count()).isEqualTo(1);
+    }
+
+    private void awaitExported(int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (exporter.spans.size() < count && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(exporter.spans).hasSize(count);
+    }
+
+    private static final class InMemoryExporter implements SpanExporter {
+        final List<SpanData> spans = new CopyOnWriteArrayList<>();
+        final Set<String> spanIds = ConcurrentHashMap.newKeySet();
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final AtomicBoolean fail = new AtomicBoolean();
+        volatile long delayMillis;
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            if (fail.get()) {
+                return CompletableResultCode.ofFailure();
+            }
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            batchSizes.add(batch.size());
+            for (SpanData span : batch) {
+                spanIds.add(span.getSpanId());
+            }
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsJfrSpanProcessorTest {
+
+    private final SdkTracerProvider provider = SdkTracerProvider.builder()
+            .addSpanProcessor(new CorrelationIdSpanEnricher())
+            .addSpanProcessor(new ObsJfrSpanProcessor())
+            .build();
+    private final Tracer tracer = provider.get("test");
+
+    @AfterEach
+    void shutdown() {
+        provider.close();
+    }
+
+    @Test
+    void reportsStartAndEndWithSharedIds(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("spans.jfr");
+        Span parent;
+        Span child;
+        try (Recording recording = new Recording()) {
+            recording.enable(ObsSpanStartEvent.class);
+            recording.enable(ObsSpanEndEvent.class);
+            recording.start();
+            try (Scope ignored = ObsCorrelationContext.with(Context.root(), "cid-1", false).makeCurrent()) {
+                parent = tracer.spanBuilder("GET /orders").startSpan();
+                try (Scope parentScope = parent.makeCurrent()) {
+                    child = tracer.spanBuilder("db").startSpan();
+                    child.setStatus(StatusCode.ERROR);
+                    child.end();
+                }
+                parent.end();
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> starts = events(file, ObsSpanStartEvent.NAME);
+        List<RecordedEvent> ends = events(file, ObsSpanEndEvent.NAME);
+        assertThat(starts).extracting(event -> event.getString("name")).containsExactly("GET /orders", "db");
+        assertThat(ends).extracting(event -> event.getString("name")).containsExactly("db", "GET /orders");
+        assertThat(starts).allSatisfy(event -> {
+            assertThat(event.getString("correlationId")).isEqualTo("cid-1");
+            assertThat(event.getString("traceId")).isEqualTo(parent.getSpanContext().getTraceId());
+        });
+        assertThat(starts.get(1).getString("parentSpanId")).isEqualTo(parent.getSpanContext().getSpanId());
+        assertThat(ends).allSatisfy(event -> assertThat(event.getString("correlationId")).isEqualTo("cid-1"));
+        assertThat(ends.get(0).getString("spanId")).isEqualTo(child.getSpanContext().getSpanId());
+        assertThat(ends.get(0).getBoolean("error")).isTrue();
+        assertThat(ends.get(1).getBoolean("error")).isFalse();
+    }
+
+    @Test
+    void emitsNothingWhileDisabled(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("none.jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            tracer.spanBuilder("quiet").startSpan().end();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(events(file, ObsSpanStartEvent.NAME)).isEmpty();
+        assertThat(events(file, ObsSpanEndEvent.NAME)).isEmpty();
+    }
+
+    private static List<RecordedEvent> events(Path file, String name) throws Exception {
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+}
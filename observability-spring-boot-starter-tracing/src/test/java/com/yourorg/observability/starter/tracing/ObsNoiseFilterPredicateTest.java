@@ -0,0 +1,57 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsNoiseFilterPredicateTest {
+
+    private final ObsNoiseFilterPredicate predicate = new ObsNoiseFilterPredicate(
+            new ObsHealthCheckTracingFilter(Set.of("/actuator/health", "=/ping", "/static/**")));
+
+    @Test
+    void suppressesExcludedServletRequests() {
+        assertThat(predicate.test("http.server.requests", servletContext("", "/actuator/health/readiness"))).isFalse();
+        assertThat(predicate.test("http.server.requests", servletContext("", "/ping"))).isFalse();
+        assertThat(predicate.test("http.server.requests", servletContext("", "/static/app.js"))).isFalse();
+    }
+
+    @Test
+    void keepsOtherServletRequests() {
+        assertThat(predicate.test("http.server.requests", servletContext("", "/orders/42"))).isTrue();
+        assertThat(predicate.test("http.server.requests", servletContext("", "/pingpong"))).isTrue();
+    }
+
+    @Test
+    void stripsContextPath() {
+        assertThat(predicate.test("http.server.requests", servletContext("/shop", "/shop/ping"))).isFalse();
+    }
+
+    @Test
+    void acceptsNonHttpObservationsWithoutUriKey() {
+        Observation.Context jdbc = new Observation.Context();
+
+        assertThat(predicate.test("jdbc.query", jdbc)).isTrue();
+    }
+
+    @Test
+    void ignoresUriKeyOnNonReceiverContexts() {
+        Observation.Context task = new Observation.Context();
+        task.addLowCardinalityKeyValue(KeyValue.of("uri", "/actuator/health"));
+
+        assertThat(predicate.test("tasks.scheduled.execution", task)).isTrue();
+    }
+
+    private static ServerRequestObservationContext servletContext(String contextPath, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setContextPath(contextPath);
+        return new ServerRequestObservationContext(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,172 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsRateLimitingSamplerTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+
+    @Test
+    void sampledVolumeStaysFlatUnderLoad() {
+        ObsRateLimitingSampler sampler = new ObsRateLimitingSampler(10, 10, 0, 16, clock::get);
+
+        assertThat(sampleMany(sampler, "/orders", 1000)).isEqualTo(10);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(sampleMany(sampler, "/orders", 1000)).isEqualTo(5);
+        assertThat(sampler.getDroppedCount()).isEqualTo(1985);
+    }
+
+    @Test
+    void routesShareTheServiceBudget() {
+        ObsRateLimitingSampler sampler = new ObsRateLimitingSampler(10, 8, 0, 16, clock::get);
+
+        assertThat(sampleMany(sampler, "/orders", 100)).isEqualTo(8);
+        assertThat(sampleMany(sampler, "/users", 100)).isEqualTo(2);
+    }
+
+    @Test
+    void quietRoutesKeepTheirGuaranteedMinimum() {
+        ObsRateLimitingSampler sampler = new ObsRateLimitingSampler(10, 10, 1, 16, clock::get);
+
+        assertThat(sampleMany(sampler, "/hot", 1000)).isEqualTo(11);
+        assertThat(sampleMany(sampler, "/quiet", 1)).isEqualTo(1);
+    }
+
+    @Test
+    void childSpansFollowTheirParent() {
+        ObsRateLimitingSampler sampler = new ObsRateLimitingSampler(0, 0, 0, 16, clock::get);
+        SpanContext sampledParent = SpanContext.create(TRACE_ID, "00f067aa0ba902b7", TraceFlags.getSampled(),
+                TraceState.getDefault());
+        SpanContext droppedParent = SpanContext.create(TRACE_ID, "00f067aa0ba902b7", TraceFlags.getDefault(),
+                TraceState.getDefault());
+
+        assertThat(decide(sampler, Context.root().with(Span.wrap(sampledParent)), "child"))
+                .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+        assertThat(decide(sampler, Context.root().with(Span.wrap(droppedParent)), "child"))
+                .isEqualTo(SamplingDecision.DROP);
+        assertThat(decide(sampler, Context.root(), "root")).isEqualTo(SamplingDecision.DROP);
+    }
+
+    @Test
+    void routeTableIsBoundedAndLimitsAdjustAtRuntime() {
+        ObsRateLimitingSampler sampler = new ObsRateLimitingSampler(100, 1, 0, 2, clock::get);
+        sampleMany(sampler, "/a", 1);
+        sampleMany(sampler, "/b", 1);
+        sampleMany(sampler, "/c", 1);
+        assertThat(sampler.getTrackedRouteCount()).isEqualTo(2);
+
+        sampler.setLimits(100, 5, 0);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(sampleMany(sampler, "/a", 100)).isEqualTo(5);
+    }
+
+    @Test
+    void spansRefusedByTheServiceBudgetKeepTheirRouteToken() {
+        ObsRateLimitingSampler sampler = new ObsRateLimitingSampler(1, 0.5, 0, 16, clock::get);
+
+        assertThat(sampleMany(sampler, "/a", 1)).isEqualTo(1);
+        assertThat(sampleMany(sampler, "/b", 1)).isZero();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(sampleMany(sampler, "/b", 1)).isEqualTo(1);
+    }
+
+    @Test
+    void keysNewTracesByTheTemplatedRouteInTheContext() throws Exception {
+        ObsRateLimitingSampler sampler = new ObsRateLimitingSampler(100, 2, 0, 16, clock::get);
+        ObsHttpRouteFilter filter = new ObsHttpRouteFilter(() -> List.of("/orders/{id}", "/orders/new"));
+        List<SamplingDecision> decisions = new ArrayList<>();
+
+        for (String path : List.of("/orders/1", "/orders/2", "/orders/3", "/orders/new", "/unmapped/4")) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app" + path);
+            request.setContextPath("/app");
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> decisions.add(
+                    sampler.shouldSample(Context.current(), TRACE_ID, "http get", SpanKind.SERVER,
+                            Attributes.empty(), List.of()).getDecision()));
+        }
+
+        assertThat(decisions).containsExactly(SamplingDecision.RECORD_AND_SAMPLE,
+                SamplingDecision.RECORD_AND_SAMPLE, SamplingDecision.DROP, SamplingDecision.RECORD_AND_SAMPLE,
+                SamplingDecision.RECORD_AND_SAMPLE);
+        assertThat(sampler.getTrackedRouteCount()).isEqualTo(3);
+        assertThat(filter.resolve("/orders/new")).isEqualTo("/orders/new");
+        assertThat(filter.resolve("/orders/7")).isEqualTo("/orders/{id}");
+        assertThat(filter.resolve("/unmapped/4")).isNull();
+    }
+
+    @Test
+    void rawPathsAreNotSamplingKeys() {
+        ObsRateLimitingSampler sampler = new ObsRateLimitingSampler(100, 100, 0, 16, clock::get);
+        for (int i = 0; i < 10; i++) {
+            sampler.shouldSample(Context.root(), TRACE_ID, "http get", SpanKind.SERVER,
+                    Attributes.of(AttributeKey.stringKey("url.path"), "/orders/" + i), List.of());
+        }
+
+        assertThat(sampler.getTrackedRouteCount()).isEqualTo(1);
+    }
+
+    @Test
+    void registersTheRouteFilterForServletApplications() {
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ObservabilityTracingAutoConfiguration.class))
+                .withPropertyValues("obs.traces.sampler=rate-limiting")
+                .run(context -> assertThat(context).hasBean("obsHttpRouteFilter"));
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ObservabilityTracingAutoConfiguration.class))
+                .run(context -> assertThat(context).doesNotHaveBean("obsHttpRouteFilter"));
+    }
+
+    @Test
+    void replacesBootSamplerWhenSelected() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ObservabilityTracingAutoConfiguration.class))
+                .withPropertyValues("obs.traces.sampler=rate-limiting", "obs.traces.rate-limit.spans-per-second=50",
+                        "management.endpoints.web.exposure.include=obssampling")
+                .run(context -> {
+                    assertThat(context.getBean(Sampler.class)).isInstanceOf(ObsRateLimitingSampler.class);
+                    assertThat(context.getBean(ObsRateLimitingSampler.class).getSpansPerSecond()).isEqualTo(50);
+                    ObsSamplingEndpoint endpoint = context.getBean(ObsSamplingEndpoint.class);
+                    assertThat(endpoint.update(20.0, null, null)).containsEntry("spansPerSecond", 20.0);
+                });
+    }
+
+    private int sampleMany(ObsRateLimitingSampler sampler, String route, int count) {
+        int sampled = 0;
+        for (int i = 0; i < count; i++) {
+            if (sampler.shouldSample(Context.root(), TRACE_ID, "http get", SpanKind.SERVER,
+                    Attributes.of(AttributeKey.stringKey("http.route"), route),
+                    List.of()).getDecision() == SamplingDecision.RECORD_AND_SAMPLE) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+
+    private static SamplingDecision decide(Sampler sampler, Context parent, String name) {
+        return sampler.shouldSample(parent, TRACE_ID, name, SpanKind.INTERNAL, Attributes.empty(), List.of())
+                .getDecision();
+    }
+}
@@ -0,0 +1,287 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.exporter.SpanExportingPredicate;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsTailSamplingSpanProcessorTest {
+
+    private final CapturingExporter exporter = new CapturingExporter();
+    private final AtomicLong clock = new AtomicLong();
+    private SdkTracerProvider provider;
+
+    private Tracer tracer(Sampler head, ObsTailSamplingSpanProcessor processor) {
+        provider = SdkTracerProvider.builder()
+                .setSampler(new ObsTailSamplingSampler(head))
+                .addSpanProcessor(processor)
+                .build();
+        return provider.get("test");
+    }
+
+    private ObsTailSamplingSpanProcessor processor(long maxBytes) {
+        return new ObsTailSamplingSpanProcessor(exporter, Duration.ofMillis(500), 1000, maxBytes,
+                Duration.ofSeconds(10), Duration.ofSeconds(60), clock::get, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) {
+            provider.shutdown();
+        }
+    }
+
+    @Test
+    void discardsHealthyFastTrace() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        Span root = tracer.spanBuilder("GET /ok").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("db").startSpan().end();
+        }
+        root.end();
+
+        assertThat(exporter.spans).isEmpty();
+        assertThat(processor.getDiscardedTraceCount()).isEqualTo(1);
+        assertThat(processor.getBufferedTraceCount()).isZero();
+        assertThat(processor.getBufferedBytes()).isZero();
+    }
+
+    @Test
+    void keepsWholeTraceWhenChildSpanFailed() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        Span root = tracer.spanBuilder("GET /orders").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("db").startSpan().setStatus(StatusCode.ERROR).end();
+        }
+        root.end();
+
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("db", "GET /orders");
+        assertThat(processor.getKeptTraceCount()).isEqualTo(1);
+        assertThat(processor.getExportedSpanCount()).isEqualTo(2);
+    }
+
+    @Test
+    void publishesBufferAndDecisionMeters() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        processor.bindTo(registry);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        tracer.spanBuilder("GET /ok").startSpan().end();
+        tracer.spanBuilder("GET /fail").startSpan().setStatus(StatusCode.ERROR).end();
+        Span open = tracer.spanBuilder("GET /open").startSpan();
+        tracer.spanBuilder("child").setParent(Context.current().with(open)).startSpan().end();
+
+        assertThat(registry.get("obs.internal.traces.tail.traces").tag("decision", "kept").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("obs.internal.traces.tail.traces").tag("decision", "discarded").functionCounter()
+                .count()).isEqualTo(1);
+        assertThat(registry.get("obs.internal.traces.tail.buffered.traces").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("obs.internal.traces.tail.buffered.bytes").gauge().value()).isPositive();
+        assertThat(registry.get("obs.internal.traces.tail.spans.exported").functionCounter().count()).isEqualTo(1);
+        open.end();
+    }
+
+    @Test
+    void keepsTraceWithServerErrorStatus() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        tracer.spanBuilder("GET /a").startSpan().setAttribute("http.response.status_code", 503L).end();
+        tracer.spanBuilder("GET /b").startSpan().setAttribute("status", "502").end();
+        tracer.spanBuilder("GET /c").startSpan().setAttribute("http.status_code", 404L).end();
+
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("GET /a", "GET /b");
+    }
+
+    @Test
+    void keepsSlowTrace() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        tracer.spanBuilder("GET /slow").setStartTimestamp(1_000, TimeUnit.MILLISECONDS).startSpan()
+                .end(1_600, TimeUnit.MILLISECONDS);
+        tracer.spanBuilder("GET /fast").setStartTimestamp(1_000, TimeUnit.MILLISECONDS).startSpan()
+                .end(1_100, TimeUnit.MILLISECONDS);
+
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("GET /slow");
+    }
+
+    @Test
+    void leavesHeadSampledSpansToRegularPipeline() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        Tracer tracer = tracer(Sampler.alwaysOn(), processor);
+
+        Span span = tracer.spanBuilder("GET /sampled").startSpan();
+        assertThat(span.getSpanContext().isSampled()).isTrue();
+        span.setStatus(StatusCode.ERROR).end();
+
+        assertThat(exporter.spans).isEmpty();
+        assertThat(processor.getBufferedTraceCount()).isZero();
+    }
+
+    @Test
+    void exportsLateChildOfKeptTrace() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        Span root = tracer.spanBuilder("GET /orders").startSpan();
+        Span async = tracer.spanBuilder("async").setParent(Context.current().with(root)).startSpan();
+        root.setStatus(StatusCode.ERROR).end();
+        async.end();
+
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("GET /orders", "async");
+    }
+
+    @Test
+    void sweepDecidesTracesWhoseRootNeverEndsHere() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+        SpanContext elsewhere = SpanContext.create("4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7",
+                TraceFlags.getDefault(), TraceState.getDefault());
+
+        tracer.spanBuilder("call").setParent(Context.root().with(Span.wrap(elsewhere))).startSpan()
+                .setStatus(StatusCode.ERROR).end();
+
+        processor.sweep();
+        assertThat(processor.getBufferedTraceCount()).isEqualTo(1);
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        processor.sweep();
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("call");
+        assertThat(processor.getBufferedTraceCount()).isZero();
+    }
+
+    @Test
+    void sweepDefersTracesWhileTheirLocalRootIsOpen() {
+        ObsTailSamplingSpanProcessor processor = processor(1 << 20);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        Span slow = tracer.spanBuilder("GET /slow").startSpan();
+        tracer.spanBuilder("call").setParent(Context.current().with(slow)).startSpan().end();
+        Span hanging = tracer.spanBuilder("GET /hanging").startSpan();
+        tracer.spanBuilder("call").setParent(Context.current().with(hanging)).startSpan()
+                .setStatus(StatusCode.ERROR).end();
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        processor.sweep();
+        assertThat(processor.getBufferedTraceCount()).isEqualTo(2);
+
+        slow.setStatus(StatusCode.ERROR).end();
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("call", "GET /slow");
+
+        clock.addAndGet(Duration.ofSeconds(50).toNanos());
+        processor.sweep();
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("call", "GET /slow", "call");
+        assertThat(processor.getBufferedTraceCount()).isZero();
+        hanging.end();
+    }
+
+    @Test
+    void evictsOldestTracesBeyondMemoryBudget() {
+        ObsTailSamplingSpanProcessor processor = processor(1000);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        List<Span> roots = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            clock.incrementAndGet();
+            Span root = tracer.spanBuilder("GET /" + i).startSpan();
+            tracer.spanBuilder("child").setParent(Context.current().with(root)).startSpan().end();
+            roots.add(root);
+        }
+
+        assertThat(processor.getBufferedBytes()).isLessThanOrEqualTo(1000);
+        assertThat(processor.getEvictedTraceCount()).isPositive();
+        assertThat(processor.getDroppedSpanCount()).isEqualTo(processor.getEvictedTraceCount());
+
+        roots.get(9).setStatus(StatusCode.ERROR).end();
+        assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("child", "GET /9");
+    }
+
+    @Test
+    void capsSpansPerTraceButStillHonoursLaterErrors() {
+        ObsTailSamplingSpanProcessor processor = new ObsTailSamplingSpanProcessor(exporter, Duration.ofMillis(500),
+                2, 1 << 20, Duration.ofSeconds(10), Duration.ofSeconds(60), clock::get, false);
+        Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+        Span root = tracer.spanBuilder("GET /batch").startSpan();
+        Context parent = Context.current().with(root);
+        for (int i = 0; i < 3; i++) {
+            tracer.spanBuilder("item").setParent(parent).startSpan().end();
+        }
+        tracer.spanBuilder("failed").setParent(parent).startSpan().setStatus(StatusCode.ERROR).end();
+        root.end();
+
+        assertThat(exporter.spans).hasSize(2);
+        assertThat(processor.getDroppedSpanCount()).isEqualTo(3);
+        assertThat(processor.getKeptTraceCount()).isEqualTo(1);
+    }
+
+    @Test
+    void exportsKeptTracesThroughBootsSpanPredicates() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ObservabilityTracingAutoConfiguration.class))
+                .withPropertyValues("obs.traces.tail-sampling.enabled=true")
+                .withBean(SpanExporter.class, () -> exporter)
+                .withBean(SpanExportingPredicate.class, () -> span -> !"noise".equals(span.getName()))
+                .run(context -> {
+                    ObsTailSamplingSpanProcessor processor = context.getBean(ObsTailSamplingSpanProcessor.class);
+                    Tracer tracer = tracer(Sampler.alwaysOff(), processor);
+
+                    tracer.spanBuilder("noise").startSpan().setStatus(StatusCode.ERROR).end();
+                    tracer.spanBuilder("GET /a").startSpan().setStatus(StatusCode.ERROR).end();
+
+                    assertThat(processor.getKeptTraceCount()).isEqualTo(2);
+                    assertThat(exporter.spans).extracting(SpanData::getName).containsExactly("GET /a");
+                    processor.shutdown();
+                });
+    }
+
+    private static final class CapturingExporter implements SpanExporter {
+        final List<SpanData> spans = new ArrayList<>();
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> batch) {
+            spans.addAll(batch);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
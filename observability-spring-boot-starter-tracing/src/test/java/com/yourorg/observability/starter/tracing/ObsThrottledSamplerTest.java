@@ -0,0 +1,94 @@
+package com.yourorg.observability.starter.tracing;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsThrottledSamplerTest {
+
+    private final ObsThrottledSampler sampler = new ObsThrottledSampler(Sampler.alwaysOn());
+
+    @Test
+    void passesDelegateDecisionThroughAtFullRatio() {
+        assertThat(sampledRoots(1000)).isEqualTo(1000);
+    }
+
+    @Test
+    void keepsRoughlyTheRatioOfRootSpans() {
+        sampler.setRatio(0.1);
+
+        assertThat(sampledRoots(10_000)).isBetween(800, 1200);
+    }
+
+    @Test
+    void dropsEveryEntrySpanAtZero() {
+        sampler.setRatio(0.0);
+
+        assertThat(sampledRoots(100)).isZero();
+        assertThat(decide(parent(true))).isEqualTo(SamplingDecision.DROP);
+    }
+
+    @Test
+    void localChildrenFollowTheirParent() {
+        sampler.setRatio(0.0);
+
+        assertThat(decide(parent(false))).isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    }
+
+    @Test
+    void neverSamplesWhatTheDelegateDropped() {
+        ObsThrottledSampler offSampler = new ObsThrottledSampler(Sampler.alwaysOff());
+        offSampler.setRatio(0.5);
+
+        assertThat(offSampler.shouldSample(Context.root(), IdGenerator.random().generateTraceId(), "GET /",
+                SpanKind.SERVER, Attributes.empty(), List.of()).getDecision()).isEqualTo(SamplingDecision.DROP);
+    }
+
+    @Test
+    void clampsRatio() {
+        sampler.setRatio(7);
+        assertThat(sampler.getRatio()).isEqualTo(1.0);
+
+        sampler.setRatio(-1);
+        assertThat(sampler.getRatio()).isEqualTo(0.0);
+    }
+
+    private int sampledRoots(int count) {
+        int sampled = 0;
+        for (int i = 0; i < count; i++) {
+            if (decide(Context.root()) == SamplingDecision.RECORD_AND_SAMPLE) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+
+    private SamplingDecision decide(Context parent) {
+        String traceId = Span.fromContext(parent).getSpanContext().isValid()
+                ? Span.fromContext(parent).getSpanContext().getTraceId()
+                : IdGenerator.random().generateTraceId();
+        return sampler.shouldSample(parent, traceId, "GET /", SpanKind.SERVER, Attributes.empty(), List.of())
+                .getDecision();
+    }
+
+    private static Context parent(boolean remote) {
+        String traceId = IdGenerator.random().generateTraceId();
+        String spanId = IdGenerator.random().generateSpanId();
+        SpanContext context = remote
+                ? SpanContext.createFromRemoteParent(traceId, spanId, TraceFlags.getSampled(), TraceState.getDefault())
+                : SpanContext.create(traceId, spanId, TraceFlags.getSampled(), TraceState.getDefault());
+        return Context.root().with(Span.wrap(context));
+    }
+}
@@ -0,0 +1,22 @@
+package com.yourorg.observability.starter.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsTracingRuntimeHintsTest {
+
+    @Test
+    void registersRequestTypesProbedByNoiseFilter() {
+        RuntimeHints hints = new RuntimeHints();
+        new ObsTracingRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(ObsNoiseFilterPredicate.SERVLET_REQUEST))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(ObsNoiseFilterPredicate.REACTIVE_REQUEST))).accepts(hints);
+    }
+}
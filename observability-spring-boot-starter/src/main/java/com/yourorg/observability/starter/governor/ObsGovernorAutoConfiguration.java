@@ -0,0 +1,84 @@
+package com.yourorg.observability.starter.governor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Adaptive telemetry governor — trades observability for headroom while the
+ * JVM is overloaded.
+ *
+ * <p>
+ * {@link ObsTelemetryGovernor} watches GC pause ratio, CPU load and heap
+ * occupancy and steps through {@link ObsTelemetryLevel}s: lower trace
+ * sampling, WARN-and-above logs only, no new histograms, smaller tail
+ * buffers. Each starter present on the classpath contributes a
+ * {@link ObsTelemetryLevelListener} that applies the level to its beans.
+ * </p>
+ *
+ * <p>
+ * Opt-in via {@code obs.governor.enabled=true}. The preallocated export
+ * rings ({@code obs.logging.async}, {@code obs.traces.export}) keep their
+ * size; they already drop rather than block when full.
+ * </p>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(ObsGovernorProperties.class)
+@ConditionalOnProperty(prefix = "obs.governor", name = "enabled", havingValue = "true")
+public class ObsGovernorAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ObsTelemetryGovernor obsTelemetryGovernor(ObsGovernorProperties props,
+            ObjectProvider<ObsTelemetryLevelListener> listeners) {
+        return new ObsTelemetryGovernor(props, new ObsPressureSampler(), listeners.orderedStream().toList());
+    }
+
+    // Governors are BeanPostProcessors so they see the beans they adjust; static and
+    // bound from the Environment because they are created before configuration properties
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = { "io.opentelemetry.sdk.trace.samplers.Sampler",
+            "com.yourorg.observability.starter.tracing.ObsThrottledSampler" })
+    static class TracingGovernorConfiguration {
+
+        @Bean
+        static ObsTracingGovernor obsTracingGovernor(Environment environment) {
+            ObsGovernorProperties props = bind(environment);
+            return new ObsTracingGovernor(props.getSamplingFactor(), props.getBufferMemoryFraction());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = { "ch.qos.logback.classic.LoggerContext",
+            "com.yourorg.observability.starter.logging.ObsMinimumLevelTurboFilter" })
+    static class LoggingGovernorConfiguration {
+
+        @Bean
+        static ObsLoggingGovernor obsLoggingGovernor(Environment environment) {
+            return new ObsLoggingGovernor(bind(environment).getBufferMemoryFraction());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "com.yourorg.observability.starter.metrics.ObsHistogramFilter")
+    static class MetricsGovernorConfiguration {
+
+        @Bean
+        static ObsMetricsGovernor obsMetricsGovernor() {
+            return new ObsMetricsGovernor();
+        }
+    }
+
+    static ObsGovernorProperties bind(Environment environment) {
+        return Binder.get(environment)
+                .bindOrCreate("obs.governor", ObsGovernorProperties.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.yourorg.observability.starter.governor;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "obs.governor")
+public class ObsGovernorProperties {
+
+    /**
+     * Enable the adaptive telemetry governor.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Time between pressure readings.
+     */
+    private Duration interval = Duration.ofSeconds(5);
+
+    /**
+     * Consecutive readings with any signal above its high threshold before
+     * stepping one level down.
+     */
+    private int stepDownAfter = 2;
+
+    /**
+     * Consecutive readings with every signal below its low threshold before
+     * stepping one level back up.
+     */
+    private int stepUpAfter = 6;
+
+    /**
+     * Most degraded level the governor may reach.
+     */
+    private ObsTelemetryLevel maxLevel = ObsTelemetryLevel.CAPPED_BUFFERS;
+
+    /**
+     * Fraction of head-sampled traces kept from REDUCED_SAMPLING on.
+     */
+    private double samplingFactor = 0.1;
+
+    /**
+     * Fraction of the configured tail buffer memory kept at CAPPED_BUFFERS.
+     */
+    private double bufferMemoryFraction = 0.25;
+
+    /**
+     * Share of wall time spent in GC pauses.
+     */
+    private final Threshold gcPauseRatio = new Threshold(0.10, 0.05);
+
+    /**
+     * Process CPU load across all available processors.
+     */
+    private final Threshold cpu = new Threshold(0.85, 0.60);
+
+    /**
+     * Heap occupancy after the last collection.
+     */
+    private final Threshold heap = new Threshold(0.85, 0.70);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getInterval() { return interval; }
+    public void setInterval(Duration interval) { this.interval = interval; }
+
+    public int getStepDownAfter() { return stepDownAfter; }
+    public void setStepDownAfter(int stepDownAfter) { this.stepDownAfter = stepDownAfter; }
+
+    public int getStepUpAfter() { return stepUpAfter; }
+    public void setStepUpAfter(int stepUpAfter) { this.stepUpAfter = stepUpAfter; }
+
+    public ObsTelemetryLevel getMaxLevel() { return maxLevel; }
+    public void setMaxLevel(ObsTelemetryLevel maxLevel) { this.maxLevel = maxLevel; }
+
+    public double getSamplingFactor() { return samplingFactor; }
+    public void setSamplingFactor(double samplingFactor) { this.samplingFactor = samplingFactor; }
+
+    public double getBufferMemoryFraction() { return bufferMemoryFraction; }
+    public void setBufferMemoryFraction(double bufferMemoryFraction) { this.bufferMemoryFraction = bufferMemoryFraction; }
+
+    public Threshold getGcPauseRatio() { return gcPauseRatio; }
+
+    public Threshold getCpu() { return cpu; }
+
+    public Threshold getHeap() { return heap; }
+
+    /**
+     * A signal counts as pressure above {@code high} and as calm below
+     * {@code low}; in between it holds the current level.
+     */
+    public static class Threshold {
+        /**
+         * Fraction above which the signal counts as pressure.
+         */
+        private double high;
+
+        /**
+         * Fraction below which the signal counts as calm.
+         */
+        private double low;
+
+        public Threshold() {
+        }
+
+        Threshold(double high, double low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        public double getHigh() { return high; }
+        public void setHigh(double high) { this.high = high; }
+
+        public double getLow() { return low; }
+        public void setLow(double low) { this.low = low; }
+    }
+}
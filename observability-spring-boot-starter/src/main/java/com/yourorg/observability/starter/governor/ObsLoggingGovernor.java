@@ -0,0 +1,71 @@
+package com.yourorg.observability.starter.governor;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import com.yourorg.observability.starter.logging.ObsMinimumLevelTurboFilter;
+import com.yourorg.observability.starter.logging.ObsTailLogBuffers;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies telemetry levels to Logback.
+ *
+ * <p>
+ * Installs an {@link ObsMinimumLevelTurboFilter} ahead of the other turbo
+ * filters, so its DENY also wins over tail capture; from
+ * {@link ObsTelemetryLevel#WARN_LOGS_ONLY} on it drops everything below WARN.
+ * From {@link ObsTelemetryLevel#CAPPED_BUFFERS} on, {@link ObsTailLogBuffers}
+ * keep {@code bufferMemoryFraction} of their configured memory.
+ * </p>
+ */
+public class ObsLoggingGovernor implements BeanPostProcessor, ObsTelemetryLevelListener {
+
+    private final double bufferMemoryFraction;
+    private final ObsMinimumLevelTurboFilter filter;
+    private final Map<ObsTailLogBuffers, Long> tailBuffers = new ConcurrentHashMap<>();
+
+    public ObsLoggingGovernor(double bufferMemoryFraction) {
+        this.bufferMemoryFraction = bufferMemoryFraction;
+        this.filter = installFilter();
+    }
+
+    private static ObsMinimumLevelTurboFilter installFilter() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return null;
+        }
+        // Replace a filter left by a previous application context in the same JVM
+        context.getTurboFilterList().stream()
+                .filter(ObsMinimumLevelTurboFilter.class::isInstance)
+                .toList()
+                .forEach(existing -> {
+                    existing.stop();
+                    context.getTurboFilterList().remove(existing);
+                });
+        ObsMinimumLevelTurboFilter filter = new ObsMinimumLevelTurboFilter();
+        filter.setContext(context);
+        filter.setName("OBS_GOVERNOR");
+        filter.start();
+        context.getTurboFilterList().add(0, filter);
+        return filter;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ObsTailLogBuffers buffers) {
+            tailBuffers.put(buffers, buffers.getMaxTotalBytes());
+        }
+        return bean;
+    }
+
+    @Override
+    public void onLevelChange(ObsTelemetryLevel previous, ObsTelemetryLevel current) {
+        if (filter != null) {
+            filter.setMinimum(current.isAtLeast(ObsTelemetryLevel.WARN_LOGS_ONLY) ? Level.WARN : null);
+        }
+        double fraction = current.isAtLeast(ObsTelemetryLevel.CAPPED_BUFFERS) ? bufferMemoryFraction : 1.0;
+        tailBuffers.forEach((buffers, configured) -> buffers.setMaxTotalBytes((long) (configured * fraction)));
+    }
+}
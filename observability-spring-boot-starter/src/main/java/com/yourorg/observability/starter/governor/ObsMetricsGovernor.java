@@ -0,0 +1,52 @@
+package com.yourorg.observability.starter.governor;
+
+import com.yourorg.observability.starter.metrics.ObsHistogramFilter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Suspends {@link ObsHistogramFilter}s from
+ * {@link ObsTelemetryLevel#NO_HISTOGRAMS} on. Only timers and summaries
+ * registered while suspended lose their buckets; Micrometer does not change
+ * the distribution of a meter that already exists.
+ *
+ * <p>
+ * On recovery, meters registered without buckets while suspended are removed
+ * from every {@link MeterRegistry} bean, so the next lookup registers them
+ * again with their histogram. Meters looked up per use (observations,
+ * {@code Timer.builder(..).register(..)}) recover transparently; a reference
+ * held by application code keeps recording into the removed meter.
+ * </p>
+ */
+public class ObsMetricsGovernor implements BeanPostProcessor, ObsTelemetryLevelListener {
+
+    private final List<ObsHistogramFilter> filters = new CopyOnWriteArrayList<>();
+    private final List<MeterRegistry> registries = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ObsHistogramFilter filter) {
+            filters.add(filter);
+        } else if (bean instanceof MeterRegistry registry) {
+            registries.add(registry);
+        }
+        return bean;
+    }
+
+    @Override
+    public void onLevelChange(ObsTelemetryLevel previous, ObsTelemetryLevel current) {
+        boolean suspended = current.isAtLeast(ObsTelemetryLevel.NO_HISTOGRAMS);
+        for (ObsHistogramFilter filter : filters) {
+            filter.setSuspended(suspended);
+            if (!suspended) {
+                for (Meter.Id id : filter.takeSuspendedIds()) {
+                    registries.forEach(registry -> registry.remove(id));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.yourorg.observability.starter.governor;
+
+/**
+ * One reading of the JVM's load, each signal a fraction in {@code 0..1};
+ * {@code NaN} where the JVM does not report it.
+ *
+ * @param gcPauseRatio  share of wall time spent in GC pauses since the previous reading
+ * @param cpuLoad       process CPU load across all available processors
+ * @param heapOccupancy used over maximum heap, measured after the last collection where possible
+ */
+public record ObsPressureSample(double gcPauseRatio, double cpuLoad, double heapOccupancy) {
+}
@@ -0,0 +1,88 @@
+package com.yourorg.observability.starter.governor;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Reads {@link ObsPressureSample}s from the platform MXBeans.
+ *
+ * <p>
+ * GC pause ratio is the growth of the collectors' accumulated collection
+ * time over the wall time between two calls. Collectors whose beans count
+ * concurrent cycles rather than pauses ({@code ZGC Cycles},
+ * {@code Shenandoah Cycles}, {@code G1 Concurrent GC}) are left out. Heap
+ * occupancy uses the largest heap pool's usage after its last collection, so
+ * garbage waiting to be collected does not count as pressure; before the
+ * first collection the whole heap's current usage is used.
+ * </p>
+ */
+public class ObsPressureSampler implements Supplier<ObsPressureSample> {
+
+    private final List<GarbageCollectorMXBean> collectors;
+    private final OperatingSystemMXBean os;
+    private final MemoryPoolMXBean tenuredPool;
+    private long lastCollectionMillis;
+    private long lastNanos;
+
+    public ObsPressureSampler() {
+        this.collectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .filter(bean -> !bean.getName().endsWith("Cycles") && !bean.getName().endsWith("Concurrent GC"))
+                .toList();
+        this.os = ManagementFactory.getOperatingSystemMXBean();
+        this.tenuredPool = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported())
+                .max((a, b) -> Long.compare(a.getUsage().getMax(), b.getUsage().getMax()))
+                .orElse(null);
+        this.lastCollectionMillis = collectionMillis();
+        this.lastNanos = System.nanoTime();
+    }
+
+    @Override
+    public synchronized ObsPressureSample get() {
+        long now = System.nanoTime();
+        long collection = collectionMillis();
+        double elapsedMillis = (now - lastNanos) / 1_000_000.0;
+        double gcPauseRatio = elapsedMillis > 0 ? Math.min(1.0, (collection - lastCollectionMillis) / elapsedMillis)
+                : Double.NaN;
+        lastNanos = now;
+        lastCollectionMillis = collection;
+        return new ObsPressureSample(gcPauseRatio, cpuLoad(), heapOccupancy());
+    }
+
+    private long collectionMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    private double cpuLoad() {
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            double load = sunOs.getProcessCpuLoad();
+            return load < 0 ? Double.NaN : load;
+        }
+        return Double.NaN;
+    }
+
+    private double heapOccupancy() {
+        if (tenuredPool != null) {
+            MemoryUsage afterGc = tenuredPool.getCollectionUsage();
+            if (afterGc != null && afterGc.getUsed() > 0) {
+                return ratio(afterGc);
+            }
+        }
+        return ratio(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage());
+    }
+
+    private static double ratio(MemoryUsage usage) {
+        long max = usage.getMax() > 0 ? usage.getMax() : usage.getCommitted();
+        return max > 0 ? (double) usage.getUsed() / max : Double.NaN;
+    }
+}
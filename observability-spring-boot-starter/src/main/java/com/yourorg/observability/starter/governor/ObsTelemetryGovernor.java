@@ -0,0 +1,186 @@
+package com.yourorg.observability.starter.governor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Steps telemetry down one {@link ObsTelemetryLevel} at a time while the JVM
+ * is under pressure, and back up once it has calmed down.
+ *
+ * <p>
+ * Every {@code interval} it takes an {@link ObsPressureSample}. After
+ * {@code stepDownAfter} consecutive readings with any signal above its high
+ * threshold it moves one level down (at most to {@code maxLevel}); after
+ * {@code stepUpAfter} consecutive readings with every signal below its low
+ * threshold it moves one level up. Readings in between reset both streaks,
+ * so the level does not flap around a single threshold. Every change is
+ * logged at WARN and handed to the {@link ObsTelemetryLevelListener}s.
+ * </p>
+ *
+ * <p>
+ * As a {@link MeterBinder} it publishes {@code obs.internal.governor.level}
+ * (the level's ordinal), {@code obs.internal.governor.level.changes} tagged
+ * {@code direction=down|up}, and the last reading as
+ * {@code obs.internal.governor.pressure} tagged {@code signal}.
+ * </p>
+ */
+public class ObsTelemetryGovernor implements SmartLifecycle, MeterBinder {
+
+    static final String METRIC_PREFIX = "obs.internal.governor";
+
+    private static final Logger log = LoggerFactory.getLogger(ObsTelemetryGovernor.class);
+
+    private final ObsGovernorProperties props;
+    private final Supplier<ObsPressureSample> sampler;
+    private final List<ObsTelemetryLevelListener> listeners;
+
+    private final LongAdder stepsDown = new LongAdder();
+    private final LongAdder stepsUp = new LongAdder();
+    private volatile ObsTelemetryLevel level = ObsTelemetryLevel.NORMAL;
+    private volatile ObsPressureSample lastSample = new ObsPressureSample(Double.NaN, Double.NaN, Double.NaN);
+    private int pressureStreak;
+    private int calmStreak;
+    private ScheduledExecutorService executor;
+
+    public ObsTelemetryGovernor(ObsGovernorProperties props, Supplier<ObsPressureSample> sampler,
+            List<ObsTelemetryLevelListener> listeners) {
+        this.props = props;
+        this.sampler = sampler;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    /**
+     * Takes one reading and moves the level if a streak is complete.
+     */
+    public synchronized ObsTelemetryLevel evaluate() {
+        ObsPressureSample sample = sampler.get();
+        lastSample = sample;
+        if (underPressure(sample)) {
+            calmStreak = 0;
+            if (++pressureStreak >= props.getStepDownAfter() && level.ordinal() < props.getMaxLevel().ordinal()) {
+                pressureStreak = 0;
+                stepsDown.increment();
+                change(ObsTelemetryLevel.values()[level.ordinal() + 1], sample);
+            }
+        } else if (calm(sample)) {
+            pressureStreak = 0;
+            if (++calmStreak >= props.getStepUpAfter() && level != ObsTelemetryLevel.NORMAL) {
+                calmStreak = 0;
+                stepsUp.increment();
+                change(ObsTelemetryLevel.values()[level.ordinal() - 1], sample);
+            }
+        } else {
+            pressureStreak = 0;
+            calmStreak = 0;
+        }
+        return level;
+    }
+
+    private boolean underPressure(ObsPressureSample sample) {
+        return sample.gcPauseRatio() > props.getGcPauseRatio().getHigh()
+                || sample.cpuLoad() > props.getCpu().getHigh()
+                || sample.heapOccupancy() > props.getHeap().getHigh();
+    }
+
+    private boolean calm(ObsPressureSample sample) {
+        // NaN (signal not reported) never blocks stepping up
+        return !(sample.gcPauseRatio() >= props.getGcPauseRatio().getLow())
+                && !(sample.cpuLoad() >= props.getCpu().getLow())
+                && !(sample.heapOccupancy() >= props.getHeap().getLow());
+    }
+
+    private void change(ObsTelemetryLevel next, ObsPressureSample sample) {
+        ObsTelemetryLevel previous = level;
+        level = next;
+        log.warn("Telemetry level {} -> {} (gc pause ratio {}, cpu {}, heap {})", previous, next,
+                format(sample.gcPauseRatio()), format(sample.cpuLoad()), format(sample.heapOccupancy()));
+        for (ObsTelemetryLevelListener listener : listeners) {
+            try {
+                listener.onLevelChange(previous, next);
+            } catch (RuntimeException e) {
+                log.error("Telemetry level listener {} failed", listener, e);
+            }
+        }
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "n/a" : String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    public ObsTelemetryLevel getLevel() {
+        return level;
+    }
+
+    public ObsPressureSample getLastSample() {
+        return lastSample;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".level", this, governor -> governor.level.ordinal())
+                .description("Current telemetry level, 0 = NORMAL")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".level.changes", stepsDown, LongAdder::doubleValue)
+                .tag("direction", "down")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".level.changes", stepsUp, LongAdder::doubleValue)
+                .tag("direction", "up")
+                .register(registry);
+        pressureGauge(registry, "gc_pause_ratio", ObsPressureSample::gcPauseRatio);
+        pressureGauge(registry, "cpu", ObsPressureSample::cpuLoad);
+        pressureGauge(registry, "heap", ObsPressureSample::heapOccupancy);
+    }
+
+    private void pressureGauge(MeterRegistry registry, String signal, ToDoubleFunction<ObsPressureSample> value) {
+        Gauge.builder(METRIC_PREFIX + ".pressure", this, governor -> value.applyAsDouble(governor.lastSample))
+                .tag("signal", signal)
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "obs-governor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = props.getInterval().toMillis();
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                evaluate();
+            } catch (RuntimeException e) {
+                log.error("Telemetry governor reading failed", e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.yourorg.observability.starter.governor;
+
+/**
+ * How much telemetry the service produces, from full to most degraded. Each
+ * level keeps the reductions of the levels before it.
+ */
+public enum ObsTelemetryLevel {
+
+    /** Everything as configured. */
+    NORMAL,
+
+    /** Head sampling scaled down by {@code obs.governor.sampling-factor}. */
+    REDUCED_SAMPLING,
+
+    /** DEBUG and INFO events denied; WARN and ERROR still logged. */
+    WARN_LOGS_ONLY,
+
+    /** Timers and summaries registered from now on get no histogram buckets. */
+    NO_HISTOGRAMS,
+
+    /** Tail log and span buffers shrunk by {@code obs.governor.buffer-memory-fraction}. */
+    CAPPED_BUFFERS;
+
+    public boolean isAtLeast(ObsTelemetryLevel other) {
+        return ordinal() >= other.ordinal();
+    }
+}
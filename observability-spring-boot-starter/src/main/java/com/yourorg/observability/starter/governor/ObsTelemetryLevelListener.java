@@ -0,0 +1,12 @@
+package com.yourorg.observability.starter.governor;
+
+/**
+ * Applies a telemetry level. Beans of this type are called by
+ * {@link ObsTelemetryGovernor} on its sampling thread after every level
+ * change.
+ */
+@FunctionalInterface
+public interface ObsTelemetryLevelListener {
+
+    void onLevelChange(ObsTelemetryLevel previous, ObsTelemetryLevel current);
+}
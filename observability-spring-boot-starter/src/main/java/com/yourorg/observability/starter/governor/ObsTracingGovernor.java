@@ -0,0 +1,69 @@
+package com.yourorg.observability.starter.governor;
+
+import com.yourorg.observability.starter.tracing.ObsRateLimitingSampler;
+import com.yourorg.observability.starter.tracing.ObsTailSamplingSpanProcessor;
+import com.yourorg.observability.starter.tracing.ObsThrottledSampler;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Applies telemetry levels to the tracing beans it sees while they are
+ * created.
+ *
+ * <p>
+ * Sampler beans are wrapped in an {@link ObsThrottledSampler}; from
+ * {@link ObsTelemetryLevel#REDUCED_SAMPLING} on it keeps
+ * {@code samplingFactor} of what they sample. An
+ * {@link ObsRateLimitingSampler} is not wrapped but has its budgets scaled by
+ * the same factor, so its per-route fairness still holds. From
+ * {@link ObsTelemetryLevel#CAPPED_BUFFERS} on, each
+ * {@link ObsTailSamplingSpanProcessor} keeps {@code bufferMemoryFraction} of
+ * its configured memory.
+ * </p>
+ */
+public class ObsTracingGovernor implements BeanPostProcessor, ObsTelemetryLevelListener {
+
+    private final double samplingFactor;
+    private final double bufferMemoryFraction;
+    private final List<ObsThrottledSampler> throttled = new CopyOnWriteArrayList<>();
+    private final Map<ObsRateLimitingSampler, double[]> rateLimited = new ConcurrentHashMap<>();
+    private final Map<ObsTailSamplingSpanProcessor, Long> tailBuffers = new ConcurrentHashMap<>();
+
+    public ObsTracingGovernor(double samplingFactor, double bufferMemoryFraction) {
+        this.samplingFactor = samplingFactor;
+        this.bufferMemoryFraction = bufferMemoryFraction;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ObsRateLimitingSampler sampler) {
+            rateLimited.put(sampler, new double[] { sampler.getSpansPerSecond(),
+                    sampler.getPerRouteSpansPerSecond(), sampler.getMinPerRouteSpansPerSecond() });
+        } else if (bean instanceof ObsThrottledSampler sampler) {
+            throttled.add(sampler);
+        } else if (bean instanceof Sampler sampler) {
+            ObsThrottledSampler wrapper = new ObsThrottledSampler(sampler);
+            throttled.add(wrapper);
+            return wrapper;
+        } else if (bean instanceof ObsTailSamplingSpanProcessor processor) {
+            tailBuffers.put(processor, processor.getMaxTotalBytes());
+        }
+        return bean;
+    }
+
+    @Override
+    public void onLevelChange(ObsTelemetryLevel previous, ObsTelemetryLevel current) {
+        double factor = current.isAtLeast(ObsTelemetryLevel.REDUCED_SAMPLING) ? samplingFactor : 1.0;
+        throttled.forEach(sampler -> sampler.setRatio(factor));
+        rateLimited.forEach((sampler, limits) -> sampler.setLimits(limits[0] * factor, limits[1] * factor,
+                limits[2] * factor));
+
+        double fraction = current.isAtLeast(ObsTelemetryLevel.CAPPED_BUFFERS) ? bufferMemoryFraction : 1.0;
+        tailBuffers.forEach((processor, configured) -> processor.setMaxTotalBytes((long) (configured * fraction)));
+    }
+}
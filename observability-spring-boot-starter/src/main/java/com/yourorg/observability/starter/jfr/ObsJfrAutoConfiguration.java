@@ -0,0 +1,50 @@
+package com.yourorg.observability.starter.jfr;
+
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * On-demand JFR recordings of the starters' own events.
+ *
+ * <p>
+ * The core, tracing and logging starters emit JFR events for request scopes
+ * ({@code ObsRequestScopeEvent}), span start and end
+ * ({@code ObsSpanStartEvent}, {@code ObsSpanEndEvent}) and log appends
+ * ({@code ObsLogAppendEvent}), all sharing the request's
+ * {@code correlation_id}. They are disabled by default. The bundled
+ * {@code observability.jfc} enables them, and {@link ObsJfrEndpoint} starts a
+ * recording with it when exposed ({@code management.endpoints.web.exposure.include=obsjfr}).
+ * </p>
+ *
+ * <p>
+ * Activates when both {@code obs.enabled=true} (default) and
+ * {@code obs.jfr.enabled=true} (default).
+ * </p>
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(ObsJfrProperties.class)
+@ConditionalOnProperty(prefix = "obs", name = { "enabled", "jfr.enabled" }, havingValue = "true",
+        matchIfMissing = true)
+@ConditionalOnClass(name = "jdk.jfr.Recording")
+@ConditionalOnAvailableEndpoint(endpoint = ObsJfrEndpoint.class)
+@ImportRuntimeHints(ObsJfrRuntimeHints.class)
+public class ObsJfrAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ObsJfrRecorder obsJfrRecorder(ObsJfrProperties props) {
+        return new ObsJfrRecorder(props);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ObsJfrEndpoint obsJfrEndpoint(ObsJfrRecorder recorder) {
+        return new ObsJfrEndpoint(recorder);
+    }
+}
@@ -0,0 +1,44 @@
+package com.yourorg.observability.starter.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * {@code /actuator/obsjfr}: starts a JFR recording with the observability
+ * events enabled (POST, optional {@code duration} such as {@code 30s}),
+ * shows its state (GET) and stops it early (DELETE). The recording is
+ * written to a file on the host, whose path is reported; it is not streamed
+ * over HTTP.
+ */
+@Endpoint(id = "obsjfr")
+public class ObsJfrEndpoint {
+
+    private final ObsJfrRecorder recorder;
+
+    public ObsJfrEndpoint(ObsJfrRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public Map<String, Object> recording() {
+        return recorder.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> start(@Nullable Duration duration) {
+        recorder.start(duration);
+        return recorder.status();
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop() {
+        recorder.stop();
+        return recorder.status();
+    }
+}
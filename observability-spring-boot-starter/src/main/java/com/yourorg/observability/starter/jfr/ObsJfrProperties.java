@@ -0,0 +1,79 @@
+package com.yourorg.observability.starter.jfr;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "obs.jfr")
+public class ObsJfrProperties {
+
+    /**
+     * Whether the recorder and endpoint are registered. Also requires
+     * obs.enabled.
+     */
+    private boolean enabled = true;
+
+    /**
+     * JDK settings the bundled observability.jfc is layered over: "default"
+     * (about 1% overhead) or "profile" (more detail, about 2%).
+     */
+    private String baseSettings = "default";
+
+    /**
+     * Directory recordings are written to.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"));
+
+    /**
+     * Length of a recording started without a duration, and the upper bound
+     * for a requested one.
+     */
+    private Duration maxDuration = Duration.ofMinutes(5);
+
+    /**
+     * Disk space a recording may use before its oldest chunks are discarded.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getBaseSettings() {
+        return baseSettings;
+    }
+
+    public void setBaseSettings(String baseSettings) {
+        this.baseSettings = baseSettings;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public Duration getMaxDuration() {
+        return maxDuration;
+    }
+
+    public void setMaxDuration(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -0,0 +1,149 @@
+package com.yourorg.observability.starter.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs at most one on-demand JFR recording with the bundled
+ * {@code observability.jfc} settings layered over a JDK profile.
+ *
+ * <p>
+ * A recording ends after its duration or on {@link #stop()}; either way it is
+ * written to a timestamped file in {@code obs.jfr.directory}. The last file
+ * is remembered so it can still be reported after the recording has ended
+ * on its own.
+ * </p>
+ */
+public class ObsJfrRecorder implements DisposableBean {
+
+    static final String SETTINGS_RESOURCE = "observability.jfc";
+    static final String RECORDING_NAME = "obs-on-demand";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final ObsJfrProperties props;
+    private final Map<String, String> settings;
+    private Recording recording;
+    private Path destination;
+
+    public ObsJfrRecorder(ObsJfrProperties props) {
+        this.props = props;
+        this.settings = settings(props.getBaseSettings());
+    }
+
+    /**
+     * The JDK profile's settings with the observability events enabled on
+     * top.
+     */
+    static Map<String, String> settings(String baseSettings) {
+        try (InputStream in = ObsJfrRecorder.class.getClassLoader().getResourceAsStream(SETTINGS_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(SETTINGS_RESOURCE + " not found on the classpath");
+            }
+            Map<String, String> merged = new HashMap<>(Configuration.getConfiguration(baseSettings).getSettings());
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                merged.putAll(Configuration.create(reader).getSettings());
+            }
+            return merged;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JFR settings: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Starts a recording unless one is already running.
+     *
+     * @param duration how long to record, capped at {@code obs.jfr.max-duration};
+     *                 {@code null} for the maximum
+     * @return {@code true} if a new recording was started
+     */
+    public synchronized boolean start(Duration duration) {
+        if (isRunning()) {
+            return false;
+        }
+        Duration max = props.getMaxDuration();
+        Duration length = duration == null || duration.isNegative() || duration.isZero() || duration.compareTo(max) > 0
+                ? max
+                : duration;
+        try {
+            Files.createDirectories(props.getDirectory());
+            Path file = props.getDirectory().resolve("obs-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+            Recording next = new Recording(settings);
+            next.setName(RECORDING_NAME);
+            next.setToDisk(true);
+            next.setMaxSize(props.getMaxSize().toBytes());
+            next.setDuration(length);
+            next.setDestination(file);
+            next.start();
+            closeQuietly();
+            recording = next;
+            destination = file;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Stops the running recording and writes it out.
+     *
+     * @return the recording file, or {@code null} if none was ever started
+     */
+    public synchronized Path stop() {
+        if (isRunning()) {
+            recording.stop();
+        }
+        return destination;
+    }
+
+    public synchronized boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("running", isRunning());
+        if (recording != null) {
+            result.put("state", recording.getState().name());
+            result.put("startTime", recording.getStartTime());
+            result.put("duration", recording.getDuration());
+            result.put("size", recording.getSize());
+        }
+        result.put("file", destination != null ? destination.toString() : null);
+        result.put("baseSettings", props.getBaseSettings());
+        return result;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        stop();
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
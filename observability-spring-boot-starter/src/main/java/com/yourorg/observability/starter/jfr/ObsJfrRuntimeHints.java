@@ -0,0 +1,16 @@
+package com.yourorg.observability.starter.jfr;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native-image hints for on-demand recordings: the bundled JFR settings file
+ * is read from the classpath when the recorder is created.
+ */
+class ObsJfrRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.resources().registerPattern(ObsJfrRecorder.SETTINGS_RESOURCE);
+    }
+}
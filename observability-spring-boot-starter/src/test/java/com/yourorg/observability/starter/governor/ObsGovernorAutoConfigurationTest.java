@@ -0,0 +1,86 @@
+package com.yourorg.observability.starter.governor;
+
+import com.yourorg.observability.starter.metrics.ObsHistogramFilter;
+import com.yourorg.observability.starter.tracing.ObsThrottledSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.ServiceLevelObjectiveBoundary;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsGovernorAutoConfigurationTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObsGovernorAutoConfiguration.class));
+
+    @Test
+    void disabledByDefault() {
+        runner.run(context -> assertThat(context).doesNotHaveBean(ObsTelemetryGovernor.class));
+    }
+
+    @Test
+    void throttlesSamplerWhenSamplingIsReduced() {
+        runner.withPropertyValues("obs.governor.enabled=true", "obs.governor.sampling-factor=0.2")
+                .withBean(Sampler.class, Sampler::alwaysOn)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ObsTelemetryGovernor.class);
+                    ObsThrottledSampler sampler = (ObsThrottledSampler) context.getBean(Sampler.class);
+
+                    context.getBean(ObsTracingGovernor.class)
+                            .onLevelChange(ObsTelemetryLevel.NORMAL, ObsTelemetryLevel.REDUCED_SAMPLING);
+                    assertThat(sampler.getRatio()).isEqualTo(0.2);
+
+                    context.getBean(ObsTracingGovernor.class)
+                            .onLevelChange(ObsTelemetryLevel.REDUCED_SAMPLING, ObsTelemetryLevel.NORMAL);
+                    assertThat(sampler.getRatio()).isEqualTo(1.0);
+                });
+    }
+
+    @Test
+    void suspendsHistogramsFromNoHistogramsLevel() {
+        runner.withPropertyValues("obs.governor.enabled=true")
+                .withBean(ObsHistogramFilter.class,
+                        () -> new ObsHistogramFilter(Set.of(), Map.of(), false, 160))
+                .run(context -> {
+                    ObsHistogramFilter filter = context.getBean(ObsHistogramFilter.class);
+                    context.getBean(ObsMetricsGovernor.class)
+                            .onLevelChange(ObsTelemetryLevel.WARN_LOGS_ONLY, ObsTelemetryLevel.NO_HISTOGRAMS);
+                    assertThat(filter.isSuspended()).isTrue();
+                });
+    }
+
+    @Test
+    void reRegistersMetersSuspendedWithoutBucketsOnRecovery() {
+        ObsHistogramFilter filter = new ObsHistogramFilter(Set.of(),
+                Map.of("db", new ServiceLevelObjectiveBoundary[] { ServiceLevelObjectiveBoundary.valueOf("10ms") }),
+                false, 160);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(filter);
+        runner.withPropertyValues("obs.governor.enabled=true")
+                .withBean(ObsHistogramFilter.class, () -> filter)
+                .withBean(MeterRegistry.class, () -> registry)
+                .run(context -> {
+                    ObsMetricsGovernor governor = context.getBean(ObsMetricsGovernor.class);
+                    governor.onLevelChange(ObsTelemetryLevel.WARN_LOGS_ONLY, ObsTelemetryLevel.NO_HISTOGRAMS);
+                    registry.timer("db.queries", "table", "orders");
+                    registry.timer("jvm.gc.pause");
+                    assertThat(registry.get("db.queries").timer().takeSnapshot().histogramCounts()).isEmpty();
+                    assertThat(filter.getSuspendedMeters()).containsExactly(Map.of("name", "db.queries", "series", 1L));
+
+                    governor.onLevelChange(ObsTelemetryLevel.NO_HISTOGRAMS, ObsTelemetryLevel.WARN_LOGS_ONLY);
+
+                    assertThat(registry.find("db.queries").timer()).isNull();
+                    assertThat(registry.find("jvm.gc.pause").timer()).isNotNull();
+                    assertThat(filter.getSuspendedMeters()).isEmpty();
+                    assertThat(registry.timer("db.queries", "table", "orders").takeSnapshot().histogramCounts())
+                            .hasSize(1);
+                });
+    }
+}
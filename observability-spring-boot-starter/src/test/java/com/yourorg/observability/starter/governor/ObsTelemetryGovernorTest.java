@@ -0,0 +1,119 @@
+package com.yourorg.observability.starter.governor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsTelemetryGovernorTest {
+
+    private static final ObsPressureSample HOT = new ObsPressureSample(0.02, 0.95, 0.40);
+    private static final ObsPressureSample WARM = new ObsPressureSample(0.02, 0.70, 0.40);
+    private static final ObsPressureSample CALM = new ObsPressureSample(0.01, 0.20, 0.40);
+
+    private final ObsGovernorProperties props = new ObsGovernorProperties();
+    private final Deque<ObsPressureSample> samples = new ArrayDeque<>();
+    private final List<String> changes = new ArrayList<>();
+    private final ObsTelemetryGovernor governor = new ObsTelemetryGovernor(props, samples::poll,
+            List.of((previous, current) -> changes.add(previous + "->" + current)));
+
+    @Test
+    void stepsDownOneLevelPerStreakOfPressure() {
+        feed(HOT, 4);
+
+        assertThat(governor.getLevel()).isEqualTo(ObsTelemetryLevel.WARN_LOGS_ONLY);
+        assertThat(changes).containsExactly("NORMAL->REDUCED_SAMPLING", "REDUCED_SAMPLING->WARN_LOGS_ONLY");
+    }
+
+    @Test
+    void singleSpikeDoesNotStepDown() {
+        feed(HOT, 1);
+        feed(CALM, 1);
+        feed(HOT, 1);
+
+        assertThat(governor.getLevel()).isEqualTo(ObsTelemetryLevel.NORMAL);
+    }
+
+    @Test
+    void stepsUpOnlyAfterLongerCalmStreak() {
+        feed(HOT, 2);
+        feed(CALM, 5);
+        assertThat(governor.getLevel()).isEqualTo(ObsTelemetryLevel.REDUCED_SAMPLING);
+
+        feed(CALM, 1);
+        assertThat(governor.getLevel()).isEqualTo(ObsTelemetryLevel.NORMAL);
+    }
+
+    @Test
+    void readingsBetweenThresholdsHoldTheLevel() {
+        feed(HOT, 2);
+        feed(CALM, 5);
+        feed(WARM, 1);
+        feed(CALM, 5);
+
+        assertThat(governor.getLevel()).isEqualTo(ObsTelemetryLevel.REDUCED_SAMPLING);
+    }
+
+    @Test
+    void stopsAtMaxLevel() {
+        props.setMaxLevel(ObsTelemetryLevel.WARN_LOGS_ONLY);
+
+        feed(HOT, 20);
+
+        assertThat(governor.getLevel()).isEqualTo(ObsTelemetryLevel.WARN_LOGS_ONLY);
+    }
+
+    @Test
+    void unreportedSignalsDoNotBlockSteppingUp() {
+        feed(HOT, 2);
+        feed(new ObsPressureSample(Double.NaN, Double.NaN, 0.10), 6);
+
+        assertThat(governor.getLevel()).isEqualTo(ObsTelemetryLevel.NORMAL);
+    }
+
+    @Test
+    void publishesLevelAndChanges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        governor.bindTo(registry);
+
+        feed(HOT, 4);
+        feed(CALM, 6);
+
+        assertThat(registry.get("obs.internal.governor.level").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("obs.internal.governor.level.changes").tag("direction", "down")
+                .functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("obs.internal.governor.level.changes").tag("direction", "up")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("obs.internal.governor.pressure").tag("signal", "cpu").gauge().value())
+                .isEqualTo(0.20);
+    }
+
+    @Test
+    void failingListenerDoesNotStopOthers() {
+        List<ObsTelemetryLevel> applied = new ArrayList<>();
+        ObsTelemetryGovernor withFailing = new ObsTelemetryGovernor(props, samples::poll, List.of(
+                (previous, current) -> {
+                    throw new IllegalStateException("boom");
+                },
+                (previous, current) -> applied.add(current)));
+
+        samples.add(HOT);
+        samples.add(HOT);
+        withFailing.evaluate();
+        withFailing.evaluate();
+
+        assertThat(applied).containsExactly(ObsTelemetryLevel.REDUCED_SAMPLING);
+    }
+
+    private void feed(ObsPressureSample sample, int times) {
+        for (int i = 0; i < times; i++) {
+            samples.add(sample);
+            governor.evaluate();
+        }
+    }
+}
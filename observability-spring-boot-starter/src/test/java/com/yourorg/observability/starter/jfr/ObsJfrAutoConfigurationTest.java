@@ -0,0 +1,37 @@
+package com.yourorg.observability.starter.jfr;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsJfrAutoConfigurationTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ObsJfrAutoConfiguration.class));
+
+    @Test
+    void backsOffUntilEndpointIsExposed() {
+        runner.run(context -> assertThat(context).doesNotHaveBean(ObsJfrRecorder.class));
+    }
+
+    @Test
+    void registersRecorderAndEndpointWhenExposed() {
+        runner.withPropertyValues("management.endpoints.web.exposure.include=obsjfr")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(ObsJfrEndpoint.class);
+                    assertThat(context.getBean(ObsJfrEndpoint.class).recording())
+                            .containsEntry("running", false)
+                            .containsEntry("baseSettings", "default");
+                });
+    }
+
+    @Test
+    void backsOffWhenDisabled() {
+        runner.withPropertyValues("management.endpoints.web.exposure.include=obsjfr", "obs.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(ObsJfrRecorder.class));
+        runner.withPropertyValues("management.endpoints.web.exposure.include=obsjfr", "obs.jfr.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(ObsJfrEndpoint.class));
+    }
+}
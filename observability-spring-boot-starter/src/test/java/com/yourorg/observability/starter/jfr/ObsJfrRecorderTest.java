@@ -0,0 +1,80 @@
+package com.yourorg.observability.starter.jfr;
+
+import com.yourorg.observability.starter.core.ObsRequestScopeEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObsJfrRecorderTest {
+
+    @TempDir
+    Path dir;
+
+    private ObsJfrRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) {
+            recorder.destroy();
+        }
+    }
+
+    @Test
+    void layersObservabilityEventsOverBaseSettings() {
+        Map<String, String> settings = ObsJfrRecorder.settings("default");
+
+        assertThat(settings).containsEntry(ObsRequestScopeEvent.NAME + "#enabled", "true")
+                .containsEntry("com.yourorg.observability.SpanEnd#enabled", "true")
+                .containsEntry("com.yourorg.observability.LogAppend#threshold", "1 ms")
+                .containsEntry("jdk.ExecutionSample#enabled", "true");
+    }
+
+    @Test
+    void recordsUntilStopped() throws Exception {
+        recorder = new ObsJfrRecorder(properties());
+
+        assertThat(recorder.start(Duration.ofMinutes(1))).isTrue();
+        assertThat(recorder.start(null)).isFalse();
+        assertThat(recorder.status()).containsEntry("running", true).containsEntry("duration", Duration.ofMinutes(1));
+
+        Thread worker = new Thread(() -> { }, "jfr-recorder-test");
+        worker.start();
+        worker.join();
+
+        Path file = recorder.stop();
+
+        assertThat(recorder.isRunning()).isFalse();
+        assertThat(file).startsWith(dir).exists();
+        assertThat(Files.size(file)).isPositive();
+        assertThat(RecordingFile.readAllEvents(file))
+                .anySatisfy(event -> {
+                    assertThat(event.getEventType().getName()).isEqualTo("jdk.ThreadStart");
+                    assertThat(event.getThread("thread").getJavaName()).isEqualTo("jfr-recorder-test");
+                });
+    }
+
+    @Test
+    void capsRequestedDuration() {
+        ObsJfrProperties props = properties();
+        props.setMaxDuration(Duration.ofSeconds(30));
+        recorder = new ObsJfrRecorder(props);
+
+        recorder.start(Duration.ofHours(1));
+
+        assertThat(recorder.status()).containsEntry("duration", Duration.ofSeconds(30));
+    }
+
+    private ObsJfrProperties properties() {
+        ObsJfrProperties props = new ObsJfrProperties();
+        props.setDirectory(dir);
+        return props;
+    }
+}
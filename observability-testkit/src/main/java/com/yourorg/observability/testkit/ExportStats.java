@@ -0,0 +1,84 @@
+package com.yourorg.observability.testkit;
+
+/**
+ * What exporters sent to the receiver for one signal: requests, decoded
+ * items, bytes on the wire (compressed when the exporter compresses) and
+ * decoded protobuf bytes.
+ *
+ * <p>
+ * Throughput is measured between the first and the last request, so it
+ * reflects the exporter's batching and request rate, not the receiver.
+ * </p>
+ */
+public final class ExportStats {
+
+    private final String signal;
+    private long requests;
+    private long items;
+    private long wireBytes;
+    private long decodedBytes;
+    private long firstNanos;
+    private long lastNanos;
+
+    ExportStats(String signal) {
+        this.signal = signal;
+    }
+
+    synchronized void record(int itemCount, long wire, long decoded) {
+        long now = System.nanoTime();
+        if (requests == 0) {
+            firstNanos = now;
+        }
+        lastNanos = now;
+        requests++;
+        items += itemCount;
+        wireBytes += wire;
+        decodedBytes += decoded;
+    }
+
+    synchronized void reset() {
+        requests = 0;
+        items = 0;
+        wireBytes = 0;
+        decodedBytes = 0;
+    }
+
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    public synchronized long getItems() {
+        return items;
+    }
+
+    public synchronized long getWireBytes() {
+        return wireBytes;
+    }
+
+    public synchronized long getDecodedBytes() {
+        return decodedBytes;
+    }
+
+    public synchronized double getItemsPerRequest() {
+        return requests > 0 ? (double) items / requests : 0;
+    }
+
+    public synchronized double getWireBytesPerItem() {
+        return items > 0 ? (double) wireBytes / items : 0;
+    }
+
+    /**
+     * Items per second between the first and the last request; 0 until two
+     * requests have arrived.
+     */
+    public synchronized double getItemsPerSecond() {
+        long elapsed = lastNanos - firstNanos;
+        return requests > 1 && elapsed > 0 ? items * 1e9 / elapsed : 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s: %d requests, %d items, %d wire bytes (%.1f/item), %d decoded bytes, %.0f items/s",
+                signal, requests, items, wireBytes, getWireBytesPerItem(), decodedBytes, getItemsPerSecond());
+    }
+}
@@ -0,0 +1,167 @@
+package com.yourorg.observability.testkit;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.logs.v1.LogRecord;
+import io.opentelemetry.proto.logs.v1.ResourceLogs;
+import io.opentelemetry.proto.logs.v1.ScopeLogs;
+import io.opentelemetry.proto.metrics.v1.Exemplar;
+import io.opentelemetry.proto.metrics.v1.ExponentialHistogramDataPoint;
+import io.opentelemetry.proto.metrics.v1.HistogramDataPoint;
+import io.opentelemetry.proto.metrics.v1.Metric;
+import io.opentelemetry.proto.metrics.v1.NumberDataPoint;
+import io.opentelemetry.proto.metrics.v1.ResourceMetrics;
+import io.opentelemetry.proto.metrics.v1.ScopeMetrics;
+import io.opentelemetry.proto.metrics.v1.SummaryDataPoint;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flattens OTLP export requests into the {@code Received*} records.
+ */
+final class OtlpDecoder {
+    private OtlpDecoder() {
+    }
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    static List<ReceivedSpan> spans(ExportTraceServiceRequest request) {
+        List<ReceivedSpan> result = new ArrayList<>();
+        for (ResourceSpans resourceSpans : request.getResourceSpansList()) {
+            Map<String, Object> resource = attributes(resourceSpans.getResource().getAttributesList());
+            for (ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+                String scope = scopeSpans.getScope().getName();
+                for (Span span : scopeSpans.getSpansList()) {
+                    result.add(new ReceivedSpan(hex(span.getTraceId()), hex(span.getSpanId()),
+                            hex(span.getParentSpanId()), span.getName(),
+                            strip(span.getKind().name(), "SPAN_KIND_"),
+                            strip(span.getStatus().getCode().name(), "STATUS_CODE_"),
+                            span.getStartTimeUnixNano(), span.getEndTimeUnixNano(),
+                            attributes(span.getAttributesList()), resource, scope));
+                }
+            }
+        }
+        return result;
+    }
+
+    static List<ReceivedMetric> metrics(ExportMetricsServiceRequest request) {
+        List<ReceivedMetric> result = new ArrayList<>();
+        for (ResourceMetrics resourceMetrics : request.getResourceMetricsList()) {
+            Map<String, Object> resource = attributes(resourceMetrics.getResource().getAttributesList());
+            for (ScopeMetrics scopeMetrics : resourceMetrics.getScopeMetricsList()) {
+                String scope = scopeMetrics.getScope().getName();
+                for (Metric metric : scopeMetrics.getMetricsList()) {
+                    result.add(new ReceivedMetric(metric.getName(), metric.getDescription(), metric.getUnit(),
+                            metric.getDataCase().name(), points(metric), resource, scope));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<ReceivedMetric.Point> points(Metric metric) {
+        List<ReceivedMetric.Point> points = new ArrayList<>();
+        switch (metric.getDataCase()) {
+            case GAUGE -> metric.getGauge().getDataPointsList().forEach(point -> points.add(number(point)));
+            case SUM -> metric.getSum().getDataPointsList().forEach(point -> points.add(number(point)));
+            case HISTOGRAM -> {
+                for (HistogramDataPoint point : metric.getHistogram().getDataPointsList()) {
+                    points.add(new ReceivedMetric.Point(attributes(point.getAttributesList()), Double.NaN,
+                            point.getCount(), point.getSum(), point.getBucketCountsCount(),
+                            exemplars(point.getExemplarsList())));
+                }
+            }
+            case EXPONENTIAL_HISTOGRAM -> {
+                for (ExponentialHistogramDataPoint point : metric.getExponentialHistogram().getDataPointsList()) {
+                    points.add(new ReceivedMetric.Point(attributes(point.getAttributesList()), Double.NaN,
+                            point.getCount(), point.getSum(),
+                            point.getPositive().getBucketCountsCount() + point.getNegative().getBucketCountsCount(),
+                            exemplars(point.getExemplarsList())));
+                }
+            }
+            case SUMMARY -> {
+                for (SummaryDataPoint point : metric.getSummary().getDataPointsList()) {
+                    points.add(new ReceivedMetric.Point(attributes(point.getAttributesList()), Double.NaN,
+                            point.getCount(), point.getSum(), 0, List.of()));
+                }
+            }
+            default -> {
+                // DATA_NOT_SET: no points
+            }
+        }
+        return points;
+    }
+
+    private static ReceivedMetric.Point number(NumberDataPoint point) {
+        double value = point.getValueCase() == NumberDataPoint.ValueCase.AS_INT ? point.getAsInt()
+                : point.getAsDouble();
+        return new ReceivedMetric.Point(attributes(point.getAttributesList()), value, 0, 0, 0,
+                exemplars(point.getExemplarsList()));
+    }
+
+    private static List<ReceivedMetric.Exemplar> exemplars(List<Exemplar> exemplars) {
+        List<ReceivedMetric.Exemplar> result = new ArrayList<>(exemplars.size());
+        for (Exemplar exemplar : exemplars) {
+            double value = exemplar.getValueCase() == Exemplar.ValueCase.AS_INT ? exemplar.getAsInt()
+                    : exemplar.getAsDouble();
+            result.add(new ReceivedMetric.Exemplar(value, exemplar.getTimeUnixNano(), hex(exemplar.getTraceId()),
+                    hex(exemplar.getSpanId())));
+        }
+        return result;
+    }
+
+    static List<ReceivedLog> logs(ExportLogsServiceRequest request) {
+        List<ReceivedLog> result = new ArrayList<>();
+        for (ResourceLogs resourceLogs : request.getResourceLogsList()) {
+            Map<String, Object> resource = attributes(resourceLogs.getResource().getAttributesList());
+            for (ScopeLogs scopeLogs : resourceLogs.getScopeLogsList()) {
+                for (LogRecord log : scopeLogs.getLogRecordsList()) {
+                    result.add(new ReceivedLog(String.valueOf(value(log.getBody())), log.getSeverityText(),
+                            log.getSeverityNumberValue(), hex(log.getTraceId()), hex(log.getSpanId()),
+                            log.getTimeUnixNano(), attributes(log.getAttributesList()), resource));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Object> attributes(List<KeyValue> keyValues) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (KeyValue keyValue : keyValues) {
+            attributes.put(keyValue.getKey(), value(keyValue.getValue()));
+        }
+        return attributes;
+    }
+
+    private static Object value(AnyValue value) {
+        return switch (value.getValueCase()) {
+            case STRING_VALUE -> value.getStringValue();
+            case BOOL_VALUE -> value.getBoolValue();
+            case INT_VALUE -> value.getIntValue();
+            case DOUBLE_VALUE -> value.getDoubleValue();
+            case BYTES_VALUE -> hex(value.getBytesValue());
+            case ARRAY_VALUE -> value.getArrayValue().getValuesList().stream().map(OtlpDecoder::value).toList();
+            case KVLIST_VALUE -> attributes(value.getKvlistValue().getValuesList());
+            case VALUE_NOT_SET -> null;
+        };
+    }
+
+    private static String hex(ByteString bytes) {
+        return bytes.isEmpty() ? "" : HEX.formatHex(bytes.toByteArray());
+    }
+
+    private static String strip(String name, String prefix) {
+        return name.startsWith(prefix) ? name.substring(prefix.length()) : name;
+    }
+}
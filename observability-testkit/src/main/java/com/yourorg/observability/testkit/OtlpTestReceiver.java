@@ -0,0 +1,210 @@
+package com.yourorg.observability.testkit;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
+import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceResponse;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceRequest;
+import io.opentelemetry.proto.collector.metrics.v1.ExportMetricsServiceResponse;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * In-process OTLP/HTTP receiver for tests, listening on an ephemeral
+ * loopback port.
+ *
+ * <p>
+ * Accepts protobuf-encoded {@code POST /v1/traces}, {@code /v1/metrics} and
+ * {@code /v1/logs}, gzip-compressed or not, which is what the OTel SDK's
+ * HTTP exporters and Micrometer's {@code OtlpMeterRegistry} send. Requests
+ * are decoded into {@link #spans()}, {@link #metrics()} and {@link #logs()};
+ * {@link #traceStats()} and its siblings count requests, items and bytes.
+ * gRPC and JSON encoding are not supported: point exporters at
+ * {@link #getEndpoint()} with the {@code http/protobuf} protocol.
+ * </p>
+ *
+ * <pre>
+ * try (OtlpTestReceiver receiver = OtlpTestReceiver.start()) {
+ *     // management.otlp.tracing.endpoint = receiver.getTracesEndpoint()
+ *     ...
+ *     ReceivedSpan span = receiver.spans().awaitFirst(s -&gt; s.name().equals("GET /orders"), Duration.ofSeconds(5));
+ * }
+ * </pre>
+ */
+public final class OtlpTestReceiver implements AutoCloseable {
+
+    private static final String PROTOBUF = "application/x-protobuf";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final TelemetryStore<ReceivedSpan> spans = new TelemetryStore<>("spans");
+    private final TelemetryStore<ReceivedMetric> metrics = new TelemetryStore<>("metrics");
+    private final TelemetryStore<ReceivedLog> logs = new TelemetryStore<>("logs");
+    private final ExportStats traceStats = new ExportStats("traces");
+    private final ExportStats metricStats = new ExportStats("metrics");
+    private final ExportStats logStats = new ExportStats("logs");
+
+    private OtlpTestReceiver(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static OtlpTestReceiver start() {
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not bind OTLP test receiver", e);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "otlp-test-receiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        OtlpTestReceiver receiver = new OtlpTestReceiver(server, executor);
+        server.createContext("/v1/traces", exchange -> receiver.handle(exchange, receiver::traces));
+        server.createContext("/v1/metrics", exchange -> receiver.handle(exchange, receiver::metrics));
+        server.createContext("/v1/logs", exchange -> receiver.handle(exchange, receiver::logs));
+        server.setExecutor(executor);
+        server.start();
+        return receiver;
+    }
+
+    /**
+     * Base URL, e.g. {@code http://127.0.0.1:40123}; OTel's
+     * {@code OTEL_EXPORTER_OTLP_ENDPOINT} form.
+     */
+    public String getEndpoint() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    public String getTracesEndpoint() {
+        return getEndpoint() + "/v1/traces";
+    }
+
+    public String getMetricsEndpoint() {
+        return getEndpoint() + "/v1/metrics";
+    }
+
+    public String getLogsEndpoint() {
+        return getEndpoint() + "/v1/logs";
+    }
+
+    public TelemetryStore<ReceivedSpan> spans() {
+        return spans;
+    }
+
+    public TelemetryStore<ReceivedMetric> metrics() {
+        return metrics;
+    }
+
+    public TelemetryStore<ReceivedLog> logs() {
+        return logs;
+    }
+
+    public ExportStats traceStats() {
+        return traceStats;
+    }
+
+    public ExportStats metricStats() {
+        return metricStats;
+    }
+
+    public ExportStats logStats() {
+        return logStats;
+    }
+
+    /**
+     * Clears received telemetry and statistics, e.g. between tests sharing
+     * one receiver.
+     */
+    public void reset() {
+        spans.clear();
+        metrics.clear();
+        logs.clear();
+        traceStats.reset();
+        metricStats.reset();
+        logStats.reset();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private byte[] traces(byte[] body, long wireBytes) throws InvalidProtocolBufferException {
+        List<ReceivedSpan> received = OtlpDecoder.spans(ExportTraceServiceRequest.parseFrom(body));
+        traceStats.record(received.size(), wireBytes, body.length);
+        spans.addAll(received);
+        return ExportTraceServiceResponse.getDefaultInstance().toByteArray();
+    }
+
+    private byte[] metrics(byte[] body, long wireBytes) throws InvalidProtocolBufferException {
+        List<ReceivedMetric> received = OtlpDecoder.metrics(ExportMetricsServiceRequest.parseFrom(body));
+        metricStats.record(received.size(), wireBytes, body.length);
+        metrics.addAll(received);
+        return ExportMetricsServiceResponse.getDefaultInstance().toByteArray();
+    }
+
+    private byte[] logs(byte[] body, long wireBytes) throws InvalidProtocolBufferException {
+        List<ReceivedLog> received = OtlpDecoder.logs(ExportLogsServiceRequest.parseFrom(body));
+        logStats.record(received.size(), wireBytes, body.length);
+        logs.addAll(received);
+        return ExportLogsServiceResponse.getDefaultInstance().toByteArray();
+    }
+
+    private void handle(HttpExchange exchange, Decoder decoder) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            if (contentType == null || !contentType.startsWith(PROTOBUF)) {
+                exchange.sendResponseHeaders(415, -1);
+                return;
+            }
+            byte[] wire = exchange.getRequestBody().readAllBytes();
+            byte[] body = wire;
+            if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+                try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(wire))) {
+                    body = in.readAllBytes();
+                }
+            }
+            byte[] response;
+            try {
+                response = decoder.decode(body, wire.length);
+            } catch (InvalidProtocolBufferException e) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", PROTOBUF);
+            exchange.sendResponseHeaders(200, response.length == 0 ? -1 : response.length);
+            if (response.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(response);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        byte[] decode(byte[] body, long wireBytes) throws InvalidProtocolBufferException;
+    }
+}
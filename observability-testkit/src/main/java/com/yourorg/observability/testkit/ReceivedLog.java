@@ -0,0 +1,23 @@
+package com.yourorg.observability.testkit;
+
+import java.util.Map;
+
+/**
+ * A log record as decoded from an OTLP export request. A non-string body is
+ * rendered with {@link String#valueOf}; trace and span ids are hex, empty
+ * when the record was written outside a span.
+ */
+public record ReceivedLog(
+        String body,
+        String severityText,
+        int severityNumber,
+        String traceId,
+        String spanId,
+        long epochNanos,
+        Map<String, Object> attributes,
+        Map<String, Object> resource) {
+
+    public Object attribute(String key) {
+        return attributes.get(key);
+    }
+}
@@ -0,0 +1,42 @@
+package com.yourorg.observability.testkit;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A metric as decoded from an OTLP export request: one entry per metric in
+ * each request, so a meter published on every step appears once per step.
+ *
+ * <p>
+ * {@code type} is the OTLP data case ({@code GAUGE}, {@code SUM},
+ * {@code HISTOGRAM}, {@code EXPONENTIAL_HISTOGRAM}, {@code SUMMARY}).
+ * </p>
+ */
+public record ReceivedMetric(
+        String name,
+        String description,
+        String unit,
+        String type,
+        List<Point> points,
+        Map<String, Object> resource,
+        String scope) {
+
+    /**
+     * One data point. Gauges and sums carry {@code value}; histogram and
+     * summary points carry {@code count} and {@code sum}, with {@code value}
+     * NaN. {@code buckets} is the number of populated bucket counters
+     * (explicit bounds plus overflow, or positive plus negative exponential
+     * buckets), 0 for other types. {@code exemplars} are the point's trace
+     * links, in export order.
+     */
+    public record Point(Map<String, Object> attributes, double value, long count, double sum, int buckets,
+            List<Exemplar> exemplars) {
+    }
+
+    /**
+     * A recorded value linked to a span; ids are lowercase hex, empty when
+     * absent.
+     */
+    public record Exemplar(double value, long timeUnixNano, String traceId, String spanId) {
+    }
+}
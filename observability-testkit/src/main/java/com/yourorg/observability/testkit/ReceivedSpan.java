@@ -0,0 +1,34 @@
+package com.yourorg.observability.testkit;
+
+import java.util.Map;
+
+/**
+ * A span as decoded from an OTLP export request. Ids are lower-case hex;
+ * {@code parentSpanId} is empty for root spans. {@code kind} and
+ * {@code statusCode} drop the proto prefixes ({@code SERVER}, {@code ERROR}).
+ */
+public record ReceivedSpan(
+        String traceId,
+        String spanId,
+        String parentSpanId,
+        String name,
+        String kind,
+        String statusCode,
+        long startEpochNanos,
+        long endEpochNanos,
+        Map<String, Object> attributes,
+        Map<String, Object> resource,
+        String scope) {
+
+    public Object attribute(String key) {
+        return attributes.get(key);
+    }
+
+    public boolean isRoot() {
+        return parentSpanId.isEmpty();
+    }
+
+    public long durationNanos() {
+        return endEpochNanos - startEpochNanos;
+    }
+}
@@ -0,0 +1,97 @@
+package com.yourorg.observability.testkit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Assertions over what an {@link OtlpTestReceiver} received. Failures are
+ * plain {@link AssertionError}s, so they work with any test framework.
+ *
+ * <p>
+ * The "no ..." checks wait for {@code quietPeriod} first: an exporter that
+ * is about to send must get the chance to, or absence proves nothing. Flush
+ * the SDK or registry before calling them to keep the period short.
+ * </p>
+ */
+public final class TelemetryAssertions {
+    private TelemetryAssertions() {
+    }
+
+    public static ReceivedSpan assertSpanExported(OtlpTestReceiver receiver, String name, Duration timeout) {
+        return receiver.spans().awaitFirst(span -> span.name().equals(name), timeout);
+    }
+
+    /**
+     * For noise filters and samplers: nothing matching arrives within the
+     * quiet period.
+     */
+    public static void assertNoSpans(OtlpTestReceiver receiver, Predicate<ReceivedSpan> predicate,
+            Duration quietPeriod) {
+        assertNone(receiver.spans(), predicate, quietPeriod, "spans");
+    }
+
+    /**
+     * All spans share one trace id and every parent is among them or is the
+     * trace's remote parent.
+     */
+    public static void assertSameTrace(List<ReceivedSpan> spans) {
+        Set<String> traceIds = spans.stream().map(ReceivedSpan::traceId).collect(Collectors.toSet());
+        if (traceIds.size() != 1) {
+            throw new AssertionError("Expected one trace but spans belong to " + traceIds + ": " + spans);
+        }
+        Set<String> spanIds = spans.stream().map(ReceivedSpan::spanId).collect(Collectors.toSet());
+        long orphans = spans.stream()
+                .filter(span -> !span.isRoot() && !spanIds.contains(span.parentSpanId()))
+                .count();
+        if (orphans > 1) {
+            throw new AssertionError("Expected at most one span with a parent outside the trace, found " + orphans
+                    + ": " + spans);
+        }
+    }
+
+    /**
+     * For samplers: {@code exported} of {@code started} is within
+     * {@code tolerance} of {@code expectedRate}.
+     */
+    public static void assertSampledFraction(long exported, long started, double expectedRate, double tolerance) {
+        double actual = started > 0 ? (double) exported / started : 0;
+        if (Math.abs(actual - expectedRate) > tolerance) {
+            throw new AssertionError(String.format("Expected sampled fraction %.4f ± %.4f but was %.4f (%d of %d)",
+                    expectedRate, tolerance, actual, exported, started));
+        }
+    }
+
+    public static ReceivedMetric assertMetricExported(OtlpTestReceiver receiver, String name, Duration timeout) {
+        return receiver.metrics().awaitFirst(metric -> metric.name().equals(name), timeout);
+    }
+
+    /**
+     * For the metric policy and other meter filters: no metric of this name
+     * arrives within the quiet period.
+     */
+    public static void assertNoMetric(OtlpTestReceiver receiver, String name, Duration quietPeriod) {
+        assertNone(receiver.metrics(), metric -> metric.name().equals(name), quietPeriod, "metrics named " + name);
+    }
+
+    public static ReceivedLog assertLogExported(OtlpTestReceiver receiver, Predicate<ReceivedLog> predicate,
+            Duration timeout) {
+        return receiver.logs().awaitFirst(predicate, timeout);
+    }
+
+    private static <T> void assertNone(TelemetryStore<T> store, Predicate<? super T> predicate,
+            Duration quietPeriod, String what) {
+        try {
+            Thread.sleep(quietPeriod.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for " + what, e);
+        }
+        List<T> matching = store.find(predicate);
+        if (!matching.isEmpty()) {
+            throw new AssertionError("Expected no " + what + " but received " + matching);
+        }
+    }
+}
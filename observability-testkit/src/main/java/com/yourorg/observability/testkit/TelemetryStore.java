@@ -0,0 +1,87 @@
+package com.yourorg.observability.testkit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Everything the receiver decoded for one signal, in arrival order.
+ *
+ * <p>
+ * Exporters send asynchronously, so tests wait with {@link #await} rather
+ * than reading {@link #all()} right after the code under test ran.
+ * </p>
+ */
+public final class TelemetryStore<T> {
+
+    private final String signal;
+    private final List<T> items = new ArrayList<>();
+
+    TelemetryStore(String signal) {
+        this.signal = signal;
+    }
+
+    synchronized void addAll(List<T> received) {
+        items.addAll(received);
+        notifyAll();
+    }
+
+    public synchronized List<T> all() {
+        return List.copyOf(items);
+    }
+
+    public synchronized List<T> find(Predicate<? super T> predicate) {
+        List<T> matching = new ArrayList<>();
+        for (T item : items) {
+            if (predicate.test(item)) {
+                matching.add(item);
+            }
+        }
+        return matching;
+    }
+
+    public synchronized int size() {
+        return items.size();
+    }
+
+    public synchronized void clear() {
+        items.clear();
+    }
+
+    /**
+     * Waits until at least {@code count} items match and returns all that do.
+     *
+     * @throws AssertionError listing what was received if the timeout passes
+     */
+    public List<T> await(Predicate<? super T> predicate, int count, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (true) {
+                List<T> matching = find(predicate);
+                long remaining = deadline - System.nanoTime();
+                if (matching.size() >= count) {
+                    return matching;
+                }
+                if (remaining <= 0) {
+                    throw new AssertionError("Expected at least " + count + " matching " + signal + " within "
+                            + timeout + " but found " + matching.size() + "; received " + items);
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AssertionError("Interrupted while waiting for " + signal, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the first matching item.
+     */
+    public T awaitFirst(Predicate<? super T> predicate, Duration timeout) {
+        return await(predicate, 1, timeout).get(0);
+    }
+}
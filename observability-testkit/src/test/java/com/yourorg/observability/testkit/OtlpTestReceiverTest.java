@@ -0,0 +1,179 @@
+package com.yourorg.observability.testkit;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.registry.otlp.HistogramFlavor;
+import io.micrometer.registry.otlp.OtlpConfig;
+import io.micrometer.registry.otlp.OtlpMeterRegistry;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.logs.Severity;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.exporter.otlp.http.logs.OtlpHttpLogRecordExporter;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.export.SimpleLogRecordProcessor;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OtlpTestReceiverTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final OtlpTestReceiver receiver = OtlpTestReceiver.start();
+
+    @AfterEach
+    void close() {
+        receiver.close();
+    }
+
+    @Test
+    void decodesGzippedSpansFromTheSdkExporter() {
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(OtlpHttpSpanExporter.builder()
+                        .setEndpoint(receiver.getTracesEndpoint())
+                        .setCompression("gzip")
+                        .build()))
+                .build();
+        Tracer tracer = provider.get("testkit");
+
+        Span parent = tracer.spanBuilder("GET /orders/{id}").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            tracer.spanBuilder("select orders").startSpan()
+                    .setAttribute("db.system", "postgresql")
+                    .setStatus(StatusCode.ERROR)
+                    .end();
+        } finally {
+            parent.end();
+        }
+        provider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        ReceivedSpan child = TelemetryAssertions.assertSpanExported(receiver, "select orders", TIMEOUT);
+        ReceivedSpan root = TelemetryAssertions.assertSpanExported(receiver, "GET /orders/{id}", TIMEOUT);
+        assertThat(child.attribute("db.system")).isEqualTo("postgresql");
+        assertThat(child.statusCode()).isEqualTo("ERROR");
+        assertThat(child.kind()).isEqualTo("INTERNAL");
+        assertThat(child.parentSpanId()).isEqualTo(root.spanId());
+        assertThat(root.isRoot()).isTrue();
+        assertThat(child.scope()).isEqualTo("testkit");
+        TelemetryAssertions.assertSameTrace(List.of(root, child));
+
+        assertThat(receiver.traceStats().getItems()).isEqualTo(2);
+        assertThat(receiver.traceStats().getRequests()).isEqualTo(2);
+        assertThat(receiver.traceStats().getWireBytes()).isPositive();
+        assertThat(receiver.traceStats().getDecodedBytes()).isPositive();
+
+        receiver.reset();
+        assertThat(receiver.spans().size()).isZero();
+        assertThat(receiver.traceStats().getItems()).isZero();
+        provider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void decodesMetricsFromMicrometerOtlpRegistry() {
+        OtlpMeterRegistry registry = new OtlpMeterRegistry(new OtlpConfig() {
+            @Override
+            public String get(String key) {
+                return null;
+            }
+
+            @Override
+            public String url() {
+                return receiver.getMetricsEndpoint();
+            }
+
+            @Override
+            public HistogramFlavor histogramFlavor() {
+                return HistogramFlavor.BASE2_EXPONENTIAL_BUCKET_HISTOGRAM;
+            }
+        }, Clock.SYSTEM);
+        Counter.builder("orders.created").tag("channel", "web").register(registry).increment(3);
+        Timer timer = Timer.builder("http.server.requests").publishPercentileHistogram().register(registry);
+        timer.record(Duration.ofMillis(12));
+        timer.record(Duration.ofMillis(40));
+        registry.close();
+
+        ReceivedMetric counter = TelemetryAssertions.assertMetricExported(receiver, "orders.created", TIMEOUT);
+        assertThat(counter.type()).isEqualTo("SUM");
+        assertThat(counter.points()).singleElement().satisfies(point -> {
+            assertThat(point.value()).isEqualTo(3.0);
+            assertThat(point.attributes()).containsEntry("channel", "web");
+        });
+
+        ReceivedMetric histogram = TelemetryAssertions.assertMetricExported(receiver, "http.server.requests",
+                TIMEOUT);
+        assertThat(histogram.type()).isEqualTo("EXPONENTIAL_HISTOGRAM");
+        assertThat(histogram.points()).singleElement().satisfies(point -> {
+            assertThat(point.count()).isEqualTo(2);
+            assertThat(point.buckets()).isPositive();
+        });
+        TelemetryAssertions.assertNoMetric(receiver, "jvm.memory.used", Duration.ofMillis(50));
+    }
+
+    @Test
+    void decodesLogRecordsWithTraceContext() {
+        SdkLoggerProvider provider = SdkLoggerProvider.builder()
+                .addLogRecordProcessor(SimpleLogRecordProcessor.create(OtlpHttpLogRecordExporter.builder()
+                        .setEndpoint(receiver.getLogsEndpoint())
+                        .build()))
+                .build();
+        provider.get("testkit").logRecordBuilder()
+                .setBody("order created")
+                .setSeverity(Severity.INFO)
+                .setSeverityText("INFO")
+                .setAllAttributes(Attributes.builder().put("correlation_id", "abc-123").build())
+                .emit();
+        provider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        ReceivedLog log = TelemetryAssertions.assertLogExported(receiver,
+                record -> "abc-123".equals(record.attribute("correlation_id")), TIMEOUT);
+        assertThat(log.body()).isEqualTo("order created");
+        assertThat(log.severityText()).isEqualTo("INFO");
+        assertThat(log.traceId()).isEmpty();
+        assertThat(receiver.logStats().getItems()).isEqualTo(1);
+        provider.shutdown().join(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void rejectsUnsupportedRequests() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<Void> json = client.send(HttpRequest.newBuilder(URI.create(receiver.getTracesEndpoint()))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        HttpResponse<Void> garbage = client.send(HttpRequest.newBuilder(URI.create(receiver.getTracesEndpoint()))
+                .header("Content-Type", "application/x-protobuf")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(new byte[] { (byte) 0xff, 0x01 }))
+                .build(), HttpResponse.BodyHandlers.discarding());
+
+        assertThat(json.statusCode()).isEqualTo(415);
+        assertThat(garbage.statusCode()).isEqualTo(400);
+        assertThat(receiver.traceStats().getRequests()).isZero();
+        assertThatThrownBy(() -> receiver.spans().await(span -> true, 1, Duration.ofMillis(50)))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("Expected at least 1 matching spans");
+    }
+
+    @Test
+    void assertsSampledFraction() {
+        TelemetryAssertions.assertSampledFraction(52, 1000, 0.05, 0.01);
+        assertThatThrownBy(() -> TelemetryAssertions.assertSampledFraction(200, 1000, 0.05, 0.01))
+                .isInstanceOf(AssertionError.class);
+    }
+}